@@ -117,6 +117,27 @@ public interface SolverJobBuilder<Solution_> {
      */
     SolverJobBuilder<Solution_> withConfigOverride(SolverConfigOverride solverConfigOverride);
 
+    /**
+     * Sets the priority with which the job is admitted to a solver thread.
+     * When all solver threads are busy, the queued job with the highest priority starts first;
+     * queued jobs with the same priority start in the order in which they were submitted.
+     * This allows short jobs, such as recommendations, to overtake long-running solves waiting in the queue.
+     * <p>
+     * A job which is already solving is never interrupted by a job with a higher priority.
+     *
+     * <p>
+     * The default implementation throws an {@link UnsupportedOperationException},
+     * so that implementations which predate this method do not silently ignore the priority.
+     *
+     * @param priority higher starts sooner, defaults to 0
+     * @return this
+     * @throws UnsupportedOperationException if this builder does not support priorities
+     */
+    default SolverJobBuilder<Solution_> withPriority(int priority) {
+        throw new UnsupportedOperationException("The solver job builder (%s) does not support a priority (%d)."
+                .formatted(getClass().getName(), priority));
+    }
+
     /**
      * Submits a planning problem to solve and returns immediately. The planning problem is solved on a solver {@link Thread},
      * as soon as one is available.
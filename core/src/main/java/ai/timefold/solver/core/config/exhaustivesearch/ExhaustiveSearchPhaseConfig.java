@@ -27,6 +27,7 @@ import org.jspecify.annotations.Nullable;
 @XmlType(propOrder = {
         "exhaustiveSearchType",
         "nodeExplorationType",
+        "expandableNodeLimit",
         "entitySorterManner",
         "valueSorterManner",
         "entitySelectorConfig",
@@ -41,6 +42,7 @@ public final class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSea
 
     private ExhaustiveSearchType exhaustiveSearchType = null;
     private NodeExplorationType nodeExplorationType = null;
+    private Integer expandableNodeLimit = null;
     private EntitySorterManner entitySorterManner = null;
     private ValueSorterManner valueSorterManner = null;
 
@@ -77,6 +79,22 @@ public final class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSea
         this.nodeExplorationType = nodeExplorationType;
     }
 
+    /**
+     * The maximum number of expandable nodes to keep in memory.
+     * Beyond it, the least promising nodes are spilled to a temporary file,
+     * and recalculated when the search gets back to them.
+     * Null keeps all nodes in memory.
+     *
+     * @return null or at least 2
+     */
+    public @Nullable Integer getExpandableNodeLimit() {
+        return expandableNodeLimit;
+    }
+
+    public void setExpandableNodeLimit(@Nullable Integer expandableNodeLimit) {
+        this.expandableNodeLimit = expandableNodeLimit;
+    }
+
     public @Nullable EntitySorterManner getEntitySorterManner() {
         return entitySorterManner;
     }
@@ -123,6 +141,11 @@ public final class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSea
         return this;
     }
 
+    public @NonNull ExhaustiveSearchPhaseConfig withExpandableNodeLimit(@NonNull Integer expandableNodeLimit) {
+        this.setExpandableNodeLimit(expandableNodeLimit);
+        return this;
+    }
+
     public @NonNull ExhaustiveSearchPhaseConfig withEntitySorterManner(@NonNull EntitySorterManner entitySorterManner) {
         this.setEntitySorterManner(entitySorterManner);
         return this;
@@ -150,6 +173,8 @@ public final class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSea
                 inheritedConfig.getExhaustiveSearchType());
         nodeExplorationType = ConfigUtils.inheritOverwritableProperty(nodeExplorationType,
                 inheritedConfig.getNodeExplorationType());
+        expandableNodeLimit = ConfigUtils.inheritOverwritableProperty(expandableNodeLimit,
+                inheritedConfig.getExpandableNodeLimit());
         entitySorterManner = ConfigUtils.inheritOverwritableProperty(entitySorterManner,
                 inheritedConfig.getEntitySorterManner());
         valueSorterManner = ConfigUtils.inheritOverwritableProperty(valueSorterManner,
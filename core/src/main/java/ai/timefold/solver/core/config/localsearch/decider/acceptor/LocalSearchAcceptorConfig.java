@@ -25,6 +25,7 @@ import org.jspecify.annotations.Nullable;
         "fadingMoveTabuSize",
         "simulatedAnnealingStartingTemperature",
         "lateAcceptanceSize",
+        "adaptiveTuningEnabled",
         "greatDelugeWaterLevelIncrementScore",
         "greatDelugeWaterLevelIncrementRatio",
         "stepCountingHillClimbingSize",
@@ -48,6 +49,8 @@ public final class LocalSearchAcceptorConfig extends AbstractConfig<LocalSearchA
 
     private Integer lateAcceptanceSize = null;
 
+    private Boolean adaptiveTuningEnabled = null;
+
     private String greatDelugeWaterLevelIncrementScore = null;
     private Double greatDelugeWaterLevelIncrementRatio = null;
 
@@ -142,6 +145,24 @@ public final class LocalSearchAcceptorConfig extends AbstractConfig<LocalSearchA
         this.lateAcceptanceSize = lateAcceptanceSize;
     }
 
+    /**
+     * When enabled, late acceptance and simulated annealing adjust their late acceptance size
+     * and temperature while solving,
+     * based on how many moves get accepted and how often the best score improves.
+     * The configured {@link #getLateAcceptanceSize()} and {@link #getSimulatedAnnealingStartingTemperature()}
+     * then only serve as starting points;
+     * the latter becomes optional.
+     *
+     * @return null if not configured, which means disabled
+     */
+    public @Nullable Boolean getAdaptiveTuningEnabled() {
+        return adaptiveTuningEnabled;
+    }
+
+    public void setAdaptiveTuningEnabled(@Nullable Boolean adaptiveTuningEnabled) {
+        this.adaptiveTuningEnabled = adaptiveTuningEnabled;
+    }
+
     public @Nullable String getGreatDelugeWaterLevelIncrementScore() {
         return greatDelugeWaterLevelIncrementScore;
     }
@@ -234,6 +255,11 @@ public final class LocalSearchAcceptorConfig extends AbstractConfig<LocalSearchA
         return this;
     }
 
+    public @NonNull LocalSearchAcceptorConfig withAdaptiveTuningEnabled(@NonNull Boolean adaptiveTuningEnabled) {
+        this.adaptiveTuningEnabled = adaptiveTuningEnabled;
+        return this;
+    }
+
     public @NonNull LocalSearchAcceptorConfig withStepCountingHillClimbingSize(@NonNull Integer stepCountingHillClimbingSize) {
         this.stepCountingHillClimbingSize = stepCountingHillClimbingSize;
         return this;
@@ -275,6 +301,8 @@ public final class LocalSearchAcceptorConfig extends AbstractConfig<LocalSearchA
                 simulatedAnnealingStartingTemperature, inheritedConfig.getSimulatedAnnealingStartingTemperature());
         lateAcceptanceSize = ConfigUtils.inheritOverwritableProperty(lateAcceptanceSize,
                 inheritedConfig.getLateAcceptanceSize());
+        adaptiveTuningEnabled = ConfigUtils.inheritOverwritableProperty(adaptiveTuningEnabled,
+                inheritedConfig.getAdaptiveTuningEnabled());
         greatDelugeWaterLevelIncrementScore = ConfigUtils.inheritOverwritableProperty(greatDelugeWaterLevelIncrementScore,
                 inheritedConfig.getGreatDelugeWaterLevelIncrementScore());
         greatDelugeWaterLevelIncrementRatio = ConfigUtils.inheritOverwritableProperty(greatDelugeWaterLevelIncrementRatio,
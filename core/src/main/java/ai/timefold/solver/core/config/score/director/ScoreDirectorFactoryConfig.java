@@ -24,6 +24,8 @@ import org.jspecify.annotations.Nullable;
         "constraintProviderCustomProperties",
         "constraintStreamAutomaticNodeSharing",
         "constraintStreamProfilingEnabled",
+        "constraintStreamParallelInitializationEnabled",
+        "intArrayShadowVariableGraphEnabled",
         "incrementalScoreCalculatorClass",
         "incrementalScoreCalculatorCustomProperties",
         "initializingScoreTrend",
@@ -43,6 +45,10 @@ public final class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirect
     @Nullable
     private Boolean constraintStreamAutomaticNodeSharing;
     private Boolean constraintStreamProfilingEnabled;
+    @Nullable
+    private Boolean constraintStreamParallelInitializationEnabled;
+    @Nullable
+    private Boolean intArrayShadowVariableGraphEnabled;
 
     private String incrementalScoreCalculatorClass = null;
 
@@ -110,6 +116,23 @@ public final class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirect
         this.constraintStreamProfilingEnabled = constraintStreamProfilingEnabled;
     }
 
+    public @Nullable Boolean getConstraintStreamParallelInitializationEnabled() {
+        return constraintStreamParallelInitializationEnabled;
+    }
+
+    public void setConstraintStreamParallelInitializationEnabled(
+            @Nullable Boolean constraintStreamParallelInitializationEnabled) {
+        this.constraintStreamParallelInitializationEnabled = constraintStreamParallelInitializationEnabled;
+    }
+
+    public @Nullable Boolean getIntArrayShadowVariableGraphEnabled() {
+        return intArrayShadowVariableGraphEnabled;
+    }
+
+    public void setIntArrayShadowVariableGraphEnabled(@Nullable Boolean intArrayShadowVariableGraphEnabled) {
+        this.intArrayShadowVariableGraphEnabled = intArrayShadowVariableGraphEnabled;
+    }
+
     public @Nullable Class<? extends IncrementalScoreCalculator> getIncrementalScoreCalculatorClass() {
         return ConfigUtils.resolveClass(incrementalScoreCalculatorClass, "incrementalScoreCalculatorClass", this);
     }
@@ -187,6 +210,18 @@ public final class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirect
         return this;
     }
 
+    public @NonNull ScoreDirectorFactoryConfig
+            withConstraintStreamParallelInitializationEnabled(@NonNull Boolean constraintStreamParallelInitializationEnabled) {
+        this.constraintStreamParallelInitializationEnabled = constraintStreamParallelInitializationEnabled;
+        return this;
+    }
+
+    public @NonNull ScoreDirectorFactoryConfig
+            withIntArrayShadowVariableGraphEnabled(@NonNull Boolean intArrayShadowVariableGraphEnabled) {
+        this.intArrayShadowVariableGraphEnabled = intArrayShadowVariableGraphEnabled;
+        return this;
+    }
+
     public @NonNull ScoreDirectorFactoryConfig
             withIncrementalScoreCalculatorClass(
                     @NonNull Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass) {
@@ -226,6 +261,11 @@ public final class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirect
                 inheritedConfig.getConstraintStreamAutomaticNodeSharing());
         constraintStreamProfilingEnabled = ConfigUtils.inheritOverwritableProperty(constraintStreamProfilingEnabled,
                 inheritedConfig.getConstraintStreamProfilingEnabled());
+        constraintStreamParallelInitializationEnabled = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamParallelInitializationEnabled,
+                inheritedConfig.getConstraintStreamParallelInitializationEnabled());
+        intArrayShadowVariableGraphEnabled = ConfigUtils.inheritOverwritableProperty(intArrayShadowVariableGraphEnabled,
+                inheritedConfig.getIntArrayShadowVariableGraphEnabled());
         incrementalScoreCalculatorClass = ConfigUtils.inheritOverwritableProperty(
                 incrementalScoreCalculatorClass, inheritedConfig.incrementalScoreCalculatorClass);
         incrementalScoreCalculatorCustomProperties = ConfigUtils.inheritMergeableMapProperty(
@@ -0,0 +1,37 @@
+package ai.timefold.solver.core.config.solver;
+
+import jakarta.xml.bind.annotation.XmlEnum;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.solver.event.BestSolutionChangedEvent;
+
+/**
+ * Determines when the solver clones the working solution into a new best {@link PlanningSolution solution}.
+ * Every such clone copies all planning entities,
+ * so on large datasets, frequent best solution improvements make cloning a significant cost.
+ */
+@XmlEnum
+public enum BestSolutionCloningMode {
+    /**
+     * Every new best solution is cloned as soon as it is found
+     * and every one of them is reported as a {@link BestSolutionChangedEvent}.
+     * <p>
+     * This is the default.
+     */
+    EAGER,
+    /**
+     * Local search postpones cloning a new best solution
+     * until the first step which does not improve on it, or until the phase ends.
+     * While the working solution keeps improving step after step, which is common early in local search,
+     * only the last of those best solutions is cloned and reported as a {@link BestSolutionChangedEvent};
+     * the ones it superseded are neither cloned nor reported.
+     * <p>
+     * Local search and its terminations still see every new best score as soon as it is found,
+     * so they behave the same.
+     * The solver only publishes that best score together with the best solution it belongs to, once it is cloned.
+     * The final best solution is the same as with {@link #EAGER}.
+     * Other phases are not affected.
+     */
+    DEFERRED
+
+}
@@ -66,6 +66,7 @@ import org.jspecify.annotations.Nullable;
         "moveThreadCount",
         "moveThreadBufferSize",
         "threadFactoryClass",
+        "bestSolutionCloningMode",
         "monitoringConfig",
         "solutionClass",
         "entityClassList",
@@ -217,6 +218,7 @@ public final class SolverConfig extends AbstractConfig<SolverConfig> {
     private String moveThreadCount = null;
     private Integer moveThreadBufferSize = null;
     private String threadFactoryClass = null;
+    private BestSolutionCloningMode bestSolutionCloningMode = null;
 
     private String solutionClass = null;
 
@@ -372,6 +374,14 @@ public final class SolverConfig extends AbstractConfig<SolverConfig> {
         this.threadFactoryClass = threadFactoryClass == null ? null : threadFactoryClass.getName();
     }
 
+    public @Nullable BestSolutionCloningMode getBestSolutionCloningMode() {
+        return bestSolutionCloningMode;
+    }
+
+    public void setBestSolutionCloningMode(@Nullable BestSolutionCloningMode bestSolutionCloningMode) {
+        this.bestSolutionCloningMode = bestSolutionCloningMode;
+    }
+
     public @Nullable Class<?> getSolutionClass() {
         return ConfigUtils.resolveClass(solutionClass, "solutionClass", this);
     }
@@ -487,6 +497,11 @@ public final class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public @NonNull SolverConfig withBestSolutionCloningMode(@NonNull BestSolutionCloningMode bestSolutionCloningMode) {
+        this.bestSolutionCloningMode = bestSolutionCloningMode;
+        return this;
+    }
+
     public @NonNull SolverConfig withSolutionClass(@NonNull Class<?> solutionClass) {
         this.solutionClass = solutionClass.getName();
         return this;
@@ -662,6 +677,8 @@ public final class SolverConfig extends AbstractConfig<SolverConfig> {
                 inheritedConfig.getMoveThreadBufferSize());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.threadFactoryClass);
+        bestSolutionCloningMode = ConfigUtils.inheritOverwritableProperty(bestSolutionCloningMode,
+                inheritedConfig.getBestSolutionCloningMode());
         solutionClass = ConfigUtils.inheritOverwritableProperty(solutionClass, inheritedConfig.solutionClass);
         entityClassList = ConfigUtils.inheritMergeableListProperty(entityClassList,
                 inheritedConfig.entityClassList);
@@ -15,7 +15,8 @@ import org.slf4j.LoggerFactory;
 
 @XmlType(propOrder = {
         "parallelSolverCount",
-        "threadFactoryClass"
+        "threadFactoryClass",
+        "virtualConsumerThreads"
 })
 public final class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
@@ -25,6 +26,7 @@ public final class SolverManagerConfig extends AbstractConfig<SolverManagerConfi
 
     private String parallelSolverCount = null;
     private String threadFactoryClass = null;
+    private Boolean virtualConsumerThreads = null;
 
     // Future features:
     // throttlingDelay
@@ -53,6 +55,19 @@ public final class SolverManagerConfig extends AbstractConfig<SolverManagerConfi
         this.threadFactoryClass = threadFactoryClass == null ? null : threadFactoryClass.getName();
     }
 
+    public @Nullable Boolean getVirtualConsumerThreads() {
+        return virtualConsumerThreads;
+    }
+
+    /**
+     * @param virtualConsumerThreads true to call the best solution, final best solution
+     *        and first initialized solution consumers on virtual threads instead of platform threads;
+     *        the solver itself always runs on a thread created by the {@link #getThreadFactoryClass() thread factory}
+     */
+    public void setVirtualConsumerThreads(@Nullable Boolean virtualConsumerThreads) {
+        this.virtualConsumerThreads = virtualConsumerThreads;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -67,6 +82,11 @@ public final class SolverManagerConfig extends AbstractConfig<SolverManagerConfi
         return this;
     }
 
+    public @NonNull SolverManagerConfig withVirtualConsumerThreads(@NonNull Boolean virtualConsumerThreads) {
+        this.virtualConsumerThreads = virtualConsumerThreads;
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -110,6 +130,8 @@ public final class SolverManagerConfig extends AbstractConfig<SolverManagerConfi
                 inheritedConfig.getParallelSolverCount());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.threadFactoryClass);
+        virtualConsumerThreads = ConfigUtils.inheritOverwritableProperty(virtualConsumerThreads,
+                inheritedConfig.getVirtualConsumerThreads());
         return this;
     }
 
@@ -7,10 +7,12 @@ import jakarta.xml.bind.annotation.XmlEnum;
 import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.BestScoreStatistic;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.BestSolutionMutationCountStatistic;
+import ai.timefold.solver.core.impl.solver.monitoring.statistic.ConstraintProfileStatistic;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.MemoryUseStatistic;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.MoveCountPerTypeStatistic;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.PickedMoveBestScoreDiffStatistic;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.PickedMoveStepScoreDiffStatistic;
+import ai.timefold.solver.core.impl.solver.monitoring.statistic.RuinRecreateTimeStatistic;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.SolverScopeStatistic;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.SolverStatistic;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.StatelessSolverStatistic;
@@ -52,7 +54,9 @@ public enum SolverMetric {
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF("timefold.solver.move.type.best.score.diff", new PickedMoveBestScoreDiffStatistic<>(),
             true),
     PICKED_MOVE_TYPE_STEP_SCORE_DIFF("timefold.solver.move.type.step.score.diff", new PickedMoveStepScoreDiffStatistic<>(),
-            false);
+            false),
+    CONSTRAINT_PROFILE("timefold.solver.constraint.profile", new ConstraintProfileStatistic<>(), false),
+    RUIN_RECREATE_TIME("timefold.solver.move.ruin.recreate.time", new RuinRecreateTimeStatistic<>(), false);
 
     private final String meterId;
     @SuppressWarnings("rawtypes")
@@ -9,6 +9,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -89,22 +91,11 @@ public abstract class AbstractBavetNodeNetwork {
     public void settle() {
         if (layeredActivePropagators == null) {
             // Remove inactive nodes and settle the layers in one go.
-            var initializedRootNodes = Collections.newSetFromMap(new IdentityHashMap<>());
-            declaredClassToNodeMap.forEach((declaredClass, rootNodes) -> rootNodes.forEach(rootNode -> {
-                if (initializedRootNodes.add(rootNode)) {
-                    // Ensure one initialization per node.
-                    // Root nodes are filled from a session, which can always produce.
-                    rootNode.afterAllFactsInserted(true);
-                }
-            }));
-
+            initializeRootNodes();
             var activeNodes = Collections.<AbstractNode> newSetFromMap(new IdentityHashMap<>());
             layeredActivePropagators = Arrays.stream(layeredNodes)
                     .map(layer -> Arrays.stream(layer)
-                            .filter(s -> switch (s) {
-                                case ActivitySupport activityEnabled -> activityEnabled.isActive();
-                                case AbstractTwoInputNode<?, ?> twoInputNode -> twoInputNode.isActive();
-                            })
+                            .filter(AbstractBavetNodeNetwork::isActive)
                             .peek(activeNodes::add)
                             .map(propagatorFunction).toArray(Propagator[]::new))
                     .filter(layer -> layer.length > 0).peek(AbstractBavetNodeNetwork::settleLayer).toArray(Propagator[][]::new);
@@ -117,6 +108,89 @@ public abstract class AbstractBavetNodeNetwork {
         }
     }
 
+    /**
+     * As {@link #settle()}, except that the first settle propagates every branch of the network
+     * on a separate task of the given pool.
+     * Nodes of different branches share no tuples (see {@link AbstractNode#setBranchIndex(int)}),
+     * and each branch still propagates its own layers in order,
+     * so the resulting state of every node is exactly the same as if the network were settled sequentially.
+     * Callers are responsible for making sure that whatever the branches feed into is safe to use concurrently.
+     * <p>
+     * After the first settle, or when the network only consists of a single branch,
+     * this is the same as {@link #settle()}.
+     *
+     * @param pool the pool to run the branches on
+     */
+    public void settleInParallel(ForkJoinPool pool) {
+        if (layeredActivePropagators != null) {
+            settle();
+            return;
+        }
+        initializeRootNodes();
+        // Activity is a one-time decision made once the root nodes are initialized; it can be made ahead of propagation.
+        var activeNodes = Collections.<AbstractNode> newSetFromMap(new IdentityHashMap<>());
+        var layeredActivePropagatorList = new ArrayList<Propagator[]>(layeredNodes.length);
+        var branchToLayeredPropagatorListMap = new TreeMap<Integer, List<Propagator[]>>();
+        for (var layer : layeredNodes) {
+            var activeLayer = Arrays.stream(layer)
+                    .filter(AbstractBavetNodeNetwork::isActive)
+                    .toArray(AbstractNode[]::new);
+            if (activeLayer.length == 0) {
+                continue;
+            }
+            var propagators = new Propagator[activeLayer.length];
+            var branchToPropagatorListMap = new TreeMap<Integer, List<Propagator>>();
+            for (var i = 0; i < activeLayer.length; i++) {
+                var node = activeLayer[i];
+                activeNodes.add(node);
+                propagators[i] = propagatorFunction.apply(node);
+                branchToPropagatorListMap.computeIfAbsent(node.getBranchIndex(), k -> new ArrayList<>())
+                        .add(propagators[i]);
+            }
+            layeredActivePropagatorList.add(propagators);
+            branchToPropagatorListMap.forEach((branchIndex, propagatorList) -> branchToLayeredPropagatorListMap
+                    .computeIfAbsent(branchIndex, k -> new ArrayList<>())
+                    .add(propagatorList.toArray(new Propagator[0])));
+        }
+        this.layeredActivePropagators = layeredActivePropagatorList.toArray(new Propagator[0][]);
+        this.activeNodeSet = activeNodes;
+        if (branchToLayeredPropagatorListMap.size() < 2) {
+            for (var layer : layeredActivePropagators) {
+                settleLayer(layer);
+            }
+            return;
+        }
+        var taskList = new ArrayList<ForkJoinTask<?>>(branchToLayeredPropagatorListMap.size());
+        for (var layeredBranchPropagatorList : branchToLayeredPropagatorListMap.values()) {
+            taskList.add(pool.submit(() -> {
+                for (var layer : layeredBranchPropagatorList) {
+                    settleLayer(layer);
+                }
+            }));
+        }
+        for (var task : taskList) {
+            task.join(); // Rethrows the exception of a failed branch, if any.
+        }
+    }
+
+    private void initializeRootNodes() {
+        var initializedRootNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        declaredClassToNodeMap.forEach((declaredClass, rootNodes) -> rootNodes.forEach(rootNode -> {
+            if (initializedRootNodes.add(rootNode)) {
+                // Ensure one initialization per node.
+                // Root nodes are filled from a session, which can always produce.
+                rootNode.afterAllFactsInserted(true);
+            }
+        }));
+    }
+
+    private static boolean isActive(AbstractNode node) {
+        return switch (node) {
+            case ActivitySupport activityEnabled -> activityEnabled.isActive();
+            case AbstractTwoInputNode<?, ?> twoInputNode -> twoInputNode.isActive();
+        };
+    }
+
     public boolean isActivationCheckComplete() {
         return layeredActivePropagators != null;
     }
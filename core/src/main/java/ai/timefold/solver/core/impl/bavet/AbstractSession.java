@@ -1,8 +1,10 @@
 package ai.timefold.solver.core.impl.bavet;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import ai.timefold.solver.core.impl.bavet.common.AbstractRootNode;
 import ai.timefold.solver.core.impl.bavet.common.AbstractRootNode.LifecycleOperation;
@@ -31,6 +33,29 @@ public abstract class AbstractSession<Network_ extends AbstractBavetNodeNetwork>
         }
     }
 
+    /**
+     * As {@link #insert(Object)} for every fact, in iteration order.
+     * The root nodes are only looked up once for every consecutive run of facts of the same class,
+     * so bulk loads are fastest when the facts are grouped by class.
+     *
+     * @param facts never null
+     */
+    public final void insertAll(Collection<?> facts) {
+        settled = false;
+        Class<?> lastFactClass = null;
+        AbstractRootNode<Object>[] nodes = null;
+        for (var fact : facts) {
+            var factClass = fact.getClass();
+            if (factClass != lastFactClass) {
+                nodes = findNodes(factClass, AbstractRootNode.LifecycleOperation.INSERT);
+                lastFactClass = factClass;
+            }
+            for (var node : nodes) {
+                node.insert(fact);
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private AbstractRootNode<Object>[] findNodes(Class<?> factClass, LifecycleOperation lifecycleOperation) {
         var effectiveClassToNodeArrayMap = switch (lifecycleOperation) {
@@ -70,6 +95,25 @@ public abstract class AbstractSession<Network_ extends AbstractBavetNodeNetwork>
             return;
         }
         nodeNetwork.settle();
+        afterSettle();
+    }
+
+    /**
+     * As {@link #settle()}, but the first settle propagates independent branches of the node network in parallel.
+     * Intended for the bulk load of a large working solution, right after its facts were inserted.
+     *
+     * @param pool the pool to run the branches on
+     * @see AbstractBavetNodeNetwork#settleInParallel(ForkJoinPool)
+     */
+    public final void settleInParallel(ForkJoinPool pool) {
+        if (settled) {
+            return;
+        }
+        nodeNetwork.settleInParallel(pool);
+        afterSettle();
+    }
+
+    private void afterSettle() {
         if (!initialized && nodeNetwork.isActivationCheckComplete()) {
             removeInactiveRootNodes(insertEffectiveClassToNodeArrayMap);
             removeInactiveRootNodes(updateEffectiveClassToNodeArrayMap);
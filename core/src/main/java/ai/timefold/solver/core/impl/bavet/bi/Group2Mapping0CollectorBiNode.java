@@ -3,6 +3,7 @@ package ai.timefold.solver.core.impl.bavet.bi;
 import java.util.function.BiFunction;
 
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.common.CompositeGroupKeyFunction;
 import ai.timefold.solver.core.impl.bavet.common.tuple.BiTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.impl.util.Pair;
@@ -17,15 +18,14 @@ public final class Group2Mapping0CollectorBiNode<OldA, OldB, A, B>
             int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, tuple), nextNodesTupleLifecycle, environmentMode);
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB), nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, OldA, OldB> Pair<A, B> createGroupKey(BiFunction<OldA, OldB, A> groupKeyMappingA,
-            BiFunction<OldA, OldB, B> groupKeyMappingB, BiTuple<OldA, OldB> tuple) {
-        var oldA = tuple.getA();
-        var oldB = tuple.getB();
-        return new Pair<>(groupKeyMappingA.apply(oldA, oldB), groupKeyMappingB.apply(oldA, oldB));
+    static <A, B, OldA, OldB> CompositeGroupKeyFunction<BiTuple<OldA, OldB>, Pair<A, B>> createGroupKeyFunction(
+            BiFunction<OldA, OldB, A> groupKeyMappingA, BiFunction<OldA, OldB, B> groupKeyMappingB) {
+        return CompositeGroupKeyFunction.of(tuple -> groupKeyMappingA.apply(tuple.getA(), tuple.getB()),
+                tuple -> groupKeyMappingB.apply(tuple.getA(), tuple.getB()));
     }
 
     @Override
@@ -18,7 +18,7 @@ public final class Group2Mapping1CollectorBiNode<OldA, OldB, A, B, C, ResultCont
             BiConstraintCollector<OldA, OldB, ResultContainer_, C> collector,
             TupleLifecycle<TriTuple<A, B, C>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
         super(groupStoreIndex, undoStoreIndex,
-                tuple -> Group2Mapping0CollectorBiNode.createGroupKey(groupKeyMappingA, groupKeyMappingB, tuple), collector,
+                Group2Mapping0CollectorBiNode.createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB), collector,
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
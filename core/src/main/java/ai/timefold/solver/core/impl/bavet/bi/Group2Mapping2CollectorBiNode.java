@@ -21,7 +21,7 @@ public final class Group2Mapping2CollectorBiNode<OldA, OldB, A, B, C, D, ResultC
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex, undoStoreIndex,
-                tuple -> Group2Mapping0CollectorBiNode.createGroupKey(groupKeyMappingA, groupKeyMappingB, tuple),
+                Group2Mapping0CollectorBiNode.createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB),
                 Group0Mapping2CollectorBiNode.mergeCollectors(collectorC, collectorD), nextNodesTupleLifecycle,
                 environmentMode);
         this.outputStoreSize = outputStoreSize;
@@ -3,6 +3,7 @@ package ai.timefold.solver.core.impl.bavet.bi;
 import java.util.function.BiFunction;
 
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.common.CompositeGroupKeyFunction;
 import ai.timefold.solver.core.impl.bavet.common.tuple.BiTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TriTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
@@ -17,18 +18,18 @@ public final class Group3Mapping0CollectorBiNode<OldA, OldB, A, B, C>
             BiFunction<OldA, OldB, C> groupKeyMappingC, int groupStoreIndex,
             TupleLifecycle<TriTuple<A, B, C>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple),
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, C, OldA, OldB> Triple<A, B, C> createGroupKey(BiFunction<OldA, OldB, A> groupKeyMappingA,
-            BiFunction<OldA, OldB, B> groupKeyMappingB, BiFunction<OldA, OldB, C> groupKeyMappingC,
-            BiTuple<OldA, OldB> tuple) {
-        var oldA = tuple.getA();
-        var oldB = tuple.getB();
-        return new Triple<>(groupKeyMappingA.apply(oldA, oldB), groupKeyMappingB.apply(oldA, oldB),
-                groupKeyMappingC.apply(oldA, oldB));
+    static <A, B, C, OldA, OldB> CompositeGroupKeyFunction<BiTuple<OldA, OldB>, Triple<A, B, C>> createGroupKeyFunction(
+            BiFunction<OldA, OldB, A> groupKeyMappingA,
+            BiFunction<OldA, OldB, B> groupKeyMappingB,
+            BiFunction<OldA, OldB, C> groupKeyMappingC) {
+        return CompositeGroupKeyFunction.of(tuple -> groupKeyMappingA.apply(tuple.getA(), tuple.getB()),
+                tuple -> groupKeyMappingB.apply(tuple.getA(), tuple.getB()),
+                tuple -> groupKeyMappingC.apply(tuple.getA(), tuple.getB()));
     }
 
     @Override
@@ -21,8 +21,7 @@ public final class Group3Mapping1CollectorBiNode<OldA, OldB, A, B, C, D, ResultC
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex, undoStoreIndex,
-                tuple -> Group3Mapping0CollectorBiNode.createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC,
-                        tuple),
+                Group3Mapping0CollectorBiNode.createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC),
                 collector,
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
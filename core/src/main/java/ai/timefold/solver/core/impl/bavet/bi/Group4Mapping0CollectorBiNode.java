@@ -3,6 +3,7 @@ package ai.timefold.solver.core.impl.bavet.bi;
 import java.util.function.BiFunction;
 
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.common.CompositeGroupKeyFunction;
 import ai.timefold.solver.core.impl.bavet.common.tuple.BiTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.QuadTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
@@ -20,19 +21,21 @@ public final class Group4Mapping0CollectorBiNode<OldA, OldB, A, B, C, D>
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD, tuple),
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    private static <A, B, C, D, OldA, OldB> Quadruple<A, B, C, D> createGroupKey(
-            BiFunction<OldA, OldB, A> groupKeyMappingA, BiFunction<OldA, OldB, B> groupKeyMappingB,
-            BiFunction<OldA, OldB, C> groupKeyMappingC, BiFunction<OldA, OldB, D> groupKeyMappingD,
-            BiTuple<OldA, OldB> tuple) {
-        var oldA = tuple.getA();
-        var oldB = tuple.getB();
-        return new Quadruple<>(groupKeyMappingA.apply(oldA, oldB), groupKeyMappingB.apply(oldA, oldB),
-                groupKeyMappingC.apply(oldA, oldB), groupKeyMappingD.apply(oldA, oldB));
+    private static <A, B, C, D, OldA, OldB> CompositeGroupKeyFunction<BiTuple<OldA, OldB>, Quadruple<A, B, C, D>>
+            createGroupKeyFunction(
+            BiFunction<OldA, OldB, A> groupKeyMappingA,
+            BiFunction<OldA, OldB, B> groupKeyMappingB,
+            BiFunction<OldA, OldB, C> groupKeyMappingC,
+            BiFunction<OldA, OldB, D> groupKeyMappingD) {
+        return CompositeGroupKeyFunction.of(tuple -> groupKeyMappingA.apply(tuple.getA(), tuple.getB()),
+                tuple -> groupKeyMappingB.apply(tuple.getA(), tuple.getB()),
+                tuple -> groupKeyMappingC.apply(tuple.getA(), tuple.getB()),
+                tuple -> groupKeyMappingD.apply(tuple.getA(), tuple.getB()));
     }
 
     @Override
@@ -1,7 +1,5 @@
 package ai.timefold.solver.core.impl.bavet.common;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -10,6 +8,8 @@ import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.impl.bavet.common.tuple.Tuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleState;
+import ai.timefold.solver.core.impl.util.AdaptiveKeyMap;
+import ai.timefold.solver.core.impl.util.CompositeKeyMap;
 
 public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extends Tuple, GroupKey_, ResultContainer_, Result_>
         extends AbstractSingleInputNode<InTuple_> {
@@ -38,9 +38,28 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
      */
     private final boolean hasCollector;
     /**
-     * Used when {@link #hasGroupKeyFunction} is true, otherwise {@link #singletonGroup} is used.
+     * Used when {@link #hasGroupKeyFunction} is true and {@link #compositeGroupKeyFunction} is null,
+     * otherwise {@link #compositeGroupMap} or {@link #singletonGroup} is used.
+     * Single group keys such as enums and integers are stored without hashing or boxing.
      */
-    private final Map<Object, Group<OutTuple_, ResultContainer_>> groupMap;
+    private final AdaptiveKeyMap<Object, Group<OutTuple_, ResultContainer_>> groupMap;
+    /**
+     * Not null when the group key consists of several components, unless the group keys are being asserted.
+     * The group of a tuple is then found by the components of its group key,
+     * and only a new group creates the composite group key.
+     */
+    private final CompositeGroupKeyFunction<InTuple_, GroupKey_> compositeGroupKeyFunction;
+    /**
+     * Used when {@link #compositeGroupKeyFunction} is not null.
+     */
+    private final CompositeKeyMap<Group<OutTuple_, ResultContainer_>> compositeGroupMap;
+    /**
+     * Reused for the group key components of every incoming tuple.
+     * Removing a group uses another array,
+     * because the components of the incoming tuple are still needed after the group of the tuple is removed.
+     */
+    private final Object[] groupKeyComponents;
+    private final Object[] removedGroupKeyComponents;
     /**
      * Used when {@link #hasGroupKeyFunction} is false, otherwise {@link #groupMap} is used.
      *
@@ -62,12 +81,27 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
         this.finisher = finisher;
         this.hasGroupKeyFunction = groupKeyFunction != null;
         this.hasCollector = supplier != null;
+        this.useAssertingGroupKey = environmentMode.isStepAssertOrMore();
+        this.compositeGroupKeyFunction =
+                !useAssertingGroupKey && groupKeyFunction instanceof CompositeGroupKeyFunction<InTuple_, GroupKey_> function
+                        ? function
+                        : null;
         /*
          * Not using the default sizing to 1000.
          * The number of groups can be very small, and that situation is not unlikely.
          * Therefore, the size of these collections is kept default.
          */
-        this.groupMap = hasGroupKeyFunction ? new HashMap<>() : null;
+        if (compositeGroupKeyFunction != null) {
+            this.groupMap = null;
+            this.compositeGroupMap = new CompositeKeyMap<>(compositeGroupKeyFunction.arity());
+            this.groupKeyComponents = new Object[compositeGroupKeyFunction.arity()];
+            this.removedGroupKeyComponents = new Object[compositeGroupKeyFunction.arity()];
+        } else {
+            this.groupMap = hasGroupKeyFunction ? new AdaptiveKeyMap<>() : null;
+            this.compositeGroupMap = null;
+            this.groupKeyComponents = null;
+            this.removedGroupKeyComponents = null;
+        }
         this.propagationQueue = hasCollector ? new DynamicPropagationQueue<>(nextNodesTupleLifecycle,
                 group -> {
                     var outTuple = group.getTuple();
@@ -76,7 +110,6 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
                         updateOutTupleToFinisher(outTuple, group.getResultContainer());
                     }
                 }) : new DynamicPropagationQueue<>(nextNodesTupleLifecycle);
-        this.useAssertingGroupKey = environmentMode.isStepAssertOrMore();
     }
 
     protected AbstractGroupNode(int groupStoreIndex,
@@ -99,12 +132,16 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
                     "Impossible state: the input for the tuple (%s) was already added in the tupleStore."
                             .formatted(tuple));
         }
-        var userSuppliedKey = hasGroupKeyFunction ? groupKeyFunction.apply(tuple) : null;
-        createTuple(tuple, userSuppliedKey);
+        if (compositeGroupKeyFunction != null) {
+            compositeGroupKeyFunction.applyComponents(tuple, groupKeyComponents);
+            createTuple(tuple, getOrCreateCompositeKeyGroup());
+        } else {
+            var userSuppliedKey = hasGroupKeyFunction ? groupKeyFunction.apply(tuple) : null;
+            createTuple(tuple, getOrCreateGroup(userSuppliedKey));
+        }
     }
 
-    private void createTuple(InTuple_ tuple, GroupKey_ userSuppliedKey) {
-        var group = getOrCreateGroup(userSuppliedKey);
+    private void createTuple(InTuple_ tuple, Group<OutTuple_, ResultContainer_> group) {
         if (hasCollector) {
             groupInsert(group.getResultContainer(), tuple);
         }
@@ -144,6 +181,20 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
         }
     }
 
+    /**
+     * As {@link #getOrCreateGroup(Object)}, for the group key components in {@link #groupKeyComponents}.
+     */
+    private Group<OutTuple_, ResultContainer_> getOrCreateCompositeKeyGroup() {
+        var group = compositeGroupMap.get(groupKeyComponents);
+        if (group == null) {
+            group = createGroupWithGroupKey(compositeGroupKeyFunction.compose(groupKeyComponents));
+            compositeGroupMap.put(groupKeyComponents, group);
+        } else {
+            group.parentCount++;
+        }
+        return group;
+    }
+
     private Group<OutTuple_, ResultContainer_> createGroupWithGroupKey(Object groupMapKey) {
         var userSuppliedKey = extractUserSuppliedKey(groupMapKey);
         var outTuple = createOutTuple(userSuppliedKey);
@@ -182,6 +233,16 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
             updateGroup(tuple, oldGroup);
             return;
         }
+        if (compositeGroupKeyFunction != null) {
+            compositeGroupKeyFunction.applyComponents(tuple, groupKeyComponents);
+            if (compositeGroupKeyFunction.matches(oldGroup.getGroupKey(), groupKeyComponents)) {
+                updateGroup(tuple, oldGroup);
+            } else {
+                leaveGroup(tuple, oldGroup);
+                createTuple(tuple, getOrCreateCompositeKeyGroup());
+            }
+            return;
+        }
         var newUserSuppliedGroupKey = groupKeyFunction.apply(tuple);
         var storedKey = oldGroup.getGroupKey();
         var sameKey = useAssertingGroupKey
@@ -190,15 +251,19 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
         if (sameKey) {
             updateGroup(tuple, oldGroup);
         } else {
-            if (hasCollector) {
-                groupRetract(tuple);
-            }
-            var newParentCount = --oldGroup.parentCount;
-            killOutTuple(oldGroup, newParentCount == 0);
-            createTuple(tuple, newUserSuppliedGroupKey);
+            leaveGroup(tuple, oldGroup);
+            createTuple(tuple, getOrCreateGroup(newUserSuppliedGroupKey));
         }
     }
 
+    private void leaveGroup(InTuple_ tuple, Group<OutTuple_, ResultContainer_> oldGroup) {
+        if (hasCollector) {
+            groupRetract(tuple);
+        }
+        var newParentCount = --oldGroup.parentCount;
+        killOutTuple(oldGroup, newParentCount == 0);
+    }
+
     private void updateGroup(InTuple_ tuple, Group<OutTuple_, ResultContainer_> oldGroup) {
         // No need to change parentCount because it is the same group.
         if (hasCollector) {
@@ -258,7 +323,10 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
     }
 
     private Group<OutTuple_, ResultContainer_> removeGroup(Object groupKey) {
-        if (hasGroupKeyFunction) {
+        if (compositeGroupKeyFunction != null) {
+            compositeGroupKeyFunction.decompose(groupKey, removedGroupKeyComponents);
+            return compositeGroupMap.remove(removedGroupKeyComponents);
+        } else if (hasGroupKeyFunction) {
             return groupMap.remove(groupKey);
         } else {
             var oldGroup = singletonGroup;
@@ -274,11 +342,7 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
             // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
             return;
         }
-        if (hasCollector) {
-            groupRetract(tuple);
-        }
-        var newParentCount = --group.parentCount;
-        killOutTuple(group, newParentCount == 0);
+        leaveGroup(tuple, group);
     }
 
     protected abstract void groupInsert(ResultContainer_ resultContainer, InTuple_ tuple);
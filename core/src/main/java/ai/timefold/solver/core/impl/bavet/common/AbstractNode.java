@@ -22,6 +22,7 @@ public abstract sealed class AbstractNode
 
     private long id;
     private long layerIndex = -1;
+    private int branchIndex = -1;
     /**
      * Used to map this node to where it was defined/used.
      * Null when profiling is disabled.
@@ -78,6 +79,28 @@ public abstract sealed class AbstractNode
         return layerIndex;
     }
 
+    /**
+     * Nodes in different branches never exchange tuples,
+     * as they have no common ancestor and no common descendant.
+     * Such branches can therefore be propagated independently of one another.
+     *
+     * @param branchIndex at least 0
+     */
+    public final void setBranchIndex(int branchIndex) {
+        if (branchIndex < 0) {
+            throw new IllegalArgumentException("Impossible state: branch index (" + branchIndex + ") must be at least 0.");
+        }
+        this.branchIndex = branchIndex;
+    }
+
+    public final int getBranchIndex() {
+        if (branchIndex == -1) {
+            throw new IllegalStateException(
+                    "Impossible state: branch index for node (" + this + ") requested before being set.");
+        }
+        return branchIndex;
+    }
+
     @Override
     public String toString() {
         // Useful for debugging if a constraint has multiple nodes of the same type
@@ -3,6 +3,7 @@ package ai.timefold.solver.core.impl.bavet.common;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -171,6 +172,7 @@ public abstract class AbstractNodeBuildHelper<Stream_ extends BavetStream> {
             nodeBuilder.accept(constraintStream, buildHelper);
         }
         var nodeList = buildHelper.destroyAndGetNodeList();
+        var nodeToBranchRootMap = new IdentityHashMap<AbstractNode, AbstractNode>(nodeList.size());
         var nextNodeId = 0L;
         for (var node : nodeList) {
             /*
@@ -178,46 +180,102 @@ public abstract class AbstractNodeBuildHelper<Stream_ extends BavetStream> {
              * Parents are guaranteed to come before children.
              */
             node.setId(nextNodeId++);
-            node.setLayerIndex(determineLayerIndex(node, buildHelper));
+            var parentNodeList = findParentNodes(node, buildHelper);
+            node.setLayerIndex(determineLayerIndex(parentNodeList));
+            nodeToBranchRootMap.put(node, node);
+            for (var parentNode : parentNodeList) {
+                mergeBranches(nodeToBranchRootMap, node, parentNode);
+            }
             nodeProcessor.accept(node);
         }
+        var branchRootToIndexMap = new IdentityHashMap<AbstractNode, Integer>();
+        for (var node : nodeList) {
+            var branchRoot = findBranchRoot(nodeToBranchRootMap, node);
+            var branchIndex = branchRootToIndexMap.get(branchRoot);
+            if (branchIndex == null) {
+                branchIndex = branchRootToIndexMap.size();
+                branchRootToIndexMap.put(branchRoot, branchIndex);
+            }
+            node.setBranchIndex(branchIndex);
+        }
         return nodeList;
     }
 
     /**
-     * Nodes are propagated in layers.
-     * See {@link PropagationQueue} and {@link AbstractNode} for details.
-     * This method determines the layer of each node.
-     * It does so by reverse-engineering the parent nodes of each node.
-     * Nodes without parents (forEach nodes) are in layer 0.
-     * Nodes with parents are one layer above their parents.
+     * Reverse-engineers the parent nodes of a node.
+     * Nodes without parents (forEach nodes) return an empty list.
      * Some nodes have multiple parents, such as {@link AbstractJoinNode} and {@link AbstractIfExistsNode}.
-     * These are one layer above the highest parent.
-     * This is done to ensure that, when a child node starts propagating, all its parents have already propagated.
      *
      * @param node never null
      * @param buildHelper never null
-     * @return at least 0
+     * @return never null
      */
     @SuppressWarnings("unchecked")
-    private static <Stream_ extends BavetStream> long determineLayerIndex(AbstractNode node,
+    private static <Stream_ extends BavetStream> List<AbstractNode> findParentNodes(AbstractNode node,
             AbstractNodeBuildHelper<Stream_> buildHelper) {
         return switch (node) {
-            case AbstractRootNode<?> ignored -> 0L; // Root nodes, and only they, are in layer 0.
-            case AbstractTwoInputNode<?, ?> twoInputNode -> { // Two-input nodes must sit above both inputs.
+            case AbstractRootNode<?> ignored -> Collections.emptyList(); // Root nodes, and only they, have no parents.
+            case AbstractTwoInputNode<?, ?> twoInputNode -> {
                 var nodeCreator = (BavetStreamBinaryOperation<?>) buildHelper.getNodeCreatingStream(twoInputNode);
                 var leftParent = (Stream_) nodeCreator.getLeftParent();
                 var rightParent = (Stream_) nodeCreator.getRightParent();
-                var leftParentNode = buildHelper.findParentNode(leftParent);
-                var rightParentNode = buildHelper.findParentNode(rightParent);
-                yield Math.max(leftParentNode.getLayerIndex(), rightParentNode.getLayerIndex()) + 1;
+                yield List.of(buildHelper.findParentNode(leftParent), buildHelper.findParentNode(rightParent));
             }
-            default -> { // Every other node sits above its parent.
+            default -> {
                 var nodeCreator = buildHelper.getNodeCreatingStream(node);
-                var parentNode = buildHelper.findParentNode(nodeCreator.getParent());
-                yield parentNode.getLayerIndex() + 1;
+                yield List.of(buildHelper.findParentNode(nodeCreator.getParent()));
             }
         };
     }
 
+    /**
+     * Nodes are propagated in layers.
+     * See {@link PropagationQueue} and {@link AbstractNode} for details.
+     * This method determines the layer of each node.
+     * Nodes without parents (forEach nodes) are in layer 0.
+     * Nodes with parents are one layer above their parents.
+     * Nodes with multiple parents are one layer above the highest parent.
+     * This is done to ensure that, when a child node starts propagating, all its parents have already propagated.
+     *
+     * @param parentNodeList never null, empty for root nodes
+     * @return at least 0
+     */
+    private static long determineLayerIndex(List<AbstractNode> parentNodeList) {
+        var layerIndex = 0L;
+        for (var parentNode : parentNodeList) {
+            layerIndex = Math.max(layerIndex, parentNode.getLayerIndex() + 1);
+        }
+        return layerIndex;
+    }
+
+    /**
+     * Branches are the connected components of the node network, tracked with a union-find structure.
+     * A child node always belongs to the same branch as all of its parents.
+     */
+    private static void mergeBranches(Map<AbstractNode, AbstractNode> nodeToBranchRootMap, AbstractNode node,
+            AbstractNode otherNode) {
+        var branchRoot = findBranchRoot(nodeToBranchRootMap, node);
+        var otherBranchRoot = findBranchRoot(nodeToBranchRootMap, otherNode);
+        if (branchRoot != otherBranchRoot) {
+            nodeToBranchRootMap.put(branchRoot, otherBranchRoot);
+        }
+    }
+
+    private static AbstractNode findBranchRoot(Map<AbstractNode, AbstractNode> nodeToBranchRootMap, AbstractNode node) {
+        var branchRoot = node;
+        var parent = nodeToBranchRootMap.get(branchRoot);
+        while (parent != branchRoot) {
+            branchRoot = parent;
+            parent = nodeToBranchRootMap.get(branchRoot);
+        }
+        // Compress the path, so that subsequent lookups are fast.
+        var current = node;
+        while (current != branchRoot) {
+            var next = nodeToBranchRootMap.get(current);
+            nodeToBranchRootMap.put(current, branchRoot);
+            current = next;
+        }
+        return branchRoot;
+    }
+
 }
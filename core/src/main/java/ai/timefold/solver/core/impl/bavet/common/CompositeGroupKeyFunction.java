@@ -0,0 +1,151 @@
+package ai.timefold.solver.core.impl.bavet.common;
+
+import java.util.function.Function;
+
+import ai.timefold.solver.core.impl.bavet.common.tuple.Tuple;
+import ai.timefold.solver.core.impl.util.Pair;
+import ai.timefold.solver.core.impl.util.Quadruple;
+import ai.timefold.solver.core.impl.util.Triple;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The group key function of a groupBy with two to four group keys,
+ * such as {@code groupBy(Shift::getEmployee, Shift::getDate, count())}.
+ * <p>
+ * Besides creating the composite group key ({@link Pair}, {@link Triple} or {@link Quadruple}) of a tuple,
+ * it can also write the components of that key into an array.
+ * {@link AbstractGroupNode} uses the latter to find the group of a tuple,
+ * so that only a tuple which creates a new group also creates a composite group key.
+ *
+ * @param <InTuple_> the type of the incoming tuple
+ * @param <GroupKey_> {@link Pair}, {@link Triple} or {@link Quadruple}
+ */
+@NullMarked
+public final class CompositeGroupKeyFunction<InTuple_ extends Tuple, GroupKey_> implements Function<InTuple_, GroupKey_> {
+
+    public static <InTuple_ extends Tuple, A, B> CompositeGroupKeyFunction<InTuple_, Pair<A, B>> of(
+            Function<InTuple_, A> mappingA, Function<InTuple_, B> mappingB) {
+        return new CompositeGroupKeyFunction<>(2, mappingA, mappingB, null, null);
+    }
+
+    public static <InTuple_ extends Tuple, A, B, C> CompositeGroupKeyFunction<InTuple_, Triple<A, B, C>> of(
+            Function<InTuple_, A> mappingA, Function<InTuple_, B> mappingB, Function<InTuple_, C> mappingC) {
+        return new CompositeGroupKeyFunction<>(3, mappingA, mappingB, mappingC, null);
+    }
+
+    public static <InTuple_ extends Tuple, A, B, C, D> CompositeGroupKeyFunction<InTuple_, Quadruple<A, B, C, D>> of(
+            Function<InTuple_, A> mappingA, Function<InTuple_, B> mappingB, Function<InTuple_, C> mappingC,
+            Function<InTuple_, D> mappingD) {
+        return new CompositeGroupKeyFunction<>(4, mappingA, mappingB, mappingC, mappingD);
+    }
+
+    private final int arity;
+    private final Function<InTuple_, ?> mappingA;
+    private final Function<InTuple_, ?> mappingB;
+    private final @Nullable Function<InTuple_, ?> mappingC;
+    private final @Nullable Function<InTuple_, ?> mappingD;
+
+    private CompositeGroupKeyFunction(int arity, Function<InTuple_, ?> mappingA, Function<InTuple_, ?> mappingB,
+            @Nullable Function<InTuple_, ?> mappingC, @Nullable Function<InTuple_, ?> mappingD) {
+        this.arity = arity;
+        this.mappingA = mappingA;
+        this.mappingB = mappingB;
+        this.mappingC = mappingC;
+        this.mappingD = mappingD;
+    }
+
+    public int arity() {
+        return arity;
+    }
+
+    /**
+     * @param tuple never null
+     * @param components its length at least {@link #arity()}; receives the components of the group key of the tuple
+     */
+    public void applyComponents(InTuple_ tuple, @Nullable Object[] components) {
+        components[0] = mappingA.apply(tuple);
+        components[1] = mappingB.apply(tuple);
+        if (arity > 2) {
+            components[2] = mappingC.apply(tuple);
+            if (arity > 3) {
+                components[3] = mappingD.apply(tuple);
+            }
+        }
+    }
+
+    @Override
+    public GroupKey_ apply(InTuple_ tuple) {
+        var components = new Object[arity];
+        applyComponents(tuple, components);
+        return compose(components);
+    }
+
+    /**
+     * @param components as written by {@link #applyComponents(Tuple, Object[])}
+     * @return the composite group key of these components
+     */
+    @SuppressWarnings("unchecked")
+    public GroupKey_ compose(@Nullable Object[] components) {
+        return (GroupKey_) switch (arity) {
+            case 2 -> new Pair<>(components[0], components[1]);
+            case 3 -> new Triple<>(components[0], components[1], components[2]);
+            case 4 -> new Quadruple<>(components[0], components[1], components[2], components[3]);
+            default -> throw new IllegalStateException("Impossible state: the arity (%d) is not supported."
+                    .formatted(arity));
+        };
+    }
+
+    /**
+     * The reverse of {@link #compose(Object[])}.
+     *
+     * @param groupKey a key created by {@link #compose(Object[])}
+     * @param components its length at least {@link #arity()}; receives the components of the group key
+     */
+    public void decompose(Object groupKey, @Nullable Object[] components) {
+        switch (groupKey) {
+            case Pair<?, ?> pair -> {
+                components[0] = pair.key();
+                components[1] = pair.value();
+            }
+            case Triple<?, ?, ?> triple -> {
+                components[0] = triple.a();
+                components[1] = triple.b();
+                components[2] = triple.c();
+            }
+            case Quadruple<?, ?, ?, ?> quadruple -> {
+                components[0] = quadruple.a();
+                components[1] = quadruple.b();
+                components[2] = quadruple.c();
+                components[3] = quadruple.d();
+            }
+            default -> throw new IllegalStateException("Impossible state: the group key (%s) is not composite."
+                    .formatted(groupKey));
+        }
+    }
+
+    /**
+     * @param groupKey a key created by {@link #compose(Object[])}
+     * @param components as written by {@link #applyComponents(Tuple, Object[])}
+     * @return true if {@link #compose(Object[]) composing} the components would create a key equal to the group key
+     */
+    public boolean matches(Object groupKey, @Nullable Object[] components) {
+        return switch (groupKey) {
+            case Pair<?, ?> pair -> equals(pair.key(), components[0]) && equals(pair.value(), components[1]);
+            case Triple<?, ?, ?> triple -> equals(triple.a(), components[0]) && equals(triple.b(), components[1])
+                    && equals(triple.c(), components[2]);
+            case Quadruple<?, ?, ?, ?> quadruple -> equals(quadruple.a(), components[0])
+                    && equals(quadruple.b(), components[1]) && equals(quadruple.c(), components[2])
+                    && equals(quadruple.d(), components[3]);
+            default -> throw new IllegalStateException("Impossible state: the group key (%s) is not composite."
+                    .formatted(groupKey));
+        };
+    }
+
+    private static boolean equals(@Nullable Object a, @Nullable Object b) {
+        // We do not use Objects.equals(...) due to https://bugs.openjdk.org/browse/JDK-8015417.
+        return a == b || (a != null && a.equals(b));
+    }
+
+}
@@ -22,6 +22,17 @@ public interface InnerConstraintProfiler {
 
     void measure(ConstraintNodeProfileId profileId, Operation operation, Runnable measurable);
 
+    /**
+     * Allows the profiler to record an operation without it being wrapped in a {@link Runnable},
+     * which would otherwise be allocated for every tuple entering or leaving a profiled lifecycle.
+     *
+     * @return true if the operation was recorded, and the caller must run it without calling {@link #measure};
+     *         false if the caller must run it through {@link #measure}
+     */
+    default boolean recordWithoutMeasuring(ConstraintNodeProfileId profileId, Operation operation) {
+        return false;
+    }
+
     void summarize();
 
     enum Operation {
@@ -0,0 +1,291 @@
+package ai.timefold.solver.core.impl.bavet.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintRef;
+import ai.timefold.solver.core.impl.bavet.common.tuple.ProfilingTupleLifecycle;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A lightweight profiler, cheap enough to be left enabled in production.
+ * <p>
+ * Propagations ({@link ProfilingPropagator}) are counted, but only one in every {@link #DEFAULT_SAMPLING_INTERVAL}
+ * propagations of each node is timed; the time of the others is extrapolated from the sampled ones.
+ * Tuples entering a {@link ProfilingTupleLifecycle} during a propagation are counted,
+ * and timed only if the propagation itself is timed.
+ * Their time is charged to the node of the lifecycle and subtracted from the node that propagated them,
+ * so that every node only reports its own time.
+ * It is extrapolated with the sampling rate of the propagating node.
+ * This gives every node its time and its number of live tuples.
+ * The time of a constraint is the sum of the time of its nodes;
+ * nodes shared between constraints count towards each of them.
+ * <p>
+ * Not thread-safe; every session needs its own instance.
+ * The getters may be called from other threads, such as when metrics are scraped,
+ * in which case they may return slightly outdated values.
+ */
+@NullMarked
+public final class SamplingConstraintProfiler implements InnerConstraintProfiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SamplingConstraintProfiler.class);
+    public static final int DEFAULT_SAMPLING_INTERVAL = 64;
+
+    private final int samplingMask;
+    private final List<ConstraintNodeProfileId> profileIdList = new ArrayList<>();
+    private final Map<ConstraintRef, Set<ConstraintNodeProfileId>> constraintToProfileIdSetMap = new LinkedHashMap<>();
+    /**
+     * Indexed by {@link ConstraintNodeProfileId#key()}, which is dense and starts at 0.
+     */
+    private NodeStatistics[] nodeStatisticsArray = new NodeStatistics[64];
+    /**
+     * Greater than zero while a propagation is being measured.
+     */
+    private int measurementDepth = 0;
+    /**
+     * Null unless the current propagation is being timed.
+     */
+    private @Nullable NodeStatistics timedPropagationStatistics = null;
+    /**
+     * The time spent in nested measurements of the measurement currently being timed.
+     */
+    private long nestedNanos = 0L;
+
+    public SamplingConstraintProfiler() {
+        this(DEFAULT_SAMPLING_INTERVAL);
+    }
+
+    /**
+     * @param samplingInterval a power of 2; 1 to time every propagation
+     */
+    public SamplingConstraintProfiler(int samplingInterval) {
+        if (samplingInterval < 1 || Integer.bitCount(samplingInterval) != 1) {
+            throw new IllegalArgumentException("The samplingInterval (%d) must be a positive power of 2."
+                    .formatted(samplingInterval));
+        }
+        this.samplingMask = samplingInterval - 1;
+    }
+
+    @Override
+    public void register(ConstraintNodeProfileId profileId) {
+        var index = Math.toIntExact(profileId.key());
+        if (index >= nodeStatisticsArray.length) {
+            nodeStatisticsArray = Arrays.copyOf(nodeStatisticsArray, Math.max(index + 1, nodeStatisticsArray.length * 2));
+        }
+        if (nodeStatisticsArray[index] == null) {
+            nodeStatisticsArray[index] = new NodeStatistics();
+            profileIdList.add(profileId);
+        }
+    }
+
+    @Override
+    public <Solution_, Stream_ extends BavetStream> void registerNodeGraph(Solution_ solution, List<AbstractNode> nodeList,
+            Set<Constraint> constraintSet, Function<AbstractNode, Stream_> nodeToStreamFunction,
+            Function<Stream_, AbstractNode> streamToParentNodeFunction) {
+        // The node graph is not needed, as this profiler reports per node and per constraint only.
+    }
+
+    @Override
+    public void registerConstraint(ConstraintRef constraintRef, Set<ConstraintNodeProfileId> profileIdSet) {
+        // The set keeps being filled while the network is being built; it is only read afterwards.
+        constraintToProfileIdSetMap.put(constraintRef, profileIdSet);
+    }
+
+    @Override
+    public void measure(ConstraintNodeProfileId profileId, Operation operation, Runnable measurable) {
+        var nodeStatistics = nodeStatisticsArray[(int) profileId.key()];
+        if (measurementDepth > 0) { // A tuple entering a lifecycle, as part of a propagation which is already measured.
+            countTuple(nodeStatistics, operation);
+            if (timedPropagationStatistics == null) {
+                measurable.run();
+            } else {
+                nodeStatistics.enclosingStatistics = timedPropagationStatistics;
+                nodeStatistics.nestedSampledNanos += time(measurable);
+            }
+            return;
+        }
+        measurementDepth++;
+        try {
+            if ((nodeStatistics.propagationCount++ & samplingMask) == 0) {
+                timedPropagationStatistics = nodeStatistics;
+                nodeStatistics.sampledNanos += time(measurable);
+                nodeStatistics.sampledPropagationCount++;
+            } else {
+                measurable.run();
+            }
+        } finally {
+            measurementDepth--;
+            timedPropagationStatistics = null;
+            nestedNanos = 0L;
+        }
+    }
+
+    /**
+     * @return the time of the measurable, excluding the time of the measurements nested in it
+     */
+    private long time(Runnable measurable) {
+        var outerNestedNanos = nestedNanos;
+        nestedNanos = 0L;
+        var start = System.nanoTime();
+        measurable.run();
+        var nanos = System.nanoTime() - start;
+        var ownNanos = nanos - nestedNanos;
+        nestedNanos = outerNestedNanos + nanos;
+        return ownNanos;
+    }
+
+    @Override
+    public boolean recordWithoutMeasuring(ConstraintNodeProfileId profileId, Operation operation) {
+        if (measurementDepth == 0 || timedPropagationStatistics != null) {
+            return false;
+        }
+        countTuple(nodeStatisticsArray[(int) profileId.key()], operation);
+        return true;
+    }
+
+    private static void countTuple(NodeStatistics nodeStatistics, Operation operation) {
+        switch (operation) {
+            case INSERT -> nodeStatistics.tupleCount++;
+            case RETRACT -> nodeStatistics.tupleCount--;
+            case UPDATE -> {
+                // The number of live tuples does not change.
+            }
+        }
+    }
+
+    /**
+     * @return in the order in which the constraints were registered
+     */
+    public Set<ConstraintRef> getConstraintRefs() {
+        return Collections.unmodifiableSet(constraintToProfileIdSetMap.keySet());
+    }
+
+    /**
+     * @return in the order in which the nodes were registered
+     */
+    public List<ConstraintNodeProfileId> getProfileIds() {
+        return Collections.unmodifiableList(profileIdList);
+    }
+
+    public boolean isProfiled(ConstraintRef constraintRef) {
+        return constraintToProfileIdSetMap.containsKey(constraintRef);
+    }
+
+    public boolean isProfiled(ConstraintNodeProfileId profileId) {
+        var index = profileId.key();
+        return index < nodeStatisticsArray.length && nodeStatisticsArray[(int) index] != null;
+    }
+
+    /**
+     * @return the estimated time spent propagating the nodes of the constraint, in nanoseconds
+     */
+    public long getConstraintNanos(ConstraintRef constraintRef) {
+        var nanos = 0L;
+        for (var profileId : getConstraintProfileIdSet(constraintRef)) {
+            nanos += getNodeNanos(profileId);
+        }
+        return nanos;
+    }
+
+    /**
+     * @return the number of tuples currently held by the nodes of the constraint
+     */
+    public long getConstraintTupleCount(ConstraintRef constraintRef) {
+        var tupleCount = 0L;
+        for (var profileId : getConstraintProfileIdSet(constraintRef)) {
+            tupleCount += getNodeTupleCount(profileId);
+        }
+        return tupleCount;
+    }
+
+    /**
+     * @return the estimated time spent in the node, in nanoseconds,
+     *         excluding the time spent in the nodes it propagated its tuples to
+     */
+    public long getNodeNanos(ConstraintNodeProfileId profileId) {
+        return getNodeStatistics(profileId).estimateNanos();
+    }
+
+    /**
+     * @return the number of tuples which entered the node and were not yet retracted
+     */
+    public long getNodeTupleCount(ConstraintNodeProfileId profileId) {
+        return getNodeStatistics(profileId).tupleCount;
+    }
+
+    private Set<ConstraintNodeProfileId> getConstraintProfileIdSet(ConstraintRef constraintRef) {
+        var profileIdSet = constraintToProfileIdSetMap.get(constraintRef);
+        if (profileIdSet == null) {
+            throw new IllegalArgumentException("The constraintRef (%s) is not profiled.".formatted(constraintRef));
+        }
+        return profileIdSet;
+    }
+
+    private NodeStatistics getNodeStatistics(ConstraintNodeProfileId profileId) {
+        if (!isProfiled(profileId)) {
+            throw new IllegalArgumentException("The profileId (%s) is not registered.".formatted(profileId));
+        }
+        return nodeStatisticsArray[(int) profileId.key()];
+    }
+
+    @Override
+    public void summarize() {
+        if (!LOGGER.isDebugEnabled()) {
+            return;
+        }
+        var summary = getConstraintRefs().stream()
+                .sorted(Comparator.comparingLong(this::getConstraintNanos).reversed())
+                .map(constraintRef -> "  Constraint (%s) took (%d) ms and holds (%d) tuples.".formatted(constraintRef,
+                        TimeUnit.NANOSECONDS.toMillis(getConstraintNanos(constraintRef)),
+                        getConstraintTupleCount(constraintRef)))
+                .collect(Collectors.joining(System.lineSeparator()));
+        LOGGER.debug("Constraint profile:{}{}", System.lineSeparator(), summary);
+    }
+
+    private static final class NodeStatistics {
+
+        private long propagationCount = 0L;
+        private long sampledPropagationCount = 0L;
+        private long sampledNanos = 0L;
+        /**
+         * Time spent in this node as part of timed propagations of another node.
+         */
+        private long nestedSampledNanos = 0L;
+        /**
+         * The node whose propagation last timed this node; a lifecycle is normally only fed by a single node.
+         */
+        private @Nullable NodeStatistics enclosingStatistics = null;
+        private long tupleCount = 0L;
+
+        long estimateNanos() {
+            var nanos = extrapolate(sampledNanos);
+            if (enclosingStatistics != null) {
+                nanos += enclosingStatistics.extrapolate(nestedSampledNanos);
+            }
+            return nanos;
+        }
+
+        private long extrapolate(long nanos) {
+            if (sampledPropagationCount == 0L) {
+                return 0L;
+            }
+            return (long) (nanos * ((double) propagationCount / sampledPropagationCount));
+        }
+
+    }
+
+}
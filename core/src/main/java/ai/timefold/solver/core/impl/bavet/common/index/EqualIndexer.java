@@ -1,15 +1,14 @@
 package ai.timefold.solver.core.impl.bavet.common.index;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.random.RandomGenerator;
 
+import ai.timefold.solver.core.impl.util.AdaptiveKeyMap;
 import ai.timefold.solver.core.impl.util.ListEntry;
 
 import org.jspecify.annotations.NullMarked;
@@ -21,21 +20,10 @@ final class EqualIndexer<T, Key_> implements Indexer<T> {
     private final KeyUnpacker<Key_> keyUnpacker;
     private final Supplier<Indexer<T>> downstreamIndexerSupplier;
     /**
-     * The number 16 is chosen as that is the default initial capacity of a HashMap
-     * and we have no good way of estimating the number of keys up-front.
-     * Any reasonable problem will quickly resize the map, and by a lot.
-     * Since the solver is typically a long-running process,
-     * this initial overhead is negligible in the grand scheme of things.
-     * <p>
-     * 0.5f has been established experimentally as a good load factor for this map,
-     * balancing its memory consumption with lookup speed.
-     * On index-heavy problems, higher load factors were observed to lead to significant lookup slowdowns.
-     * Even lower load factors (0.25, 0.1) were tested and yielded further performance improvements,
-     * but the memory consumption impact was deemed too high to justify it.
-     * This trade-off may change with future versions of the JDK,
-     * and should be re-evaluated occasionally.
+     * Keys produced by functions such as {@code Lesson::getTimeslotId} are often boxed integers or enums;
+     * the map specializes itself on them to avoid generic hashing, see {@link AdaptiveKeyMap}.
      */
-    private final Map<Key_, Indexer<T>> downstreamIndexerMap = new HashMap<>(16, 0.5f);
+    private final AdaptiveKeyMap<Key_, Indexer<T>> downstreamIndexerMap = new AdaptiveKeyMap<>();
 
     /**
      * @param keyUnpacker determines if it immediately goes to a {@link LeafIndexer} or if it uses a {@link CompositeKey}.
@@ -1,10 +1,10 @@
 package ai.timefold.solver.core.impl.bavet.common.index;
 
 import java.util.HashMap;
-import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import ai.timefold.solver.core.impl.util.AdaptiveKeyMap;
 import ai.timefold.solver.core.impl.util.ListEntry;
 
 import org.jspecify.annotations.NullMarked;
@@ -36,8 +36,8 @@ import org.jspecify.annotations.Nullable;
 @NullMarked
 public final class FusedEqualIndex<L, R> {
 
-    // See EqualIndexer for the rationale behind the initial capacity and load factor.
-    private final Map<Object, Bucket<L, R>> bucketMap = new HashMap<>(16, 0.5f);
+    // See EqualIndexer for the rationale behind the map type.
+    private final AdaptiveKeyMap<Object, Bucket<L, R>> bucketMap = new AdaptiveKeyMap<>();
     private final KeyUnpacker<Object> topEqualKeyUnpacker;
     private final boolean hasSuffix;
     private final Supplier<Indexer<L>> leftDownstreamSupplier;
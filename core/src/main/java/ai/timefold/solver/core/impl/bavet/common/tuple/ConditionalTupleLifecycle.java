@@ -52,6 +52,10 @@ public final class ConditionalTupleLifecycle<Tuple_ extends Tuple>
         downstreamLifecycle.retract(tuple);
     }
 
+    public TupleLifecycle<Tuple_> downstreamLifecycle() {
+        return downstreamLifecycle;
+    }
+
     public TuplePredicate<Tuple_> predicate() {
         return predicate;
     }
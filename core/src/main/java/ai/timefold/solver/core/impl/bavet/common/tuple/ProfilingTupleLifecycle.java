@@ -35,20 +35,32 @@ public final class ProfilingTupleLifecycle<Tuple_ extends Tuple>
 
     @Override
     public void insert(Tuple_ tuple) {
-        constraintProfiler.measure(profileId, InnerConstraintProfiler.Operation.INSERT,
-                () -> delegate.insert(tuple));
+        if (constraintProfiler.recordWithoutMeasuring(profileId, InnerConstraintProfiler.Operation.INSERT)) {
+            delegate.insert(tuple);
+        } else {
+            constraintProfiler.measure(profileId, InnerConstraintProfiler.Operation.INSERT,
+                    () -> delegate.insert(tuple));
+        }
     }
 
     @Override
     public void update(Tuple_ tuple) {
-        constraintProfiler.measure(profileId, InnerConstraintProfiler.Operation.UPDATE,
-                () -> delegate.update(tuple));
+        if (constraintProfiler.recordWithoutMeasuring(profileId, InnerConstraintProfiler.Operation.UPDATE)) {
+            delegate.update(tuple);
+        } else {
+            constraintProfiler.measure(profileId, InnerConstraintProfiler.Operation.UPDATE,
+                    () -> delegate.update(tuple));
+        }
     }
 
     @Override
     public void retract(Tuple_ tuple) {
-        constraintProfiler.measure(profileId, InnerConstraintProfiler.Operation.RETRACT,
-                () -> delegate.retract(tuple));
+        if (constraintProfiler.recordWithoutMeasuring(profileId, InnerConstraintProfiler.Operation.RETRACT)) {
+            delegate.retract(tuple);
+        } else {
+            constraintProfiler.measure(profileId, InnerConstraintProfiler.Operation.RETRACT,
+                    () -> delegate.retract(tuple));
+        }
     }
 
     public ConstraintNodeProfileId profileId() {
@@ -14,6 +14,7 @@ import ai.timefold.solver.core.impl.bavet.common.BavetStream;
 import ai.timefold.solver.core.impl.bavet.common.ConstraintNodeProfileId;
 import ai.timefold.solver.core.impl.bavet.common.InnerConstraintProfiler;
 import ai.timefold.solver.core.impl.bavet.common.StreamKind;
+import ai.timefold.solver.core.impl.bavet.common.tuple.gizmo.AbstractGizmoConditionalTupleLifecycle;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.Scorer;
 
 public interface TupleLifecycle<Tuple_ extends Tuple>
@@ -93,7 +94,8 @@ public interface TupleLifecycle<Tuple_ extends Tuple>
             qualifier = Qualifier.NODE;
         } else if (delegate instanceof Scorer<Tuple_>) {
             streamKind = StreamKind.SCORING;
-        } else if (!(delegate instanceof ConditionalTupleLifecycle<Tuple_>)) {
+        } else if (!(delegate instanceof ConditionalTupleLifecycle<Tuple_>)
+                && !(delegate instanceof AbstractGizmoConditionalTupleLifecycle<Tuple_>)) {
             throw new IllegalStateException(
                     "Impossible state: encounter tuple lifecycle (%s) which is not a node and is not a known lifecycle implementation."
                             .formatted(delegate.getClass()));
@@ -0,0 +1,90 @@
+package ai.timefold.solver.core.impl.bavet.common.tuple.gizmo;
+
+import java.util.Objects;
+
+import ai.timefold.solver.core.impl.bavet.common.tuple.ConditionalTupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.QuadTuple;
+import ai.timefold.solver.core.impl.bavet.common.tuple.Tuple;
+import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Passes only the tuples accepted by a predicate downstream, like {@link ConditionalTupleLifecycle}.
+ * Its {@link #insert(Tuple)}, {@link #update(Tuple)} and {@link #retract(Tuple)} are generated
+ * by {@link GizmoConditionalTupleLifecycleImplementor}, once per subclass.
+ * <p>
+ * The call sites of {@link ConditionalTupleLifecycle} are shared by every filter of every constraint,
+ * so the JIT compiler sees many predicates and many downstream lifecycles there, and inlines none of them.
+ * When every filter of a node network gets an instance of a different subclass,
+ * each of those call sites only ever sees one predicate and one downstream lifecycle.
+ * <p>
+ * An instance created by the no-arg constructor is a prototype.
+ * It does not filter anything; it only {@link #specialize(TupleLifecycle, Object) creates} the instances which do.
+ *
+ * @param <Tuple_> the tuple type
+ */
+@NullMarked
+public abstract class AbstractGizmoConditionalTupleLifecycle<Tuple_ extends Tuple> implements TupleLifecycle<Tuple_> {
+
+    // Read by the generated subclasses.
+    protected @Nullable TupleLifecycle<Tuple_> downstreamLifecycle;
+    protected @Nullable Object predicate;
+    private boolean isActive;
+
+    /**
+     * @return 1 if the predicate tests a {@link UniTuple}, up to 4 for a {@link QuadTuple}
+     */
+    public abstract int getArity();
+
+    /**
+     * @return never null, a new prototype of the same class
+     */
+    public abstract AbstractGizmoConditionalTupleLifecycle<Tuple_> newInstance();
+
+    /**
+     * @param downstreamLifecycle never null
+     * @param predicate never null, a predicate of {@link #getArity()}, such as a {@code BiPredicate} for arity 2
+     * @return never null, a new instance of the same class, filtering with the predicate
+     * @param <T> the tuple type
+     */
+    @SuppressWarnings("unchecked")
+    public final <T extends Tuple> TupleLifecycle<T> specialize(TupleLifecycle<T> downstreamLifecycle, Object predicate) {
+        var instance = (AbstractGizmoConditionalTupleLifecycle<T>) newInstance();
+        instance.downstreamLifecycle = Objects.requireNonNull(downstreamLifecycle);
+        instance.predicate = Objects.requireNonNull(predicate);
+        return instance;
+    }
+
+    @Override
+    public final void afterAllFactsInserted(boolean upstreamCanProduceTuples) {
+        // Same as ConditionalTupleLifecycle.
+        this.isActive = upstreamCanProduceTuples;
+        Objects.requireNonNull(downstreamLifecycle).afterAllFactsInserted(upstreamCanProduceTuples);
+    }
+
+    @Override
+    public final boolean isActive() {
+        return isActive && Objects.requireNonNull(downstreamLifecycle).isActive();
+    }
+
+    @Override
+    public String toString() {
+        return "Conditional %s".formatted(downstreamLifecycle);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof AbstractGizmoConditionalTupleLifecycle<?> other
+                && Objects.equals(this.downstreamLifecycle, other.downstreamLifecycle)
+                && Objects.equals(this.predicate, other.predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(downstreamLifecycle, predicate);
+    }
+
+}
@@ -0,0 +1,225 @@
+package ai.timefold.solver.core.impl.bavet.common.tuple.gizmo;
+
+import java.lang.constant.ClassDesc;
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import ai.timefold.solver.core.api.function.QuadPredicate;
+import ai.timefold.solver.core.api.function.TriPredicate;
+import ai.timefold.solver.core.impl.bavet.common.tuple.BiTuple;
+import ai.timefold.solver.core.impl.bavet.common.tuple.QuadTuple;
+import ai.timefold.solver.core.impl.bavet.common.tuple.TriTuple;
+import ai.timefold.solver.core.impl.bavet.common.tuple.Tuple;
+import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.core.impl.domain.common.accessor.gizmo.GizmoClassLoader;
+import ai.timefold.solver.core.impl.util.MutableReference;
+
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.gizmo2.Const;
+import io.quarkus.gizmo2.Expr;
+import io.quarkus.gizmo2.Gizmo;
+import io.quarkus.gizmo2.creator.BlockCreator;
+import io.quarkus.gizmo2.creator.ClassCreator;
+import io.quarkus.gizmo2.desc.ConstructorDesc;
+import io.quarkus.gizmo2.desc.FieldDesc;
+import io.quarkus.gizmo2.desc.MethodDesc;
+
+/**
+ * Generates the bytecode of the subclasses of {@link AbstractGizmoConditionalTupleLifecycle}.
+ * <p>
+ * All generated classes of the same arity have the same bytecode;
+ * what matters is that each of them is a different class, with its own call sites.
+ */
+public final class GizmoConditionalTupleLifecycleImplementor {
+
+    private static final String[] FACT_GETTER_NAMES = { "getA", "getB", "getC", "getD" };
+
+    /**
+     * @param constraintProviderClassName never null, the generated classes are put next to it
+     * @param arity 1 to 4
+     * @param index the number of classes of the same arity generated before this one
+     * @return never null
+     */
+    public static String getGeneratedClassName(String constraintProviderClassName, int arity, int index) {
+        return constraintProviderClassName + "$Timefold$ConditionalTupleLifecycle$" + arity + "$" + index;
+    }
+
+    /**
+     * Generates the following code, for example for arity 2:
+     *
+     * <pre>
+     * public final class GeneratedClass extends AbstractGizmoConditionalTupleLifecycle {
+     *
+     *     public int getArity() {
+     *         return 2;
+     *     }
+     *
+     *     public AbstractGizmoConditionalTupleLifecycle newInstance() {
+     *         return new GeneratedClass();
+     *     }
+     *
+     *     public void insert(Tuple tuple) {
+     *         BiTuple castedTuple = (BiTuple) tuple;
+     *         if (((BiPredicate) predicate).test(castedTuple.getA(), castedTuple.getB())) {
+     *             downstreamLifecycle.insert(tuple);
+     *         }
+     *     }
+     *
+     *     public void update(Tuple tuple) {
+     *         BiTuple castedTuple = (BiTuple) tuple;
+     *         if (((BiPredicate) predicate).test(castedTuple.getA(), castedTuple.getB())) {
+     *             downstreamLifecycle.update(tuple);
+     *             return;
+     *         }
+     *         downstreamLifecycle.retract(tuple);
+     *     }
+     *
+     *     public void retract(Tuple tuple) {
+     *         downstreamLifecycle.retract(tuple);
+     *     }
+     *
+     * }
+     * </pre>
+     *
+     * @param className never null
+     * @param classOutput never null, defines how to write the bytecode
+     * @param arity 1 to 4
+     */
+    public static void defineConditionalTupleLifecycleFor(String className, ClassOutput classOutput, int arity) {
+        var tupleClass = getTupleClass(arity);
+        var predicateClass = getPredicateClass(arity);
+        var classDesc = ClassDesc.of(className);
+        var gizmo = Gizmo.create(classOutput);
+        gizmo.class_(className, classCreator -> {
+            classCreator.final_();
+            classCreator.extends_(AbstractGizmoConditionalTupleLifecycle.class);
+
+            classCreator.constructor(constructorCreator -> {
+                constructorCreator.public_();
+                constructorCreator.body(blockCreator -> {
+                    blockCreator.invokeSpecial(ConstructorDesc.of(classCreator.superClass()), constructorCreator.this_());
+                    blockCreator.return_();
+                });
+            });
+            classCreator.method("getArity", builder -> {
+                builder.public_();
+                builder.returning(int.class);
+                builder.body(blockCreator -> blockCreator.return_(Const.of(arity)));
+            });
+            classCreator.method("newInstance", builder -> {
+                builder.public_();
+                builder.returning(AbstractGizmoConditionalTupleLifecycle.class);
+                builder.body(blockCreator -> blockCreator.return_(blockCreator.new_(ConstructorDesc.of(classDesc))));
+            });
+            createLifecycleMethod(classCreator, "insert", tupleClass, predicateClass, arity, "insert", null);
+            createLifecycleMethod(classCreator, "update", tupleClass, predicateClass, arity, "update", "retract");
+            classCreator.method("retract", builder -> {
+                builder.public_();
+                builder.returning(void.class);
+                var tuple = builder.parameter("tuple", Tuple.class);
+                builder.body(blockCreator -> {
+                    invokeDownstream(classCreator, blockCreator, "retract", tuple);
+                    blockCreator.return_();
+                });
+            });
+        });
+    }
+
+    private static void createLifecycleMethod(ClassCreator classCreator, String methodName, Class<?> tupleClass,
+            Class<?> predicateClass, int arity, String acceptedMethodName, String rejectedMethodName) {
+        classCreator.method(methodName, builder -> {
+            builder.public_();
+            builder.returning(void.class);
+            var tuple = builder.parameter("tuple", Tuple.class);
+            builder.body(blockCreator -> {
+                var castedTuple = blockCreator.localVar("castedTuple", ClassDesc.of(tupleClass.getName()), tuple);
+                var castedPredicate = blockCreator.localVar("castedPredicate", ClassDesc.of(predicateClass.getName()),
+                        classCreator.this_().field(getSuperField("predicate")));
+                var facts = new Expr[arity];
+                var parameterTypes = new Class<?>[arity];
+                for (var i = 0; i < arity; i++) {
+                    facts[i] = blockCreator.invokeInterface(MethodDesc.of(tupleClass, FACT_GETTER_NAMES[i], Object.class),
+                            castedTuple);
+                    parameterTypes[i] = Object.class;
+                }
+                var accepted = blockCreator.invokeInterface(
+                        MethodDesc.of(predicateClass, "test", boolean.class, parameterTypes), castedPredicate, facts);
+                blockCreator.if_(accepted, acceptedBranch -> {
+                    invokeDownstream(classCreator, acceptedBranch, acceptedMethodName, tuple);
+                    acceptedBranch.return_();
+                });
+                if (rejectedMethodName != null) {
+                    invokeDownstream(classCreator, blockCreator, rejectedMethodName, tuple);
+                }
+                blockCreator.return_();
+            });
+        });
+    }
+
+    private static void invokeDownstream(ClassCreator classCreator, BlockCreator blockCreator, String methodName,
+            Expr tuple) {
+        blockCreator.invokeInterface(MethodDesc.of(TupleLifecycle.class, methodName, void.class, Tuple.class),
+                classCreator.this_().field(getSuperField("downstreamLifecycle")), tuple);
+    }
+
+    private static FieldDesc getSuperField(String fieldName) {
+        try {
+            return FieldDesc.of(AbstractGizmoConditionalTupleLifecycle.class.getDeclaredField(fieldName));
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("Impossible state: the field (%s) does not exist on %s."
+                    .formatted(fieldName, AbstractGizmoConditionalTupleLifecycle.class.getSimpleName()), e);
+        }
+    }
+
+    private static Class<?> getTupleClass(int arity) {
+        return switch (arity) {
+            case 1 -> UniTuple.class;
+            case 2 -> BiTuple.class;
+            case 3 -> TriTuple.class;
+            case 4 -> QuadTuple.class;
+            default -> throw new IllegalArgumentException("The arity (%d) must be between 1 and 4.".formatted(arity));
+        };
+    }
+
+    private static Class<?> getPredicateClass(int arity) {
+        return switch (arity) {
+            case 1 -> Predicate.class;
+            case 2 -> BiPredicate.class;
+            case 3 -> TriPredicate.class;
+            case 4 -> QuadPredicate.class;
+            default -> throw new IllegalArgumentException("The arity (%d) must be between 1 and 4.".formatted(arity));
+        };
+    }
+
+    /**
+     * Creates a prototype of a generated class,
+     * generating its bytecode unless the class loader already has it.
+     *
+     * @param className never null
+     * @param arity 1 to 4
+     * @param gizmoClassLoader never null
+     * @return never null
+     */
+    public static AbstractGizmoConditionalTupleLifecycle<?> createPrototype(String className, int arity,
+            GizmoClassLoader gizmoClassLoader) {
+        if (!gizmoClassLoader.hasBytecodeFor(className)) {
+            var classBytecodeHolder = new MutableReference<byte[]>(null);
+            ClassOutput classOutput = (path, byteCode) -> classBytecodeHolder.setValue(byteCode);
+            defineConditionalTupleLifecycleFor(className, classOutput, arity);
+            gizmoClassLoader.storeBytecode(className, classBytecodeHolder.getValue());
+        }
+        try {
+            return (AbstractGizmoConditionalTupleLifecycle<?>) gizmoClassLoader.loadClass(className)
+                    .getConstructor().newInstance();
+        } catch (InvocationTargetException | InstantiationException | IllegalAccessException | ClassNotFoundException
+                | NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private GizmoConditionalTupleLifecycleImplementor() {
+    }
+
+}
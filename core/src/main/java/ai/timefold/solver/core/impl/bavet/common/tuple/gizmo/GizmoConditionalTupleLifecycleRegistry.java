@@ -0,0 +1,42 @@
+package ai.timefold.solver.core.impl.bavet.common.tuple.gizmo;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Holds the prototypes of the {@link AbstractGizmoConditionalTupleLifecycle} subclasses
+ * which were generated ahead of time, such as by the Quarkus extension, per constraint provider class.
+ * Every score director factory of that constraint provider uses them.
+ * <p>
+ * Prototypes do not filter anything, so the score director factories of several solvers can share them.
+ */
+@NullMarked
+public final class GizmoConditionalTupleLifecycleRegistry {
+
+    private static final Map<String, List<AbstractGizmoConditionalTupleLifecycle<?>>> PROTOTYPE_LIST_MAP =
+            new ConcurrentHashMap<>();
+
+    /**
+     * @param constraintProviderClassName the class as configured, not the one generated by node sharing
+     * @param prototypeList the prototypes of the generated classes, in the order they were generated
+     */
+    public static void register(String constraintProviderClassName,
+            List<AbstractGizmoConditionalTupleLifecycle<?>> prototypeList) {
+        PROTOTYPE_LIST_MAP.put(constraintProviderClassName, List.copyOf(prototypeList));
+    }
+
+    /**
+     * @param constraintProviderClassName the class as configured, not the one generated by node sharing
+     * @return never null, empty if nothing was generated for that constraint provider
+     */
+    public static List<AbstractGizmoConditionalTupleLifecycle<?>> getPrototypeList(String constraintProviderClassName) {
+        return PROTOTYPE_LIST_MAP.getOrDefault(constraintProviderClassName, List.of());
+    }
+
+    private GizmoConditionalTupleLifecycleRegistry() {
+    }
+
+}
@@ -2,6 +2,7 @@ package ai.timefold.solver.core.impl.bavet.quad;
 
 import ai.timefold.solver.core.api.function.QuadFunction;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.common.CompositeGroupKeyFunction;
 import ai.timefold.solver.core.impl.bavet.common.tuple.BiTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.QuadTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
@@ -17,18 +18,18 @@ public final class Group2Mapping0CollectorQuadNode<OldA, OldB, OldC, OldD, A, B>
             int groupStoreIndex,
             TupleLifecycle<BiTuple<A, B>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, tuple), nextNodesTupleLifecycle,
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB), nextNodesTupleLifecycle,
                 environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, OldA, OldB, OldC, OldD> Pair<A, B> createGroupKey(QuadFunction<OldA, OldB, OldC, OldD, A> groupKeyMappingA,
-            QuadFunction<OldA, OldB, OldC, OldD, B> groupKeyMappingB, QuadTuple<OldA, OldB, OldC, OldD> tuple) {
-        var oldA = tuple.getA();
-        var oldB = tuple.getB();
-        var oldC = tuple.getC();
-        var oldD = tuple.getD();
-        return new Pair<>(groupKeyMappingA.apply(oldA, oldB, oldC, oldD), groupKeyMappingB.apply(oldA, oldB, oldC, oldD));
+    static <A, B, OldA, OldB, OldC, OldD> CompositeGroupKeyFunction<QuadTuple<OldA, OldB, OldC, OldD>, Pair<A, B>>
+            createGroupKeyFunction(
+            QuadFunction<OldA, OldB, OldC, OldD, A> groupKeyMappingA,
+            QuadFunction<OldA, OldB, OldC, OldD, B> groupKeyMappingB) {
+        return CompositeGroupKeyFunction.of(
+                tuple -> groupKeyMappingA.apply(tuple.getA(), tuple.getB(), tuple.getC(), tuple.getD()),
+                tuple -> groupKeyMappingB.apply(tuple.getA(), tuple.getB(), tuple.getC(), tuple.getD()));
     }
 
     @Override
@@ -21,7 +21,7 @@ public final class Group2Mapping2CollectorQuadNode<OldA, OldB, OldC, OldD, A, B,
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex, undoStoreIndex,
-                tuple -> Group2Mapping0CollectorQuadNode.createGroupKey(groupKeyMappingA, groupKeyMappingB, tuple),
+                Group2Mapping0CollectorQuadNode.createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB),
                 Group0Mapping2CollectorQuadNode.mergeCollectors(collectorC, collectorD), nextNodesTupleLifecycle,
                 environmentMode);
         this.outputStoreSize = outputStoreSize;
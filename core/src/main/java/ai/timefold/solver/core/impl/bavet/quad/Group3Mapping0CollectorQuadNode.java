@@ -2,6 +2,7 @@ package ai.timefold.solver.core.impl.bavet.quad;
 
 import ai.timefold.solver.core.api.function.QuadFunction;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.common.CompositeGroupKeyFunction;
 import ai.timefold.solver.core.impl.bavet.common.tuple.QuadTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TriTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
@@ -18,22 +19,20 @@ public final class Group3Mapping0CollectorQuadNode<OldA, OldB, OldC, OldD, A, B,
             int groupStoreIndex,
             TupleLifecycle<TriTuple<A, B, C>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple),
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, C, OldA, OldB, OldC, OldD> Triple<A, B, C> createGroupKey(
+    static <A, B, C, OldA, OldB, OldC, OldD> CompositeGroupKeyFunction<QuadTuple<OldA, OldB, OldC, OldD>, Triple<A, B, C>>
+            createGroupKeyFunction(
             QuadFunction<OldA, OldB, OldC, OldD, A> groupKeyMappingA,
             QuadFunction<OldA, OldB, OldC, OldD, B> groupKeyMappingB,
-            QuadFunction<OldA, OldB, OldC, OldD, C> groupKeyMappingC,
-            QuadTuple<OldA, OldB, OldC, OldD> tuple) {
-        var oldA = tuple.getA();
-        var oldB = tuple.getB();
-        var oldC = tuple.getC();
-        var oldD = tuple.getD();
-        return new Triple<>(groupKeyMappingA.apply(oldA, oldB, oldC, oldD), groupKeyMappingB.apply(oldA, oldB, oldC, oldD),
-                groupKeyMappingC.apply(oldA, oldB, oldC, oldD));
+            QuadFunction<OldA, OldB, OldC, OldD, C> groupKeyMappingC) {
+        return CompositeGroupKeyFunction.of(
+                tuple -> groupKeyMappingA.apply(tuple.getA(), tuple.getB(), tuple.getC(), tuple.getD()),
+                tuple -> groupKeyMappingB.apply(tuple.getA(), tuple.getB(), tuple.getC(), tuple.getD()),
+                tuple -> groupKeyMappingC.apply(tuple.getA(), tuple.getB(), tuple.getC(), tuple.getD()));
     }
 
     @Override
@@ -20,8 +20,7 @@ public final class Group3Mapping1CollectorQuadNode<OldA, OldB, OldC, OldD, A, B,
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex, undoStoreIndex,
-                tuple -> Group3Mapping0CollectorQuadNode.createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC,
-                        tuple),
+                Group3Mapping0CollectorQuadNode.createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC),
                 collector,
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
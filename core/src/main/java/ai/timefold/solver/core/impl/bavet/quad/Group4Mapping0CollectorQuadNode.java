@@ -2,6 +2,7 @@ package ai.timefold.solver.core.impl.bavet.quad;
 
 import ai.timefold.solver.core.api.function.QuadFunction;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.common.CompositeGroupKeyFunction;
 import ai.timefold.solver.core.impl.bavet.common.tuple.QuadTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.impl.util.Quadruple;
@@ -19,23 +20,23 @@ public final class Group4Mapping0CollectorQuadNode<OldA, OldB, OldC, OldD, A, B,
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD, tuple),
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    private static <A, B, C, D, OldA, OldB, OldC, OldD> Quadruple<A, B, C, D> createGroupKey(
+    private static <A, B, C, D, OldA, OldB, OldC, OldD>
+            CompositeGroupKeyFunction<QuadTuple<OldA, OldB, OldC, OldD>, Quadruple<A, B, C, D>>
+            createGroupKeyFunction(
             QuadFunction<OldA, OldB, OldC, OldD, A> groupKeyMappingA,
             QuadFunction<OldA, OldB, OldC, OldD, B> groupKeyMappingB,
             QuadFunction<OldA, OldB, OldC, OldD, C> groupKeyMappingC,
-            QuadFunction<OldA, OldB, OldC, OldD, D> groupKeyMappingD,
-            QuadTuple<OldA, OldB, OldC, OldD> tuple) {
-        var oldA = tuple.getA();
-        var oldB = tuple.getB();
-        var oldC = tuple.getC();
-        var oldD = tuple.getD();
-        return new Quadruple<>(groupKeyMappingA.apply(oldA, oldB, oldC, oldD), groupKeyMappingB.apply(oldA, oldB, oldC, oldD),
-                groupKeyMappingC.apply(oldA, oldB, oldC, oldD), groupKeyMappingD.apply(oldA, oldB, oldC, oldD));
+            QuadFunction<OldA, OldB, OldC, OldD, D> groupKeyMappingD) {
+        return CompositeGroupKeyFunction.of(
+                tuple -> groupKeyMappingA.apply(tuple.getA(), tuple.getB(), tuple.getC(), tuple.getD()),
+                tuple -> groupKeyMappingB.apply(tuple.getA(), tuple.getB(), tuple.getC(), tuple.getD()),
+                tuple -> groupKeyMappingC.apply(tuple.getA(), tuple.getB(), tuple.getC(), tuple.getD()),
+                tuple -> groupKeyMappingD.apply(tuple.getA(), tuple.getB(), tuple.getC(), tuple.getD()));
     }
 
     @Override
@@ -2,6 +2,7 @@ package ai.timefold.solver.core.impl.bavet.tri;
 
 import ai.timefold.solver.core.api.function.TriFunction;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.common.CompositeGroupKeyFunction;
 import ai.timefold.solver.core.impl.bavet.common.tuple.BiTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TriTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
@@ -16,16 +17,14 @@ public final class Group2Mapping0CollectorTriNode<OldA, OldB, OldC, A, B>
             TriFunction<OldA, OldB, OldC, B> groupKeyMappingB, int groupStoreIndex,
             TupleLifecycle<BiTuple<A, B>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, tuple), nextNodesTupleLifecycle, environmentMode);
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB), nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, OldA, OldB, OldC> Pair<A, B> createGroupKey(TriFunction<OldA, OldB, OldC, A> groupKeyMappingA,
-            TriFunction<OldA, OldB, OldC, B> groupKeyMappingB, TriTuple<OldA, OldB, OldC> tuple) {
-        var oldA = tuple.getA();
-        var oldB = tuple.getB();
-        var oldC = tuple.getC();
-        return new Pair<>(groupKeyMappingA.apply(oldA, oldB, oldC), groupKeyMappingB.apply(oldA, oldB, oldC));
+    static <A, B, OldA, OldB, OldC> CompositeGroupKeyFunction<TriTuple<OldA, OldB, OldC>, Pair<A, B>> createGroupKeyFunction(
+            TriFunction<OldA, OldB, OldC, A> groupKeyMappingA, TriFunction<OldA, OldB, OldC, B> groupKeyMappingB) {
+        return CompositeGroupKeyFunction.of(tuple -> groupKeyMappingA.apply(tuple.getA(), tuple.getB(), tuple.getC()),
+                tuple -> groupKeyMappingB.apply(tuple.getA(), tuple.getB(), tuple.getC()));
     }
 
     @Override
@@ -21,7 +21,7 @@ public final class Group2Mapping2CollectorTriNode<OldA, OldB, OldC, A, B, C, D,
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex, undoStoreIndex,
-                tuple -> Group2Mapping0CollectorTriNode.createGroupKey(groupKeyMappingA, groupKeyMappingB, tuple),
+                Group2Mapping0CollectorTriNode.createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB),
                 Group0Mapping2CollectorTriNode.mergeCollectors(collectorC, collectorD), nextNodesTupleLifecycle,
                 environmentMode);
         this.outputStoreSize = outputStoreSize;
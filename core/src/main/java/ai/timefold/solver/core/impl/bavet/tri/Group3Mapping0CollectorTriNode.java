@@ -2,6 +2,7 @@ package ai.timefold.solver.core.impl.bavet.tri;
 
 import ai.timefold.solver.core.api.function.TriFunction;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.common.CompositeGroupKeyFunction;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TriTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.impl.util.Triple;
@@ -16,19 +17,19 @@ public final class Group3Mapping0CollectorTriNode<OldA, OldB, OldC, A, B, C>
             int groupStoreIndex,
             TupleLifecycle<TriTuple<A, B, C>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple),
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, C, OldA, OldB, OldC> Triple<A, B, C> createGroupKey(TriFunction<OldA, OldB, OldC, A> groupKeyMappingA,
-            TriFunction<OldA, OldB, OldC, B> groupKeyMappingB, TriFunction<OldA, OldB, OldC, C> groupKeyMappingC,
-            TriTuple<OldA, OldB, OldC> tuple) {
-        var oldA = tuple.getA();
-        var oldB = tuple.getB();
-        var oldC = tuple.getC();
-        return new Triple<>(groupKeyMappingA.apply(oldA, oldB, oldC), groupKeyMappingB.apply(oldA, oldB, oldC),
-                groupKeyMappingC.apply(oldA, oldB, oldC));
+    static <A, B, C, OldA, OldB, OldC> CompositeGroupKeyFunction<TriTuple<OldA, OldB, OldC>, Triple<A, B, C>>
+            createGroupKeyFunction(
+            TriFunction<OldA, OldB, OldC, A> groupKeyMappingA,
+            TriFunction<OldA, OldB, OldC, B> groupKeyMappingB,
+            TriFunction<OldA, OldB, OldC, C> groupKeyMappingC) {
+        return CompositeGroupKeyFunction.of(tuple -> groupKeyMappingA.apply(tuple.getA(), tuple.getB(), tuple.getC()),
+                tuple -> groupKeyMappingB.apply(tuple.getA(), tuple.getB(), tuple.getC()),
+                tuple -> groupKeyMappingC.apply(tuple.getA(), tuple.getB(), tuple.getC()));
     }
 
     @Override
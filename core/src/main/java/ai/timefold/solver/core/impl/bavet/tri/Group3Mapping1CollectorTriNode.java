@@ -1,6 +1,6 @@
 package ai.timefold.solver.core.impl.bavet.tri;
 
-import static ai.timefold.solver.core.impl.bavet.tri.Group3Mapping0CollectorTriNode.createGroupKey;
+import static ai.timefold.solver.core.impl.bavet.tri.Group3Mapping0CollectorTriNode.createGroupKeyFunction;
 
 import ai.timefold.solver.core.api.function.TriFunction;
 import ai.timefold.solver.core.api.score.stream.tri.TriConstraintCollector;
@@ -22,7 +22,7 @@ public final class Group3Mapping1CollectorTriNode<OldA, OldB, OldC, A, B, C, D,
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex, undoStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple), collector,
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC), collector,
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
@@ -2,6 +2,7 @@ package ai.timefold.solver.core.impl.bavet.tri;
 
 import ai.timefold.solver.core.api.function.TriFunction;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.common.CompositeGroupKeyFunction;
 import ai.timefold.solver.core.impl.bavet.common.tuple.QuadTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TriTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
@@ -20,22 +21,21 @@ public final class Group4Mapping0CollectorTriNode<OldA, OldB, OldC, A, B, C, D>
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD, tuple),
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    private static <A, B, C, D, OldA, OldB, OldC> Quadruple<A, B, C, D> createGroupKey(
+    private static <A, B, C, D, OldA, OldB, OldC> CompositeGroupKeyFunction<TriTuple<OldA, OldB, OldC>, Quadruple<A, B, C, D>>
+            createGroupKeyFunction(
             TriFunction<OldA, OldB, OldC, A> groupKeyMappingA,
             TriFunction<OldA, OldB, OldC, B> groupKeyMappingB,
             TriFunction<OldA, OldB, OldC, C> groupKeyMappingC,
-            TriFunction<OldA, OldB, OldC, D> groupKeyMappingD,
-            TriTuple<OldA, OldB, OldC> tuple) {
-        var oldA = tuple.getA();
-        var oldB = tuple.getB();
-        var oldC = tuple.getC();
-        return new Quadruple<>(groupKeyMappingA.apply(oldA, oldB, oldC), groupKeyMappingB.apply(oldA, oldB, oldC),
-                groupKeyMappingC.apply(oldA, oldB, oldC), groupKeyMappingD.apply(oldA, oldB, oldC));
+            TriFunction<OldA, OldB, OldC, D> groupKeyMappingD) {
+        return CompositeGroupKeyFunction.of(tuple -> groupKeyMappingA.apply(tuple.getA(), tuple.getB(), tuple.getC()),
+                tuple -> groupKeyMappingB.apply(tuple.getA(), tuple.getB(), tuple.getC()),
+                tuple -> groupKeyMappingC.apply(tuple.getA(), tuple.getB(), tuple.getC()),
+                tuple -> groupKeyMappingD.apply(tuple.getA(), tuple.getB(), tuple.getC()));
     }
 
     @Override
@@ -3,6 +3,7 @@ package ai.timefold.solver.core.impl.bavet.uni;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.common.CompositeGroupKeyFunction;
 import ai.timefold.solver.core.impl.bavet.common.tuple.BiTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
@@ -17,14 +18,14 @@ public final class Group2Mapping0CollectorUniNode<OldA, A, B>
             int groupStoreIndex,
             TupleLifecycle<BiTuple<A, B>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, tuple), nextNodesTupleLifecycle, environmentMode);
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB), nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, OldA> Pair<A, B> createGroupKey(Function<OldA, A> groupKeyMappingA, Function<OldA, B> groupKeyMappingB,
-            UniTuple<OldA> tuple) {
-        var oldA = tuple.getA();
-        return new Pair<>(groupKeyMappingA.apply(oldA), groupKeyMappingB.apply(oldA));
+    static <A, B, OldA> CompositeGroupKeyFunction<UniTuple<OldA>, Pair<A, B>> createGroupKeyFunction(
+            Function<OldA, A> groupKeyMappingA, Function<OldA, B> groupKeyMappingB) {
+        return CompositeGroupKeyFunction.of(tuple -> groupKeyMappingA.apply(tuple.getA()),
+                tuple -> groupKeyMappingB.apply(tuple.getA()));
     }
 
     @Override
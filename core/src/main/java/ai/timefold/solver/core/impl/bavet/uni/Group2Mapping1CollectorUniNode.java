@@ -1,6 +1,6 @@
 package ai.timefold.solver.core.impl.bavet.uni;
 
-import static ai.timefold.solver.core.impl.bavet.uni.Group2Mapping0CollectorUniNode.createGroupKey;
+import static ai.timefold.solver.core.impl.bavet.uni.Group2Mapping0CollectorUniNode.createGroupKeyFunction;
 
 import java.util.function.Function;
 
@@ -20,7 +20,7 @@ public final class Group2Mapping1CollectorUniNode<OldA, A, B, C, ResultContainer
             UniConstraintCollector<OldA, ResultContainer_, C> collector,
             TupleLifecycle<TriTuple<A, B, C>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
         super(groupStoreIndex, undoStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, tuple), collector,
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB), collector,
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
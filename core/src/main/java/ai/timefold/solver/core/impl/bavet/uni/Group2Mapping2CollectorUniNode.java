@@ -1,6 +1,6 @@
 package ai.timefold.solver.core.impl.bavet.uni;
 
-import static ai.timefold.solver.core.impl.bavet.uni.Group2Mapping0CollectorUniNode.createGroupKey;
+import static ai.timefold.solver.core.impl.bavet.uni.Group2Mapping0CollectorUniNode.createGroupKeyFunction;
 
 import java.util.function.Function;
 
@@ -22,7 +22,7 @@ public final class Group2Mapping2CollectorUniNode<OldA, A, B, C, D, ResultContai
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex, undoStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, tuple),
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB),
                 Group0Mapping2CollectorUniNode.mergeCollectors(collectorC, collectorD), nextNodesTupleLifecycle,
                 environmentMode);
         this.outputStoreSize = outputStoreSize;
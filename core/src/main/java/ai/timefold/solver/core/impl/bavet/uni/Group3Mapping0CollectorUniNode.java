@@ -3,6 +3,7 @@ package ai.timefold.solver.core.impl.bavet.uni;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.common.CompositeGroupKeyFunction;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TriTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
@@ -17,15 +18,16 @@ public final class Group3Mapping0CollectorUniNode<OldA, A, B, C>
             Function<OldA, C> groupKeyMappingC, int groupStoreIndex,
             TupleLifecycle<TriTuple<A, B, C>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple),
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, C, OldA> Triple<A, B, C> createGroupKey(Function<OldA, A> groupKeyMappingA,
-            Function<OldA, B> groupKeyMappingB, Function<OldA, C> groupKeyMappingC, UniTuple<OldA> tuple) {
-        var oldA = tuple.getA();
-        return new Triple<>(groupKeyMappingA.apply(oldA), groupKeyMappingB.apply(oldA), groupKeyMappingC.apply(oldA));
+    static <A, B, C, OldA> CompositeGroupKeyFunction<UniTuple<OldA>, Triple<A, B, C>> createGroupKeyFunction(
+            Function<OldA, A> groupKeyMappingA, Function<OldA, B> groupKeyMappingB, Function<OldA, C> groupKeyMappingC) {
+        return CompositeGroupKeyFunction.of(tuple -> groupKeyMappingA.apply(tuple.getA()),
+                tuple -> groupKeyMappingB.apply(tuple.getA()),
+                tuple -> groupKeyMappingC.apply(tuple.getA()));
     }
 
     @Override
@@ -1,6 +1,6 @@
 package ai.timefold.solver.core.impl.bavet.uni;
 
-import static ai.timefold.solver.core.impl.bavet.uni.Group3Mapping0CollectorUniNode.createGroupKey;
+import static ai.timefold.solver.core.impl.bavet.uni.Group3Mapping0CollectorUniNode.createGroupKeyFunction;
 
 import java.util.function.Function;
 
@@ -23,7 +23,7 @@ public final class Group3Mapping1CollectorUniNode<OldA, A, B, C, D, ResultContai
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex, undoStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple), collector,
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC), collector,
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
@@ -3,6 +3,7 @@ package ai.timefold.solver.core.impl.bavet.uni;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.common.CompositeGroupKeyFunction;
 import ai.timefold.solver.core.impl.bavet.common.tuple.QuadTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
@@ -20,17 +21,20 @@ public final class Group4Mapping0CollectorUniNode<OldA, A, B, C, D>
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD, tuple),
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    private static <A, B, C, D, OldA> Quadruple<A, B, C, D> createGroupKey(Function<OldA, A> groupKeyMappingA,
-            Function<OldA, B> groupKeyMappingB, Function<OldA, C> groupKeyMappingC, Function<OldA, D> groupKeyMappingD,
-            UniTuple<OldA> tuple) {
-        var oldA = tuple.getA();
-        return new Quadruple<>(groupKeyMappingA.apply(oldA), groupKeyMappingB.apply(oldA), groupKeyMappingC.apply(oldA),
-                groupKeyMappingD.apply(oldA));
+    private static <A, B, C, D, OldA> CompositeGroupKeyFunction<UniTuple<OldA>, Quadruple<A, B, C, D>> createGroupKeyFunction(
+            Function<OldA, A> groupKeyMappingA,
+            Function<OldA, B> groupKeyMappingB,
+            Function<OldA, C> groupKeyMappingC,
+            Function<OldA, D> groupKeyMappingD) {
+        return CompositeGroupKeyFunction.of(tuple -> groupKeyMappingA.apply(tuple.getA()),
+                tuple -> groupKeyMappingB.apply(tuple.getA()),
+                tuple -> groupKeyMappingC.apply(tuple.getA()),
+                tuple -> groupKeyMappingD.apply(tuple.getA()));
     }
 
     @Override
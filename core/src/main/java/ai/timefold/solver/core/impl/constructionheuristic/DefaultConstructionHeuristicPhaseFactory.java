@@ -161,10 +161,13 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
             PhaseTermination<Solution_> termination) {
         var forager = buildForager(configPolicy);
         var moveThreadCount = configPolicy.getMoveThreadCount();
+        // Without the enterprise edition, the construction heuristic stays single-threaded;
+        // only local search evaluates moves on multiple move threads then.
         var decider = (moveThreadCount == null)
                 ? new ConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager)
-                : TimefoldSolverEnterpriseService.loadOrFail(TimefoldSolverEnterpriseService.Feature.MULTITHREADED_SOLVING)
-                        .buildConstructionHeuristic(termination, forager, configPolicy);
+                : TimefoldSolverEnterpriseService.loadOrDefault(
+                        service -> service.buildConstructionHeuristic(termination, forager, configPolicy),
+                        () -> new ConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager));
         decider.enableAssertions(configPolicy.getEnvironmentMode());
         return decider;
     }
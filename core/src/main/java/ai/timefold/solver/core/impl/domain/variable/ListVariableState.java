@@ -1,5 +1,7 @@
 package ai.timefold.solver.core.impl.domain.variable;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +30,11 @@ final class ListVariableState<Solution_> {
     private InnerScoreDirector<Solution_, ?> scoreDirector;
     private int unassignedCount = 0;
     private Map<Object, MutablePosition> elementPositionMap;
+    /**
+     * Positions of unassigned elements, reused when an element is assigned again,
+     * so that moves which unassign and assign elements do not allocate a position each time.
+     */
+    private final Deque<MutablePosition> freePositionDeque = new ArrayDeque<>();
 
     public ListVariableState(ListVariableDescriptor<Solution_> sourceVariableDescriptor,
             Consumer<Object> notifier) {
@@ -63,10 +70,12 @@ final class ListVariableState<Solution_> {
             if (elementPositionMap == null) {
                 elementPositionMap = new IdentityHashMap<>(unassignedCount);
             } else {
+                freePositionDeque.addAll(elementPositionMap.values());
                 elementPositionMap.clear();
             }
         } else {
             elementPositionMap = null;
+            freePositionDeque.clear();
         }
 
         // If the elements have any shadows, set them to null if no entity has their values
@@ -118,7 +127,7 @@ final class ListVariableState<Solution_> {
 
     public void addElement(Object entity, List<Object> elements, Object element, int index) {
         if (requiresPositionMap) {
-            var oldPosition = elementPositionMap.put(element, new MutablePosition(entity, index));
+            var oldPosition = elementPositionMap.put(element, obtainPosition(entity, index));
             if (oldPosition != null) {
                 throw new IllegalStateException(
                         "The supply for list variable (%s) is corrupted, because the element (%s) at index (%d) already exists (%s)."
@@ -155,6 +164,7 @@ final class ListVariableState<Solution_> {
                         "The supply for list variable (%s) is corrupted, because the element (%s) did not exist before unassigning."
                                 .formatted(sourceVariableDescriptor, element));
             }
+            freePositionDeque.push(oldPosition);
         }
         var elementUpdateSent = false;
         if (externalizedIndexProcessor != null) {
@@ -207,7 +217,7 @@ final class ListVariableState<Solution_> {
         if (requiresPositionMap) { // Update the position and figure out if it is different from previous.
             var oldPosition = elementPositionMap.get(element);
             if (oldPosition == null) {
-                elementPositionMap.put(element, new MutablePosition(entity, index));
+                elementPositionMap.put(element, obtainPosition(entity, index));
                 unassignedCount--;
                 return ChangeType.BOTH;
             }
@@ -235,6 +245,15 @@ final class ListVariableState<Solution_> {
         }
     }
 
+    private MutablePosition obtainPosition(Object entity, int index) {
+        var position = freePositionDeque.poll();
+        if (position == null) {
+            return new MutablePosition(entity, index);
+        }
+        position.reset(entity, index);
+        return position;
+    }
+
     private static ChangeType comparePositions(Object entity, Object otherEntity, int index, int otherIndex) {
         if (entity != otherEntity) {
             return ChangeType.BOTH; // Entity changed, so index changed too.
@@ -355,6 +374,12 @@ final class ListVariableState<Solution_> {
             this.index = index;
         }
 
+        public void reset(Object entity, int index) {
+            this.entity = entity;
+            this.index = index;
+            this.position = null;
+        }
+
         public Object getEntity() {
             return entity;
         }
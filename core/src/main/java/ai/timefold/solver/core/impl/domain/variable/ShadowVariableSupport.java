@@ -20,6 +20,7 @@ import ai.timefold.solver.core.impl.domain.variable.declarative.DeclarativeShado
 import ai.timefold.solver.core.impl.domain.variable.declarative.DefaultShadowVariableSession;
 import ai.timefold.solver.core.impl.domain.variable.declarative.DefaultShadowVariableSessionFactory;
 import ai.timefold.solver.core.impl.domain.variable.declarative.DefaultTopologicalOrderGraph;
+import ai.timefold.solver.core.impl.domain.variable.declarative.IntArrayTopologicalOrderGraph;
 import ai.timefold.solver.core.impl.domain.variable.declarative.ShadowVariablesInconsistentVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.declarative.TopologicalOrderGraph;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
@@ -49,9 +50,20 @@ import org.jspecify.annotations.Nullable;
 public final class ShadowVariableSupport<Solution_> implements SupplyManager {
 
     public static <Solution_> ShadowVariableSupport<Solution_> create(InnerScoreDirector<Solution_, ?> scoreDirector) {
-        return new ShadowVariableSupport<>(scoreDirector,
-                TimefoldSolverEnterpriseService.loadOrDefault(service -> service::buildTopologyGraph,
-                        () -> DefaultTopologicalOrderGraph::new));
+        return create(scoreDirector, false);
+    }
+
+    /**
+     * @param intArrayGraphEnabled true to order declarative shadow variables by an {@link IntArrayTopologicalOrderGraph},
+     *        false to use the graph of the enterprise edition if present, or the {@link DefaultTopologicalOrderGraph}
+     */
+    public static <Solution_> ShadowVariableSupport<Solution_> create(InnerScoreDirector<Solution_, ?> scoreDirector,
+            boolean intArrayGraphEnabled) {
+        IntFunction<TopologicalOrderGraph> shadowVariableGraphCreator = intArrayGraphEnabled
+                ? IntArrayTopologicalOrderGraph::new
+                : TimefoldSolverEnterpriseService.loadOrDefault(service -> service::buildTopologyGraph,
+                        () -> DefaultTopologicalOrderGraph::new);
+        return new ShadowVariableSupport<>(scoreDirector, shadowVariableGraphCreator);
     }
 
     private static final int SHADOW_VARIABLE_VIOLATION_DISPLAY_LIMIT = 3;
@@ -246,6 +258,7 @@ public final class ShadowVariableSupport<Solution_> implements SupplyManager {
                 .getOrdinal()];
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <Supply_ extends Supply> boolean cancel(Demand<Supply_> demand) {
         var supplyWithDemandCount = supplyMap.get(demand);
@@ -254,6 +267,13 @@ public final class ShadowVariableSupport<Solution_> implements SupplyManager {
         }
         if (supplyWithDemandCount.demandCount == 1L) {
             supplyMap.remove(demand);
+            if (supplyWithDemandCount.supply instanceof BasicVariableChangeHandler<?> handler) {
+                // The supply is not used anymore, so it must stop receiving variable changes.
+                var basicVariableChangeHandler = (BasicVariableChangeHandler<Solution_>) handler;
+                getBasicVariableChangeHandlerList(basicVariableChangeHandler.getSourceVariableDescriptor())
+                        .remove(basicVariableChangeHandler);
+                basicVariableChangeHandler.close();
+            }
         } else {
             supplyMap.put(demand,
                     new SupplyWithDemandCount(supplyWithDemandCount.supply, supplyWithDemandCount.demandCount - 1L));
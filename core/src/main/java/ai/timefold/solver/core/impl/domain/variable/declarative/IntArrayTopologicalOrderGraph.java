@@ -0,0 +1,288 @@
+package ai.timefold.solver.core.impl.domain.variable.declarative;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link TopologicalOrderGraph} which keeps its edges and components in primitive int arrays,
+ * so that adding and removing edges and recomputing the topological order neither boxes nor hashes node IDs.
+ * <p>
+ * Every node keeps its forward and back edges in a growable int array;
+ * an edge is removed by moving the last edge of that node into its place.
+ * This keeps edge changes cheap, which matters more than iteration order,
+ * since the edges change on every move.
+ * The strongly connected components are found by an iterative version of Tarjan's algorithm,
+ * which reuses its scratch arrays across commits and does not overflow the stack on long chains of nodes.
+ * <p>
+ * Unlike {@link DefaultTopologicalOrderGraph}, which stores the members of every component in a map of lists,
+ * this graph only stores the component of every node and the size of every component.
+ */
+public final class IntArrayTopologicalOrderGraph implements TopologicalOrderGraph {
+
+    private static final int[] EMPTY_EDGES = new int[0];
+    private static final int MIN_EDGE_CAPACITY = 4;
+
+    private final int size;
+    private final int[][] forwardEdges;
+    private final int[] forwardEdgeCounts;
+    private final int[][] backEdges;
+    private final int[] backEdgeCounts;
+
+    private final int[] nodeIdToTopologicalOrderMap;
+    private final int[] nodeIdToComponentMap;
+    private final int[] componentSizes;
+    private final boolean[] isNodeInLoopedComponent;
+
+    // Scratch arrays of the strongly connected components algorithm, reused across commits.
+    private final int[] indexMap;
+    private final int[] lowMap;
+    private final boolean[] onStackSet;
+    private final int[] tarjanStack;
+    private final int[] callStack;
+    private final int[] edgeCursors;
+    private final int[] componentStarts;
+    private final int[] componentNodes;
+
+    public IntArrayTopologicalOrderGraph(final int size) {
+        this.size = size;
+        this.forwardEdges = new int[size][];
+        this.forwardEdgeCounts = new int[size];
+        this.backEdges = new int[size][];
+        this.backEdgeCounts = new int[size];
+        Arrays.fill(forwardEdges, EMPTY_EDGES);
+        Arrays.fill(backEdges, EMPTY_EDGES);
+
+        this.nodeIdToTopologicalOrderMap = new int[size];
+        this.nodeIdToComponentMap = new int[size];
+        this.componentSizes = new int[size];
+        this.isNodeInLoopedComponent = new boolean[size];
+        for (var i = 0; i < size; i++) {
+            nodeIdToTopologicalOrderMap[i] = i;
+            nodeIdToComponentMap[i] = i;
+            componentSizes[i] = 1;
+        }
+
+        this.indexMap = new int[size];
+        this.lowMap = new int[size];
+        this.onStackSet = new boolean[size];
+        this.tarjanStack = new int[size];
+        this.callStack = new int[size];
+        this.edgeCursors = new int[size];
+        this.componentStarts = new int[size + 1];
+        this.componentNodes = new int[size];
+    }
+
+    List<Integer> getComponent(int node) {
+        var component = nodeIdToComponentMap[node];
+        var out = new ArrayList<Integer>(componentSizes[component]);
+        for (var other = 0; other < size; other++) {
+            if (nodeIdToComponentMap[other] == component) {
+                out.add(other);
+            }
+        }
+        return out;
+    }
+
+    @Override
+    public void addEdge(int fromNode, int toNode) {
+        if (indexOf(forwardEdges[fromNode], forwardEdgeCounts[fromNode], toNode) >= 0) {
+            return;
+        }
+        forwardEdges[fromNode] = append(forwardEdges[fromNode], forwardEdgeCounts[fromNode]++, toNode);
+        backEdges[toNode] = append(backEdges[toNode], backEdgeCounts[toNode]++, fromNode);
+    }
+
+    @Override
+    public void removeEdge(int fromNode, int toNode) {
+        if (remove(forwardEdges[fromNode], forwardEdgeCounts[fromNode], toNode)) {
+            forwardEdgeCounts[fromNode]--;
+            if (remove(backEdges[toNode], backEdgeCounts[toNode], fromNode)) {
+                backEdgeCounts[toNode]--;
+            }
+        }
+    }
+
+    private static int indexOf(int[] edges, int edgeCount, int node) {
+        for (var i = 0; i < edgeCount; i++) {
+            if (edges[i] == node) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int[] append(int[] edges, int edgeCount, int node) {
+        var out = edges;
+        if (edgeCount == out.length) {
+            out = Arrays.copyOf(out, Math.max(MIN_EDGE_CAPACITY, edgeCount * 2));
+        }
+        out[edgeCount] = node;
+        return out;
+    }
+
+    private static boolean remove(int[] edges, int edgeCount, int node) {
+        var index = indexOf(edges, edgeCount, node);
+        if (index < 0) {
+            return false;
+        }
+        edges[index] = edges[edgeCount - 1];
+        return true;
+    }
+
+    @Override
+    public void forEachEdge(EdgeConsumer edgeConsumer) {
+        for (var fromNode = 0; fromNode < size; fromNode++) {
+            var edges = forwardEdges[fromNode];
+            for (var i = 0; i < forwardEdgeCounts[fromNode]; i++) {
+                edgeConsumer.accept(fromNode, edges[i]);
+            }
+        }
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt nodeForwardEdges(int fromNode) {
+        return Arrays.stream(forwardEdges[fromNode], 0, forwardEdgeCounts[fromNode]).iterator();
+    }
+
+    @Override
+    public boolean isLooped(LoopedTracker loopedTracker, int node) {
+        return switch (loopedTracker.status(node)) {
+            case UNKNOWN -> {
+                if (componentSizes[nodeIdToComponentMap[node]] > 1) {
+                    loopedTracker.mark(node, LoopedStatus.LOOPED);
+                    yield true;
+                }
+                var edges = backEdges[node];
+                for (var i = 0; i < backEdgeCounts[node]; i++) {
+                    if (isLooped(loopedTracker, edges[i])) {
+                        loopedTracker.mark(node, LoopedStatus.LOOPED);
+                        yield true;
+                    }
+                }
+                loopedTracker.mark(node, LoopedStatus.NOT_LOOPED);
+                yield false;
+            }
+            case NOT_LOOPED -> false;
+            case LOOPED -> true;
+        };
+    }
+
+    @Override
+    public int getTopologicalOrder(int node) {
+        return nodeIdToTopologicalOrderMap[node];
+    }
+
+    @Override
+    public void commitChanges(BitSet changed) {
+        Arrays.fill(indexMap, 0);
+        var componentCount = findComponents();
+        // Tarjan's algorithm finds the components in reverse topological order.
+        var ordIndex = 0;
+        for (var component = componentCount - 1; component >= 0; component--) {
+            var componentStart = componentStarts[component];
+            var componentEnd = componentStarts[component + 1];
+            var componentSize = componentEnd - componentStart;
+            var isComponentLooped = componentSize != 1;
+            componentSizes[component] = componentSize;
+            for (var i = componentStart; i < componentEnd; i++) {
+                var node = componentNodes[i];
+                nodeIdToTopologicalOrderMap[node] = ordIndex;
+                nodeIdToComponentMap[node] = component;
+                if (isComponentLooped != isNodeInLoopedComponent[node]) {
+                    // It is enough to only mark nodes whose component
+                    // status changed; the updater will notify descendants
+                    // since a looped status change force updates descendants.
+                    isNodeInLoopedComponent[node] = isComponentLooped;
+                    changed.set(node);
+                }
+                ordIndex++;
+            }
+        }
+    }
+
+    /**
+     * Tarjan's strongly connected components algorithm,
+     * with an explicit call stack instead of recursion.
+     *
+     * @return the number of components, whose nodes are in {@link #componentNodes}
+     *         between the consecutive {@link #componentStarts}
+     */
+    private int findComponents() {
+        var index = 1;
+        var tarjanStackSize = 0;
+        var componentCount = 0;
+        var componentNodeCount = 0;
+        for (var root = 0; root < size; root++) {
+            if (indexMap[root] != 0) {
+                continue;
+            }
+            var callDepth = 0;
+            indexMap[root] = index;
+            lowMap[root] = index;
+            index++;
+            tarjanStack[tarjanStackSize++] = root;
+            onStackSet[root] = true;
+            edgeCursors[root] = 0;
+            callStack[callDepth++] = root;
+            while (callDepth > 0) {
+                var node = callStack[callDepth - 1];
+                if (edgeCursors[node] < forwardEdgeCounts[node]) {
+                    // Consider the next successor of node
+                    var successor = forwardEdges[node][edgeCursors[node]++];
+                    if (indexMap[successor] == 0) {
+                        // Successor has not yet been visited; descend into it
+                        indexMap[successor] = index;
+                        lowMap[successor] = index;
+                        index++;
+                        tarjanStack[tarjanStackSize++] = successor;
+                        onStackSet[successor] = true;
+                        edgeCursors[successor] = 0;
+                        callStack[callDepth++] = successor;
+                    } else if (onStackSet[successor]) {
+                        // Successor is in the stack and hence in the current component.
+                        // It is successor.index and not successor.low; that is deliberate and from the original paper.
+                        lowMap[node] = Math.min(lowMap[node], indexMap[successor]);
+                    }
+                    continue;
+                }
+                callDepth--;
+                // If node is a root node, pop the stack and generate a component
+                if (lowMap[node] == indexMap[node]) {
+                    componentStarts[componentCount] = componentNodeCount;
+                    int current;
+                    do {
+                        current = tarjanStack[--tarjanStackSize];
+                        onStackSet[current] = false;
+                        componentNodes[componentNodeCount++] = current;
+                    } while (node != current);
+                    componentCount++;
+                }
+                if (callDepth > 0) {
+                    var parent = callStack[callDepth - 1];
+                    lowMap[parent] = Math.min(lowMap[parent], lowMap[node]);
+                }
+            }
+        }
+        componentStarts[componentCount] = componentNodeCount;
+        return componentCount;
+    }
+
+    @Override
+    public String toString() {
+        var out = new StringBuilder();
+        out.append("IntArrayTopologicalOrderGraph{\n");
+        for (var node = 0; node < size; node++) {
+            out.append("    ").append(node).append("(").append(nodeIdToTopologicalOrderMap[node]).append(") -> ")
+                    .append(Arrays.stream(forwardEdges[node], 0, forwardEdgeCounts[node])
+                            .sorted()
+                            .mapToObj(Integer::toString)
+                            .collect(Collectors.joining(",", "[", "]\n")));
+        }
+        out.append("}");
+        return out.toString();
+    }
+}
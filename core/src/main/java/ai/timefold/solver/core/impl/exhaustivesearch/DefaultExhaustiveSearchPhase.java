@@ -10,6 +10,7 @@ import ai.timefold.solver.core.api.solver.event.EventProducerId;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.impl.exhaustivesearch.decider.AbstractExhaustiveSearchDecider;
 import ai.timefold.solver.core.impl.exhaustivesearch.node.ExhaustiveSearchNode;
+import ai.timefold.solver.core.impl.exhaustivesearch.node.ExhaustiveSearchNodeSpill;
 import ai.timefold.solver.core.impl.exhaustivesearch.scope.ExhaustiveSearchPhaseScope;
 import ai.timefold.solver.core.impl.exhaustivesearch.scope.ExhaustiveSearchStepScope;
 import ai.timefold.solver.core.impl.phase.AbstractPhase;
@@ -26,6 +27,7 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         implements ExhaustiveSearchPhase<Solution_> {
 
     protected final Comparator<ExhaustiveSearchNode<Solution_>> nodeComparator;
+    protected final Integer expandableNodeLimit;
     protected final AbstractExhaustiveSearchDecider<Solution_, ? extends Score<?>> decider;
 
     protected final boolean assertWorkingSolutionScoreFromScratch;
@@ -34,6 +36,7 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
     private DefaultExhaustiveSearchPhase(Builder<Solution_> builder) {
         super(builder);
         nodeComparator = builder.nodeComparator;
+        expandableNodeLimit = builder.expandableNodeLimit;
         decider = builder.decider;
 
         assertWorkingSolutionScoreFromScratch = builder.assertWorkingSolutionScoreFromScratch;
@@ -59,20 +62,30 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         var expandableNodeQueue = new TreeSet<>(nodeComparator);
         var phaseScope = new ExhaustiveSearchPhaseScope<>(solverScope, phaseIndex);
         phaseScope.setExpandableNodeQueue(expandableNodeQueue);
-        phaseStarted(phaseScope);
-
-        while (!expandableNodeQueue.isEmpty() && !phaseTermination.isPhaseTerminated(phaseScope)) {
-            var stepScope = new ExhaustiveSearchStepScope<>(phaseScope);
-            var node = expandableNodeQueue.removeLast();
-            stepScope.setExpandingNode(node);
-            stepStarted(stepScope);
-            decider.restoreWorkingSolution(stepScope, assertWorkingSolutionScoreFromScratch,
-                    assertExpectedWorkingSolutionScore);
-            decider.expandNode(stepScope);
-            stepEnded(stepScope);
-            phaseScope.setLastCompletedStepScope(stepScope);
+        try (var expandableNodeSpill = expandableNodeLimit == null ? null
+                : new ExhaustiveSearchNodeSpill<Solution_>(expandableNodeLimit)) {
+            phaseScope.setExpandableNodeSpill(expandableNodeSpill);
+            phaseStarted(phaseScope);
+
+            while (phaseScope.hasExpandableNodes() && !phaseTermination.isPhaseTerminated(phaseScope)) {
+                var stepScope = new ExhaustiveSearchStepScope<>(phaseScope);
+                if (expandableNodeQueue.isEmpty()) {
+                    // Restore spilled nodes by expanding their parent again.
+                    var spilledExpansion = expandableNodeSpill.pollExpansion();
+                    stepScope.setExpandingNode(spilledExpansion.parent());
+                    stepScope.setExpandingMoveIndexes(spilledExpansion.moveIndexes());
+                } else {
+                    stepScope.setExpandingNode(expandableNodeQueue.removeLast());
+                }
+                stepStarted(stepScope);
+                decider.restoreWorkingSolution(stepScope, assertWorkingSolutionScoreFromScratch,
+                        assertExpectedWorkingSolutionScore);
+                decider.expandNode(stepScope);
+                stepEnded(stepScope);
+                phaseScope.setLastCompletedStepScope(stepScope);
+            }
+            phaseEnded(phaseScope);
         }
-        phaseEnded(phaseScope);
     }
 
     // ************************************************************************
@@ -138,6 +151,7 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         private final Comparator<ExhaustiveSearchNode<Solution_>> nodeComparator;
         private final AbstractExhaustiveSearchDecider<Solution_, ? extends Score<?>> decider;
 
+        private Integer expandableNodeLimit = null;
         private boolean assertWorkingSolutionScoreFromScratch = false;
         private boolean assertExpectedWorkingSolutionScore = false;
 
@@ -149,6 +163,15 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
             this.decider = decider;
         }
 
+        /**
+         * @param expandableNodeLimit null to keep all expandable nodes in memory
+         * @return this
+         */
+        public Builder<Solution_> withExpandableNodeLimit(Integer expandableNodeLimit) {
+            this.expandableNodeLimit = expandableNodeLimit;
+            return this;
+        }
+
         @Override
         public Builder<Solution_> enableAssertions(EnvironmentMode environmentMode) {
             super.enableAssertions(environmentMode);
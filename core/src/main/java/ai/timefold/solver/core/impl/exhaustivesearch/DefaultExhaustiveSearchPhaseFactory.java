@@ -70,6 +70,11 @@ public class DefaultExhaustiveSearchPhaseFactory<Solution_>
         var phaseTermination = buildPhaseTermination(phaseConfigPolicy, solverTermination);
         var scoreBounderEnabled = exhaustiveSearchType.isScoreBounderEnabled();
         var nodeExplorationType = getNodeExplorationType(exhaustiveSearchType, phaseConfig);
+        var expandableNodeLimit = phaseConfig.getExpandableNodeLimit();
+        if (expandableNodeLimit != null && expandableNodeLimit < 2) {
+            throw new IllegalArgumentException("The phaseConfig (%s) has an expandableNodeLimit (%d) which is lower than 2."
+                    .formatted(phaseConfig, expandableNodeLimit));
+        }
         AbstractExhaustiveSearchDecider<Solution_, ? extends Score<?>> decider;
         if (isMixedModel) {
             var basicVarEntitySelectorConfig = buildEntitySelectorConfig(phaseConfigPolicy, false);
@@ -95,6 +100,7 @@ public class DefaultExhaustiveSearchPhaseFactory<Solution_>
         }
         return new DefaultExhaustiveSearchPhase.Builder<>(phaseIndex, solverConfigPolicy.getLogIndentation(), phaseTermination,
                 nodeExplorationType.buildNodeComparator(scoreBounderEnabled), decider)
+                .withExpandableNodeLimit(expandableNodeLimit)
                 .enableAssertions(phaseConfigPolicy.getEnvironmentMode()).build();
     }
 
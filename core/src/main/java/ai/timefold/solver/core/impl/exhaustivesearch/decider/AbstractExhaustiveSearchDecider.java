@@ -91,8 +91,14 @@ public abstract sealed class AbstractExhaustiveSearchDecider<Solution_, Score_ e
             ExhaustiveSearchLayer moveLayer, MutableInt moveIndex) {
         var phaseScope = stepScope.getPhaseScope();
         for (var move : moveRepository) {
-            var moveNode = new ExhaustiveSearchNode<>(moveLayer, expandingNode);
+            var index = moveIndex.intValue();
             moveIndex.increment();
+            if (!stepScope.isExpandingMoveIndex(index)) {
+                // Only restoring spilled nodes; the other moves already led to nodes in an earlier step.
+                continue;
+            }
+            var moveNode = new ExhaustiveSearchNode<>(moveLayer, expandingNode);
+            moveNode.setMoveIndex(index);
             moveNode.setMove(move);
             doMove(stepScope, moveNode, isSolutionComplete(moveNode), false);
             phaseScope.addMoveEvaluationCount(move, 1);
@@ -109,7 +109,7 @@ public final class MixedVariableExhaustiveSearchDecider<Solution_, Score_ extend
             var phaseScope = stepScope.getPhaseScope();
             // We need to clear the queue because the starting expanding node is already being evaluated;
             // otherwise, we will solve the list variable twice.
-            phaseScope.getExpandableNodeQueue().clear();
+            phaseScope.clearExpandableNodes();
             initStartNode(phaseScope, null);
             resetLastStep = false;
         }
@@ -122,7 +122,7 @@ public final class MixedVariableExhaustiveSearchDecider<Solution_, Score_ extend
         // If the search node queue is empty and we are using the basic variable decider,
         // we need to switch to the list variable decider and continue the optimization process.
         var phaseScope = stepScope.getPhaseScope();
-        if (isBasicDecider && phaseScope.getExpandableNodeQueue().isEmpty()) {
+        if (isBasicDecider && !phaseScope.hasExpandableNodes()) {
             this.currentDecider = listVariableDecider;
             // The current best solution must be restored and the last step cleared
             phaseScope.getSolverScope().setWorkingSolutionFromBestSolution();
@@ -11,6 +11,12 @@ public class ExhaustiveSearchNode<Solution_> {
     private final ExhaustiveSearchLayer layer;
     private final ExhaustiveSearchNode<Solution_> parent;
     private final long breadth;
+    /**
+     * The index of {@link #move} in the expansion of {@link #parent}, or -1 if unknown.
+     *
+     * @see ExhaustiveSearchNodeSpill
+     */
+    private int moveIndex = -1;
 
     // The move to get from the parent to this node
     private Move<Solution_> move;
@@ -41,6 +47,14 @@ public class ExhaustiveSearchNode<Solution_> {
         return breadth;
     }
 
+    public int getMoveIndex() {
+        return moveIndex;
+    }
+
+    public void setMoveIndex(int moveIndex) {
+        this.moveIndex = moveIndex;
+    }
+
     public Move<Solution_> getMove() {
         return move;
     }
@@ -0,0 +1,219 @@
+package ai.timefold.solver.core.impl.exhaustivesearch.node;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SortedSet;
+
+import ai.timefold.solver.core.config.exhaustivesearch.ExhaustiveSearchPhaseConfig;
+
+/**
+ * Bounds the number of expandable nodes in memory,
+ * see {@link ExhaustiveSearchPhaseConfig#getExpandableNodeLimit()}.
+ * <p>
+ * When the queue of expandable nodes grows over the limit,
+ * its least promising half is moved to a memory-mapped temporary file.
+ * A spilled node is encoded as a single {@code long}:
+ * a handle of its parent node, which stays in memory,
+ * and the index of its move in the expansion of that parent.
+ * Its move, undo move and scores are dropped;
+ * they are recalculated by expanding the parent again, limited to the spilled move indexes.
+ * <p>
+ * Spilled nodes are only restored once the queue is empty.
+ * Therefore, the exploration order is only approximately that of the node comparator,
+ * but every spilled node is still explored or pruned, which keeps the search exhaustive.
+ *
+ * @param <Solution_> the solution type
+ */
+public final class ExhaustiveSearchNodeSpill<Solution_> implements AutoCloseable {
+
+    private final int expandableNodeLimit;
+    private final int spillSize;
+
+    private final Map<ExhaustiveSearchNode<Solution_>, Integer> parentHandleMap = new IdentityHashMap<>();
+    private final List<ExhaustiveSearchNode<Solution_>> parentList = new ArrayList<>();
+    private final Queue<SpilledExpansion<Solution_>> pendingExpansionQueue = new ArrayDeque<>();
+    private MappedLongStack spillStack = null;
+
+    public ExhaustiveSearchNodeSpill(int expandableNodeLimit) {
+        if (expandableNodeLimit < 2) {
+            throw new IllegalArgumentException(
+                    "The expandableNodeLimit (%d) must be at least 2.".formatted(expandableNodeLimit));
+        }
+        this.expandableNodeLimit = expandableNodeLimit;
+        this.spillSize = expandableNodeLimit / 2;
+    }
+
+    /**
+     * Spills the least promising nodes of the queue if it holds more nodes than the limit.
+     *
+     * @param expandableNodeQueue sorted from least to most promising
+     */
+    public void spillIfOverLimit(SortedSet<ExhaustiveSearchNode<Solution_>> expandableNodeQueue) {
+        if (expandableNodeQueue.size() <= expandableNodeLimit) {
+            return;
+        }
+        if (spillStack == null) {
+            spillStack = new MappedLongStack();
+        }
+        var iterator = expandableNodeQueue.iterator();
+        var spilledCount = 0;
+        while (spilledCount < spillSize && iterator.hasNext()) {
+            var node = iterator.next();
+            var parent = node.getParent();
+            if (parent == null || node.getMoveIndex() < 0) {
+                // The start node cannot be recalculated from a parent.
+                continue;
+            }
+            var parentHandle = parentHandleMap.computeIfAbsent(parent, key -> {
+                parentList.add(key);
+                return parentList.size() - 1;
+            });
+            spillStack.push(((long) parentHandle << 32) | (node.getMoveIndex() & 0xFFFF_FFFFL));
+            iterator.remove();
+            spilledCount++;
+        }
+    }
+
+    /**
+     * @return true if no node is spilled
+     */
+    public boolean isEmpty() {
+        return pendingExpansionQueue.isEmpty() && (spillStack == null || spillStack.isEmpty());
+    }
+
+    /**
+     * Restores the most recently spilled nodes, grouped by parent.
+     *
+     * @return never null; the parent to expand again, limited to the returned move indexes
+     * @throws IllegalStateException if {@link #isEmpty()}
+     */
+    public SpilledExpansion<Solution_> pollExpansion() {
+        if (pendingExpansionQueue.isEmpty()) {
+            if (spillStack == null || spillStack.isEmpty()) {
+                throw new IllegalStateException("Impossible state: there are no spilled nodes to restore.");
+            }
+            var parentToMoveIndexListMap = new LinkedHashMap<Integer, List<Integer>>();
+            for (var i = 0; i < spillSize && !spillStack.isEmpty(); i++) {
+                var record = spillStack.pop();
+                parentToMoveIndexListMap.computeIfAbsent((int) (record >>> 32), key -> new ArrayList<>())
+                        .add((int) record);
+            }
+            parentToMoveIndexListMap.forEach((parentHandle, moveIndexList) -> {
+                var moveIndexes = moveIndexList.stream().mapToInt(Integer::intValue).toArray();
+                Arrays.sort(moveIndexes);
+                pendingExpansionQueue.add(new SpilledExpansion<>(parentList.get(parentHandle), moveIndexes));
+            });
+        }
+        var expansion = pendingExpansionQueue.poll();
+        if (isEmpty()) {
+            // No record refers to a parent anymore, so let them be garbage collected.
+            parentHandleMap.clear();
+            parentList.clear();
+        }
+        return expansion;
+    }
+
+    /**
+     * Drops all spilled nodes.
+     */
+    public void clear() {
+        pendingExpansionQueue.clear();
+        parentHandleMap.clear();
+        parentList.clear();
+        if (spillStack != null) {
+            spillStack.close();
+            spillStack = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        clear();
+    }
+
+    /**
+     * @param parent never null, an already expanded node
+     * @param moveIndexes never null, sorted ascending
+     * @param <Solution_> the solution type
+     */
+    public record SpilledExpansion<Solution_>(ExhaustiveSearchNode<Solution_> parent, int[] moveIndexes) {
+
+    }
+
+    /**
+     * A stack of {@code long}s in a temporary file,
+     * of which only the segment at the top of the stack is mapped into memory.
+     */
+    private static final class MappedLongStack implements AutoCloseable {
+
+        private static final int SEGMENT_LONG_COUNT = 1 << 17; // 1 MiB per segment.
+
+        private final FileChannel channel;
+        private long size = 0L;
+        private long mappedSegmentIndex = -1L;
+        private LongBuffer mappedSegment = null;
+
+        MappedLongStack() {
+            try {
+                var path = Files.createTempFile("timefold-exhaustive-search-", ".nodes");
+                channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE);
+            } catch (IOException e) {
+                throw new IllegalStateException("Creating the file to spill exhaustive search nodes to fails.", e);
+            }
+        }
+
+        boolean isEmpty() {
+            return size == 0L;
+        }
+
+        void push(long value) {
+            segmentOf(size).put((int) (size % SEGMENT_LONG_COUNT), value);
+            size++;
+        }
+
+        long pop() {
+            size--;
+            return segmentOf(size).get((int) (size % SEGMENT_LONG_COUNT));
+        }
+
+        private LongBuffer segmentOf(long index) {
+            var segmentIndex = index / SEGMENT_LONG_COUNT;
+            if (segmentIndex != mappedSegmentIndex) {
+                var segmentByteSize = (long) SEGMENT_LONG_COUNT * Long.BYTES;
+                try {
+                    // Mapping beyond the end of the file grows it.
+                    mappedSegment = channel.map(FileChannel.MapMode.READ_WRITE, segmentIndex * segmentByteSize,
+                            segmentByteSize).asLongBuffer();
+                } catch (IOException e) {
+                    throw new IllegalStateException("Mapping the file of spilled exhaustive search nodes fails.", e);
+                }
+                mappedSegmentIndex = segmentIndex;
+            }
+            return mappedSegment;
+        }
+
+        @Override
+        public void close() {
+            mappedSegment = null;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new IllegalStateException("Closing the file of spilled exhaustive search nodes fails.", e);
+            }
+        }
+
+    }
+
+}
@@ -7,6 +7,7 @@ import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.exhaustivesearch.node.ExhaustiveSearchLayer;
 import ai.timefold.solver.core.impl.exhaustivesearch.node.ExhaustiveSearchNode;
+import ai.timefold.solver.core.impl.exhaustivesearch.node.ExhaustiveSearchNodeSpill;
 import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
@@ -18,6 +19,7 @@ public final class ExhaustiveSearchPhaseScope<Solution_> extends AbstractPhaseSc
 
     private List<ExhaustiveSearchLayer> layerList;
     private SortedSet<ExhaustiveSearchNode<Solution_>> expandableNodeQueue;
+    private ExhaustiveSearchNodeSpill<Solution_> expandableNodeSpill = null;
     private InnerScore<?> bestPessimisticBound;
 
     private ExhaustiveSearchStepScope<Solution_> lastCompletedStepScope;
@@ -43,6 +45,17 @@ public final class ExhaustiveSearchPhaseScope<Solution_> extends AbstractPhaseSc
         this.expandableNodeQueue = expandableNodeQueue;
     }
 
+    /**
+     * @return null if the number of expandable nodes in memory is not limited
+     */
+    public ExhaustiveSearchNodeSpill<Solution_> getExpandableNodeSpill() {
+        return expandableNodeSpill;
+    }
+
+    public void setExpandableNodeSpill(ExhaustiveSearchNodeSpill<Solution_> expandableNodeSpill) {
+        this.expandableNodeSpill = expandableNodeSpill;
+    }
+
     @SuppressWarnings("unchecked")
     public <Score_ extends Score<Score_>> InnerScore<Score_> getBestPessimisticBound() {
         return (InnerScore<Score_>) bestPessimisticBound;
@@ -69,7 +82,7 @@ public final class ExhaustiveSearchPhaseScope<Solution_> extends AbstractPhaseSc
         var castBestPessimisticBound = this.<Score_> getBestPessimisticBound();
         if (pessimisticBound.compareTo(castBestPessimisticBound) > 0) {
             bestPessimisticBound = pessimisticBound;
-            // Prune the queue
+            // Prune the queue; spilled nodes are pruned when they are restored
             // TODO optimize this because expandableNodeQueue is too long to iterate
             expandableNodeQueue.removeIf(node -> {
                 var optimistic = node.<Score_> getOptimisticBound();
@@ -80,6 +93,23 @@ public final class ExhaustiveSearchPhaseScope<Solution_> extends AbstractPhaseSc
 
     public void addExpandableNode(ExhaustiveSearchNode<Solution_> moveNode) {
         expandableNodeQueue.add(moveNode);
+        if (expandableNodeSpill != null) {
+            expandableNodeSpill.spillIfOverLimit(expandableNodeQueue);
+        }
+    }
+
+    /**
+     * @return true if there are expandable nodes, in memory or spilled
+     */
+    public boolean hasExpandableNodes() {
+        return !expandableNodeQueue.isEmpty() || (expandableNodeSpill != null && !expandableNodeSpill.isEmpty());
+    }
+
+    public void clearExpandableNodes() {
+        expandableNodeQueue.clear();
+        if (expandableNodeSpill != null) {
+            expandableNodeSpill.clear();
+        }
     }
 
 }
@@ -1,5 +1,7 @@
 package ai.timefold.solver.core.impl.exhaustivesearch.scope;
 
+import java.util.Arrays;
+
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.exhaustivesearch.node.ExhaustiveSearchNode;
@@ -14,6 +16,10 @@ public final class ExhaustiveSearchStepScope<Solution_> extends AbstractStepScop
     private final ExhaustiveSearchPhaseScope<Solution_> phaseScope;
 
     private ExhaustiveSearchNode<Solution_> expandingNode;
+    /**
+     * Null unless the expanding node is expanded again to restore spilled nodes.
+     */
+    private int[] expandingMoveIndexes = null;
     private Long selectedMoveCount = null;
 
     public ExhaustiveSearchStepScope(ExhaustiveSearchPhaseScope<Solution_> phaseScope) {
@@ -38,6 +44,17 @@ public final class ExhaustiveSearchStepScope<Solution_> extends AbstractStepScop
         this.expandingNode = expandingNode;
     }
 
+    public int[] getExpandingMoveIndexes() {
+        return expandingMoveIndexes;
+    }
+
+    /**
+     * @param expandingMoveIndexes null to expand all moves, otherwise sorted ascending
+     */
+    public void setExpandingMoveIndexes(int[] expandingMoveIndexes) {
+        this.expandingMoveIndexes = expandingMoveIndexes;
+    }
+
     public <Score_ extends Score<Score_>> InnerScore<Score_> getStartingStepScore() {
         return expandingNode.getScore();
     }
@@ -62,4 +79,12 @@ public final class ExhaustiveSearchStepScope<Solution_> extends AbstractStepScop
         return expandingNode.getTreeId();
     }
 
+    /**
+     * @param moveIndex the index of a move in the expansion of the expanding node
+     * @return true if that move must be evaluated in this step
+     */
+    public boolean isExpandingMoveIndex(int moveIndex) {
+        return expandingMoveIndexes == null || Arrays.binarySearch(expandingMoveIndexes, moveIndex) >= 0;
+    }
+
 }
@@ -19,6 +19,9 @@ import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.CachedLis
 import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
 import ai.timefold.solver.core.impl.heuristic.selector.move.generic.PillarDemand;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.PillarSupply;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
 /**
@@ -34,6 +37,7 @@ public final class DefaultPillarSelector<Solution_> extends AbstractSelector<Sol
     private final SubPillarConfigPolicy subpillarConfigPolicy;
     private final PillarDemand<Solution_> pillarDemand;
 
+    private PillarSupply<Solution_> pillarSupply = null;
     private List<List<Object>> cachedBasePillarList = null;
 
     public DefaultPillarSelector(EntitySelector<Solution_> entitySelector,
@@ -88,25 +92,47 @@ public final class DefaultPillarSelector<Solution_> extends AbstractSelector<Sol
     }
 
     @Override
-    public void constructCache(SolverScope<Solution_> solverScope) {
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
         /*
          * The first pillar selector creates the supply.
          * Other matching pillar selectors, if there are any, reuse the supply.
+         * The supply lives as long as the phase, so that it only updates the pillars of changed entities every step,
+         * unless the entity selector may select other entities every step, see PillarSupply.stepEnded().
          */
-        cachedBasePillarList = solverScope.getScoreDirector().getSupplyManager()
-                .demand(pillarDemand)
-                .read();
+        pillarSupply = phaseScope.getSolverScope().getScoreDirector().getSupplyManager()
+                .demand(pillarDemand);
+        super.phaseStarted(phaseScope);
+    }
+
+    @Override
+    public void constructCache(SolverScope<Solution_> solverScope) {
+        cachedBasePillarList = pillarSupply.read();
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
+        cachedBasePillarList = null;
+    }
+
+    @Override
+    public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        pillarSupply.stepEnded();
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
         /*
          * Cancel the demand of each pillar selector.
          * The final pillar selector's demand cancellation will cause the supply to be removed entirely.
          */
-        solverScope.getScoreDirector().getSupplyManager()
-                .cancel(pillarDemand);
-        cachedBasePillarList = null;
+        var supplyManager = phaseScope.getSolverScope().getScoreDirector().getSupplyManager();
+        supplyManager.cancel(pillarDemand);
+        if (supplyManager.getActiveCount(pillarDemand) == 0L) {
+            pillarSupply.close();
+        }
+        pillarSupply = null;
     }
 
     // ************************************************************************
@@ -0,0 +1,270 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import ai.timefold.solver.core.config.heuristic.selector.entity.pillar.SubPillarConfigPolicy;
+import ai.timefold.solver.core.impl.domain.variable.BasicVariableChangeHandler;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.supply.Demand;
+import ai.timefold.solver.core.impl.domain.variable.supply.Supply;
+import ai.timefold.solver.core.impl.domain.variable.supply.SupplyManager;
+import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
+import ai.timefold.solver.core.impl.heuristic.selector.entity.FromSolutionEntitySelector;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.util.CollectionUtils;
+
+/**
+ * Keeps the pillars of a {@link PillarDemand} up to date while solving.
+ * <p>
+ * The pillars are built from every entity of the entity selector once.
+ * From then on, only the entities whose variables changed since the previous {@link #read()}
+ * are moved to the pillar of their new value state.
+ * The result is the same as building the pillars again:
+ * entities within a pillar, as well as the pillars themselves, keep the order of the entity selector.
+ * <p>
+ * Pillars which were returned by {@link #read()} are never modified afterward,
+ * because moves may still hold them.
+ * Instead, a changed pillar is replaced by a copy.
+ * <p>
+ * The entities are read from the entity selector again when the working solution is reset,
+ * for example after a problem change.
+ * This only holds if the entity selector is a {@link FromSolutionEntitySelector},
+ * which selects every entity of the working solution in the same order every step.
+ * Any other entity selector, such as one with a filterClass that reads planning variables,
+ * may select other entities every step,
+ * so its pillars are built from scratch again every step instead, see {@link #stepEnded()}.
+ * <p>
+ * The supply must be {@link #close() closed} when its demand is no longer active.
+ *
+ * @param <Solution_> the solution type
+ */
+public final class PillarSupply<Solution_> implements Supply {
+
+    private final SupplyManager supplyManager;
+    private final EntitySelector<Solution_> entitySelector;
+    private final List<GenuineVariableDescriptor<Solution_>> variableDescriptors;
+    private final SubPillarConfigPolicy subpillarConfigPolicy;
+    private final List<PillarVariableChangeDemand> changeDemandList;
+    private final boolean entitySelectionStable;
+
+    private final Map<Object, Integer> entityOrdinalMap = new IdentityHashMap<>();
+    private final Map<Object, List<Object>> entityToValueStateMap = new IdentityHashMap<>();
+    private final Map<List<Object>, List<Object>> valueStateToPillarMap = new LinkedHashMap<>();
+    private final Set<Object> changedEntitySet = CollectionUtils.newIdentityHashSet(0);
+    private final Comparator<Object> entityOrdinalComparator = Comparator.comparingInt(entityOrdinalMap::get);
+
+    private boolean stale = true;
+    private List<List<Object>> pillarList = null;
+
+    PillarSupply(SupplyManager supplyManager, EntitySelector<Solution_> entitySelector,
+            List<GenuineVariableDescriptor<Solution_>> variableDescriptors, SubPillarConfigPolicy subpillarConfigPolicy) {
+        this.supplyManager = supplyManager;
+        this.entitySelector = entitySelector;
+        this.variableDescriptors = variableDescriptors;
+        this.subpillarConfigPolicy = subpillarConfigPolicy;
+        this.changeDemandList = new ArrayList<>(variableDescriptors.size());
+        this.entitySelectionStable = entitySelector instanceof FromSolutionEntitySelector<Solution_>;
+        for (var variableDescriptor : variableDescriptors) {
+            var changeDemand = new PillarVariableChangeDemand(variableDescriptor);
+            supplyManager.demand(changeDemand);
+            changeDemandList.add(changeDemand);
+        }
+    }
+
+    /**
+     * @return never null, the pillars of at least the minimum sub pillar size
+     */
+    public List<List<Object>> read() {
+        if (stale) {
+            rebuild();
+            stale = false;
+        } else if (!changedEntitySet.isEmpty()) {
+            update();
+        }
+        return pillarList;
+    }
+
+    /**
+     * To be called at the end of every step.
+     * Unless the entity selector always selects the same entities,
+     * the next {@link #read()} builds the pillars from scratch again.
+     */
+    public void stepEnded() {
+        if (!entitySelectionStable) {
+            stale = true;
+        }
+    }
+
+    private void rebuild() {
+        long entitySize = entitySelector.getSize();
+        if (entitySize > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The selector (" + this + ") has an entitySelector ("
+                    + entitySelector + ") with entitySize (" + entitySize
+                    + ") which is higher than Integer.MAX_VALUE.");
+        }
+        entityOrdinalMap.clear();
+        entityToValueStateMap.clear();
+        valueStateToPillarMap.clear();
+        changedEntitySet.clear();
+        Stream<Object> entities = StreamSupport.stream(entitySelector.spliterator(), false);
+        Comparator<?> comparator = subpillarConfigPolicy.getEntityComparator();
+        if (comparator != null) {
+            /*
+             * The entity selection will be sorted. This will result in all the pillars being sorted without having to
+             * sort them individually later.
+             */
+            entities = entities.sorted((Comparator<? super Object>) comparator);
+        }
+        // Create all the pillars from a stream of entities; if sorted, the pillars will be sequential.
+        entities.forEach(entity -> {
+            entityOrdinalMap.put(entity, entityOrdinalMap.size());
+            var valueState = getValueState(entity);
+            entityToValueStateMap.put(entity, valueState);
+            valueStateToPillarMap.computeIfAbsent(valueState, key -> new ArrayList<>())
+                    .add(entity);
+        });
+        pillarList = collectPillars();
+    }
+
+    private void update() {
+        var changed = false;
+        for (var entity : changedEntitySet) {
+            if (!entityOrdinalMap.containsKey(entity)) {
+                // Not selected by the entity selector.
+                continue;
+            }
+            var oldValueState = entityToValueStateMap.get(entity);
+            var newValueState = getValueState(entity);
+            if (oldValueState.equals(newValueState)) {
+                // Usually a move which was undone.
+                continue;
+            }
+            var oldPillar = new ArrayList<>(valueStateToPillarMap.get(oldValueState));
+            oldPillar.remove(Collections.binarySearch(oldPillar, entity, entityOrdinalComparator));
+            if (oldPillar.isEmpty()) {
+                valueStateToPillarMap.remove(oldValueState);
+            } else {
+                valueStateToPillarMap.put(oldValueState, oldPillar);
+            }
+            var previousNewPillar = valueStateToPillarMap.get(newValueState);
+            var newPillar = previousNewPillar == null ? new ArrayList<>(1) : new ArrayList<>(previousNewPillar);
+            // The entity is not in the pillar yet, so binarySearch() returns (-(insertionPoint) - 1).
+            newPillar.add(-Collections.binarySearch(newPillar, entity, entityOrdinalComparator) - 1, entity);
+            valueStateToPillarMap.put(newValueState, newPillar);
+            entityToValueStateMap.put(entity, newValueState);
+            changed = true;
+        }
+        changedEntitySet.clear();
+        if (changed) {
+            pillarList = collectPillars();
+            // Order the pillars by their first entity, as a rebuild would.
+            pillarList.sort(Comparator.comparing(pillar -> pillar.get(0), entityOrdinalComparator));
+        }
+    }
+
+    private List<List<Object>> collectPillars() {
+        // Exclude pillars of size lower than the minimumSubPillarSize, as we shouldn't select those.
+        int minimumSubPillarSize = subpillarConfigPolicy.getMinimumSubPillarSize();
+        var pillars = new ArrayList<List<Object>>(valueStateToPillarMap.size());
+        for (var pillar : valueStateToPillarMap.values()) {
+            if (pillar.size() >= minimumSubPillarSize) {
+                pillars.add(pillar);
+            }
+        }
+        return pillars;
+    }
+
+    private List<Object> getValueState(Object entity) {
+        int variableCount = variableDescriptors.size();
+        if (variableCount == 1) {
+            return Collections.singletonList(variableDescriptors.get(0).getValue(entity));
+        }
+        List<Object> valueState = new ArrayList<>(variableCount);
+        for (int i = 0; i < variableCount; i++) {
+            valueState.add(variableDescriptors.get(i).getValue(entity));
+        }
+        return valueState;
+    }
+
+    /**
+     * Stops listening to variable changes.
+     * The supply must not be used afterward.
+     */
+    public void close() {
+        for (var changeDemand : changeDemandList) {
+            supplyManager.cancel(changeDemand);
+        }
+        changeDemandList.clear();
+        entityOrdinalMap.clear();
+        entityToValueStateMap.clear();
+        valueStateToPillarMap.clear();
+        changedEntitySet.clear();
+        pillarList = null;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + entitySelector + ")";
+    }
+
+    /**
+     * Registers a {@link PillarVariableChangeHandler} for one of the variables of the pillars.
+     * Like {@link PillarSupply} itself, it is never shared,
+     * so it relies on identity for {@link #equals(Object)}.
+     */
+    private final class PillarVariableChangeDemand implements Demand<PillarVariableChangeHandler> {
+
+        private final GenuineVariableDescriptor<Solution_> variableDescriptor;
+
+        PillarVariableChangeDemand(GenuineVariableDescriptor<Solution_> variableDescriptor) {
+            this.variableDescriptor = variableDescriptor;
+        }
+
+        @Override
+        public PillarVariableChangeHandler createExternalizedSupply(SupplyManager supplyManager) {
+            return new PillarVariableChangeHandler(variableDescriptor);
+        }
+
+    }
+
+    private final class PillarVariableChangeHandler implements BasicVariableChangeHandler<Solution_>, Supply {
+
+        private final GenuineVariableDescriptor<Solution_> variableDescriptor;
+
+        PillarVariableChangeHandler(GenuineVariableDescriptor<Solution_> variableDescriptor) {
+            this.variableDescriptor = variableDescriptor;
+        }
+
+        @Override
+        public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+            return variableDescriptor;
+        }
+
+        @Override
+        public void resetWorkingSolution(InnerScoreDirector<Solution_, ?> scoreDirector) {
+            stale = true;
+        }
+
+        @Override
+        public void beforeVariableChanged(InnerScoreDirector<Solution_, ?> scoreDirector, Object entity) {
+            // Only the value after the change matters.
+        }
+
+        @Override
+        public void afterVariableChanged(InnerScoreDirector<Solution_, ?> scoreDirector, Object entity) {
+            changedEntitySet.add(entity);
+        }
+
+    }
+
+}
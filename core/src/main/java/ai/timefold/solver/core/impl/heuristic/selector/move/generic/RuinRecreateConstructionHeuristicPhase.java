@@ -4,7 +4,6 @@ import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 
 import ai.timefold.solver.core.impl.constructionheuristic.ConstructionHeuristicPhase;
@@ -21,16 +20,26 @@ public final class RuinRecreateConstructionHeuristicPhase<Solution_>
         extends DefaultConstructionHeuristicPhase<Solution_>
         implements ConstructionHeuristicPhase<Solution_> {
 
-    private final Set<Object> elementsToRuinSet;
+    private Set<Object> elementsToRuinSet;
     // Store the original value list of elements that are not included in the initial list of ruined elements
     private final Map<Object, List<Object>> missingUpdatedElementsMap;
 
     RuinRecreateConstructionHeuristicPhase(RuinRecreateConstructionHeuristicPhaseBuilder<Solution_> builder) {
         super(builder);
-        this.elementsToRuinSet = Objects.requireNonNullElse(builder.elementsToRuin, Collections.emptySet());
+        this.elementsToRuinSet = Collections.emptySet();
         this.missingUpdatedElementsMap = new IdentityHashMap<>();
     }
 
+    /**
+     * Prepares a phase owned by a {@link RuinRecreateEngine} for its next execution.
+     *
+     * @param elementsToRuin the entities of the ruined values, or empty if not applicable
+     */
+    void reset(Set<Object> elementsToRuin) {
+        this.elementsToRuinSet = elementsToRuin;
+        this.missingUpdatedElementsMap.clear();
+    }
+
     @Override
     protected ConstructionHeuristicPhaseScope<Solution_> buildPhaseScope(SolverScope<Solution_> solverScope, int phaseIndex) {
         return new RuinRecreateConstructionHeuristicPhaseScope<>(solverScope, phaseIndex);
@@ -1,7 +1,10 @@
 package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
 
-import java.util.List;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import ai.timefold.solver.core.config.constructionheuristic.placer.QueuedEntityPlacerConfig;
@@ -12,7 +15,6 @@ import ai.timefold.solver.core.impl.constructionheuristic.DefaultConstructionHeu
 import ai.timefold.solver.core.impl.constructionheuristic.decider.ConstructionHeuristicDecider;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.EntityPlacer;
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
-import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.solver.termination.PhaseTermination;
 import ai.timefold.solver.core.impl.solver.termination.SolverTermination;
 import ai.timefold.solver.core.impl.solver.termination.TerminationFactory;
@@ -46,9 +48,13 @@ public final class RuinRecreateConstructionHeuristicPhaseBuilder<Solution_>
     private final HeuristicConfigPolicy<Solution_> configPolicy;
     private final RuinRecreateConstructionHeuristicPhaseFactory<Solution_> constructionHeuristicPhaseFactory;
     private final PhaseTermination<Solution_> phaseTermination;
+    private final ConstructionHeuristicDecider<Solution_> decider;
+    private final Queue<RuinRecreateEngine<Solution_>> enginePool = new ConcurrentLinkedQueue<>();
 
-    Set<Object> elementsToRuin;
-    List<Object> elementsToRecreate;
+    /**
+     * Only set on the builders of {@link RuinRecreateEngine engines}, which refill it before every recreate.
+     */
+    private Set<Object> engineElementsToRecreateSet;
     private boolean multithreaded = false;
 
     RuinRecreateConstructionHeuristicPhaseBuilder(HeuristicConfigPolicy<Solution_> configPolicy,
@@ -59,49 +65,57 @@ public final class RuinRecreateConstructionHeuristicPhaseBuilder<Solution_>
         this.configPolicy = configPolicy;
         this.constructionHeuristicPhaseFactory = constructionHeuristicPhaseFactory;
         this.phaseTermination = phaseTermination;
+        this.decider = decider;
     }
 
     /**
-     * In a multithreaded environment, the builder will be shared among all moves and threads.
-     * Consequently, the list {@code elementsToRecreate} used by {@code getEntityPlacer} or the {@code decider},
-     * will be shared between the main and move threads.
-     * This sharing can lead to race conditions.
-     * The method creates a new copy of the builder and the decider to avoid race conditions.
+     * Takes an engine from the pool of this builder, or creates a new one if the pool is empty.
+     * As the builder is shared by all moves of a move selector, so is the pool.
+     * The engine must be {@link RuinRecreateEngine#close() closed} after use, which returns it to the pool.
+     *
+     * @return never null
      */
-    public RuinRecreateConstructionHeuristicPhaseBuilder<Solution_>
-            ensureThreadSafe(InnerScoreDirector<Solution_, ?> scoreDirector) {
-        if (multithreaded && scoreDirector.isDerived()) {
-            return new RuinRecreateConstructionHeuristicPhaseBuilder<>(configPolicy, constructionHeuristicPhaseFactory,
-                    phaseTermination, super.getEntityPlacer().copy(),
-                    constructionHeuristicPhaseFactory.buildDecider(configPolicy, phaseTermination));
-        }
-        return this;
+    public RuinRecreateEngine<Solution_> acquireEngine() {
+        var engine = enginePool.poll();
+        return engine == null ? createEngine() : engine;
     }
 
-    public RuinRecreateConstructionHeuristicPhaseBuilder<Solution_> withElementsToRecreate(List<Object> elements) {
-        this.elementsToRecreate = elements;
-        return this;
+    private RuinRecreateEngine<Solution_> createEngine() {
+        var elementsToRecreateSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        // In a multithreaded environment, engines are used by several move threads at the same time;
+        // each engine needs its own placer and decider.
+        var engineBuilder = multithreaded
+                ? new RuinRecreateConstructionHeuristicPhaseBuilder<>(configPolicy, constructionHeuristicPhaseFactory,
+                        phaseTermination, super.getEntityPlacer().copy(),
+                        constructionHeuristicPhaseFactory.buildDecider(configPolicy, phaseTermination))
+                : new RuinRecreateConstructionHeuristicPhaseBuilder<>(configPolicy, constructionHeuristicPhaseFactory,
+                        phaseTermination, super.getEntityPlacer(), decider);
+        engineBuilder.engineElementsToRecreateSet = elementsToRecreateSet;
+        return new RuinRecreateEngine<>(this, (RuinRecreateConstructionHeuristicPhase<Solution_>) engineBuilder.build(),
+                elementsToRecreateSet);
     }
 
-    public RuinRecreateConstructionHeuristicPhaseBuilder<Solution_> withElementsToRuin(Set<Object> elements) {
-        this.elementsToRuin = elements;
-        return this;
+    void releaseEngine(RuinRecreateEngine<Solution_> engine) {
+        enginePool.offer(engine);
+    }
+
+    /**
+     * Drops the pooled engines, so that they do not outlive solving.
+     */
+    public void clearEnginePool() {
+        enginePool.clear();
     }
 
     @Override
     public EntityPlacer<Solution_> getEntityPlacer() {
         var placer = super.getEntityPlacer();
-        if (elementsToRecreate == null || elementsToRecreate.isEmpty()) {
+        if (engineElementsToRecreateSet == null) {
             return placer;
         }
-        return placer.rebuildWithFilter((scoreDirector, selection) -> {
-            for (var element : elementsToRecreate) {
-                if (selection == element) {
-                    return true;
-                }
-            }
-            return false;
-        });
+        var elementsToRecreateSet = engineElementsToRecreateSet;
+        // The filter is built once per engine, so it cannot rely on the set being non-empty.
+        return placer.rebuildWithFilter((scoreDirector, selection) -> elementsToRecreateSet.isEmpty()
+                || elementsToRecreateSet.contains(selection));
     }
 
     @Override
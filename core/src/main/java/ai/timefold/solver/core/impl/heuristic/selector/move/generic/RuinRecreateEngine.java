@@ -0,0 +1,117 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.random.DefaultRandomSource;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Runs the nested construction heuristic of ruin and recreate moves.
+ * <p>
+ * Building the nested phase, its entity placer and its solver scope costs a visible fraction
+ * of a ruin and recreate move, so they are built once per engine and reset between executions.
+ * Engines are pooled by the {@link RuinRecreateConstructionHeuristicPhaseBuilder} of their move selector,
+ * see {@link RuinRecreateConstructionHeuristicPhaseBuilder#acquireEngine()}.
+ * <p>
+ * An engine is not thread-safe; it is used by one move at a time, until it is {@link #close() closed}.
+ *
+ * @param <Solution_> the solution type
+ */
+@NullMarked
+public final class RuinRecreateEngine<Solution_> implements AutoCloseable {
+
+    private final RuinRecreateConstructionHeuristicPhaseBuilder<Solution_> pool;
+    private final RuinRecreateConstructionHeuristicPhase<Solution_> phase;
+    private final Set<Object> elementsToRecreateSet;
+
+    private @Nullable SolverScope<Solution_> nestedSolverScope;
+    private @Nullable Object scratch;
+
+    RuinRecreateEngine(RuinRecreateConstructionHeuristicPhaseBuilder<Solution_> pool,
+            RuinRecreateConstructionHeuristicPhase<Solution_> phase, Set<Object> elementsToRecreateSet) {
+        this.pool = pool;
+        this.phase = phase;
+        this.elementsToRecreateSet = elementsToRecreateSet;
+    }
+
+    /**
+     * Assigns the elements to recreate with a nested construction heuristic,
+     * and records the time it took on the solver scope.
+     *
+     * @param solverScope the solver scope of the move selector, not used by the nested phase
+     * @param scoreDirector the score director which does not record variable changes
+     * @param elementsToRecreate the ruined entities (basic variables) or values (list variables)
+     * @param elementsToRuin the entities which held the ruined values (list variables), or empty
+     * @param randomSeed the seed of the working random of the nested phase
+     */
+    public void recreate(SolverScope<Solution_> solverScope, InnerScoreDirector<Solution_, ?> scoreDirector,
+            List<Object> elementsToRecreate, Set<Object> elementsToRuin, long randomSeed) {
+        elementsToRecreateSet.clear();
+        elementsToRecreateSet.addAll(elementsToRecreate);
+        phase.reset(elementsToRuin);
+        if (nestedSolverScope == null) {
+            nestedSolverScope = new SolverScope<>(solverScope.getClock());
+        }
+        nestedSolverScope.setSolver(solverScope.getSolver());
+        nestedSolverScope.setScoreDirector(scoreDirector);
+        nestedSolverScope.setWorkingRandom(DefaultRandomSource.seeded(randomSeed));
+        var startNanos = System.nanoTime();
+        phase.solvingStarted(nestedSolverScope);
+        phase.solve(nestedSolverScope);
+        phase.solvingEnded(nestedSolverScope);
+        solverScope.addRuinRecreateTime(System.nanoTime() - startNanos);
+    }
+
+    RuinRecreateConstructionHeuristicPhase<Solution_> getPhase() {
+        return phase;
+    }
+
+    /**
+     * @return the original value lists of entities which received a recreated value but were not ruined,
+     *         valid until the next {@link #recreate} or {@link #close()}
+     */
+    public Map<Object, List<Object>> getMissingUpdatedElementsMap() {
+        return phase.getMissingUpdatedElementsMap();
+    }
+
+    /**
+     * Scratch collections of the move, which live as long as this engine does.
+     * The move is responsible for clearing them.
+     *
+     * @param scratchSupplier creates the scratch object the first time
+     * @return never null, the same instance on every call
+     * @param <Scratch_> the type of the scratch object, which must be the same on every call
+     */
+    @SuppressWarnings("unchecked")
+    public <Scratch_> Scratch_ getScratch(Supplier<Scratch_> scratchSupplier) {
+        if (scratch == null) {
+            scratch = scratchSupplier.get();
+        }
+        return (Scratch_) scratch;
+    }
+
+    /**
+     * Returns this engine to the pool.
+     * The engine must not be used afterward.
+     */
+    @Override
+    public void close() {
+        // Pooled engines must not keep the working solution reachable.
+        elementsToRecreateSet.clear();
+        phase.reset(Collections.emptySet());
+        if (nestedSolverScope != null) {
+            nestedSolverScope.setScoreDirector(null);
+            nestedSolverScope.setSolver(null);
+        }
+        pool.releaseEngine(this);
+    }
+
+}
@@ -57,6 +57,12 @@ final class RuinRecreateMoveSelector<Solution_> extends GenericMoveSelector<Solu
         this.solverScope = solverScope;
     }
 
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        super.solvingEnded(solverScope);
+        constructionHeuristicPhaseBuilder.clearEnginePool();
+    }
+
     @Override
     public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
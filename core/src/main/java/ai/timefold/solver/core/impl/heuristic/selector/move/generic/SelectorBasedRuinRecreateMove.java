@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.SequencedCollection;
@@ -12,7 +13,6 @@ import ai.timefold.solver.core.impl.heuristic.move.AbstractSelectorBasedMove;
 import ai.timefold.solver.core.impl.move.VariableChangeRecordingScoreDirector;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.score.director.VariableDescriptorAwareScoreDirector;
-import ai.timefold.solver.core.impl.solver.random.DefaultRandomSource;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 import ai.timefold.solver.core.preview.api.move.Move;
 
@@ -77,19 +77,9 @@ public final class SelectorBasedRuinRecreateMove<Solution_> extends AbstractSele
                         ? recordingScoreDirector.getBacking()
                         : scoreDirector;
         var innerScoreDirector = (InnerScoreDirector<Solution_, ?>) backingScoreDirector;
-        var constructionHeuristicPhase =
-                (RuinRecreateConstructionHeuristicPhase<Solution_>) constructionHeuristicPhaseBuilder
-                        .ensureThreadSafe(innerScoreDirector)
-                        .withElementsToRecreate(ruinedEntityList)
-                        .build();
-
-        var nestedSolverScope = new SolverScope<Solution_>(solverScope.getClock());
-        nestedSolverScope.setSolver(solverScope.getSolver());
-        nestedSolverScope.setScoreDirector(innerScoreDirector);
-        nestedSolverScope.setWorkingRandom(DefaultRandomSource.seeded(randomSeed));
-        constructionHeuristicPhase.solvingStarted(nestedSolverScope);
-        constructionHeuristicPhase.solve(nestedSolverScope);
-        constructionHeuristicPhase.solvingEnded(nestedSolverScope);
+        try (var engine = constructionHeuristicPhaseBuilder.acquireEngine()) {
+            engine.recreate(solverScope, innerScoreDirector, ruinedEntityList, Collections.emptySet(), randomSeed);
+        }
         scoreDirector.updateShadowVariables();
 
         for (var i = 0; i < ruinedEntityList.size(); i++) {
@@ -76,6 +76,7 @@ final class ListRuinRecreateMoveSelector<Solution_> extends GenericMoveSelector<
     public void solvingEnded(SolverScope<Solution_> solverScope) {
         super.solvingEnded(solverScope);
         this.listVariableStateSupply = null;
+        constructionHeuristicPhaseBuilder.clearEnginePool();
     }
 
     @Override
@@ -0,0 +1,55 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ruin;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.TreeSet;
+
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.RuinRecreateEngine;
+
+/**
+ * The collections {@link SelectorBasedListRuinRecreateMove} needs while it executes,
+ * kept by its {@link RuinRecreateEngine} so that they are not allocated for every move.
+ * The sets and lists in the maps are recycled as well.
+ */
+final class ListRuinRecreateScratch {
+
+    final Map<Object, NavigableSet<RuinedPosition>> entityToOriginalPositionMap = new IdentityHashMap<>();
+    final Map<Object, List<Object>> entityToInsertedValuesMap = new IdentityHashMap<>();
+
+    private final Queue<NavigableSet<RuinedPosition>> freePositionSetQueue = new ArrayDeque<>();
+    private final Queue<List<Object>> freeValueListQueue = new ArrayDeque<>();
+
+    NavigableSet<RuinedPosition> takePositionSet() {
+        var positionSet = freePositionSetQueue.poll();
+        return positionSet == null ? new TreeSet<>() : positionSet;
+    }
+
+    List<Object> takeValueList() {
+        var valueList = freeValueListQueue.poll();
+        return valueList == null ? new ArrayList<>() : valueList;
+    }
+
+    /**
+     * Empties the maps and recycles their sets and lists.
+     * Called both before and after the move executes,
+     * so that the collections never keep planning entities or values reachable while pooled.
+     */
+    void clear() {
+        for (var positionSet : entityToOriginalPositionMap.values()) {
+            positionSet.clear();
+            freePositionSetQueue.add(positionSet);
+        }
+        entityToOriginalPositionMap.clear();
+        for (var valueList : entityToInsertedValuesMap.values()) {
+            valueList.clear();
+            freeValueListQueue.add(valueList);
+        }
+        entityToInsertedValuesMap.clear();
+    }
+
+}
@@ -1,6 +1,5 @@
 package ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ruin;
 
-import java.util.ArrayList;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,12 +12,10 @@ import java.util.TreeSet;
 import ai.timefold.solver.core.api.domain.common.Lookup;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.heuristic.move.AbstractSelectorBasedMove;
-import ai.timefold.solver.core.impl.heuristic.selector.move.generic.RuinRecreateConstructionHeuristicPhase;
 import ai.timefold.solver.core.impl.heuristic.selector.move.generic.RuinRecreateConstructionHeuristicPhaseBuilder;
 import ai.timefold.solver.core.impl.move.MoveDirector;
 import ai.timefold.solver.core.impl.move.VariableChangeRecordingScoreDirector;
 import ai.timefold.solver.core.impl.score.director.VariableDescriptorAwareScoreDirector;
-import ai.timefold.solver.core.impl.solver.random.DefaultRandomSource;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 import ai.timefold.solver.core.preview.api.domain.metamodel.PositionInList;
 import ai.timefold.solver.core.preview.api.move.Move;
@@ -76,14 +73,16 @@ public final class SelectorBasedListRuinRecreateMove<Solution_> extends Abstract
         var nonRecordingScoreDirector = variableChangeRecordingScoreDirector.getBacking();
         var onlyRecordingChangesScoreDirector = variableChangeRecordingScoreDirector.getNonDelegating();
         try (var listVariableStateSupply = nonRecordingScoreDirector.getSupplyManager()
-                .demand(listVariableDescriptor.getStateDemand())) {
-            var entityToOriginalPositionMap =
-                    new IdentityHashMap<Object, NavigableSet<RuinedPosition>>(affectedEntitySet.size());
+                .demand(listVariableDescriptor.getStateDemand());
+                var engine = constructionHeuristicPhaseBuilder.acquireEngine()) {
+            var scratch = engine.getScratch(ListRuinRecreateScratch::new);
+            scratch.clear();
+            var entityToOriginalPositionMap = scratch.entityToOriginalPositionMap;
             for (var valueToRuin : ruinedValueList) {
                 var position = listVariableStateSupply.getElementPosition(valueToRuin)
                         .ensureAssigned();
                 entityToOriginalPositionMap.computeIfAbsent(position.entity(),
-                        ignored -> new TreeSet<>()).add(new RuinedPosition(valueToRuin, position.index()));
+                        ignored -> scratch.takePositionSet()).add(new RuinedPosition(valueToRuin, position.index()));
             }
 
             for (var entry : entityToOriginalPositionMap.entrySet()) {
@@ -108,25 +107,13 @@ public final class SelectorBasedListRuinRecreateMove<Solution_> extends Abstract
             }
             scoreDirector.updateShadowVariables();
 
-            var constructionHeuristicPhase =
-                    (RuinRecreateConstructionHeuristicPhase<Solution_>) constructionHeuristicPhaseBuilder
-                            .ensureThreadSafe(nonRecordingScoreDirector)
-                            .withElementsToRuin(entityToOriginalPositionMap.keySet())
-                            .withElementsToRecreate(ruinedValueList)
-                            .build();
-
-            var nestedSolverScope = new SolverScope<Solution_>(solverScope.getClock());
-            nestedSolverScope.setSolver(solverScope.getSolver());
-            nestedSolverScope.setScoreDirector(nonRecordingScoreDirector);
-            nestedSolverScope.setWorkingRandom(DefaultRandomSource.seeded(randomSeed));
-            constructionHeuristicPhase.solvingStarted(nestedSolverScope);
-            constructionHeuristicPhase.solve(nestedSolverScope);
-            constructionHeuristicPhase.solvingEnded(nestedSolverScope);
+            engine.recreate(solverScope, nonRecordingScoreDirector, ruinedValueList, entityToOriginalPositionMap.keySet(),
+                    randomSeed);
             scoreDirector.updateShadowVariables();
 
-            var entityToInsertedValuesMap = new IdentityHashMap<Object, List<Object>>();
+            var entityToInsertedValuesMap = scratch.entityToInsertedValuesMap;
             for (var entity : entityToOriginalPositionMap.keySet()) {
-                entityToInsertedValuesMap.put(entity, new ArrayList<>());
+                entityToInsertedValuesMap.put(entity, scratch.takeValueList());
             }
 
             for (var ruinedValue : ruinedValueList) {
@@ -136,7 +123,8 @@ public final class SelectorBasedListRuinRecreateMove<Solution_> extends Abstract
                 }
                 entityToNewPositionMap.computeIfAbsent(position.entity(), ignored -> new TreeSet<>())
                         .add(new RuinedPosition(ruinedValue, position.index()));
-                entityToInsertedValuesMap.computeIfAbsent(position.entity(), ignored -> new ArrayList<>()).add(ruinedValue);
+                entityToInsertedValuesMap.computeIfAbsent(position.entity(), ignored -> scratch.takeValueList())
+                        .add(ruinedValue);
             }
 
             for (var entry : entityToInsertedValuesMap.entrySet()) {
@@ -146,7 +134,7 @@ public final class SelectorBasedListRuinRecreateMove<Solution_> extends Abstract
                     // to restore the original elements.
                     // We need to ensure the before action is executed in order to restore the original elements.
                     var originalElementList =
-                            constructionHeuristicPhase.getMissingUpdatedElementsMap().get(entry.getKey());
+                            engine.getMissingUpdatedElementsMap().get(entry.getKey());
                     var currentElementList = List.copyOf(listVariableDescriptor.getValue(entry.getKey()));
                     // We need to first update the entity element list before tracking changes
                     // and set it back to the one from the generated solution
@@ -174,6 +162,7 @@ public final class SelectorBasedListRuinRecreateMove<Solution_> extends Abstract
             }
             nonRecordingScoreDirector.getSupplyManager()
                     .cancel(listVariableDescriptor.getStateDemand());
+            scratch.clear();
         }
     }
 
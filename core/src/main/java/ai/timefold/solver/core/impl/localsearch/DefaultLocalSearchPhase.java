@@ -118,10 +118,11 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
 
     protected void doStep(LocalSearchStepScope<Solution_> stepScope) {
         var step = stepScope.getStep();
+        var bestSolutionRecaller = stepScope.getPhaseScope().getSolverScope().getSolver().getBestSolutionRecaller();
+        bestSolutionRecaller.processWorkingSolutionBeforeStep(stepScope);
         stepScope.getScoreDirector().executeMove(step);
         predictWorkingStepScore(stepScope, step);
-        var solver = stepScope.getPhaseScope().getSolverScope().getSolver();
-        solver.getBestSolutionRecaller().processWorkingSolutionDuringStep(stepScope);
+        bestSolutionRecaller.processWorkingSolutionDuringDeferrableStep(stepScope);
     }
 
     @Override
@@ -11,10 +11,12 @@ import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 import ai.timefold.solver.core.impl.neighborhood.MoveRepository;
 import ai.timefold.solver.core.impl.phase.scope.SolverLifecyclePoint;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 import ai.timefold.solver.core.impl.solver.termination.PhaseTermination;
 import ai.timefold.solver.core.impl.solver.termination.Termination;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -90,10 +92,20 @@ public class LocalSearchDecider<Solution_> {
         var scoreDirector = stepScope.getScoreDirector();
         scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(true);
         var moveIndex = 0;
+        // Asserting the score from scratch needs the score of every move.
+        var minimumAcceptedScore = assertMoveScoreFromScratch ? null : acceptor.getMinimumAcceptedScore(stepScope);
+        LocalSearchMoveScope<Solution_> moveScope = null;
         for (var move : moveRepository) {
-            var moveScope = new LocalSearchMoveScope<>(stepScope, moveIndex, move);
+            if (moveScope == null) {
+                moveScope = new LocalSearchMoveScope<>(stepScope, moveIndex, move);
+            } else {
+                moveScope.reset(moveIndex, move);
+            }
             moveIndex++;
-            doMove(moveScope);
+            doMove(moveScope, minimumAcceptedScore);
+            if (forager.isMoveScopeRetained(moveScope)) {
+                moveScope = null;
+            }
             if (forager.isQuitEarly()) {
                 break;
             }
@@ -106,7 +118,13 @@ public class LocalSearchDecider<Solution_> {
         pickMove(stepScope);
     }
 
-    protected <Score_ extends Score<Score_>> void doMove(LocalSearchMoveScope<Solution_> moveScope) {
+    /**
+     * @param minimumAcceptedScore if not null, the score of a move is only created
+     *        if the forager might still need it, see {@link LocalSearchForager#getMinimumRelevantScore(InnerScore)}
+     */
+    @SuppressWarnings("unchecked")
+    protected <Score_ extends Score<Score_>> void doMove(LocalSearchMoveScope<Solution_> moveScope,
+            @Nullable InnerScore<?> minimumAcceptedScore) {
         var scoreDirector = moveScope.<Score_> getScoreDirector();
         var moveDirector = moveScope.getStepScope().<Score_> getMoveDirector();
         var move = moveScope.getMove();
@@ -114,18 +132,32 @@ public class LocalSearchDecider<Solution_> {
             throw new IllegalStateException("Impossible state: Local search move selector (%s) provided a non-doable move (%s)."
                     .formatted(moveRepository, move));
         }
-        var score = scoreDirector.executeTemporaryMove(moveScope.getMove(), assertMoveScoreFromScratch);
-        moveScope.setScore(score);
-        moveScope.setAccepted(acceptor.isAccepted(moveScope));
+        var minimumScore = minimumAcceptedScore == null ? null
+                : (InnerScore<Score_>) forager.getMinimumRelevantScore(minimumAcceptedScore);
+        if (minimumScore == null) {
+            moveScope.setScore(scoreDirector.executeTemporaryMove(move, assertMoveScoreFromScratch));
+            moveScope.setAccepted(acceptor.isAccepted(moveScope));
+        } else {
+            var score = scoreDirector.executeTemporaryMove(move, minimumScore);
+            moveScope.setScore(score);
+            moveScope.setAccepted(score != null && acceptor.isAccepted(moveScope));
+        }
         forager.addMove(moveScope);
         if (assertExpectedUndoMoveScore) {
             scoreDirector.assertExpectedUndoMoveScore(moveScope.getMove(),
                     moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore(),
                     SolverLifecyclePoint.of(moveScope));
         }
-        logger.trace("{}        Move index ({}), score ({}), accepted ({}), move ({}).",
-                logIndentation, moveScope.getMoveIndex(), moveScope.getScore().raw(), moveScope.getAccepted(),
-                moveScope.getMove());
+        logMove(moveScope);
+    }
+
+    protected void logMove(LocalSearchMoveScope<Solution_> moveScope) {
+        if (logger.isTraceEnabled()) {
+            var score = moveScope.getScore();
+            logger.trace("{}        Move index ({}), score ({}), accepted ({}), move ({}).",
+                    logIndentation, moveScope.getMoveIndex(), score == null ? "worse than needed" : score.raw(),
+                    moveScope.getAccepted(), moveScope.getMove());
+        }
     }
 
     protected void pickMove(LocalSearchStepScope<Solution_> stepScope) {
@@ -0,0 +1,283 @@
+package ai.timefold.solver.core.impl.localsearch.decider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.heuristic.move.MoveAdapters;
+import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
+import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.neighborhood.MoveRepository;
+import ai.timefold.solver.core.impl.phase.scope.SolverLifecyclePoint;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.termination.PhaseTermination;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
+import ai.timefold.solver.core.impl.solver.thread.ThreadUtils;
+import ai.timefold.solver.core.preview.api.move.Move;
+
+/**
+ * Evaluates the moves of each step on multiple move threads.
+ * Every move thread has its own {@link InnerScoreDirector} (and therefore its own score calculation)
+ * on its own clone of the working solution.
+ * <p>
+ * Moves are still selected on the solver thread, in the same order as the {@link LocalSearchDecider} selects them.
+ * They are evaluated in batches, each move thread {@link Move#rebase(ai.timefold.solver.core.preview.api.move.Lookup)
+ * rebasing} its share of the batch onto its own solution.
+ * The acceptor and the forager then receive the scores on the solver thread, in the order in which the moves were selected,
+ * so the picked move never depends on thread scheduling and {@link EnvironmentMode#isReproducible() reproducibility} holds.
+ * Moves evaluated after the forager quits early are discarded.
+ * <p>
+ * Once the step has been decided, it is done on the working solution as usual
+ * and then also on the solution of every move thread, to keep them in sync.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecider<Solution_> {
+
+    /**
+     * The first batch of every step has one move per move thread, so that a forager which quits early
+     * does not waste many evaluations.
+     * Every next batch of the same step doubles in size, to amortize the cost of the hand-off between threads,
+     * until it hits this many moves per move thread.
+     */
+    private static final int MAXIMUM_BATCH_SIZE_PER_MOVE_THREAD = 64;
+
+    private final int moveThreadCount;
+    private final ThreadFactory threadFactory;
+
+    private ExecutorService executor;
+    private List<MoveThread<Solution_>> moveThreadList;
+
+    public MultiThreadedLocalSearchDecider(String logIndentation, PhaseTermination<Solution_> termination,
+            MoveRepository<Solution_> moveRepository, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager,
+            ThreadFactory threadFactory, int moveThreadCount) {
+        super(logIndentation, termination, moveRepository, acceptor, forager);
+        if (moveThreadCount < 1) {
+            throw new IllegalArgumentException("The moveThreadCount (%d) must be at least 1."
+                    .formatted(moveThreadCount));
+        }
+        this.threadFactory = threadFactory;
+        this.moveThreadCount = moveThreadCount;
+    }
+
+    public int getMoveThreadCount() {
+        return moveThreadCount;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        executor = Executors.newFixedThreadPool(moveThreadCount, threadFactory);
+        moveThreadList = new ArrayList<>(moveThreadCount);
+        var scoreDirector = phaseScope.getScoreDirector();
+        for (var moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
+            moveThreadList.add(new MoveThread<>(moveThreadIndex, moveThreadCount,
+                    scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD)));
+        }
+        // Initialize every session in parallel, as that is a full score calculation each.
+        invokeOnAllMoveThreads(MoveThread::initialize);
+    }
+
+    @Override
+    public void decideNextStep(LocalSearchStepScope<Solution_> stepScope) {
+        var phaseScope = stepScope.getPhaseScope();
+        var moveDirector = stepScope.getMoveDirector();
+        var maximumBatchSize = moveThreadCount * MAXIMUM_BATCH_SIZE_PER_MOVE_THREAD;
+        var batchSize = moveThreadCount;
+        var batchMoveList = new ArrayList<Move<Solution_>>(batchSize);
+        var moveIterator = moveRepository.iterator();
+        var moveIndex = 0;
+        LocalSearchMoveScope<Solution_> moveScope = null;
+        var stepDecided = false;
+        while (!stepDecided && moveIterator.hasNext()) {
+            batchMoveList.clear();
+            while (batchMoveList.size() < batchSize && moveIterator.hasNext()) {
+                var move = moveIterator.next();
+                if (!MoveAdapters.isDoable(moveDirector, move)) {
+                    throw new IllegalStateException(
+                            "Impossible state: Local search move selector (%s) provided a non-doable move (%s)."
+                                    .formatted(moveRepository, move));
+                }
+                batchMoveList.add(move);
+            }
+            var batch = new Batch<>(stepScope, moveIndex, List.copyOf(batchMoveList));
+            invokeOnAllMoveThreads(moveThread -> moveThread.evaluate(batch, assertMoveScoreFromScratch,
+                    assertExpectedUndoMoveScore));
+            for (var i = 0; i < batch.moveList.size(); i++) {
+                var move = batch.moveList.get(i);
+                if (moveScope == null) {
+                    moveScope = new LocalSearchMoveScope<>(stepScope, moveIndex, move);
+                } else {
+                    moveScope.reset(moveIndex, move);
+                }
+                moveIndex++;
+                moveScope.setScore(batch.scores[i]);
+                moveScope.setAccepted(acceptor.isAccepted(moveScope));
+                forager.addMove(moveScope);
+                logMove(moveScope);
+                if (forager.isMoveScopeRetained(moveScope)) {
+                    moveScope = null;
+                }
+                if (forager.isQuitEarly()) {
+                    stepDecided = true;
+                    break;
+                }
+                phaseScope.getSolverScope().checkYielding();
+                if (termination.isPhaseTerminated(phaseScope)) {
+                    stepDecided = true;
+                    break;
+                }
+            }
+            batchSize = Math.min(batchSize * 2, maximumBatchSize);
+        }
+        pickMove(stepScope);
+    }
+
+    @Override
+    public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
+        var step = stepScope.getStep();
+        if (step != null) {
+            invokeOnAllMoveThreads(moveThread -> moveThread.doStep(stepScope, step, assertExpectedUndoMoveScore));
+        }
+        super.stepEnded(stepScope);
+    }
+
+    @Override
+    public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
+        var calculationCount = 0L;
+        for (var moveThread : moveThreadList) {
+            calculationCount += moveThread.scoreDirector.getCalculationCount();
+        }
+        phaseScope.addChildThreadsScoreCalculationCount(calculationCount);
+        shutdownMoveThreads();
+        super.phaseEnded(phaseScope);
+    }
+
+    @Override
+    public void solvingError(SolverScope<Solution_> solverScope, Exception exception) {
+        super.solvingError(solverScope, exception);
+        shutdownMoveThreads();
+    }
+
+    private void invokeOnAllMoveThreads(Consumer<MoveThread<Solution_>> consumer) {
+        var taskList = new ArrayList<Callable<Void>>(moveThreadCount);
+        for (var moveThread : moveThreadList) {
+            taskList.add(() -> {
+                consumer.accept(moveThread);
+                return null;
+            });
+        }
+        try {
+            for (var future : executor.invokeAll(taskList)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The solver thread was interrupted while waiting for the move threads.", e);
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("A move thread failed.", cause);
+        }
+    }
+
+    private void shutdownMoveThreads() {
+        if (moveThreadList != null) {
+            for (var moveThread : moveThreadList) {
+                moveThread.scoreDirector.close();
+            }
+            moveThreadList = null;
+        }
+        if (executor != null) {
+            ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Multi-threaded Local Search");
+            executor = null;
+        }
+    }
+
+    /**
+     * The moves of a single batch and, once evaluated, their scores.
+     * Every move thread only writes the scores of its own moves;
+     * {@link ExecutorService#invokeAll(java.util.Collection)} makes them visible to the solver thread.
+     */
+    private static final class Batch<Solution_> {
+
+        private final LocalSearchStepScope<Solution_> stepScope;
+        private final int firstMoveIndex;
+        private final List<Move<Solution_>> moveList;
+        private final InnerScore<?>[] scores;
+
+        private Batch(LocalSearchStepScope<Solution_> stepScope, int firstMoveIndex, List<Move<Solution_>> moveList) {
+            this.stepScope = stepScope;
+            this.firstMoveIndex = firstMoveIndex;
+            this.moveList = moveList;
+            this.scores = new InnerScore<?>[moveList.size()];
+        }
+
+    }
+
+    private record MoveThread<Solution_>(int moveThreadIndex, int moveThreadCount,
+            InnerScoreDirector<Solution_, ?> scoreDirector) {
+
+        private void initialize() {
+            scoreDirector.calculateScore();
+        }
+
+        @SuppressWarnings("unchecked")
+        private <Score_ extends Score<Score_>> void evaluate(Batch<Solution_> batch, boolean assertMoveScoreFromScratch,
+                boolean assertExpectedUndoMoveScore) {
+            var castScoreDirector = (InnerScoreDirector<Solution_, Score_>) scoreDirector;
+            var stepScope = batch.stepScope;
+            var phaseScope = stepScope.getPhaseScope();
+            var moveDirector = castScoreDirector.getMoveDirector();
+            castScoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(true);
+            // Every move thread takes every n-th move, so the moves are spread evenly, even within a small batch.
+            for (var i = moveThreadIndex; i < batch.moveList.size(); i += moveThreadCount) {
+                var move = batch.moveList.get(i).rebase(moveDirector);
+                batch.scores[i] = castScoreDirector.executeTemporaryMove(move, assertMoveScoreFromScratch);
+                if (assertExpectedUndoMoveScore) {
+                    castScoreDirector.assertExpectedUndoMoveScore(move,
+                            phaseScope.getLastCompletedStepScope().<Score_> getScore(),
+                            SolverLifecyclePoint.of(moveThreadIndex, phaseScope.getPhaseIndex(), stepScope.getStepIndex(),
+                                    batch.firstMoveIndex + i));
+                }
+            }
+            castScoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
+        }
+
+        private void doStep(LocalSearchStepScope<Solution_> stepScope, Move<Solution_> step,
+                boolean assertStepScore) {
+            scoreDirector.executeMove(step.rebase(scoreDirector.getMoveDirector()));
+            var score = scoreDirector.calculateScore();
+            if (assertStepScore && !score.equals(stepScope.getScore())) {
+                throw new IllegalStateException("""
+                        The move thread (%d) calculated a score (%s) after the step (%s), \
+                        which differs from the step score (%s) of the solver thread.
+                        Maybe the move's rebase() method does not rebase all of its planning entities and values."""
+                        .formatted(moveThreadIndex, score, step, stepScope.getScore()));
+            }
+        }
+
+    }
+
+}
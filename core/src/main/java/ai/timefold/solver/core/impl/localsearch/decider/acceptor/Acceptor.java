@@ -3,8 +3,12 @@ package ai.timefold.solver.core.impl.localsearch.decider.acceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
 import ai.timefold.solver.core.impl.localsearch.event.LocalSearchPhaseLifecycleListener;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.preview.api.move.Move;
 
+import org.jspecify.annotations.Nullable;
+
 /**
  * An Acceptor accepts or rejects a selected {@link Move}.
  * Note that the {@link LocalSearchForager} can still ignore the advice of the {@link Acceptor}.
@@ -19,4 +23,30 @@ public interface Acceptor<Solution_> extends LocalSearchPhaseLifecycleListener<S
      */
     boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope);
 
+    /**
+     * Every move with a score worse than the returned score,
+     * as defined by {@link InnerScore#isWorseAtSameUnassignedCount(InnerScore)}, is rejected during the given step.
+     * This allows the decider to discard such moves
+     * without creating their score and without calling {@link #isAccepted(LocalSearchMoveScope)}.
+     * Called once per step, after {@link #stepStarted(LocalSearchStepScope)}.
+     *
+     * @param stepScope never null
+     * @return null if no such score is known, for example when acceptance is random
+     */
+    default @Nullable InnerScore<?> getMinimumAcceptedScore(LocalSearchStepScope<Solution_> stepScope) {
+        return null;
+    }
+
+    /**
+     * Whether {@link #isAccepted(LocalSearchMoveScope)} may draw from the working random.
+     * Discarding moves by their {@link #getMinimumAcceptedScore(LocalSearchStepScope) minimum accepted score}
+     * would then skip draws, which only happens in the environment modes that don't assert move scores,
+     * so the same seed would no longer give the same result in every environment mode.
+     *
+     * @return true if the acceptance of a move may depend on the working random
+     */
+    default boolean isAcceptanceRandom() {
+        return false;
+    }
+
 }
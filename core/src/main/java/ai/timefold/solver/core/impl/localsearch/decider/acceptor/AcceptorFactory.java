@@ -78,6 +78,10 @@ public class AcceptorFactory<Solution_> {
         return acceptorTypeList != null && acceptorTypeList.contains(acceptorType);
     }
 
+    private boolean isAdaptiveTuningEnabled() {
+        return Objects.requireNonNullElse(acceptorConfig.getAdaptiveTuningEnabled(), false);
+    }
+
     private Optional<StepCountingHillClimbingAcceptor<Solution_>> buildStepCountingHillClimbingAcceptor() {
         if (acceptorTypeListsContainsAcceptorType(AcceptorType.STEP_COUNTING_HILL_CLIMBING)
                 || acceptorConfig.getStepCountingHillClimbingSize() != null) {
@@ -184,14 +188,19 @@ public class AcceptorFactory<Solution_> {
         if (acceptorTypeListsContainsAcceptorType(AcceptorType.SIMULATED_ANNEALING)
                 || acceptorConfig.getSimulatedAnnealingStartingTemperature() != null) {
             var acceptor = new SimulatedAnnealingAcceptor<Solution_>();
+            var adaptiveTuningEnabled = isAdaptiveTuningEnabled();
+            acceptor.setAdaptiveTuningEnabled(adaptiveTuningEnabled);
             if (acceptorConfig.getSimulatedAnnealingStartingTemperature() == null) {
-                // TODO Support SA without a parameter
-                throw new IllegalArgumentException(
-                        "The acceptorType (%s) requires non-null acceptorConfig.getSimulatedAnnealingStartingTemperature()."
-                                .formatted(AcceptorType.SIMULATED_ANNEALING));
+                if (!adaptiveTuningEnabled) {
+                    throw new IllegalArgumentException("""
+                            The acceptorType (%s) requires non-null acceptorConfig.getSimulatedAnnealingStartingTemperature(), \
+                            unless adaptiveTuningEnabled is true."""
+                            .formatted(AcceptorType.SIMULATED_ANNEALING));
+                }
+            } else {
+                acceptor.setStartingTemperature(configPolicy.getScoreDefinition()
+                        .parseScore(acceptorConfig.getSimulatedAnnealingStartingTemperature()));
             }
-            acceptor.setStartingTemperature(
-                    configPolicy.getScoreDefinition().parseScore(acceptorConfig.getSimulatedAnnealingStartingTemperature()));
             return Optional.of(acceptor);
         }
         return Optional.empty();
@@ -203,6 +212,7 @@ public class AcceptorFactory<Solution_> {
                         && acceptorConfig.getLateAcceptanceSize() != null)) {
             var acceptor = new LateAcceptanceAcceptor<Solution_>();
             acceptor.setLateAcceptanceSize(Objects.requireNonNullElse(acceptorConfig.getLateAcceptanceSize(), 400));
+            acceptor.setAdaptiveTuningEnabled(isAdaptiveTuningEnabled());
             return Optional.of(acceptor);
         }
         return Optional.empty();
@@ -214,6 +224,7 @@ public class AcceptorFactory<Solution_> {
             configPolicy.ensurePreviewFeature(PreviewFeature.DIVERSIFIED_LATE_ACCEPTANCE);
             var acceptor = new DiversifiedLateAcceptanceAcceptor<Solution_>();
             acceptor.setLateAcceptanceSize(Objects.requireNonNullElse(acceptorConfig.getLateAcceptanceSize(), 5));
+            acceptor.setAdaptiveTuningEnabled(isAdaptiveTuningEnabled());
             return Optional.of(acceptor);
         }
         return Optional.empty();
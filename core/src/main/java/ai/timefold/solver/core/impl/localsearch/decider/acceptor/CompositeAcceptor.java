@@ -6,8 +6,11 @@ import java.util.List;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
+import org.jspecify.annotations.Nullable;
+
 /**
  * Combines several acceptors into one.
  * Does a logical AND over the accepted status of its acceptors.
@@ -61,6 +64,35 @@ public class CompositeAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
         return true;
     }
 
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Override
+    public @Nullable InnerScore<?> getMinimumAcceptedScore(LocalSearchStepScope<Solution_> stepScope) {
+        if (isAcceptanceRandom()) {
+            // Discarding moves would skip the random draws of the other acceptors.
+            return null;
+        }
+        // Every acceptor must accept, so the highest minimum applies.
+        InnerScore minimumAcceptedScore = null;
+        for (Acceptor<Solution_> acceptor : acceptorList) {
+            InnerScore acceptorMinimumAcceptedScore = acceptor.getMinimumAcceptedScore(stepScope);
+            if (acceptorMinimumAcceptedScore != null && (minimumAcceptedScore == null
+                    || acceptorMinimumAcceptedScore.compareTo(minimumAcceptedScore) > 0)) {
+                minimumAcceptedScore = acceptorMinimumAcceptedScore;
+            }
+        }
+        return minimumAcceptedScore;
+    }
+
+    @Override
+    public boolean isAcceptanceRandom() {
+        for (Acceptor<Solution_> acceptor : acceptorList) {
+            if (acceptor.isAcceptanceRandom()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         for (Acceptor<Solution_> acceptor : acceptorList) {
@@ -5,6 +5,7 @@ import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AbstractAccepto
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
 
 public class GreatDelugeAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
 
@@ -71,6 +72,17 @@ public class GreatDelugeAcceptor<Solution_> extends AbstractAcceptor<Solution_>
         return moveScore.compareTo(lastStepScore) > 0; // Aspiration
     }
 
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Override
+    public InnerScore<?> getMinimumAcceptedScore(LocalSearchStepScope<Solution_> stepScope) {
+        InnerScore lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        if (lastStepScore.raw().compareTo(currentWaterLevel) <= 0) {
+            return lastStepScore;
+        }
+        // Acceptance ignores the unassigned count, so use the one most moves have.
+        return InnerScore.withUnassignedCount(currentWaterLevel, lastStepScore.unassignedCount());
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
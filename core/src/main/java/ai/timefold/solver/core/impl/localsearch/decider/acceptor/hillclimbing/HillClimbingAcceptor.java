@@ -2,6 +2,7 @@ package ai.timefold.solver.core.impl.localsearch.decider.acceptor.hillclimbing;
 
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 import ai.timefold.solver.core.impl.score.director.InnerScore;
 
 public class HillClimbingAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
@@ -14,4 +15,9 @@ public class HillClimbingAcceptor<Solution_> extends AbstractAcceptor<Solution_>
         return moveScore.compareTo(lastStepScore) >= 0;
     }
 
+    @Override
+    public InnerScore<?> getMinimumAcceptedScore(LocalSearchStepScope<Solution_> stepScope) {
+        return stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+    }
+
 }
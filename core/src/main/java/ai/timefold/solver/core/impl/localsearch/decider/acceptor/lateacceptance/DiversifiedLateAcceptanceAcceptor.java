@@ -6,6 +6,7 @@ import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 import ai.timefold.solver.core.impl.score.director.InnerScore;
 
 public class DiversifiedLateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
@@ -16,14 +17,24 @@ public class DiversifiedLateAcceptanceAcceptor<Solution_> extends AbstractAccept
     protected int lateWorseOccurrences = -1;
 
     protected int lateAcceptanceSize = -1;
+    protected boolean adaptiveTuningEnabled = false;
 
     protected InnerScore<?>[] previousScores;
     protected int lateScoreIndex = -1;
+    private LateAcceptanceSizeTuner sizeTuner;
 
     public void setLateAcceptanceSize(int lateAcceptanceSize) {
         this.lateAcceptanceSize = lateAcceptanceSize;
     }
 
+    /**
+     * @param adaptiveTuningEnabled true if the late acceptance size should be adjusted while solving,
+     *        starting from {@link #setLateAcceptanceSize(int)}
+     */
+    public void setAdaptiveTuningEnabled(boolean adaptiveTuningEnabled) {
+        this.adaptiveTuningEnabled = adaptiveTuningEnabled;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -38,6 +49,7 @@ public class DiversifiedLateAcceptanceAcceptor<Solution_> extends AbstractAccept
         lateScoreIndex = 0;
         lateWorseOccurrences = lateAcceptanceSize;
         lateWorseScore = initialScore;
+        sizeTuner = adaptiveTuningEnabled ? new LateAcceptanceSizeTuner(lateAcceptanceSize) : null;
     }
 
     private void validate() {
@@ -69,7 +81,7 @@ public class DiversifiedLateAcceptanceAcceptor<Solution_> extends AbstractAccept
         if (currentScoreWorse || currentScoreBetter) {
             updateLateScore(current);
         }
-        lateScoreIndex = (lateScoreIndex + 1) % lateAcceptanceSize;
+        lateScoreIndex = (lateScoreIndex + 1) % previousScores.length;
         return accept;
     }
 
@@ -89,22 +101,59 @@ public class DiversifiedLateAcceptanceAcceptor<Solution_> extends AbstractAccept
         previousScores[lateScoreIndex] = newScore;
         // Recompute the new lateWorse and the number of occurrences
         if (lateWorseOccurrences == 0) {
-            castLateWorse = getPreviousScore(0);
-            lateWorseOccurrences = 1;
-            for (var i = 1; i < lateAcceptanceSize; i++) {
-                var previousScore = this.<Score_> getPreviousScore(i);
-                var scoreCmp = previousScore.compareTo(castLateWorse);
-                if (scoreCmp < 0) {
-                    castLateWorse = previousScore;
-                    lateWorseOccurrences = 1;
-                } else if (scoreCmp == 0) {
-                    lateWorseOccurrences++;
-                }
+            recomputeLateWorseScore();
+        } else {
+            lateWorseScore = castLateWorse;
+        }
+    }
+
+    private <Score_ extends Score<Score_>> void recomputeLateWorseScore() {
+        InnerScore<Score_> castLateWorse = getPreviousScore(0);
+        lateWorseOccurrences = 1;
+        for (var i = 1; i < previousScores.length; i++) {
+            var previousScore = this.<Score_> getPreviousScore(i);
+            var scoreCmp = previousScore.compareTo(castLateWorse);
+            if (scoreCmp < 0) {
+                castLateWorse = previousScore;
+                lateWorseOccurrences = 1;
+            } else if (scoreCmp == 0) {
+                lateWorseOccurrences++;
             }
         }
         lateWorseScore = castLateWorse;
     }
 
+    @Override
+    public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        if (sizeTuner != null) {
+            var newSize = sizeTuner.stepEnded(stepScope, previousScores.length);
+            if (newSize != previousScores.length) {
+                logger.debug("Late acceptance size changed from ({}) to ({}) at step ({}).",
+                        previousScores.length, newSize, stepScope.getStepIndex());
+                resize(newSize);
+            }
+        }
+    }
+
+    /**
+     * Keeps the most recent scores in order.
+     * When growing, the extra slots are filled with the oldest score.
+     */
+    private void resize(int newSize) {
+        var oldSize = previousScores.length;
+        var oldestIndexToKeep = Math.max(0, oldSize - newSize);
+        var resizedScores = new InnerScore<?>[newSize];
+        // The oldest slot is the one at lateScoreIndex; the most recent one is right before it.
+        Arrays.fill(resizedScores, previousScores[(lateScoreIndex + oldestIndexToKeep) % oldSize]);
+        for (var i = oldestIndexToKeep; i < oldSize; i++) {
+            resizedScores[newSize - oldSize + i] = previousScores[(lateScoreIndex + i) % oldSize];
+        }
+        previousScores = resizedScores;
+        lateScoreIndex = 0;
+        recomputeLateWorseScore();
+    }
+
     @SuppressWarnings("unchecked")
     private <Score_ extends Score<Score_>> InnerScore<Score_> getLateWorseScore() {
         return (InnerScore<Score_>) lateWorseScore;
@@ -122,6 +171,7 @@ public class DiversifiedLateAcceptanceAcceptor<Solution_> extends AbstractAccept
         lateScoreIndex = -1;
         lateWorseScore = null;
         lateWorseOccurrences = -1;
+        sizeTuner = null;
     }
 
 }
\ No newline at end of file
@@ -11,9 +11,11 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
 
     protected int lateAcceptanceSize = -1;
     protected boolean hillClimbingEnabled = true;
+    protected boolean adaptiveTuningEnabled = false;
 
     private LateAcceptanceScoreBuffer scoreBuffer;
     private LevelScoreState<Solution_> bestScoreState;
+    private LateAcceptanceSizeTuner sizeTuner;
 
     public void setLateAcceptanceSize(int lateAcceptanceSize) {
         this.lateAcceptanceSize = lateAcceptanceSize;
@@ -23,6 +25,14 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
         this.hillClimbingEnabled = hillClimbingEnabled;
     }
 
+    /**
+     * @param adaptiveTuningEnabled true if the late acceptance size should be adjusted while solving,
+     *        starting from {@link #setLateAcceptanceSize(int)}
+     */
+    public void setAdaptiveTuningEnabled(boolean adaptiveTuningEnabled) {
+        this.adaptiveTuningEnabled = adaptiveTuningEnabled;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -36,6 +46,7 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
         var scoreDefinition = phaseScope.getSolverScope().getScoreDefinition();
         bestScoreState = scoreDefinition.getLevelsSize() > 1 ? new DefaultLevelScoreState<>(initialScore, scoreDefinition)
                 : new NoOpLevelScoreState<>();
+        sizeTuner = adaptiveTuningEnabled ? new LateAcceptanceSizeTuner(lateAcceptanceSize) : null;
     }
 
     private void validate() {
@@ -61,6 +72,17 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
         return false;
     }
 
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Override
+    public InnerScore<?> getMinimumAcceptedScore(LocalSearchStepScope<Solution_> stepScope) {
+        InnerScore lateScore = scoreBuffer.getCurrent();
+        if (!hillClimbingEnabled) {
+            return lateScore;
+        }
+        InnerScore lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        return lateScore.compareTo(lastStepScore) <= 0 ? lateScore : lastStepScore;
+    }
+
     @Override
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
         super.stepStarted(stepScope);
@@ -74,6 +96,14 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
         if (bestScoreState.isNonDominatedLevelChanged(stepScope)) {
             scoreBuffer.tryReset(stepScope.getPhaseScope().getBestScore());
         }
+        if (sizeTuner != null) {
+            var newSize = sizeTuner.stepEnded(stepScope, scoreBuffer.size());
+            if (newSize != scoreBuffer.size()) {
+                logger.debug("Late acceptance size changed from ({}) to ({}) at step ({}).",
+                        scoreBuffer.size(), newSize, stepScope.getStepIndex());
+                scoreBuffer = scoreBuffer.resize(newSize);
+            }
+        }
     }
 
     @Override
@@ -81,6 +111,7 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
         super.phaseEnded(phaseScope);
         scoreBuffer = null;
         bestScoreState = null;
+        sizeTuner = null;
     }
 
     protected <Score_ extends Score<Score_>> InnerScore<Score_> getScore(int i) {
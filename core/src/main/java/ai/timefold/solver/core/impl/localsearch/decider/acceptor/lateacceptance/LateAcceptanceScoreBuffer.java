@@ -60,6 +60,27 @@ final class LateAcceptanceScoreBuffer {
         currentIndex = (currentIndex + 1) % size;
     }
 
+    int size() {
+        return size;
+    }
+
+    /**
+     * Creates a buffer of a different size which keeps the most recent scores of this buffer in order.
+     * When growing, the extra slots are filled with the oldest score, which remains the current late score.
+     *
+     * @param newSize the size of the new buffer
+     * @return never this
+     */
+    LateAcceptanceScoreBuffer resize(int newSize) {
+        var oldestIndexToKeep = Math.max(0, size - newSize);
+        var resized = new LateAcceptanceScoreBuffer(newSize, get((currentIndex + oldestIndexToKeep) % size));
+        // The oldest slot is the current one; the most recent one is right before it.
+        for (var i = oldestIndexToKeep; i < size; i++) {
+            resized.scores[newSize - size + i] = get((currentIndex + i) % size);
+        }
+        return resized;
+    }
+
     /**
      * Lazily resets all slots to {@code newScore}.
      * Updating the score array is unnecessary since the related counter ensures the new score is returned if no changes have
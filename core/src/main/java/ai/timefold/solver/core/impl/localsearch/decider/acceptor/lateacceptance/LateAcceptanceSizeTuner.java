@@ -0,0 +1,82 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.lateacceptance;
+
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+
+/**
+ * Adjusts the late acceptance size while solving,
+ * so that the same configuration works for small and large datasets alike.
+ * <p>
+ * The tuner observes the search in windows of steps, each as long as the current late acceptance size,
+ * because that is how long it takes for a step score to start affecting acceptance.
+ * At the end of each window:
+ * <ul>
+ * <li>If the best score did not improve, the search is stuck in a local optimum;
+ * the size is doubled, which makes the search accept worse solutions and so diversifies it.</li>
+ * <li>If the best score improved and moves are accepted easily,
+ * the search is not limited by the acceptor;
+ * the size is halved, so that the search converges sooner.</li>
+ * <li>Otherwise, the size is kept.</li>
+ * </ul>
+ * The size never leaves the range from 1/{@value #SIZE_RANGE_FACTOR} to {@value #SIZE_RANGE_FACTOR} times the initial
+ * size.
+ */
+final class LateAcceptanceSizeTuner {
+
+    static final int SIZE_RANGE_FACTOR = 16;
+    /**
+     * Accepting more than 1 in this many selected moves counts as accepting moves easily.
+     */
+    static final int EASY_ACCEPTANCE_SELECTED_MOVE_COUNT = 4;
+    /**
+     * Windows shorter than this are too noisy to base a decision on.
+     */
+    static final int MINIMUM_WINDOW_STEP_COUNT = 50;
+
+    private final int minimumSize;
+    private final int maximumSize;
+
+    private int windowStepCount = 0;
+    private long windowSelectedMoveCount = 0L;
+    private long windowAcceptedMoveCount = 0L;
+    private boolean windowBestScoreImproved = false;
+
+    LateAcceptanceSizeTuner(int initialSize) {
+        this.minimumSize = Math.max(1, initialSize / SIZE_RANGE_FACTOR);
+        this.maximumSize = (int) Math.min(Integer.MAX_VALUE / 2, (long) initialSize * SIZE_RANGE_FACTOR);
+    }
+
+    /**
+     * @param stepScope the step that just ended
+     * @param currentSize the late acceptance size in use
+     * @return the late acceptance size to use from now on
+     */
+    int stepEnded(LocalSearchStepScope<?> stepScope, int currentSize) {
+        windowStepCount++;
+        var selectedMoveCount = stepScope.getSelectedMoveCount();
+        if (selectedMoveCount != null) {
+            windowSelectedMoveCount += selectedMoveCount;
+        }
+        var acceptedMoveCount = stepScope.getAcceptedMoveCount();
+        if (acceptedMoveCount != null) {
+            windowAcceptedMoveCount += acceptedMoveCount;
+        }
+        if (stepScope.getBestScoreImproved()) {
+            windowBestScoreImproved = true;
+        }
+        if (windowStepCount < Math.max(currentSize, MINIMUM_WINDOW_STEP_COUNT)) {
+            return currentSize;
+        }
+        var newSize = currentSize;
+        if (!windowBestScoreImproved) {
+            newSize = Math.min(currentSize * 2, maximumSize);
+        } else if (windowAcceptedMoveCount * EASY_ACCEPTANCE_SELECTED_MOVE_COUNT > windowSelectedMoveCount) {
+            newSize = Math.max(currentSize / 2, minimumSize);
+        }
+        windowStepCount = 0;
+        windowSelectedMoveCount = 0L;
+        windowAcceptedMoveCount = 0L;
+        windowBestScoreImproved = false;
+        return newSize;
+    }
+
+}
@@ -1,5 +1,7 @@
 package ai.timefold.solver.core.impl.localsearch.decider.acceptor.simulatedannealing;
 
+import java.util.Arrays;
+
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
@@ -8,22 +10,55 @@ import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 
 /**
  * The time gradient implementation of simulated annealing.
+ * <p>
+ * With adaptive tuning enabled, the temperature is not bound to the time gradient directly.
+ * Instead, it is adjusted every step, so that the rate at which worsening moves are accepted
+ * follows a target which starts at {@value #INITIAL_ACCEPTANCE_RATE} and drops to zero with the time gradient.
+ * If no starting temperature is given, it is estimated from the score differences of the worsening moves,
+ * so that an average worsening move starts out being accepted at that initial rate.
+ * The hard levels are not estimated; their temperature stays at zero, so that hard constraints are never broken.
  */
 public class SimulatedAnnealingAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
 
     protected Score startingTemperature;
 
     protected int levelsLength = -1;
+    /**
+     * Only used when adaptive tuning estimates the starting temperature.
+     */
+    private int hardLevelsLength = 0;
     protected double[] startingTemperatureLevels;
     // No protected Score temperature do avoid rounding errors when using Score.multiply(double)
     protected double[] temperatureLevels;
 
     protected double temperatureMinimum = 1.0E-100; // Double.MIN_NORMAL is E-308
 
+    static final double INITIAL_ACCEPTANCE_RATE = 0.5;
+    private static final double ACCEPTANCE_RATE_SMOOTHING = 0.1;
+    private static final double TEMPERATURE_SCALE_GAIN = 0.2;
+    private static final double TEMPERATURE_SCALE_MINIMUM = 1.0E-6;
+    private static final double TEMPERATURE_SCALE_MAXIMUM = 1.0E6;
+
+    protected boolean adaptiveTuningEnabled = false;
+    // Adaptive tuning state
+    private double[] worseningDifferenceSums;
+    private long[] worseningDifferenceCounts;
+    private long stepWorseningMoveCount;
+    private long stepAcceptedWorseningMoveCount;
+    private double acceptanceRate = Double.NaN;
+    private double temperatureScale = 1.0;
+
+    /**
+     * @param startingTemperature may be null if adaptive tuning is enabled
+     */
     public void setStartingTemperature(Score startingTemperature) {
         this.startingTemperature = startingTemperature;
     }
 
+    public void setAdaptiveTuningEnabled(boolean adaptiveTuningEnabled) {
+        this.adaptiveTuningEnabled = adaptiveTuningEnabled;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -31,15 +66,37 @@ public class SimulatedAnnealingAcceptor<Solution_> extends AbstractAcceptor<Solu
     @Override
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
-        for (var startingTemperatureLevel : startingTemperature.toLevelDoubles()) {
-            if (startingTemperatureLevel < 0.0) {
-                throw new IllegalArgumentException("The startingTemperature (" + startingTemperature
-                        + ") cannot have negative level (" + startingTemperatureLevel + ").");
+        if (startingTemperature == null) {
+            if (!adaptiveTuningEnabled) {
+                throw new IllegalStateException(
+                        "Impossible state: the startingTemperature is null while adaptive tuning is disabled.");
+            }
+            // Estimated once the first worsening moves have been evaluated.
+            var scoreDefinition = phaseScope.getSolverScope().getScoreDefinition();
+            levelsLength = scoreDefinition.getLevelsSize();
+            hardLevelsLength = scoreDefinition.getFeasibleLevelsSize();
+            startingTemperatureLevels = null;
+            temperatureLevels = new double[levelsLength];
+            Arrays.fill(temperatureLevels, temperatureMinimum);
+        } else {
+            for (var startingTemperatureLevel : startingTemperature.toLevelDoubles()) {
+                if (startingTemperatureLevel < 0.0) {
+                    throw new IllegalArgumentException("The startingTemperature (" + startingTemperature
+                            + ") cannot have negative level (" + startingTemperatureLevel + ").");
+                }
             }
+            startingTemperatureLevels = startingTemperature.toLevelDoubles();
+            temperatureLevels = startingTemperatureLevels;
+            levelsLength = startingTemperatureLevels.length;
+        }
+        if (adaptiveTuningEnabled) {
+            worseningDifferenceSums = new double[levelsLength];
+            worseningDifferenceCounts = new long[levelsLength];
+            stepWorseningMoveCount = 0L;
+            stepAcceptedWorseningMoveCount = 0L;
+            acceptanceRate = Double.NaN;
+            temperatureScale = 1.0;
         }
-        startingTemperatureLevels = startingTemperature.toLevelDoubles();
-        temperatureLevels = startingTemperatureLevels;
-        levelsLength = startingTemperatureLevels.length;
     }
 
     @Override
@@ -48,6 +105,8 @@ public class SimulatedAnnealingAcceptor<Solution_> extends AbstractAcceptor<Solu
         startingTemperatureLevels = null;
         temperatureLevels = null;
         levelsLength = -1;
+        worseningDifferenceSums = null;
+        worseningDifferenceCounts = null;
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -72,15 +131,35 @@ public class SimulatedAnnealingAcceptor<Solution_> extends AbstractAcceptor<Solu
                 acceptChanceLevel = 1.0;
             } else {
                 acceptChanceLevel = Math.exp(-moveScoreDifferenceLevel / temperatureLevel);
+                if (adaptiveTuningEnabled) {
+                    worseningDifferenceSums[i] += moveScoreDifferenceLevel;
+                    worseningDifferenceCounts[i]++;
+                }
             }
             acceptChance *= acceptChanceLevel;
         }
-        return moveScope.getWorkingRandom().acceptorUsage().nextDouble() < acceptChance;
+        var accepted = moveScope.getWorkingRandom().acceptorUsage().nextDouble() < acceptChance;
+        if (adaptiveTuningEnabled) {
+            stepWorseningMoveCount++;
+            if (accepted) {
+                stepAcceptedWorseningMoveCount++;
+            }
+        }
+        return accepted;
+    }
+
+    @Override
+    public boolean isAcceptanceRandom() {
+        return true;
     }
 
     @Override
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
         super.stepStarted(stepScope);
+        if (adaptiveTuningEnabled) {
+            tuneTemperature(stepScope);
+            return;
+        }
         // TimeGradient only refreshes at the beginning of a step, so this code is in stepStarted instead of stepEnded
         var timeGradient = stepScope.getTimeGradient();
         var reverseTimeGradient = 1.0 - timeGradient;
@@ -94,4 +173,38 @@ public class SimulatedAnnealingAcceptor<Solution_> extends AbstractAcceptor<Solu
         // TODO implement reheating
     }
 
+    private void tuneTemperature(LocalSearchStepScope<Solution_> stepScope) {
+        // The time gradient is negative if the termination does not support it.
+        var timeGradient = Math.clamp(stepScope.getTimeGradient(), 0.0, 1.0);
+        if (Double.isNaN(timeGradient)) {
+            timeGradient = 0.0;
+        }
+        var targetAcceptanceRate = INITIAL_ACCEPTANCE_RATE * (1.0 - timeGradient);
+        if (stepWorseningMoveCount > 0L) {
+            var stepAcceptanceRate = stepAcceptedWorseningMoveCount / (double) stepWorseningMoveCount;
+            acceptanceRate = Double.isNaN(acceptanceRate) ? stepAcceptanceRate
+                    : acceptanceRate + ACCEPTANCE_RATE_SMOOTHING * (stepAcceptanceRate - acceptanceRate);
+            // Heat up when too few worsening moves are accepted, cool down when too many are.
+            var relativeError = (targetAcceptanceRate - acceptanceRate) / INITIAL_ACCEPTANCE_RATE;
+            temperatureScale = Math.clamp(temperatureScale * Math.exp(TEMPERATURE_SCALE_GAIN * relativeError),
+                    TEMPERATURE_SCALE_MINIMUM, TEMPERATURE_SCALE_MAXIMUM);
+            stepWorseningMoveCount = 0L;
+            stepAcceptedWorseningMoveCount = 0L;
+        }
+        temperatureLevels = new double[levelsLength];
+        for (var i = 0; i < levelsLength; i++) {
+            double baseTemperatureLevel;
+            if (startingTemperatureLevels != null) {
+                baseTemperatureLevel = startingTemperatureLevels[i];
+            } else if (i >= hardLevelsLength && worseningDifferenceCounts[i] > 0L) {
+                // At this temperature, the average worsening in this level is accepted at the initial acceptance rate.
+                var averageWorseningDifference = worseningDifferenceSums[i] / worseningDifferenceCounts[i];
+                baseTemperatureLevel = averageWorseningDifference / -Math.log(INITIAL_ACCEPTANCE_RATE);
+            } else {
+                baseTemperatureLevel = 0.0;
+            }
+            temperatureLevels[i] = Math.max(baseTemperatureLevel * temperatureScale, temperatureMinimum);
+        }
+    }
+
 }
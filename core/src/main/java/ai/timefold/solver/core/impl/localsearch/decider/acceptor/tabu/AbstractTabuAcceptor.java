@@ -154,6 +154,12 @@ public abstract sealed class AbstractTabuAcceptor<Solution_>
         return accepted;
     }
 
+    @Override
+    public boolean isAcceptanceRandom() {
+        // Only fading tabu draws from the working random.
+        return fadingTabuSizeStrategy != null;
+    }
+
     private int locateMaximumTabuStepIndex(LocalSearchMoveScope<Solution_> moveScope) {
         var checkingTabus = findTabu(moveScope);
         var maximumTabuStepIndex = -1;
@@ -7,8 +7,11 @@ import ai.timefold.solver.core.impl.localsearch.decider.forager.finalist.Finalis
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
+import org.jspecify.annotations.Nullable;
+
 /**
  * A {@link LocalSearchForager} which forages accepted moves and ignores unaccepted moves.
  *
@@ -80,6 +83,16 @@ public final class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSe
         finalistPodium.addMove(moveScope);
     }
 
+    @Override
+    public boolean isMoveScopeRetained(LocalSearchMoveScope<Solution_> moveScope) {
+        return moveScope == earlyPickedMoveScope || finalistPodium.isFinalist(moveScope);
+    }
+
+    @Override
+    public @Nullable InnerScore<?> getMinimumRelevantScore(InnerScore<?> minimumAcceptedScore) {
+        return finalistPodium.getMinimumFinalistScore(minimumAcceptedScore);
+    }
+
     private <Score_ extends Score<Score_>> void checkPickEarly(LocalSearchMoveScope<Solution_> moveScope) {
         switch (pickEarlyType) {
             case NEVER:
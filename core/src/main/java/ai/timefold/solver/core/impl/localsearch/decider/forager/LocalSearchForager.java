@@ -5,6 +5,10 @@ import ai.timefold.solver.core.impl.localsearch.decider.LocalSearchDecider;
 import ai.timefold.solver.core.impl.localsearch.event.LocalSearchPhaseLifecycleListener;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.preview.api.move.Move;
+
+import org.jspecify.annotations.Nullable;
 
 /**
  * Collects the moves and picks the next step from those for the {@link LocalSearchDecider}.
@@ -23,6 +27,29 @@ public interface LocalSearchForager<Solution_> extends LocalSearchPhaseLifecycle
      */
     void addMove(LocalSearchMoveScope<Solution_> moveScope);
 
+    /**
+     * Tells the caller whether it may {@link LocalSearchMoveScope#reset(int, Move) reuse} a move scope for another move.
+     * Most moves are not kept, so reusing their move scope avoids an allocation per evaluated move.
+     *
+     * @param moveScope never null, the last one given to {@link #addMove(LocalSearchMoveScope)}
+     * @return true if this forager still references the move scope, for example as a candidate for the next step
+     */
+    default boolean isMoveScopeRetained(LocalSearchMoveScope<Solution_> moveScope) {
+        return true;
+    }
+
+    /**
+     * Tells the caller which rejected moves this forager ignores, so that their score need not be created.
+     * If this returns a score, the caller may {@link #addMove(LocalSearchMoveScope) add} a move
+     * with a worse score as rejected and without a {@link LocalSearchMoveScope#getScore() score}.
+     *
+     * @param minimumAcceptedScore never null, every move with a worse score is rejected
+     * @return null if the score of every move is needed
+     */
+    default @Nullable InnerScore<?> getMinimumRelevantScore(InnerScore<?> minimumAcceptedScore) {
+        return null;
+    }
+
     /**
      * @return true if no further moves should be selected (and evaluated) for this step.
      */
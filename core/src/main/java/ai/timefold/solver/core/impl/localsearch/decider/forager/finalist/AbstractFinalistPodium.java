@@ -41,6 +41,12 @@ public abstract class AbstractFinalistPodium<Solution_> extends LocalSearchPhase
         finalistList.add(moveScope);
     }
 
+    @Override
+    public boolean isFinalist(LocalSearchMoveScope<Solution_> moveScope) {
+        // A new finalist is always added last.
+        return !finalistList.isEmpty() && finalistList.get(finalistList.size() - 1) == moveScope;
+    }
+
     @Override
     public List<LocalSearchMoveScope<Solution_>> getFinalistList() {
         return finalistList;
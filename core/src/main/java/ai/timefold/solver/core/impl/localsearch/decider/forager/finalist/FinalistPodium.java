@@ -5,6 +5,9 @@ import java.util.List;
 import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
 import ai.timefold.solver.core.impl.localsearch.event.LocalSearchPhaseLifecycleListener;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+
+import org.jspecify.annotations.Nullable;
 
 /**
  * A podium gathers the finalists (the {@link LocalSearchMoveScope}s which might win) and picks the winner.
@@ -21,6 +24,25 @@ public interface FinalistPodium<Solution_> extends LocalSearchPhaseLifecycleList
      */
     void addMove(LocalSearchMoveScope<Solution_> moveScope);
 
+    /**
+     * See {@link LocalSearchForager#isMoveScopeRetained(LocalSearchMoveScope)}.
+     *
+     * @param moveScope never null, the last one given to {@link #addMove(LocalSearchMoveScope)}
+     * @return true if the move scope became a finalist
+     */
+    boolean isFinalist(LocalSearchMoveScope<Solution_> moveScope);
+
+    /**
+     * See {@link LocalSearchForager#getMinimumRelevantScore(InnerScore)}.
+     * Podiums which return a score must accept moves without a score in {@link #addMove(LocalSearchMoveScope)}.
+     *
+     * @param minimumAcceptedScore never null
+     * @return null if every move might become a finalist
+     */
+    default @Nullable InnerScore<?> getMinimumFinalistScore(InnerScore<?> minimumAcceptedScore) {
+        return null;
+    }
+
     /**
      *
      * @return never null, sometimes empty
@@ -4,6 +4,9 @@ import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+
+import org.jspecify.annotations.Nullable;
 
 /**
  * Default implementation of {@link FinalistPodium}.
@@ -12,7 +15,7 @@ import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
  */
 public final class HighestScoreFinalistPodium<Solution_> extends AbstractFinalistPodium<Solution_> {
 
-    private Score<?> finalistScore;
+    private InnerScore<?> finalistScore;
 
     @Override
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
@@ -26,12 +29,15 @@ public final class HighestScoreFinalistPodium<Solution_> extends AbstractFinalis
         if (finalistIsAccepted && !accepted) {
             return;
         }
+        var moveScore = moveScope.getScore();
+        if (moveScore == null) { // Worse than getMinimumFinalistScore(...).
+            return;
+        }
         if (accepted && !finalistIsAccepted) {
             finalistIsAccepted = true;
             finalistScore = null;
         }
-        var moveScore = moveScope.getScore().raw(); // Guaranteed local search; no need for InnerScore.
-        var scoreComparison = doComparison(moveScore);
+        var scoreComparison = doComparison(moveScore.raw()); // Guaranteed local search; no need for InnerScore.
         if (scoreComparison > 0) {
             finalistScore = moveScore;
             clearAndAddFinalist(moveScope);
@@ -45,7 +51,22 @@ public final class HighestScoreFinalistPodium<Solution_> extends AbstractFinalis
         if (finalistScore == null) {
             return 1;
         }
-        return moveScore.compareTo(finalistScore);
+        return moveScore.compareTo(finalistScore.raw());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Override
+    public @Nullable InnerScore<?> getMinimumFinalistScore(InnerScore<?> minimumAcceptedScore) {
+        if (finalistIsAccepted) {
+            return minimumAcceptedScore;
+        } else if (finalistScore == null
+                || minimumAcceptedScore.unassignedCount() != finalistScore.unassignedCount()) {
+            // Moves are only discarded at the unassigned count of the returned score,
+            // but they might still be accepted or become finalists at the other one.
+            return null;
+        }
+        // Until a move is accepted, the best rejected moves are finalists too.
+        return ((Score) minimumAcceptedScore.raw()).compareTo(finalistScore.raw()) <= 0 ? minimumAcceptedScore : finalistScore;
     }
 
     @Override
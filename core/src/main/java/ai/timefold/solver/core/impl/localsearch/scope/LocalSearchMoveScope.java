@@ -1,10 +1,19 @@
 package ai.timefold.solver.core.impl.localsearch.scope;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.impl.localsearch.decider.LocalSearchDecider;
+import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
 import ai.timefold.solver.core.impl.phase.scope.AbstractMoveScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.preview.api.move.Move;
 
 /**
+ * Local search evaluates far more moves than it keeps,
+ * so the {@link LocalSearchDecider} reuses a single instance for consecutive moves, see {@link #reset(int, Move)},
+ * until the {@link LocalSearchForager} keeps a reference to it.
+ * For the same reason, a rejected move which the forager has no use for may have no {@link #getScore() score},
+ * see {@link LocalSearchForager#getMinimumRelevantScore(InnerScore)}.
+ *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
 public final class LocalSearchMoveScope<Solution_> extends AbstractMoveScope<Solution_> {
@@ -20,6 +29,18 @@ public final class LocalSearchMoveScope<Solution_> extends AbstractMoveScope<Sol
         return (LocalSearchStepScope<Solution_>) super.getStepScope();
     }
 
+    /**
+     * Turns this instance into the scope of another move of the same step.
+     * Only allowed if nothing kept a reference to this instance,
+     * see {@link LocalSearchForager#isMoveScopeRetained(LocalSearchMoveScope)}.
+     */
+    public void reset(int moveIndex, Move<Solution_> move) {
+        this.moveIndex = moveIndex;
+        this.move = move;
+        this.score = null;
+        this.accepted = null;
+    }
+
     public Boolean getAccepted() {
         return accepted;
     }
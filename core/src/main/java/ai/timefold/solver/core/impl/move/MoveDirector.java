@@ -425,6 +425,21 @@ public sealed class MoveDirector<Solution_, Score_ extends Score<Score_>>
         return score;
     }
 
+    /**
+     * As defined by {@link #executeTemporary(Move)},
+     * but the score is only created if it is not worse than the given score.
+     *
+     * @return null if the score is worse than minimumScore,
+     *         as defined by {@link InnerScore#isWorseAtSameUnassignedCount(InnerScore)}
+     */
+    public final @Nullable InnerScore<Score_> executeTemporary(Move<Solution_> move, InnerScore<Score_> minimumScore) {
+        var ephemeralMoveDirector = ephemeral();
+        ephemeralMoveDirector.execute(move);
+        var score = backingScoreDirector.calculateScoreIfNotWorseThan(minimumScore);
+        ephemeralMoveDirector.close(); // This undoes the move.
+        return score;
+    }
+
     public @Nullable <Result_> Result_ executeTemporary(Move<Solution_> move,
             TemporaryMovePostprocessor<Solution_, Score_, @Nullable Result_> postprocessor) {
         try (var ephemeralMoveDirector = ephemeral()) {
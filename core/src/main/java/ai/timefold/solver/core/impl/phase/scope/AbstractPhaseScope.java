@@ -246,8 +246,11 @@ public abstract class AbstractPhaseScope<Solution_> {
         return solverScope.isBestSolutionInitialized();
     }
 
+    /**
+     * @return the best score found so far, see {@link SolverScope#getLatestBestScore()}
+     */
     public <Score_ extends Score<Score_>> InnerScore<Score_> getBestScore() {
-        return solverScope.getBestScore();
+        return solverScope.getLatestBestScore();
     }
 
     public long getPhaseBestSolutionTimeMillis() {
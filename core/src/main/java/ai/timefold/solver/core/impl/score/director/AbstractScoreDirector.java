@@ -109,7 +109,8 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         this.constraintMatchPolicy = builder.constraintMatchPolicy;
         this.expectShadowVariablesInCorrectState = builder.expectShadowVariablesInCorrectState;
         this.variableDescriptorCache = new VariableDescriptorCache<>(solutionDescriptor);
-        this.shadowVariableSupport = ShadowVariableSupport.create(this);
+        this.shadowVariableSupport =
+                ShadowVariableSupport.create(this, scoreDirectorFactory.isIntArrayShadowVariableGraphEnabled());
         this.shadowVariableSupport.linkShadowVariables();
         this.solutionTracker = this.scoreDirectorFactory.isTrackingWorkingSolution()
                 ? new SolutionTracker<>(getSolutionDescriptor(), getSupplyManager())
@@ -373,6 +374,15 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         return Objects.requireNonNull(result);
     }
 
+    @Override
+    public @Nullable InnerScore<Score_> executeTemporaryMove(Move<Solution_> move, InnerScore<Score_> minimumScore) {
+        if (solutionTracker != null) { // The tracker needs the solution after every move.
+            var score = executeTemporaryMove(move, false);
+            return score.isWorseAtSameUnassignedCount(minimumScore) ? null : score;
+        }
+        return moveDirector.executeTemporary(move, minimumScore);
+    }
+
     @Override
     public boolean isWorkingEntityListDirty(long expectedWorkingEntityListRevision) {
         return workingEntityListRevision != expectedWorkingEntityListRevision;
@@ -5,6 +5,7 @@ import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.declarative.IntArrayTopologicalOrderGraph;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.BasicVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
@@ -36,6 +37,7 @@ public abstract class AbstractScoreDirectorFactory<Solution_, Score_ extends Sco
 
     protected boolean assertClonedSolution = false;
     protected boolean trackingWorkingSolution = false;
+    protected boolean intArrayShadowVariableGraphEnabled = false;
 
     public AbstractScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor, EnvironmentMode environmentMode) {
         this.solutionDescriptor = solutionDescriptor;
@@ -92,6 +94,18 @@ public abstract class AbstractScoreDirectorFactory<Solution_, Score_ extends Sco
         this.trackingWorkingSolution = trackingWorkingSolution;
     }
 
+    /**
+     * When true, declarative shadow variables are ordered by an {@link IntArrayTopologicalOrderGraph}
+     * instead of the default graph.
+     */
+    public boolean isIntArrayShadowVariableGraphEnabled() {
+        return intArrayShadowVariableGraphEnabled;
+    }
+
+    public void setIntArrayShadowVariableGraphEnabled(boolean intArrayShadowVariableGraphEnabled) {
+        this.intArrayShadowVariableGraphEnabled = intArrayShadowVariableGraphEnabled;
+    }
+
     @Override
     public void assertScoreFromScratch(Solution_ solution) {
         // Get the score before uncorruptedScoreDirector.calculateScore() modifies it
@@ -46,6 +46,18 @@ public record InnerScore<Score_ extends Score<Score_>>(Score_ raw, int unassigne
         return unassignedCount == 0;
     }
 
+    /**
+     * Used to discard the scores of moves which local search has no use for.
+     * Unlike {@link #compareTo(InnerScore)}, a score with a different unassigned count is never worse,
+     * because some acceptors and finalist podiums only compare the {@link #raw() raw scores}.
+     *
+     * @param minimumScore the score below which this score is not needed
+     * @return true if both scores have the same unassigned count and this raw score is worse
+     */
+    public boolean isWorseAtSameUnassignedCount(InnerScore<Score_> minimumScore) {
+        return unassignedCount == minimumScore.unassignedCount && raw.compareTo(minimumScore.raw) < 0;
+    }
+
     @Override
     public int compareTo(InnerScore<Score_> other) {
         var uninitializedCountComparison = Integer.compare(unassignedCount, other.unassignedCount);
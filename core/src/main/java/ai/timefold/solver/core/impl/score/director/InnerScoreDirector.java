@@ -80,6 +80,21 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     InnerScore<Score_> calculateScore();
 
+    /**
+     * As defined by {@link #calculateScore()},
+     * but the {@link Score} is only created if it is not worse than the given score.
+     * Score directors which can compare the score without creating it
+     * skip updating the {@link PlanningSolution working solution} when the score is worse.
+     *
+     * @param minimumScore never null
+     * @return null if the score is worse than minimumScore,
+     *         as defined by {@link InnerScore#isWorseAtSameUnassignedCount(InnerScore)}
+     */
+    default @Nullable InnerScore<Score_> calculateScoreIfNotWorseThan(InnerScore<Score_> minimumScore) {
+        var score = calculateScore();
+        return score.isWorseAtSameUnassignedCount(minimumScore) ? null : score;
+    }
+
     /**
      * @return {@link ConstraintMatchPolicy#ENABLED} if {@link #getConstraintMatchTotalMap()} can be called.
      *         {@link ConstraintMatchPolicy#ENABLED_WITHOUT_JUSTIFICATIONS} if only the former can be called.
@@ -135,6 +150,20 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
         return executeTemporaryMove(move, null, assertMoveScoreFromScratch);
     }
 
+    /**
+     * As defined by {@link #executeTemporaryMove(Move, boolean)}, without asserting the score from scratch,
+     * but the score is only created if it is not worse than the given score.
+     * Callers use this when a move with a worse score would be discarded anyway.
+     *
+     * @param move never null
+     * @param minimumScore never null
+     * @return null if the score is worse than minimumScore,
+     *         as defined by {@link InnerScore#isWorseAtSameUnassignedCount(InnerScore)}
+     * @see #calculateScoreIfNotWorseThan(InnerScore)
+     */
+    @Nullable
+    InnerScore<Score_> executeTemporaryMove(Move<Solution_> move, InnerScore<Score_> minimumScore);
+
     /**
      * @param expectedWorkingEntityListRevision an
      * @return true if the entityList might have a different set of instances now
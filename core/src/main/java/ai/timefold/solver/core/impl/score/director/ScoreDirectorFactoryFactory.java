@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.impl.score.director;
 
 import java.util.ArrayList;
+import java.util.Objects;
 
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
@@ -45,6 +46,8 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
                 config.getInitializingScoreTrend() == null ? InitializingScoreTrendLevel.ANY.name()
                         : config.getInitializingScoreTrend(),
                 solutionDescriptor.getScoreDefinition().getLevelsSize()));
+        scoreDirectorFactory.setIntArrayShadowVariableGraphEnabled(
+                Objects.requireNonNullElse(config.getIntArrayShadowVariableGraphEnabled(), false));
         if (environmentMode.isFullyAsserted()) {
             scoreDirectorFactory.setAssertClonedSolution(true);
         }
@@ -103,6 +106,13 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
                     "If there is no constraintProviderClass (%s), then constraintStreamProfilingEnabled (%s) must be false."
                             .formatted(constraintProviderClass, config.getConstraintStreamProfilingEnabled()));
         }
+        if (config.getConstraintStreamParallelInitializationEnabled() != null
+                && config.getConstraintStreamParallelInitializationEnabled()
+                && !hasConstraintProvider) {
+            throw new IllegalStateException(
+                    "If there is no constraintProviderClass (%s), then constraintStreamParallelInitializationEnabled (%s) must be false."
+                            .formatted(constraintProviderClass, config.getConstraintStreamParallelInitializationEnabled()));
+        }
         if (hasEasyScoreCalculator && (hasIncrementalScoreCalculator || hasConstraintProvider)
                 || (hasIncrementalScoreCalculator && hasConstraintProvider)) {
             var scoreDirectorFactoryPropertyList = new ArrayList<String>(3);
@@ -1,6 +1,9 @@
 package ai.timefold.solver.core.impl.score.director.stream;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
 
 import ai.timefold.solver.core.api.score.Score;
@@ -10,13 +13,19 @@ import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.util.ConfigUtils;
 import ai.timefold.solver.core.enterprise.TimefoldSolverEnterpriseService;
+import ai.timefold.solver.core.impl.bavet.common.BavetAbstractConstraintStream;
+import ai.timefold.solver.core.impl.bavet.common.tuple.gizmo.AbstractGizmoConditionalTupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.gizmo.GizmoConditionalTupleLifecycleRegistry;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.declarative.ConsistencyTracker;
 import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
 import ai.timefold.solver.core.impl.score.director.AbstractScoreDirector;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraint;
 import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintFactory;
 import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSession;
 import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSessionFactory;
+import ai.timefold.solver.core.impl.score.stream.bavet.common.BavetFilterConstraintStream;
+import ai.timefold.solver.core.impl.score.stream.bavet.common.ConstraintNodeBuildHelper;
 import ai.timefold.solver.core.impl.score.stream.common.AbstractConstraintStreamScoreDirectorFactory;
 import ai.timefold.solver.core.impl.score.stream.common.inliner.AbstractScoreInliner;
 
@@ -41,7 +50,8 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
         ConfigUtils.applyCustomProperties(constraintProvider, "constraintProviderClass",
                 config.getConstraintProviderCustomProperties(), "constraintProviderCustomProperties");
         return new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider, environmentMode,
-                profilingEnabled);
+                profilingEnabled,
+                GizmoConditionalTupleLifecycleRegistry.getPrototypeList(providedConstraintProviderClass.getName()));
     }
 
     private static Class<? extends ConstraintProvider> getConstraintProviderClass(ScoreDirectorFactoryConfig config,
@@ -69,11 +79,45 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
 
     public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintProvider constraintProvider, EnvironmentMode environmentMode, boolean profilingEnabled) {
+        this(solutionDescriptor, constraintProvider, environmentMode, profilingEnabled, Collections.emptyList());
+    }
+
+    /**
+     * @param conditionalTupleLifecyclePrototypeList never null, see {@link GizmoConditionalTupleLifecycleRegistry}
+     */
+    public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintProvider constraintProvider, EnvironmentMode environmentMode, boolean profilingEnabled,
+            List<AbstractGizmoConditionalTupleLifecycle<?>> conditionalTupleLifecyclePrototypeList) {
         super(solutionDescriptor, environmentMode);
         var constraintFactory = new BavetConstraintFactory<>(solutionDescriptor, environmentMode);
         constraintMetaModel = DefaultConstraintMetaModel.of(constraintFactory.buildConstraints(constraintProvider));
         constraintSessionFactory =
-                new BavetConstraintSessionFactory<>(solutionDescriptor, constraintMetaModel, profilingEnabled);
+                new BavetConstraintSessionFactory<>(solutionDescriptor, constraintMetaModel, profilingEnabled,
+                        conditionalTupleLifecyclePrototypeList);
+    }
+
+    /**
+     * Counts the filter streams of all constraints, including those which may later be disabled by a zero weight,
+     * so that enough {@link AbstractGizmoConditionalTupleLifecycle} subclasses can be generated ahead of time.
+     * Filter streams which the preceding join tests itself do not need one,
+     * see {@link ConstraintNodeBuildHelper#isFusedIntoJoin(BavetAbstractConstraintStream)}.
+     *
+     * @return never null, the number of filter streams of arity 1 at index 0, up to arity 4 at index 3
+     */
+    @SuppressWarnings("unchecked")
+    public int[] countFilterStreamsByArity() {
+        var constraintStreamSet = new LinkedHashSet<BavetAbstractConstraintStream<Solution_>>();
+        for (var constraint : constraintMetaModel.getConstraints()) {
+            ((BavetConstraint<Solution_>) constraint).collectActiveConstraintStreams(constraintStreamSet);
+        }
+        var filterStreamCounts = new int[4];
+        for (var constraintStream : constraintStreamSet) {
+            if (constraintStream instanceof BavetFilterConstraintStream filterStream
+                    && !ConstraintNodeBuildHelper.isFusedIntoJoin(constraintStream, constraintStreamSet::contains)) {
+                filterStreamCounts[filterStream.getFilterArity() - 1]++;
+            }
+        }
+        return filterStreamCounts;
     }
 
     public BavetConstraintSession<Score_> newSession(Solution_ workingSolution,
@@ -83,12 +127,19 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
                 scoreDirectorDerived);
     }
 
+    public BavetConstraintSession<Score_> newSession(Solution_ workingSolution,
+            ConsistencyTracker<Solution_> consistencyTracker, ConstraintMatchPolicy constraintMatchPolicy,
+            boolean scoreDirectorDerived, boolean samplingProfilingEnabled) {
+        return constraintSessionFactory.buildSession(workingSolution, consistencyTracker, constraintMatchPolicy,
+                scoreDirectorDerived, samplingProfilingEnabled);
+    }
+
     @Override
     public AbstractScoreInliner<Score_> fireAndForget(Object... facts) {
         var consistencyTracker = ConsistencyTracker.frozen(solutionDescriptor, facts);
         var session = newSession(null, consistencyTracker,
                 ConstraintMatchPolicy.ENABLED, true);
-        Arrays.stream(facts).forEach(session::insert);
+        session.insertAll(Arrays.asList(facts));
         session.calculateScore();
         return session.getScoreInliner();
     }
@@ -40,6 +40,14 @@ public final class BavetConstraintSession<Score_ extends Score<Score_>>
         return scoreInliner.extractScore();
     }
 
+    /**
+     * As defined by {@link AbstractScoreInliner#compareScoreTo(Score)}, after settling the node network.
+     */
+    public int compareScoreTo(Score_ score) {
+        settle();
+        return scoreInliner.compareScoreTo(score);
+    }
+
     public AbstractScoreInliner<Score_> getScoreInliner() {
         return scoreInliner;
     }
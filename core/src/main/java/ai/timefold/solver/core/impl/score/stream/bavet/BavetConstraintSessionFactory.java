@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.impl.score.stream.bavet;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -18,6 +19,8 @@ import ai.timefold.solver.core.enterprise.TimefoldSolverEnterpriseService;
 import ai.timefold.solver.core.impl.bavet.common.AbstractRootNode;
 import ai.timefold.solver.core.impl.bavet.common.BavetAbstractConstraintStream;
 import ai.timefold.solver.core.impl.bavet.common.InnerConstraintProfiler;
+import ai.timefold.solver.core.impl.bavet.common.SamplingConstraintProfiler;
+import ai.timefold.solver.core.impl.bavet.common.tuple.gizmo.AbstractGizmoConditionalTupleLifecycle;
 import ai.timefold.solver.core.impl.bavet.uni.AbstractForEachUniNode;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.declarative.ConsistencyTracker;
@@ -38,25 +41,47 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final ConstraintMetaModel constraintMetaModel;
     private final @Nullable InnerConstraintProfiler constraintProfiler;
+    private final List<AbstractGizmoConditionalTupleLifecycle<?>> conditionalTupleLifecyclePrototypeList;
 
     public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintMetaModel constraintMetaModel, boolean profilingEnabled) {
+        this(solutionDescriptor, constraintMetaModel, profilingEnabled, Collections.emptyList());
+    }
+
+    /**
+     * @param conditionalTupleLifecyclePrototypeList never null, shared by the node networks of all sessions,
+     *        see {@link ConstraintNodeBuildHelper#conditionally}
+     */
+    public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintMetaModel constraintMetaModel, boolean profilingEnabled,
+            List<AbstractGizmoConditionalTupleLifecycle<?>> conditionalTupleLifecyclePrototypeList) {
         this.solutionDescriptor = Objects.requireNonNull(solutionDescriptor);
         this.constraintMetaModel = Objects.requireNonNull(constraintMetaModel);
         this.constraintProfiler = profilingEnabled
                 ? TimefoldSolverEnterpriseService.loadOrFail(TimefoldSolverEnterpriseService.Feature.CONSTRAINT_PROFILING)
                         .buildConstraintProfiler()
                 : null;
+        this.conditionalTupleLifecyclePrototypeList = Objects.requireNonNull(conditionalTupleLifecyclePrototypeList);
     }
 
     // ************************************************************************
     // Node creation
     // ************************************************************************
 
-    @SuppressWarnings("unchecked")
     public BavetConstraintSession<Score_> buildSession(Solution_ workingSolution,
             ConsistencyTracker<Solution_> consistencyTracker, ConstraintMatchPolicy constraintMatchPolicy,
             boolean scoreDirectorDerived) {
+        return buildSession(workingSolution, consistencyTracker, constraintMatchPolicy, scoreDirectorDerived, false);
+    }
+
+    /**
+     * @param samplingProfilingEnabled if true and no other profiler is enabled,
+     *        the session gets its own {@link SamplingConstraintProfiler}
+     */
+    @SuppressWarnings("unchecked")
+    public BavetConstraintSession<Score_> buildSession(Solution_ workingSolution,
+            ConsistencyTracker<Solution_> consistencyTracker, ConstraintMatchPolicy constraintMatchPolicy,
+            boolean scoreDirectorDerived, boolean samplingProfilingEnabled) {
         var constraintWeightSupplier = solutionDescriptor.getConstraintWeightSupplier();
         var constraints = constraintMetaModel.getConstraints();
         if (constraintWeightSupplier != null) { // Fail fast on unknown constraints.
@@ -115,15 +140,20 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
         if (constraintWeightLoggingEnabled) {
             LOGGER.atLevel(CONSTRAINT_WEIGHT_LOGGING_LEVEL).log(constraintWeightString.toString().trim());
         }
+        var sessionConstraintProfiler = constraintProfiler == null && samplingProfilingEnabled
+                ? new SamplingConstraintProfiler()
+                : constraintProfiler;
         return new BavetConstraintSession<>(scoreInliner,
-                buildNodeNetwork(workingSolution, consistencyTracker, constraintStreamSet, scoreInliner, constraintProfiler,
-                        scoreDirectorDerived));
+                buildNodeNetwork(workingSolution, consistencyTracker, constraintStreamSet, scoreInliner,
+                        sessionConstraintProfiler, scoreDirectorDerived));
     }
 
     private ConstraintStreamsBavetNodeNetwork buildNodeNetwork(Solution_ workingSolution,
             ConsistencyTracker<Solution_> consistencyTracker, Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet,
-            AbstractScoreInliner<Score_> scoreInliner, InnerConstraintProfiler profiler, boolean scoreDirectorDerived) {
-        var buildHelper = new ConstraintNodeBuildHelper<>(consistencyTracker, constraintStreamSet, scoreInliner, profiler);
+            AbstractScoreInliner<Score_> scoreInliner, @Nullable InnerConstraintProfiler profiler,
+            boolean scoreDirectorDerived) {
+        var buildHelper = new ConstraintNodeBuildHelper<>(consistencyTracker, constraintStreamSet, scoreInliner, profiler,
+                conditionalTupleLifecyclePrototypeList);
         var declaredClassToNodeMap = new LinkedHashMap<Class<?>, List<AbstractRootNode<?>>>();
         var nodeList =
                 buildHelper.buildNodeList(constraintStreamSet, buildHelper, BavetAbstractConstraintStream::buildNode, node -> {
@@ -157,8 +187,8 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                         constraint -> buildHelper.getScorer(constraint.getScoringConstraintStream()), (a, b) -> a,
                         LinkedHashMap::new));
 
-        if (constraintProfiler != null) {
-            constraintProfiler.registerNodeGraph(workingSolution, nodeList, scoreInliner.getConstraints(),
+        if (profiler != null) {
+            profiler.registerNodeGraph(workingSolution, nodeList, scoreInliner.getConstraints(),
                     buildHelper::getNodeCreatingStream, buildHelper::findParentNode);
         }
 
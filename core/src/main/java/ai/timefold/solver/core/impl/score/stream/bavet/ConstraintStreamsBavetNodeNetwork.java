@@ -2,6 +2,7 @@ package ai.timefold.solver.core.impl.score.stream.bavet;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -66,6 +67,37 @@ public final class ConstraintStreamsBavetNodeNetwork extends AbstractBavetNodeNe
     @Override
     public void settle() {
         super.settle();
+        logInactiveConstraints();
+    }
+
+    /**
+     * The score is shared by all constraints,
+     * and therefore the {@link Scorer scorers} defer their impacts until all branches have been settled.
+     * The deferred impacts are then applied on the calling thread,
+     * which results in exactly the same score as {@link #settle()} would have.
+     * With profiling enabled, the network is always settled sequentially, as the profiler is not thread-safe.
+     */
+    @Override
+    public void settleInParallel(ForkJoinPool pool) {
+        if (isActivationCheckComplete() || constraintProfiler != null) {
+            settle();
+            return;
+        }
+        var scorers = constraintToScorerMap.values();
+        for (var scorer : scorers) {
+            scorer.deferImpacts();
+        }
+        try {
+            super.settleInParallel(pool);
+        } finally { // Otherwise a failed branch would leave the scorers deferring forever.
+            for (var scorer : scorers) {
+                scorer.impactDeferred();
+            }
+        }
+        logInactiveConstraints();
+    }
+
+    private void logInactiveConstraints() {
         var loggingLevel = Level.DEBUG; // Makes sure the check and the logging always operate on the same level.
         if (!LOGGER.isEnabledForLevel(loggingLevel)) {
             return;
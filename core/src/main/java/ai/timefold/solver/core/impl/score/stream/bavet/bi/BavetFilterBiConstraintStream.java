@@ -5,12 +5,15 @@ import java.util.function.BiPredicate;
 
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.bavet.common.tuple.BiTuple;
-import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintFactory;
+import ai.timefold.solver.core.impl.score.stream.bavet.common.BavetFilterConstraintStream;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.ConstraintNodeBuildHelper;
 
+import org.jspecify.annotations.Nullable;
+
 final class BavetFilterBiConstraintStream<Solution_, A, B>
-        extends BavetAbstractBiConstraintStream<Solution_, A, B> {
+        extends BavetAbstractBiConstraintStream<Solution_, A, B>
+        implements BavetFilterConstraintStream {
 
     private final BiPredicate<A, B> predicate;
 
@@ -30,8 +33,26 @@ final class BavetFilterBiConstraintStream<Solution_, A, B>
 
     @Override
     public <Score_ extends Score<Score_>> void buildNode(ConstraintNodeBuildHelper<Solution_, Score_> buildHelper) {
+        if (buildHelper.isFusedIntoJoin(this)) {
+            return; // The join tests the predicate, see fuseIntoJoinFiltering().
+        }
         buildHelper.<BiTuple<A, B>> putInsertUpdateRetract(this, childStreamList,
-                tupleLifecycle -> TupleLifecycle.conditionally(tupleLifecycle, predicate));
+                tupleLifecycle -> buildHelper.conditionally(tupleLifecycle, predicate));
+    }
+
+    @Override
+    public int getFilterArity() {
+        return 2;
+    }
+
+    /**
+     * See {@link ConstraintNodeBuildHelper#findFilterToFuseIntoJoin}.
+     *
+     * @param filtering null if the join has no filtering joiner
+     * @return never null, tests both the join's filtering and the predicate of this stream
+     */
+    BiPredicate<A, B> fuseIntoJoinFiltering(@Nullable BiPredicate<A, B> filtering) {
+        return filtering == null ? predicate : filtering.and(predicate);
     }
 
     // ************************************************************************
@@ -54,13 +54,17 @@ public final class BavetJoinBiConstraintStream<Solution_, A, B> extends BavetAbs
 
     @Override
     public <Score_ extends Score<Score_>> void buildNode(ConstraintNodeBuildHelper<Solution_, Score_> buildHelper) {
-        TupleLifecycle<BiTuple<A, B>> downstream = buildHelper.getAggregatedTupleLifecycle(childStreamList);
+        var fusedFilterStream =
+                (BavetFilterBiConstraintStream<Solution_, A, B>) buildHelper.findFilterToFuseIntoJoin(childStreamList);
+        var fusedFiltering = fusedFilterStream == null ? filtering : fusedFilterStream.fuseIntoJoinFiltering(filtering);
+        TupleLifecycle<BiTuple<A, B>> downstream = buildHelper.getAggregatedTupleLifecycle(
+                fusedFilterStream == null ? childStreamList : fusedFilterStream.getChildStreamList());
         IndexerFactory<B> indexerFactory = new IndexerFactory<>(joiner);
         var positionTracker =
                 buildHelper.getTupleStorePositionTracker(this, leftParent.getTupleSource(), rightParent.getTupleSource());
         var node = indexerFactory.hasJoiners()
-                ? new IndexedJoinBiNode<>(indexerFactory, downstream, filtering, positionTracker)
-                : new UnindexedJoinBiNode<>(downstream, filtering, positionTracker);
+                ? new IndexedJoinBiNode<>(indexerFactory, downstream, fusedFiltering, positionTracker)
+                : new UnindexedJoinBiNode<>(downstream, fusedFiltering, positionTracker);
         buildHelper.addNode(node, this, leftParent, rightParent);
     }
 
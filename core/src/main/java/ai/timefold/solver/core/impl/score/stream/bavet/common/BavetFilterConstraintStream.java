@@ -0,0 +1,16 @@
+package ai.timefold.solver.core.impl.score.stream.bavet.common;
+
+/**
+ * A stream which filters its tuples with a tuple lifecycle instead of a node,
+ * see {@link ConstraintNodeBuildHelper#conditionally}.
+ * If it directly follows a join, the join may test its predicate instead,
+ * see {@link ConstraintNodeBuildHelper#findFilterToFuseIntoJoin}.
+ */
+public interface BavetFilterConstraintStream {
+
+    /**
+     * @return 1 if the stream filters uni tuples, up to 4 for quad tuples
+     */
+    int getFilterArity();
+
+}
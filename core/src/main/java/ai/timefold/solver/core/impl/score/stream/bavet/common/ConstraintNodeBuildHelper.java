@@ -7,9 +7,13 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 
+import ai.timefold.solver.core.api.function.QuadPredicate;
+import ai.timefold.solver.core.api.function.TriPredicate;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.bavet.common.AbstractNode;
 import ai.timefold.solver.core.impl.bavet.common.AbstractNodeBuildHelper;
@@ -21,9 +25,16 @@ import ai.timefold.solver.core.impl.bavet.common.ConstraintNodeProfileId;
 import ai.timefold.solver.core.impl.bavet.common.InnerConstraintProfiler;
 import ai.timefold.solver.core.impl.bavet.common.ProfilingPropagator;
 import ai.timefold.solver.core.impl.bavet.common.tuple.AggregatedTupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.BiTuple;
+import ai.timefold.solver.core.impl.bavet.common.tuple.ConditionalTupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.ConditionalTupleLifecycle.TuplePredicate;
 import ai.timefold.solver.core.impl.bavet.common.tuple.ProfilingTupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.QuadTuple;
+import ai.timefold.solver.core.impl.bavet.common.tuple.TriTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.Tuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.core.impl.bavet.common.tuple.gizmo.AbstractGizmoConditionalTupleLifecycle;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.declarative.ConsistencyTracker;
 import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraint;
@@ -44,18 +55,34 @@ public final class ConstraintNodeBuildHelper<Solution_, Score_ extends Score<Sco
     private final Map<EntityDescriptor<Solution_>, Map<ForEachFilteringCriteria, @Nullable Predicate<Object>>> entityDescriptorToForEachCriteriaToPredicateMap;
     private final Map<BavetAbstractConstraintStream<Solution_>, List<Set<ConstraintNodeProfileId>>> streamToProfileIdSets;
     private final Map<BavetScoringConstraintStream<Solution_>, Scorer<?>> streamToScorers = new HashMap<>();
+    private final List<Queue<AbstractGizmoConditionalTupleLifecycle<?>>> conditionalTupleLifecyclePrototypeQueueList;
 
     private long nextLifecycleProfilingId = 0;
 
     public ConstraintNodeBuildHelper(ConsistencyTracker<Solution_> consistencyTracker,
             Set<BavetAbstractConstraintStream<Solution_>> activeStreamSet, AbstractScoreInliner<Score_> scoreInliner,
             @Nullable InnerConstraintProfiler profiler) {
+        this(consistencyTracker, activeStreamSet, scoreInliner, profiler, Collections.emptyList());
+    }
+
+    /**
+     * @param conditionalTupleLifecyclePrototypeList never null, see {@link #conditionally(TupleLifecycle, Predicate)}
+     */
+    public ConstraintNodeBuildHelper(ConsistencyTracker<Solution_> consistencyTracker,
+            Set<BavetAbstractConstraintStream<Solution_>> activeStreamSet, AbstractScoreInliner<Score_> scoreInliner,
+            @Nullable InnerConstraintProfiler profiler,
+            List<AbstractGizmoConditionalTupleLifecycle<?>> conditionalTupleLifecyclePrototypeList) {
         super(activeStreamSet);
         this.consistencyTracker = consistencyTracker;
         this.scoreInliner = scoreInliner;
         this.constraintProfiler = profiler;
         this.entityDescriptorToForEachCriteriaToPredicateMap = new HashMap<>();
         this.streamToProfileIdSets = HashMap.newHashMap(Math.max(16, activeStreamSet.size() / 2));
+        this.conditionalTupleLifecyclePrototypeQueueList = List.of(new ArrayDeque<>(), new ArrayDeque<>(),
+                new ArrayDeque<>(), new ArrayDeque<>());
+        for (var prototype : conditionalTupleLifecyclePrototypeList) {
+            conditionalTupleLifecyclePrototypeQueueList.get(prototype.getArity() - 1).add(prototype);
+        }
     }
 
     @Override
@@ -112,6 +139,129 @@ public final class ConstraintNodeBuildHelper<Solution_, Score_ extends Score<Sco
         }
     }
 
+    /**
+     * Filters with an instance of a generated {@link AbstractGizmoConditionalTupleLifecycle} subclass,
+     * as long as there are prototypes of that arity left,
+     * so that every filter stream of the node network gets a different class.
+     * Otherwise, filters with a {@link ConditionalTupleLifecycle},
+     * fused with the {@link ConditionalTupleLifecycle} of a directly following filter, if there is one.
+     */
+    public <A> TupleLifecycle<UniTuple<A>> conditionally(TupleLifecycle<UniTuple<A>> tupleLifecycle,
+            Predicate<A> predicate) {
+        var specialized = specialize(tupleLifecycle, 1, predicate);
+        return specialized != null ? specialized : filter(tupleLifecycle, tuple -> predicate.test(tuple.getA()));
+    }
+
+    /**
+     * As defined by {@link #conditionally(TupleLifecycle, Predicate)}.
+     */
+    public <A, B> TupleLifecycle<BiTuple<A, B>> conditionally(TupleLifecycle<BiTuple<A, B>> tupleLifecycle,
+            BiPredicate<A, B> predicate) {
+        var specialized = specialize(tupleLifecycle, 2, predicate);
+        return specialized != null ? specialized
+                : filter(tupleLifecycle, tuple -> predicate.test(tuple.getA(), tuple.getB()));
+    }
+
+    /**
+     * As defined by {@link #conditionally(TupleLifecycle, Predicate)}.
+     */
+    public <A, B, C> TupleLifecycle<TriTuple<A, B, C>> conditionally(TupleLifecycle<TriTuple<A, B, C>> tupleLifecycle,
+            TriPredicate<A, B, C> predicate) {
+        var specialized = specialize(tupleLifecycle, 3, predicate);
+        return specialized != null ? specialized
+                : filter(tupleLifecycle, tuple -> predicate.test(tuple.getA(), tuple.getB(), tuple.getC()));
+    }
+
+    /**
+     * As defined by {@link #conditionally(TupleLifecycle, Predicate)}.
+     */
+    public <A, B, C, D> TupleLifecycle<QuadTuple<A, B, C, D>> conditionally(
+            TupleLifecycle<QuadTuple<A, B, C, D>> tupleLifecycle, QuadPredicate<A, B, C, D> predicate) {
+        var specialized = specialize(tupleLifecycle, 4, predicate);
+        return specialized != null ? specialized
+                : filter(tupleLifecycle, tuple -> predicate.test(tuple.getA(), tuple.getB(), tuple.getC(), tuple.getD()));
+    }
+
+    private static <Tuple_ extends Tuple> TupleLifecycle<Tuple_> filter(TupleLifecycle<Tuple_> tupleLifecycle,
+            TuplePredicate<Tuple_> predicate) {
+        if (tupleLifecycle instanceof ConditionalTupleLifecycle<Tuple_> downstreamConditionalTupleLifecycle) {
+            // Consecutive filters test both predicates in one lifecycle, instead of passing the tuple from one to the other.
+            // When profiling, the downstream filter is wrapped in a profiling lifecycle, so it is not fused.
+            var downstreamPredicate = downstreamConditionalTupleLifecycle.predicate();
+            return new ConditionalTupleLifecycle<>(downstreamConditionalTupleLifecycle.downstreamLifecycle(),
+                    tuple -> predicate.test(tuple) && downstreamPredicate.test(tuple));
+        }
+        return new ConditionalTupleLifecycle<>(tupleLifecycle, predicate);
+    }
+
+    /**
+     * A join which is only followed by a filter can test the filter's predicate itself,
+     * together with its {@code Joiners.filtering(...)},
+     * so that it never creates the tuples which the filter would reject.
+     * The filter does not build a tuple lifecycle, see {@link #isFusedIntoJoin(BavetAbstractConstraintStream)},
+     * and the join sends its tuples directly to the children of the filter.
+     * <p>
+     * Not done when profiling, so that the filter keeps being profiled separately from the join.
+     *
+     * @param joinChildStreamList never null, the children of the join
+     * @return null if the join has more than one active child, or if its only active child is not a filter
+     */
+    public @Nullable BavetAbstractConstraintStream<Solution_>
+            findFilterToFuseIntoJoin(List<BavetAbstractConstraintStream<Solution_>> joinChildStreamList) {
+        if (constraintProfiler != null) {
+            return null;
+        }
+        return findFilterToFuseIntoJoin(joinChildStreamList, this::isStreamActive);
+    }
+
+    /**
+     * A filter stream fused into the preceding join must not build a tuple lifecycle,
+     * so that it does not take a generated class from the filters which need one.
+     *
+     * @param filterStream never null
+     * @return true if the join which precedes the filter stream tests its predicate,
+     *         see {@link #findFilterToFuseIntoJoin(List)}
+     */
+    public boolean isFusedIntoJoin(BavetAbstractConstraintStream<Solution_> filterStream) {
+        return constraintProfiler == null && isFusedIntoJoin(filterStream, this::isStreamActive);
+    }
+
+    /**
+     * As defined by {@link #isFusedIntoJoin(BavetAbstractConstraintStream)}, when not profiling.
+     *
+     * @param filterStream never null
+     * @param streamActivePredicate never null, tests whether a stream is part of the node network
+     * @return true if the join which precedes the filter stream tests its predicate
+     * @param <Solution_> the solution type
+     */
+    public static <Solution_> boolean isFusedIntoJoin(BavetAbstractConstraintStream<Solution_> filterStream,
+            Predicate<BavetAbstractConstraintStream<Solution_>> streamActivePredicate) {
+        var parent = filterStream.getParent();
+        return parent instanceof BavetJoinConstraintStream<?>
+                && findFilterToFuseIntoJoin(parent.getChildStreamList(), streamActivePredicate) == filterStream;
+    }
+
+    private static <Solution_> @Nullable BavetAbstractConstraintStream<Solution_> findFilterToFuseIntoJoin(
+            List<BavetAbstractConstraintStream<Solution_>> joinChildStreamList,
+            Predicate<BavetAbstractConstraintStream<Solution_>> streamActivePredicate) {
+        BavetAbstractConstraintStream<Solution_> activeChildStream = null;
+        for (var childStream : joinChildStreamList) {
+            if (streamActivePredicate.test(childStream)) {
+                if (activeChildStream != null) {
+                    return null;
+                }
+                activeChildStream = childStream;
+            }
+        }
+        return activeChildStream instanceof BavetFilterConstraintStream ? activeChildStream : null;
+    }
+
+    private <Tuple_ extends Tuple> @Nullable TupleLifecycle<Tuple_> specialize(TupleLifecycle<Tuple_> tupleLifecycle,
+            int arity, Object predicate) {
+        var prototype = conditionalTupleLifecyclePrototypeQueueList.get(arity - 1).poll();
+        return prototype == null ? null : prototype.specialize(tupleLifecycle, predicate);
+    }
+
     public AbstractScoreInliner<Score_> getScoreInliner() {
         return scoreInliner;
     }
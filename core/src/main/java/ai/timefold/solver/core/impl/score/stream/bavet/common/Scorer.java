@@ -1,5 +1,7 @@
 package ai.timefold.solver.core.impl.score.stream.bavet.common;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import ai.timefold.solver.core.api.score.Score;
@@ -10,14 +12,25 @@ import ai.timefold.solver.core.impl.score.stream.common.inliner.ScoreImpact;
 import ai.timefold.solver.core.impl.score.stream.common.inliner.WeightedScoreImpacter;
 
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 @NullMarked
 public final class Scorer<Tuple_ extends Tuple> implements TupleLifecycle<Tuple_> {
 
+    /**
+     * Stored in place of a {@link ScoreImpact} for tuples whose impact was deferred.
+     */
+    private static final Object DEFERRED_IMPACT = new Object();
+
     private final ScoreImpacter<Tuple_> scoreImpacter;
     private final WeightedScoreImpacter<?, ?> weightedScoreImpacter;
     private final int inputStoreIndex;
     private boolean isActive = true;
+    /**
+     * Null unless impacts are being deferred.
+     * See {@link #deferImpacts()}.
+     */
+    private @Nullable List<Tuple_> deferredTupleList = null;
 
     public Scorer(ScoreImpacter<Tuple_> scoreImpacter, WeightedScoreImpacter<?, ?> weightedScoreImpacter, int inputStoreIndex) {
         this.scoreImpacter = Objects.requireNonNull(scoreImpacter);
@@ -44,11 +57,23 @@ public final class Scorer<Tuple_ extends Tuple> implements TupleLifecycle<Tuple_
                     "Impossible state: the input for the tuple (%s) was already added in the tupleStore."
                             .formatted(tuple));
         }
+        if (deferredTupleList != null) {
+            tuple.setStore(inputStoreIndex, DEFERRED_IMPACT);
+            deferredTupleList.add(tuple);
+            return;
+        }
         tuple.setStore(inputStoreIndex, impact(tuple));
     }
 
     @Override
     public void update(Tuple_ tuple) {
+        if (deferredTupleList != null) {
+            if (tuple.getStore(inputStoreIndex) == null) { // Didn't make it through the filter predicate(s) before.
+                tuple.setStore(inputStoreIndex, DEFERRED_IMPACT);
+                deferredTupleList.add(tuple);
+            } // Otherwise the impact was deferred already, and will be computed from the latest state of the tuple.
+            return;
+        }
         ScoreImpact<?> undoScoreImpacter = tuple.getStore(inputStoreIndex);
         // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
         if (undoScoreImpacter != null) {
@@ -71,6 +96,11 @@ public final class Scorer<Tuple_ extends Tuple> implements TupleLifecycle<Tuple_
 
     @Override
     public void retract(Tuple_ tuple) {
+        if (deferredTupleList != null) {
+            // The tuple may still be in the deferred list; with its store cleared, it will be skipped.
+            tuple.removeStore(inputStoreIndex);
+            return;
+        }
         ScoreImpact<?> undoScoreImpacter = tuple.removeStore(inputStoreIndex);
         // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
         if (undoScoreImpacter != null) {
@@ -78,6 +108,39 @@ public final class Scorer<Tuple_ extends Tuple> implements TupleLifecycle<Tuple_
         }
     }
 
+    /**
+     * From now on until {@link #impactDeferred()},
+     * tuples are only recorded and their score impact is not calculated.
+     * This allows the network upstream of this scorer to be propagated on another thread,
+     * without touching the score, which is shared by all scorers.
+     */
+    public void deferImpacts() {
+        if (deferredTupleList != null) {
+            throw new IllegalStateException("Impossible state: the scorer (%s) is already deferring impacts."
+                    .formatted(this));
+        }
+        deferredTupleList = new ArrayList<>();
+    }
+
+    /**
+     * Calculates the impact of all tuples recorded since {@link #deferImpacts()},
+     * in the order in which they were inserted, and stops deferring.
+     * Must be called from the thread which owns the score.
+     */
+    public void impactDeferred() {
+        if (deferredTupleList == null) {
+            throw new IllegalStateException("Impossible state: the scorer (%s) is not deferring impacts."
+                    .formatted(this));
+        }
+        var tupleList = deferredTupleList;
+        deferredTupleList = null;
+        for (var tuple : tupleList) {
+            if (tuple.getStore(inputStoreIndex) == DEFERRED_IMPACT) { // Otherwise retracted in the meantime.
+                tuple.setStore(inputStoreIndex, impact(tuple));
+            }
+        }
+    }
+
     public ConstraintRef getConstraintRef() {
         var context = weightedScoreImpacter.getContext();
         return context.getConstraint().getConstraintRef();
@@ -5,12 +5,15 @@ import java.util.Objects;
 import ai.timefold.solver.core.api.function.QuadPredicate;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.bavet.common.tuple.QuadTuple;
-import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintFactory;
+import ai.timefold.solver.core.impl.score.stream.bavet.common.BavetFilterConstraintStream;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.ConstraintNodeBuildHelper;
 
+import org.jspecify.annotations.Nullable;
+
 final class BavetFilterQuadConstraintStream<Solution_, A, B, C, D>
-        extends BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> {
+        extends BavetAbstractQuadConstraintStream<Solution_, A, B, C, D>
+        implements BavetFilterConstraintStream {
 
     private final QuadPredicate<A, B, C, D> predicate;
 
@@ -30,8 +33,26 @@ final class BavetFilterQuadConstraintStream<Solution_, A, B, C, D>
 
     @Override
     public <Score_ extends Score<Score_>> void buildNode(ConstraintNodeBuildHelper<Solution_, Score_> buildHelper) {
+        if (buildHelper.isFusedIntoJoin(this)) {
+            return; // The join tests the predicate, see fuseIntoJoinFiltering().
+        }
         buildHelper.<QuadTuple<A, B, C, D>> putInsertUpdateRetract(this, childStreamList,
-                tupleLifecycle -> TupleLifecycle.conditionally(tupleLifecycle, predicate));
+                tupleLifecycle -> buildHelper.conditionally(tupleLifecycle, predicate));
+    }
+
+    @Override
+    public int getFilterArity() {
+        return 4;
+    }
+
+    /**
+     * See {@link ConstraintNodeBuildHelper#findFilterToFuseIntoJoin}.
+     *
+     * @param filtering null if the join has no filtering joiner
+     * @return never null, tests both the join's filtering and the predicate of this stream
+     */
+    QuadPredicate<A, B, C, D> fuseIntoJoinFiltering(@Nullable QuadPredicate<A, B, C, D> filtering) {
+        return filtering == null ? predicate : filtering.and(predicate);
     }
 
     // ************************************************************************
@@ -57,13 +57,17 @@ public final class BavetJoinQuadConstraintStream<Solution_, A, B, C, D>
 
     @Override
     public <Score_ extends Score<Score_>> void buildNode(ConstraintNodeBuildHelper<Solution_, Score_> buildHelper) {
-        TupleLifecycle<QuadTuple<A, B, C, D>> downstream = buildHelper.getAggregatedTupleLifecycle(childStreamList);
+        var fusedFilterStream =
+                (BavetFilterQuadConstraintStream<Solution_, A, B, C, D>) buildHelper.findFilterToFuseIntoJoin(childStreamList);
+        var fusedFiltering = fusedFilterStream == null ? filtering : fusedFilterStream.fuseIntoJoinFiltering(filtering);
+        TupleLifecycle<QuadTuple<A, B, C, D>> downstream = buildHelper.getAggregatedTupleLifecycle(
+                fusedFilterStream == null ? childStreamList : fusedFilterStream.getChildStreamList());
         IndexerFactory<D> indexerFactory = new IndexerFactory<>(joiner);
         var positionTracker =
                 buildHelper.getTupleStorePositionTracker(this, leftParent.getTupleSource(), rightParent.getTupleSource());
         var node = indexerFactory.hasJoiners()
-                ? new IndexedJoinQuadNode<>(indexerFactory, downstream, filtering, positionTracker)
-                : new UnindexedJoinQuadNode<>(downstream, filtering, positionTracker);
+                ? new IndexedJoinQuadNode<>(indexerFactory, downstream, fusedFiltering, positionTracker)
+                : new UnindexedJoinQuadNode<>(downstream, fusedFiltering, positionTracker);
         buildHelper.addNode(node, this, leftParent, rightParent);
     }
 
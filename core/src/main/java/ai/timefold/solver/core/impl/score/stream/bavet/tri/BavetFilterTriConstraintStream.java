@@ -5,12 +5,15 @@ import java.util.Objects;
 import ai.timefold.solver.core.api.function.TriPredicate;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TriTuple;
-import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintFactory;
+import ai.timefold.solver.core.impl.score.stream.bavet.common.BavetFilterConstraintStream;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.ConstraintNodeBuildHelper;
 
+import org.jspecify.annotations.Nullable;
+
 final class BavetFilterTriConstraintStream<Solution_, A, B, C>
-        extends BavetAbstractTriConstraintStream<Solution_, A, B, C> {
+        extends BavetAbstractTriConstraintStream<Solution_, A, B, C>
+        implements BavetFilterConstraintStream {
 
     private final TriPredicate<A, B, C> predicate;
 
@@ -30,8 +33,26 @@ final class BavetFilterTriConstraintStream<Solution_, A, B, C>
 
     @Override
     public <Score_ extends Score<Score_>> void buildNode(ConstraintNodeBuildHelper<Solution_, Score_> buildHelper) {
+        if (buildHelper.isFusedIntoJoin(this)) {
+            return; // The join tests the predicate, see fuseIntoJoinFiltering().
+        }
         buildHelper.<TriTuple<A, B, C>> putInsertUpdateRetract(this, childStreamList,
-                tupleLifecycle -> TupleLifecycle.conditionally(tupleLifecycle, predicate));
+                tupleLifecycle -> buildHelper.conditionally(tupleLifecycle, predicate));
+    }
+
+    @Override
+    public int getFilterArity() {
+        return 3;
+    }
+
+    /**
+     * See {@link ConstraintNodeBuildHelper#findFilterToFuseIntoJoin}.
+     *
+     * @param filtering null if the join has no filtering joiner
+     * @return never null, tests both the join's filtering and the predicate of this stream
+     */
+    TriPredicate<A, B, C> fuseIntoJoinFiltering(@Nullable TriPredicate<A, B, C> filtering) {
+        return filtering == null ? predicate : filtering.and(predicate);
     }
 
     // ************************************************************************
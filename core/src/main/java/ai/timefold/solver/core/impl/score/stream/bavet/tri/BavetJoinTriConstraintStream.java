@@ -57,13 +57,17 @@ public final class BavetJoinTriConstraintStream<Solution_, A, B, C>
 
     @Override
     public <Score_ extends Score<Score_>> void buildNode(ConstraintNodeBuildHelper<Solution_, Score_> buildHelper) {
-        TupleLifecycle<TriTuple<A, B, C>> downstream = buildHelper.getAggregatedTupleLifecycle(childStreamList);
+        var fusedFilterStream =
+                (BavetFilterTriConstraintStream<Solution_, A, B, C>) buildHelper.findFilterToFuseIntoJoin(childStreamList);
+        var fusedFiltering = fusedFilterStream == null ? filtering : fusedFilterStream.fuseIntoJoinFiltering(filtering);
+        TupleLifecycle<TriTuple<A, B, C>> downstream = buildHelper.getAggregatedTupleLifecycle(
+                fusedFilterStream == null ? childStreamList : fusedFilterStream.getChildStreamList());
         IndexerFactory<C> indexerFactory = new IndexerFactory<>(joiner);
         var positionTracker =
                 buildHelper.getTupleStorePositionTracker(this, leftParent.getTupleSource(), rightParent.getTupleSource());
         var node = indexerFactory.hasJoiners()
-                ? new IndexedJoinTriNode<>(indexerFactory, downstream, filtering, positionTracker)
-                : new UnindexedJoinTriNode<>(downstream, filtering, positionTracker);
+                ? new IndexedJoinTriNode<>(indexerFactory, downstream, fusedFiltering, positionTracker)
+                : new UnindexedJoinTriNode<>(downstream, fusedFiltering, positionTracker);
         buildHelper.addNode(node, this, leftParent, rightParent);
     }
 
@@ -4,13 +4,14 @@ import java.util.Objects;
 import java.util.function.Predicate;
 
 import ai.timefold.solver.core.api.score.Score;
-import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
 import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintFactory;
+import ai.timefold.solver.core.impl.score.stream.bavet.common.BavetFilterConstraintStream;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.ConstraintNodeBuildHelper;
 
 final class BavetFilterUniConstraintStream<Solution_, A>
-        extends BavetAbstractUniConstraintStream<Solution_, A> {
+        extends BavetAbstractUniConstraintStream<Solution_, A>
+        implements BavetFilterConstraintStream {
 
     private final Predicate<A> predicate;
 
@@ -30,7 +31,12 @@ final class BavetFilterUniConstraintStream<Solution_, A>
     @Override
     public <Score_ extends Score<Score_>> void buildNode(ConstraintNodeBuildHelper<Solution_, Score_> buildHelper) {
         buildHelper.<UniTuple<A>> putInsertUpdateRetract(this, childStreamList,
-                tupleLifecycle -> TupleLifecycle.conditionally(tupleLifecycle, predicate));
+                tupleLifecycle -> buildHelper.conditionally(tupleLifecycle, predicate));
+    }
+
+    @Override
+    public int getFilterArity() {
+        return 1;
     }
 
     // ************************************************************************
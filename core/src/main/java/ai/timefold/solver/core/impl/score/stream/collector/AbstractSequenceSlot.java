@@ -1,20 +1,17 @@
 package ai.timefold.solver.core.impl.score.stream.collector;
 
 import java.util.Objects;
-import java.util.function.BinaryOperator;
 import java.util.function.ToIntFunction;
 
 import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
-import ai.timefold.solver.core.impl.score.stream.collector.consecutive.ConsecutiveSetTree;
+import ai.timefold.solver.core.impl.score.stream.collector.consecutive.IntConsecutiveSetTree;
 
 import org.jspecify.annotations.Nullable;
 
 public abstract class AbstractSequenceSlot<Result_> {
 
     public static final class State<Result_> {
-        private static final BinaryOperator<Integer> DIFFERENCE = (a, b) -> b - a;
-        private final ConsecutiveSetTree<Result_, Integer, Integer> context =
-                new ConsecutiveSetTree<>(DIFFERENCE, Integer::sum, 1, 0);
+        private final IntConsecutiveSetTree<Result_> context = new IntConsecutiveSetTree<>(1);
         private final ToIntFunction<Result_> toIndexFunction;
 
         public State(ToIntFunction<Result_> toIndexFunction) {
@@ -28,6 +25,7 @@ public abstract class AbstractSequenceSlot<Result_> {
 
     private final State<Result_> state;
     private @Nullable Result_ cachedValue;
+    private int cachedIndex;
 
     public AbstractSequenceSlot(State<Result_> state) {
         this.state = state;
@@ -35,16 +33,16 @@ public abstract class AbstractSequenceSlot<Result_> {
 
     protected void addMapped(Result_ result) {
         cachedValue = result;
-        state.context.add(result, state.toIndexFunction.applyAsInt(result));
+        cachedIndex = state.toIndexFunction.applyAsInt(result);
+        state.context.add(result, cachedIndex);
     }
 
     protected void replaceWithMapped(Result_ input) {
-        state.context.remove(cachedValue);
-        cachedValue = input;
-        state.context.add(input, state.toIndexFunction.applyAsInt(input));
+        state.context.remove(cachedValue, cachedIndex);
+        addMapped(input);
     }
 
     protected void removeMapped() {
-        state.context.remove(cachedValue);
+        state.context.remove(cachedValue, cachedIndex);
     }
 }
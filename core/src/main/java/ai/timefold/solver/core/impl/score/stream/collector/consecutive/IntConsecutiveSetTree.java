@@ -0,0 +1,452 @@
+package ai.timefold.solver.core.impl.score.stream.collector.consecutive;
+
+import static ai.timefold.solver.core.impl.score.stream.collector.consecutive.OrderStatisticTree.NIL;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import ai.timefold.solver.core.api.score.stream.common.Break;
+import ai.timefold.solver.core.api.score.stream.common.Sequence;
+import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link SequenceChain} of values at {@code int} points,
+ * which is what {@link ai.timefold.solver.core.api.score.stream.ConstraintCollectors#toConsecutiveSequences}
+ * maps its values to.
+ * Two values are in the same sequence if their points are at most {@code maxDifference} apart.
+ * <p>
+ * Every distinct value is a node of an {@link OrderStatisticTree},
+ * keyed by its point in the upper 32 bits and its {@link Object#hashCode()} in the lower 32 bits,
+ * and every sequence is a node of another {@link OrderStatisticTree}, keyed by the key of its first value.
+ * Adding and removing a value therefore takes O(log n) and does not allocate,
+ * unless it starts a new sequence or the trees grow beyond their largest size.
+ * The number of values in a sequence comes from the ranks of its first and last value,
+ * and the breaks are computed from the sequences on both sides of them,
+ * so that neither needs to be maintained on every update.
+ * <p>
+ * The caller must pass the point of the value when removing it,
+ * so that the value does not need to be looked up in a hash map.
+ *
+ * @param <Value_> The type of value stored (examples: shifts)
+ */
+@NullMarked
+public final class IntConsecutiveSetTree<Value_> implements SequenceChain<Value_, Integer> {
+
+    private final int maxDifference;
+    // Counts how many times every distinct value was added.
+    private final OrderStatisticTree<Value_> itemTree = new OrderStatisticTree<>();
+    private final OrderStatisticTree<IntSequence> sequenceTree = new OrderStatisticTree<>();
+    private final SequenceCollection sequenceCollection = new SequenceCollection();
+    private final BreakCollection breakCollection = new BreakCollection();
+    // Values whose hash code collided with another value at the same point, and were therefore put at another key.
+    private int displacedItemCount = 0;
+
+    public IntConsecutiveSetTree(int maxDifference) {
+        this.maxDifference = maxDifference;
+    }
+
+    static long itemKey(int point, int tieBreaker) {
+        // Flipping the sign bit makes the unsigned order of the lower 32 bits match the signed order of the tie breaker.
+        return ((long) point << 32) | ((tieBreaker ^ Integer.MIN_VALUE) & 0xFFFF_FFFFL);
+    }
+
+    static int pointOf(long itemKey) {
+        return (int) (itemKey >> 32);
+    }
+
+    @Override
+    public @NonNull Collection<Sequence<Value_, Integer>> getConsecutiveSequences() {
+        return sequenceCollection; // Live view of the sequences.
+    }
+
+    @Override
+    public @NonNull Collection<Break<Value_, Integer>> getBreaks() {
+        return breakCollection; // Live view of the breaks.
+    }
+
+    @Override
+    public @Nullable Sequence<Value_, Integer> getFirstSequence() {
+        var node = sequenceTree.first();
+        return node == NIL ? null : sequenceTree.value(node);
+    }
+
+    @Override
+    public @Nullable Sequence<Value_, Integer> getLastSequence() {
+        var node = sequenceTree.last();
+        return node == NIL ? null : sequenceTree.value(node);
+    }
+
+    @Override
+    public @Nullable Break<Value_, Integer> getFirstBreak() {
+        if (sequenceTree.size() <= 1) {
+            return null;
+        }
+        var secondNode = sequenceTree.higher(sequenceTree.key(sequenceTree.first()));
+        return sequenceTree.value(secondNode).previousBreak;
+    }
+
+    @Override
+    public @Nullable Break<Value_, Integer> getLastBreak() {
+        if (sequenceTree.size() <= 1) {
+            return null;
+        }
+        return sequenceTree.value(sequenceTree.last()).previousBreak;
+    }
+
+    public boolean add(Value_ value, int point) {
+        var node = findItem(value, point);
+        if (node != NIL) { // Item already in bag.
+            itemTree.setCount(node, itemTree.count(node) + 1);
+            return true;
+        }
+        var key = insertItem(value, point);
+        var previousNode = itemTree.lower(key);
+        var previousSequence = previousNode == NIL ? null
+                : sequenceTree.value(sequenceTree.floor(itemTree.key(previousNode)));
+        var nextNode = itemTree.higher(key);
+        if (previousSequence != null && nextNode != NIL && itemTree.key(nextNode) <= previousSequence.lastKey) {
+            // Item is inside an existing sequence, which stays as it is.
+            return true;
+        }
+        // The previous item, if any, ends a sequence, and the next item, if any, starts the next one.
+        var joinsPrevious = previousSequence != null && point - pointOf(previousSequence.lastKey) <= maxDifference;
+        var nextSequence = nextNode == NIL ? null : sequenceTree.value(sequenceTree.find(itemTree.key(nextNode)));
+        var joinsNext = nextSequence != null && pointOf(nextSequence.firstKey) - point <= maxDifference;
+        if (joinsPrevious && joinsNext) { // Merge both sequences into the previous one.
+            sequenceTree.remove(nextSequence.firstKey);
+            previousSequence.setLast(nextSequence.lastKey, nextSequence.lastItem);
+        } else if (joinsPrevious) {
+            previousSequence.setLast(key, value);
+        } else if (joinsNext) { // Re-key the next sequence.
+            sequenceTree.remove(nextSequence.firstKey);
+            nextSequence.setFirst(key, value);
+            sequenceTree.put(key, nextSequence);
+        } else {
+            sequenceTree.put(key, new IntSequence(key, value, key, value));
+        }
+        return true;
+    }
+
+    public boolean remove(Value_ value, int point) {
+        var node = findItem(value, point);
+        if (node == NIL) { // Item not in bag.
+            return false;
+        }
+        var count = itemTree.count(node) - 1;
+        if (count > 0) { // Item still in bag.
+            itemTree.setCount(node, count);
+            return true;
+        }
+        var key = itemTree.key(node);
+        if (key != itemKey(point, value.hashCode())) {
+            displacedItemCount--;
+        }
+        var sequence = sequenceTree.value(sequenceTree.floor(key));
+        var previousNode = key == sequence.firstKey ? NIL : itemTree.lower(key);
+        var nextNode = key == sequence.lastKey ? NIL : itemTree.higher(key);
+        var previousKey = previousNode == NIL ? 0L : itemTree.key(previousNode);
+        var previousItem = previousNode == NIL ? null : itemTree.value(previousNode);
+        var nextKey = nextNode == NIL ? 0L : itemTree.key(nextNode);
+        var nextItem = nextNode == NIL ? null : itemTree.value(nextNode);
+        itemTree.remove(key);
+        if (previousItem == null && nextItem == null) { // Sequence is now empty.
+            sequenceTree.remove(key);
+        } else if (previousItem == null) { // Re-key the sequence to the item after this one.
+            sequenceTree.remove(key);
+            sequence.setFirst(nextKey, nextItem);
+            sequenceTree.put(nextKey, sequence);
+        } else if (nextItem == null) {
+            sequence.setLast(previousKey, previousItem);
+        } else if (pointOf(nextKey) - pointOf(previousKey) > maxDifference) { // Split the sequence into two halves.
+            var splitSequence = new IntSequence(nextKey, nextItem, sequence.lastKey, sequence.lastItem);
+            sequence.setLast(previousKey, previousItem);
+            sequenceTree.put(nextKey, splitSequence);
+        }
+        return true;
+    }
+
+    private int findItem(Value_ value, int point) {
+        var node = itemTree.find(itemKey(point, value.hashCode()));
+        if (node != NIL && Objects.equals(itemTree.value(node), value)) {
+            return node;
+        }
+        if (displacedItemCount == 0) {
+            return NIL;
+        }
+        // Rare: look through all the values at this point.
+        var lastKeyOfPoint = itemKey(point, Integer.MAX_VALUE);
+        for (node = itemTree.higher(itemKey(point, Integer.MIN_VALUE) - 1); node != NIL
+                && itemTree.key(node) <= lastKeyOfPoint; node = itemTree.higher(itemTree.key(node))) {
+            if (Objects.equals(itemTree.value(node), value)) {
+                return node;
+            }
+        }
+        return NIL;
+    }
+
+    private long insertItem(Value_ value, int point) {
+        var homeTieBreaker = value.hashCode();
+        var tieBreaker = homeTieBreaker;
+        var key = itemKey(point, tieBreaker);
+        while (itemTree.find(key) != NIL) { // Another value at this point has the same hash code.
+            tieBreaker++;
+            key = itemKey(point, tieBreaker);
+        }
+        if (tieBreaker != homeTieBreaker) {
+            displacedItemCount++;
+        }
+        itemTree.setCount(itemTree.put(key, value), 1);
+        return key;
+    }
+
+    @Override
+    public String toString() {
+        return "Sequences {" +
+                "sequenceList=" + getConsecutiveSequences() +
+                ", breakList=" + getBreaks() +
+                '}';
+    }
+
+    private final class IntSequence implements Sequence<Value_, Integer> {
+
+        private long firstKey;
+        private Value_ firstItem;
+        private long lastKey;
+        private Value_ lastItem;
+        // Only exposed if this is not the first sequence.
+        private final IntBreak previousBreak = new IntBreak(this);
+        private @Nullable Collection<Value_> items;
+
+        IntSequence(long firstKey, Value_ firstItem, long lastKey, Value_ lastItem) {
+            this.firstKey = firstKey;
+            this.firstItem = firstItem;
+            this.lastKey = lastKey;
+            this.lastItem = lastItem;
+        }
+
+        void setFirst(long firstKey, Value_ firstItem) {
+            this.firstKey = firstKey;
+            this.firstItem = firstItem;
+        }
+
+        void setLast(long lastKey, Value_ lastItem) {
+            this.lastKey = lastKey;
+            this.lastItem = lastItem;
+        }
+
+        @Override
+        public @NonNull Value_ getFirstItem() {
+            return firstItem;
+        }
+
+        @Override
+        public @NonNull Value_ getLastItem() {
+            return lastItem;
+        }
+
+        @Override
+        public boolean isFirst() {
+            return sequenceTree.key(sequenceTree.first()) == firstKey;
+        }
+
+        @Override
+        public boolean isLast() {
+            return sequenceTree.key(sequenceTree.last()) == firstKey;
+        }
+
+        @Override
+        public @Nullable Break<Value_, Integer> getPreviousBreak() {
+            return isFirst() ? null : previousBreak;
+        }
+
+        @Override
+        public @Nullable Break<Value_, Integer> getNextBreak() {
+            var nextNode = sequenceTree.higher(firstKey);
+            return nextNode == NIL ? null : sequenceTree.value(nextNode).previousBreak;
+        }
+
+        @Override
+        public @NonNull Collection<Value_> getItems() {
+            if (items == null) {
+                items = new ItemCollection(this);
+            }
+            return items;
+        }
+
+        @Override
+        public int getCount() {
+            return itemTree.rank(lastKey) - itemTree.rank(firstKey) + 1;
+        }
+
+        @Override
+        public @NonNull Integer getLength() {
+            return maxDifference + pointOf(lastKey) - pointOf(firstKey);
+        }
+
+        @Override
+        public String toString() {
+            return getItems().stream()
+                    .map(Object::toString)
+                    .collect(Collectors.joining(", ", "Sequence [", "]"));
+        }
+
+    }
+
+    private final class IntBreak implements Break<Value_, Integer> {
+
+        private final IntSequence nextSequence;
+
+        IntBreak(IntSequence nextSequence) {
+            this.nextSequence = nextSequence;
+        }
+
+        private IntSequence getPreviousSequence() {
+            return sequenceTree.value(sequenceTree.lower(nextSequence.firstKey));
+        }
+
+        @Override
+        public boolean isFirst() {
+            return getPreviousSequence().isFirst();
+        }
+
+        @Override
+        public boolean isLast() {
+            return nextSequence.isLast();
+        }
+
+        @Override
+        public @NonNull Value_ getPreviousSequenceEnd() {
+            return getPreviousSequence().lastItem;
+        }
+
+        @Override
+        public @NonNull Value_ getNextSequenceStart() {
+            return nextSequence.firstItem;
+        }
+
+        @Override
+        public @NonNull Integer getLength() {
+            return pointOf(nextSequence.firstKey) - pointOf(getPreviousSequence().lastKey);
+        }
+
+        @Override
+        public String toString() {
+            return "Break{" +
+                    "previousSequence=" + getPreviousSequence() +
+                    ", nextSequence=" + nextSequence +
+                    ", length=" + getLength() +
+                    '}';
+        }
+
+    }
+
+    /**
+     * Iterates the nodes of a tree in key order, from a first node up to and including a last key.
+     */
+    private abstract static class NodeIterator<Node_, Element_> implements Iterator<Element_> {
+
+        private final OrderStatisticTree<Node_> tree;
+        private final long lastKey;
+        private int nextNode;
+
+        NodeIterator(OrderStatisticTree<Node_> tree, int firstNode, long lastKey) {
+            this.tree = tree;
+            this.lastKey = lastKey;
+            this.nextNode = firstNode;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != NIL && tree.key(nextNode) <= lastKey;
+        }
+
+        @Override
+        public Element_ next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var node = nextNode;
+            nextNode = tree.higher(tree.key(node));
+            return map(tree.value(node));
+        }
+
+        abstract Element_ map(Node_ nodeValue);
+
+    }
+
+    private final class ItemCollection extends AbstractCollection<Value_> {
+
+        private final IntSequence sequence;
+
+        ItemCollection(IntSequence sequence) {
+            this.sequence = sequence;
+        }
+
+        @Override
+        public Iterator<Value_> iterator() {
+            return new NodeIterator<Value_, Value_>(itemTree, itemTree.find(sequence.firstKey), sequence.lastKey) {
+                @Override
+                Value_ map(Value_ nodeValue) {
+                    return nodeValue;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return sequence.getCount();
+        }
+
+    }
+
+    private final class SequenceCollection extends AbstractCollection<Sequence<Value_, Integer>> {
+
+        @Override
+        public Iterator<Sequence<Value_, Integer>> iterator() {
+            return new NodeIterator<IntSequence, Sequence<Value_, Integer>>(sequenceTree, sequenceTree.first(),
+                    Long.MAX_VALUE) {
+                @Override
+                Sequence<Value_, Integer> map(IntSequence nodeValue) {
+                    return nodeValue;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return sequenceTree.size();
+        }
+
+    }
+
+    private final class BreakCollection extends AbstractCollection<Break<Value_, Integer>> {
+
+        @Override
+        public Iterator<Break<Value_, Integer>> iterator() {
+            var firstNode = sequenceTree.first();
+            // Skip the first sequence; it has no previous break.
+            var secondNode = firstNode == NIL ? NIL : sequenceTree.higher(sequenceTree.key(firstNode));
+            return new NodeIterator<IntSequence, Break<Value_, Integer>>(sequenceTree, secondNode, Long.MAX_VALUE) {
+                @Override
+                Break<Value_, Integer> map(IntSequence nodeValue) {
+                    return nodeValue.previousBreak;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return Math.max(0, sequenceTree.size() - 1);
+        }
+
+    }
+
+}
@@ -0,0 +1,348 @@
+package ai.timefold.solver.core.impl.score.stream.collector.consecutive;
+
+import java.util.Arrays;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An AVL tree with primitive {@code long} keys, which also knows the size of every subtree,
+ * so that the rank of a key is found in O(log n).
+ * <p>
+ * The nodes are kept in parallel arrays and are referred to by their index.
+ * Removed nodes are reused by later inserts, so that the tree only allocates when it grows beyond its largest size.
+ * Nodes keep their index for as long as they are in the tree, even when other nodes are removed,
+ * but an index is only meaningful until the node it refers to is removed.
+ *
+ * @param <Value_> the type of the value stored with every key
+ */
+@NullMarked
+final class OrderStatisticTree<Value_> {
+
+    static final int NIL = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private @Nullable Object[] values = new Object[INITIAL_CAPACITY];
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private int[] lefts = new int[INITIAL_CAPACITY];
+    private int[] rights = new int[INITIAL_CAPACITY];
+    private int[] heights = new int[INITIAL_CAPACITY];
+    private int[] sizes = new int[INITIAL_CAPACITY];
+    private int root = NIL;
+    private int freeHead = NIL;
+    private int nextUnusedNode = 0;
+
+    // Output of the recursive insert and remove.
+    private int affectedNode = NIL;
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == NIL;
+    }
+
+    public long key(int node) {
+        return keys[node];
+    }
+
+    @SuppressWarnings("unchecked")
+    public Value_ value(int node) {
+        return (Value_) values[node];
+    }
+
+    /**
+     * Every node carries a count, for use by the caller; the tree itself does not use it.
+     */
+    public int count(int node) {
+        return counts[node];
+    }
+
+    public void setCount(int node, int count) {
+        counts[node] = count;
+    }
+
+    /**
+     * @return the node, or {@link #NIL} if there is no such key
+     */
+    public int find(long key) {
+        var node = root;
+        while (node != NIL) {
+            var nodeKey = keys[node];
+            if (key < nodeKey) {
+                node = lefts[node];
+            } else if (key > nodeKey) {
+                node = rights[node];
+            } else {
+                return node;
+            }
+        }
+        return NIL;
+    }
+
+    /**
+     * @return the node with the greatest key less than or equal to the given key, or {@link #NIL}
+     */
+    public int floor(long key) {
+        var node = root;
+        var out = NIL;
+        while (node != NIL) {
+            var nodeKey = keys[node];
+            if (key < nodeKey) {
+                node = lefts[node];
+            } else if (key > nodeKey) {
+                out = node;
+                node = rights[node];
+            } else {
+                return node;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * @return the node with the greatest key strictly less than the given key, or {@link #NIL}
+     */
+    public int lower(long key) {
+        var node = root;
+        var out = NIL;
+        while (node != NIL) {
+            if (keys[node] < key) {
+                out = node;
+                node = rights[node];
+            } else {
+                node = lefts[node];
+            }
+        }
+        return out;
+    }
+
+    /**
+     * @return the node with the least key strictly greater than the given key, or {@link #NIL}
+     */
+    public int higher(long key) {
+        var node = root;
+        var out = NIL;
+        while (node != NIL) {
+            if (keys[node] > key) {
+                out = node;
+                node = lefts[node];
+            } else {
+                node = rights[node];
+            }
+        }
+        return out;
+    }
+
+    public int first() {
+        var node = root;
+        if (node == NIL) {
+            return NIL;
+        }
+        while (lefts[node] != NIL) {
+            node = lefts[node];
+        }
+        return node;
+    }
+
+    public int last() {
+        var node = root;
+        if (node == NIL) {
+            return NIL;
+        }
+        while (rights[node] != NIL) {
+            node = rights[node];
+        }
+        return node;
+    }
+
+    /**
+     * @return the number of keys strictly less than the given key
+     */
+    public int rank(long key) {
+        var node = root;
+        var out = 0;
+        while (node != NIL) {
+            if (keys[node] < key) {
+                out += sizeOf(lefts[node]) + 1;
+                node = rights[node];
+            } else {
+                node = lefts[node];
+            }
+        }
+        return out;
+    }
+
+    /**
+     * @return the new node, or the existing node of that key, whose value is then replaced
+     */
+    public int put(long key, Value_ value) {
+        root = insert(root, key, value);
+        return affectedNode;
+    }
+
+    /**
+     * @return true if the key was in the tree
+     */
+    public boolean remove(long key) {
+        affectedNode = NIL;
+        root = delete(root, key);
+        if (affectedNode == NIL) {
+            return false;
+        }
+        freeNode(affectedNode);
+        return true;
+    }
+
+    private int insert(int node, long key, Value_ value) {
+        if (node == NIL) {
+            affectedNode = allocateNode(key, value);
+            return affectedNode;
+        }
+        var nodeKey = keys[node];
+        if (key < nodeKey) {
+            // The insert may grow the arrays, so they must only be read after it.
+            var left = insert(lefts[node], key, value);
+            lefts[node] = left;
+        } else if (key > nodeKey) {
+            var right = insert(rights[node], key, value);
+            rights[node] = right;
+        } else {
+            values[node] = value;
+            affectedNode = node;
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    private int delete(int node, long key) {
+        if (node == NIL) {
+            return NIL;
+        }
+        var nodeKey = keys[node];
+        if (key < nodeKey) {
+            lefts[node] = delete(lefts[node], key);
+        } else if (key > nodeKey) {
+            rights[node] = delete(rights[node], key);
+        } else {
+            affectedNode = node;
+            var left = lefts[node];
+            var right = rights[node];
+            if (left == NIL) {
+                return right;
+            } else if (right == NIL) {
+                return left;
+            }
+            // Relink the successor in place of the node, so that no other node changes its index.
+            var successor = right;
+            while (lefts[successor] != NIL) {
+                successor = lefts[successor];
+            }
+            rights[successor] = deleteFirst(right);
+            lefts[successor] = left;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    private int deleteFirst(int node) {
+        if (lefts[node] == NIL) {
+            return rights[node];
+        }
+        lefts[node] = deleteFirst(lefts[node]);
+        return rebalance(node);
+    }
+
+    private int rebalance(int node) {
+        update(node);
+        var balance = heightOf(lefts[node]) - heightOf(rights[node]);
+        if (balance > 1) {
+            var left = lefts[node];
+            if (heightOf(lefts[left]) < heightOf(rights[left])) {
+                lefts[node] = rotateLeft(left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            var right = rights[node];
+            if (heightOf(rights[right]) < heightOf(lefts[right])) {
+                rights[node] = rotateRight(right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private int rotateRight(int node) {
+        var left = lefts[node];
+        lefts[node] = rights[left];
+        rights[left] = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private int rotateLeft(int node) {
+        var right = rights[node];
+        rights[node] = lefts[right];
+        lefts[right] = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private void update(int node) {
+        var left = lefts[node];
+        var right = rights[node];
+        heights[node] = Math.max(heightOf(left), heightOf(right)) + 1;
+        sizes[node] = sizeOf(left) + sizeOf(right) + 1;
+    }
+
+    private int heightOf(int node) {
+        return node == NIL ? 0 : heights[node];
+    }
+
+    private int sizeOf(int node) {
+        return node == NIL ? 0 : sizes[node];
+    }
+
+    private int allocateNode(long key, Value_ value) {
+        int node;
+        if (freeHead != NIL) {
+            node = freeHead;
+            freeHead = lefts[node];
+        } else {
+            if (nextUnusedNode == keys.length) {
+                grow();
+            }
+            node = nextUnusedNode++;
+        }
+        keys[node] = key;
+        values[node] = value;
+        counts[node] = 0;
+        lefts[node] = NIL;
+        rights[node] = NIL;
+        heights[node] = 1;
+        sizes[node] = 1;
+        return node;
+    }
+
+    private void freeNode(int node) {
+        values[node] = null;
+        lefts[node] = freeHead;
+        freeHead = node;
+    }
+
+    private void grow() {
+        var capacity = keys.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        values = Arrays.copyOf(values, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+        lefts = Arrays.copyOf(lefts, capacity);
+        rights = Arrays.copyOf(rights, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+    }
+
+}
@@ -95,6 +95,18 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
 
     public abstract Score_ extractScore();
 
+    /**
+     * Compares the current score to the given score, as {@code extractScore().compareTo(score)} would.
+     * Inliners of scores with primitive levels override this to compare their accumulators directly,
+     * so that no score instance needs to be created for a score which is then thrown away.
+     *
+     * @param score never null
+     * @return negative if the current score is worse, zero if it is equal, positive if it is better
+     */
+    public int compareScoreTo(Score_ score) {
+        return extractScore().compareTo(score);
+    }
+
     /**
      * Create a new instance of {@link WeightedScoreImpacter} for a particular constraint.
      *
@@ -44,6 +44,16 @@ final class HardMediumSoftScoreInliner extends AbstractScoreInliner<HardMediumSo
         return HardMediumSoftScore.of(hardScore, mediumScore, softScore);
     }
 
+    @Override
+    public int compareScoreTo(HardMediumSoftScore score) {
+        if (hardScore != score.hardScore()) {
+            return Long.compare(hardScore, score.hardScore());
+        } else if (mediumScore != score.mediumScore()) {
+            return Long.compare(mediumScore, score.mediumScore());
+        }
+        return Long.compare(softScore, score.softScore());
+    }
+
     @Override
     public String toString() {
         return HardMediumSoftScore.class.getSimpleName() + " inliner";
@@ -38,6 +38,14 @@ final class HardSoftScoreInliner extends AbstractScoreInliner<HardSoftScore> {
         return HardSoftScore.of(hardScore, softScore);
     }
 
+    @Override
+    public int compareScoreTo(HardSoftScore score) {
+        if (hardScore != score.hardScore()) {
+            return Long.compare(hardScore, score.hardScore());
+        }
+        return Long.compare(softScore, score.softScore());
+    }
+
     @Override
     public String toString() {
         return HardSoftScore.class.getSimpleName() + " inliner";
@@ -30,6 +30,11 @@ final class SimpleScoreInliner extends AbstractScoreInliner<SimpleScore> {
         return SimpleScore.of(score);
     }
 
+    @Override
+    public int compareScoreTo(SimpleScore score) {
+        return Long.compare(this.score, score.score());
+    }
+
     @Override
     public String toString() {
         return SimpleScore.class.getSimpleName() + " inliner";
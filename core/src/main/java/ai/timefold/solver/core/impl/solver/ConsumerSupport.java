@@ -4,6 +4,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
@@ -44,7 +45,7 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
     private final Semaphore firstSolutionConsumption = new Semaphore(1);
     private final Semaphore startSolverJobConsumption = new Semaphore(1);
     private final BestSolutionHolder<Solution_> bestSolutionHolder;
-    private final ExecutorService consumerExecutor = Executors.newSingleThreadExecutor();
+    private final ExecutorService consumerExecutor;
     private final AtomicReference<@Nullable Solution_> firstInitializedSolution = new AtomicReference<>();
     private final AtomicReference<@Nullable Solution_> initialSolution = new AtomicReference<>();
 
@@ -54,6 +55,20 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
             @Nullable Consumer<SolverJobStartedEvent<Solution_>> solverJobStartedConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
             BestSolutionHolder<Solution_> bestSolutionHolder) {
+        this(problemId, bestSolutionConsumer, finalBestSolutionConsumer, firstInitializedSolutionConsumer,
+                solverJobStartedConsumer, exceptionHandler, bestSolutionHolder, Executors.defaultThreadFactory());
+    }
+
+    /**
+     * @param consumerThreadFactory creates the single Consumer thread;
+     *        it may create virtual threads, because the consumptions never run concurrently anyway
+     */
+    public ConsumerSupport(ProblemId_ problemId, @Nullable Consumer<NewBestSolutionEvent<Solution_>> bestSolutionConsumer,
+            @Nullable Consumer<FinalBestSolutionEvent<Solution_>> finalBestSolutionConsumer,
+            @Nullable Consumer<FirstInitializedSolutionEvent<Solution_>> firstInitializedSolutionConsumer,
+            @Nullable Consumer<SolverJobStartedEvent<Solution_>> solverJobStartedConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            BestSolutionHolder<Solution_> bestSolutionHolder, ThreadFactory consumerThreadFactory) {
         this.problemId = problemId;
         this.bestSolutionConsumer = bestSolutionConsumer;
         this.finalBestSolutionConsumer = finalBestSolutionConsumer == null ? finalBestSolution -> {
@@ -63,6 +78,7 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
         this.solverJobStartedConsumer = solverJobStartedConsumer;
         this.exceptionHandler = exceptionHandler;
         this.bestSolutionHolder = bestSolutionHolder;
+        this.consumerExecutor = Executors.newSingleThreadExecutor(consumerThreadFactory);
     }
 
     void consumeIntermediateBestSolution(Solution_ solution, EventProducerId producerId,
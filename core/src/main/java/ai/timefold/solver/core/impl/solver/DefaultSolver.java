@@ -285,6 +285,8 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
     public void solvingEnded(SolverScope<Solution_> solverScope) {
         super.solvingEnded(solverScope);
         solverScope.endingNow();
+        logger.debug("Best solution cloning: clone count ({}), time spent ({}).",
+                solverScope.getBestSolutionCloneCount(), solverScope.getBestSolutionCloneTimeMillis());
     }
 
     public void outerSolvingEnded(SolverScope<Solution_> solverScope) {
@@ -308,7 +310,9 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         } else {
             var problemChangeQueue = basicPlumbingTermination
                     .startProblemChangesProcessing();
-            solverScope.setWorkingSolutionFromBestSolution();
+            var workingSolutionKept = solverScope.restoreWorkingSolutionFromBestSolution(environmentMode.isAsserted());
+            logger.debug("    Real-time problem changes started; working solution ({}).",
+                    workingSolutionKept ? "restored incrementally" : "rebuilt from the best solution");
 
             var stepIndex = 0;
             var problemChange = problemChangeQueue.poll();
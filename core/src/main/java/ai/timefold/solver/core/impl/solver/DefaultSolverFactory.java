@@ -7,6 +7,7 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.OptionalInt;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 import java.util.random.RandomGenerator;
 
@@ -19,6 +20,7 @@ import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristi
 import ai.timefold.solver.core.config.constructionheuristic.placer.QueuedEntityPlacerConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
 import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
+import ai.timefold.solver.core.config.solver.BestSolutionCloningMode;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.solver.PreviewFeature;
 import ai.timefold.solver.core.config.solver.SolverConfig;
@@ -36,6 +38,7 @@ import ai.timefold.solver.core.impl.phase.PhaseFactory;
 import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
 import ai.timefold.solver.core.impl.score.director.ScoreDirectorFactory;
 import ai.timefold.solver.core.impl.score.director.ScoreDirectorFactoryFactory;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirector;
 import ai.timefold.solver.core.impl.solver.change.DefaultProblemChangeDirector;
 import ai.timefold.solver.core.impl.solver.random.DefaultRandomSource;
 import ai.timefold.solver.core.impl.solver.random.RandomSource;
@@ -124,20 +127,31 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
                     "Enabling constraint matching as required by the enabled metrics ({}). This will impact solver performance.",
                     metricsRequiringConstraintMatchSet);
         }
-        var castScoreDirector = scoreDirectorFactory.createScoreDirectorBuilder()
+        var scoreDirectorFactoryConfig = solverConfig.getScoreDirectorFactoryConfig();
+        var scoreDirectorBuilder = scoreDirectorFactory.createScoreDirectorBuilder()
                 .withLookUpEnabled(true) // Custom phases and problem changes may rely on lookups.
                 .withConstraintMatchPolicy(
-                        constraintMatchEnabled ? ConstraintMatchPolicy.ENABLED : ConstraintMatchPolicy.DISABLED)
-                .build();
+                        constraintMatchEnabled ? ConstraintMatchPolicy.ENABLED : ConstraintMatchPolicy.DISABLED);
+        if (scoreDirectorBuilder instanceof BavetConstraintStreamScoreDirector.Builder<?, ?> bavetScoreDirectorBuilder) {
+            var parallelInitializationEnabled = scoreDirectorFactoryConfig != null
+                    && Objects.requireNonNullElse(
+                            scoreDirectorFactoryConfig.getConstraintStreamParallelInitializationEnabled(), false);
+            bavetScoreDirectorBuilder
+                    .withSamplingProfilingEnabled(solverScope.isMetricEnabled(SolverMetric.CONSTRAINT_PROFILE))
+                    .withInitializationPool(parallelInitializationEnabled ? ForkJoinPool.commonPool() : null);
+        }
+        var castScoreDirector = scoreDirectorBuilder.build();
         solverScope.setScoreDirector(castScoreDirector);
         solverScope.setProblemChangeDirector(new DefaultProblemChangeDirector<>(castScoreDirector));
 
         var moveThreadCount = resolveMoveThreadCount(true);
-        var bestSolutionRecaller = BestSolutionRecallerFactory.create().<Solution_> buildBestSolutionRecaller(environmentMode);
+        var bestSolutionCloningMode =
+                Objects.requireNonNullElse(solverConfig.getBestSolutionCloningMode(), BestSolutionCloningMode.EAGER);
+        var bestSolutionRecaller = BestSolutionRecallerFactory.create()
+                .<Solution_> buildBestSolutionRecaller(environmentMode, bestSolutionCloningMode);
         var randomFactory = buildRandomSupplier(environmentMode);
         var previewFeaturesEnabled = solverConfig.getEnablePreviewFeatureSet();
 
-        var scoreDirectorFactoryConfig = solverConfig.getScoreDirectorFactoryConfig();
         if (scoreDirectorFactoryConfig != null) {
             var profilingEnabled = scoreDirectorFactoryConfig.getConstraintStreamProfilingEnabled();
             if (moveThreadCount != null && profilingEnabled != null && profilingEnabled) {
@@ -21,6 +21,7 @@ import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.solver.ProblemSizeStatistics;
 import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.api.solver.SolverJob;
+import ai.timefold.solver.core.api.solver.SolverJobBuilder;
 import ai.timefold.solver.core.api.solver.SolverStatus;
 import ai.timefold.solver.core.api.solver.change.ProblemChange;
 import ai.timefold.solver.core.api.solver.event.BestSolutionChangedEvent;
@@ -53,6 +54,7 @@ public final class DefaultSolverJob<Solution_> implements SolverJob<Solution_>,
     private final DefaultSolverManager<Solution_> solverManager;
     private final DefaultSolver<Solution_> solver;
     private final Object problemId;
+    private final int priority;
     private final Function<? super Object, ? extends Solution_> problemFinder;
     private final @Nullable Consumer<NewBestSolutionEvent<Solution_>> bestSolutionConsumer;
     private final @Nullable Consumer<FinalBestSolutionEvent<Solution_>> finalBestSolutionConsumer;
@@ -70,7 +72,7 @@ public final class DefaultSolverJob<Solution_> implements SolverJob<Solution_>,
     private final AtomicReference<@Nullable ConsumerSupport<Solution_, Object>> consumerSupport = new AtomicReference<>();
 
     public DefaultSolverJob(DefaultSolverManager<Solution_> solverManager, Solver<Solution_> solver, Object problemId,
-            Function<? super Object, ? extends Solution_> problemFinder,
+            int priority, Function<? super Object, ? extends Solution_> problemFinder,
             @Nullable Consumer<NewBestSolutionEvent<Solution_>> bestSolutionConsumer,
             @Nullable Consumer<FinalBestSolutionEvent<Solution_>> finalBestSolutionConsumer,
             @Nullable Consumer<FirstInitializedSolutionEvent<Solution_>> firstInitializedSolutionConsumer,
@@ -78,6 +80,7 @@ public final class DefaultSolverJob<Solution_> implements SolverJob<Solution_>,
             BiConsumer<? super Object, ? super Throwable> exceptionHandler) {
         this.solverManager = solverManager;
         this.problemId = problemId;
+        this.priority = priority;
         if (!(solver instanceof DefaultSolver)) {
             throw new IllegalStateException("Impossible state: solver is not instance of %s."
                     .formatted(DefaultSolver.class.getSimpleName()));
@@ -106,6 +109,13 @@ public final class DefaultSolverJob<Solution_> implements SolverJob<Solution_>,
         return problemId;
     }
 
+    /**
+     * @return higher is admitted to a solver thread sooner, see {@link SolverJobBuilder#withPriority(int)}
+     */
+    public int getPriority() {
+        return priority;
+    }
+
     @Override
     public SolverStatus getSolverStatus() {
         return solverStatus.get();
@@ -124,7 +134,8 @@ public final class DefaultSolverJob<Solution_> implements SolverJob<Solution_>,
             solverStatus.set(SolverStatus.SOLVING_ACTIVE);
             // Create the consumer thread pool only when this solver job is active.
             var currentConsumerSupport = new ConsumerSupport<>(problemId, bestSolutionConsumer, finalBestSolutionConsumer,
-                    firstInitializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, bestSolutionHolder);
+                    firstInitializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, bestSolutionHolder,
+                    solverManager.getConsumerThreadFactory());
             var oldConsumerSupport = this.consumerSupport.getAndSet(currentConsumerSupport);
             if (oldConsumerSupport != null) { // We set this, and we should only set it once.
                 throw new IllegalStateException("Impossible state: the consumerSupport was already set to (%s)."
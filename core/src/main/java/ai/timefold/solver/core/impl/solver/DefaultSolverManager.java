@@ -3,11 +3,19 @@ package ai.timefold.solver.core.impl.solver;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -43,6 +51,7 @@ public final class DefaultSolverManager<Solution_> implements SolverManager<Solu
     private final BiConsumer<Object, Throwable> defaultExceptionHandler;
     private final SolverFactory<Solution_> solverFactory;
     private final ExecutorService solverThreadPool;
+    private final ThreadFactory consumerThreadFactory;
     private final ConcurrentMap<Object, DefaultSolverJob<Solution_>> problemIdToSolverJobMap;
 
     public DefaultSolverManager(SolverFactory<Solution_> solverFactory, SolverManagerConfig solverManagerConfig) {
@@ -54,7 +63,10 @@ public final class DefaultSolverManager<Solution_> implements SolverManager<Solu
         var threadFactoryClass = solverManagerConfig.getThreadFactoryClass();
         var threadFactory = threadFactoryClass == null ? Executors.defaultThreadFactory()
                 : ConfigUtils.newInstance(solverManagerConfig, "threadFactoryClass", threadFactoryClass);
-        solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount, threadFactory);
+        solverThreadPool = new PrioritySolverThreadPool(parallelSolverCount, threadFactory);
+        consumerThreadFactory = Boolean.TRUE.equals(solverManagerConfig.getVirtualConsumerThreads())
+                ? Thread.ofVirtual().name("SolverManager-consumer-", 0).factory()
+                : Executors.defaultThreadFactory();
         problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
     }
 
@@ -62,6 +74,10 @@ public final class DefaultSolverManager<Solution_> implements SolverManager<Solu
         return solverFactory;
     }
 
+    ThreadFactory getConsumerThreadFactory() {
+        return consumerThreadFactory;
+    }
+
     private void validateSolverFactory() {
         solverFactory.buildSolver();
     }
@@ -79,18 +95,19 @@ public final class DefaultSolverManager<Solution_> implements SolverManager<Solu
         return new DefaultSolverJobBuilder<>(this);
     }
 
-    SolverJob<Solution_> solveAndListen(Object problemId, Function<? super Object, ? extends Solution_> problemFinder,
+    SolverJob<Solution_> solveAndListen(Object problemId, int priority,
+            Function<? super Object, ? extends Solution_> problemFinder,
             Consumer<NewBestSolutionEvent<Solution_>> bestSolutionConsumer,
             @Nullable Consumer<FinalBestSolutionEvent<Solution_>> finalBestSolutionConsumer,
             @Nullable Consumer<FirstInitializedSolutionEvent<Solution_>> initializedSolutionConsumer,
             @Nullable Consumer<SolverJobStartedEvent<Solution_>> solverJobStartedConsumer,
             @Nullable BiConsumer<? super Object, ? super Throwable> exceptionHandler,
             SolverConfigOverride solverConfigOverride) {
-        return solve(problemId, problemFinder, bestSolutionConsumer, finalBestSolutionConsumer, initializedSolutionConsumer,
-                solverJobStartedConsumer, exceptionHandler, solverConfigOverride);
+        return solve(problemId, priority, problemFinder, bestSolutionConsumer, finalBestSolutionConsumer,
+                initializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, solverConfigOverride);
     }
 
-    SolverJob<Solution_> solve(Object problemId, Function<? super Object, ? extends Solution_> problemFinder,
+    SolverJob<Solution_> solve(Object problemId, int priority, Function<? super Object, ? extends Solution_> problemFinder,
             @Nullable Consumer<NewBestSolutionEvent<Solution_>> bestSolutionConsumer,
             @Nullable Consumer<FinalBestSolutionEvent<Solution_>> finalBestSolutionConsumer,
             @Nullable Consumer<FirstInitializedSolutionEvent<Solution_>> initializedSolutionConsumer,
@@ -106,7 +123,7 @@ public final class DefaultSolverManager<Solution_> implements SolverManager<Solu
                 // TODO Future features: automatically restart solving by calling reloadProblem()
                 throw new IllegalStateException("The problemId (%s) is already solving.".formatted(problemId));
             } else {
-                return new DefaultSolverJob<>(this, solver, problemId, problemFinder, bestSolutionConsumer,
+                return new DefaultSolverJob<>(this, solver, problemId, priority, problemFinder, bestSolutionConsumer,
                         finalBestSolutionConsumer, initializedSolutionConsumer, solverJobStartedConsumer,
                         finalExceptionHandler);
             }
@@ -158,4 +175,51 @@ public final class DefaultSolverManager<Solution_> implements SolverManager<Solu
         problemIdToSolverJobMap.remove(getProblemIdOrThrow(problemId));
     }
 
+    /**
+     * A fixed-size thread pool which starts the queued {@link DefaultSolverJob} with the highest priority first,
+     * and queued jobs of the same priority in submission order.
+     * Running jobs are never preempted.
+     */
+    private static final class PrioritySolverThreadPool extends ThreadPoolExecutor {
+
+        private final AtomicLong submissionSequence = new AtomicLong();
+
+        PrioritySolverThreadPool(int threadCount, ThreadFactory threadFactory) {
+            super(threadCount, threadCount, 0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(), threadFactory);
+        }
+
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+            var priority = callable instanceof DefaultSolverJob<?> solverJob ? solverJob.getPriority() : 0;
+            return new PrioritizedFutureTask<>(callable, priority, submissionSequence.getAndIncrement());
+        }
+
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+            return new PrioritizedFutureTask<>(Executors.callable(runnable, value), 0,
+                    submissionSequence.getAndIncrement());
+        }
+
+    }
+
+    private static final class PrioritizedFutureTask<T> extends FutureTask<T>
+            implements Comparable<PrioritizedFutureTask<?>> {
+
+        private final int priority;
+        private final long sequence;
+
+        PrioritizedFutureTask(Callable<T> callable, int priority, long sequence) {
+            super(callable);
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(PrioritizedFutureTask<?> other) {
+            var comparison = Integer.compare(other.priority, priority);
+            return comparison != 0 ? comparison : Long.compare(sequence, other.sequence);
+        }
+
+    }
+
 }
@@ -0,0 +1,251 @@
+package ai.timefold.solver.core.impl.solver.change;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import ai.timefold.solver.core.impl.domain.solution.cloner.DeepCloningUtils;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.BasicVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Brings the working solution back to the state of the best solution,
+ * by changing only the genuine variables which differ between the two,
+ * through the ordinary variable events of the {@link InnerScoreDirector}.
+ * Unlike {@link InnerScoreDirector#setWorkingSolution(Object) setting a clone of the best solution},
+ * this keeps the score director session, so that its cost is proportional to the number of differences
+ * rather than the size of the problem.
+ * <p>
+ * This is only possible if every working entity can be matched with its best solution clone.
+ * Entities are matched in the order in which the solutions are visited,
+ * and every match is verified by its class and {@link ai.timefold.solver.core.api.domain.lookup.PlanningId}.
+ * If the entities do not match, if an entity has no planning ID,
+ * or if a variable has a value which was deep cloned without being an entity,
+ * nothing is changed and the caller must fall back to setting a clone of the best solution.
+ *
+ * @param <Solution_> the solution type
+ */
+@NullMarked
+public final class BestSolutionRestorer<Solution_> {
+
+    private final InnerScoreDirector<Solution_, ?> scoreDirector;
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+
+    public BestSolutionRestorer(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        this.scoreDirector = scoreDirector;
+        this.solutionDescriptor = scoreDirector.getSolutionDescriptor();
+    }
+
+    /**
+     * @param bestSolution a planning clone of an earlier state of the working solution
+     * @return false if the working solution could not be restored, in which case it is left untouched
+     */
+    public boolean restore(Solution_ bestSolution) {
+        var workingSolution = scoreDirector.getWorkingSolution();
+        var bestEntityList = new ArrayList<>();
+        solutionDescriptor.visitAllEntities(bestSolution, bestEntityList::add);
+        var workingEntityList = new ArrayList<>(bestEntityList.size());
+        solutionDescriptor.visitAllEntities(workingSolution, workingEntityList::add);
+        if (bestEntityList.size() != workingEntityList.size()) {
+            return false;
+        }
+        Map<Object, Object> bestToWorkingEntityMap = new IdentityHashMap<>(bestEntityList.size());
+        for (var i = 0; i < bestEntityList.size(); i++) {
+            var bestEntity = bestEntityList.get(i);
+            var workingEntity = workingEntityList.get(i);
+            if (!isSameEntity(bestEntity, workingEntity)) {
+                return false;
+            }
+            bestToWorkingEntityMap.put(bestEntity, workingEntity);
+        }
+        // Collect every difference before changing anything, so that a failure leaves the working solution untouched.
+        var basicChangeList = new ArrayList<BasicVariableChange<Solution_>>();
+        var listChangeList = new ArrayList<ListVariableChange<Solution_>>();
+        for (var i = 0; i < bestEntityList.size(); i++) {
+            var bestEntity = bestEntityList.get(i);
+            var workingEntity = workingEntityList.get(i);
+            var entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(workingEntity.getClass());
+            for (var variableDescriptor : entityDescriptor.getGenuineVariableDescriptorList()) {
+                if (variableDescriptor instanceof BasicVariableDescriptor<Solution_> basicVariableDescriptor) {
+                    var bestValue = basicVariableDescriptor.getValue(bestEntity);
+                    var expectedValue = toWorkingValue(bestValue, bestToWorkingEntityMap);
+                    if (expectedValue == UnmatchedValue.INSTANCE) {
+                        return false;
+                    } else if (basicVariableDescriptor.getValue(workingEntity) != expectedValue) {
+                        basicChangeList.add(new BasicVariableChange<>(basicVariableDescriptor, workingEntity, expectedValue));
+                    }
+                } else if (variableDescriptor instanceof ListVariableDescriptor<Solution_> listVariableDescriptor) {
+                    var bestList = listVariableDescriptor.getValue(bestEntity);
+                    var expectedList = new ArrayList<>(bestList.size());
+                    for (var bestElement : bestList) {
+                        var expectedElement = toWorkingValue(bestElement, bestToWorkingEntityMap);
+                        if (expectedElement == UnmatchedValue.INSTANCE) {
+                            return false;
+                        }
+                        expectedList.add(expectedElement);
+                    }
+                    var listChange = ListVariableChange.ofDifference(listVariableDescriptor, workingEntity, expectedList);
+                    if (listChange != null) {
+                        listChangeList.add(listChange);
+                    }
+                } else {
+                    return false;
+                }
+            }
+        }
+        for (var basicChange : basicChangeList) {
+            scoreDirector.beforeVariableChanged(basicChange.variableDescriptor(), basicChange.entity());
+            basicChange.variableDescriptor().setValue(basicChange.entity(), basicChange.value());
+            scoreDirector.afterVariableChanged(basicChange.variableDescriptor(), basicChange.entity());
+        }
+        restoreListVariables(listChangeList);
+        scoreDirector.updateShadowVariables();
+        return true;
+    }
+
+    private boolean isSameEntity(Object bestEntity, Object workingEntity) {
+        var entityClass = workingEntity.getClass();
+        if (bestEntity.getClass() != entityClass) {
+            return false;
+        }
+        var planningIdAccessor = solutionDescriptor.getPlanningIdAccessor(entityClass);
+        if (planningIdAccessor == null) {
+            // Without a planning ID, entity collections with no defined order cannot be matched reliably.
+            return false;
+        }
+        var workingId = planningIdAccessor.executeGetter(workingEntity);
+        return workingId != null && workingId.equals(planningIdAccessor.executeGetter(bestEntity));
+    }
+
+    private @Nullable Object toWorkingValue(@Nullable Object bestValue, Map<Object, Object> bestToWorkingEntityMap) {
+        if (bestValue == null) {
+            return null;
+        }
+        var workingEntity = bestToWorkingEntityMap.get(bestValue);
+        if (workingEntity != null) {
+            return workingEntity;
+        } else if (DeepCloningUtils.isClassDeepCloned(solutionDescriptor, bestValue.getClass())) {
+            // A deep cloned value which is not an entity cannot be matched to its working counterpart.
+            return UnmatchedValue.INSTANCE;
+        } else {
+            // Problem facts are shared between the working solution and its clones.
+            return bestValue;
+        }
+    }
+
+    /**
+     * Removes the differing part of every list first, and only then inserts the expected elements,
+     * so that an element moving to another entity is never in two lists at the same time.
+     */
+    private void restoreListVariables(List<ListVariableChange<Solution_>> listChangeList) {
+        if (listChangeList.isEmpty()) {
+            return;
+        }
+        Set<Object> removedElementSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Object> insertedElementSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (var listChange : listChangeList) {
+            removedElementSet.addAll(listChange.getWorkingSubList());
+            insertedElementSet.addAll(listChange.insertedElementList());
+        }
+        var unassignedElementListList = new ArrayList<List<Object>>(listChangeList.size());
+        for (var listChange : listChangeList) {
+            var unassignedElementList = new ArrayList<>();
+            for (var removedElement : listChange.getWorkingSubList()) {
+                if (!insertedElementSet.contains(removedElement)) {
+                    scoreDirector.beforeListVariableElementUnassigned(listChange.variableDescriptor(), removedElement);
+                    unassignedElementList.add(removedElement);
+                }
+            }
+            unassignedElementListList.add(unassignedElementList);
+        }
+        for (var listChange : listChangeList) {
+            var fromIndex = listChange.fromIndex();
+            scoreDirector.beforeListVariableChanged(listChange.variableDescriptor(), listChange.entity(), fromIndex,
+                    listChange.removedToIndex());
+            listChange.getWorkingSubList().clear();
+            scoreDirector.afterListVariableChanged(listChange.variableDescriptor(), listChange.entity(), fromIndex, fromIndex);
+        }
+        for (var listChange : listChangeList) {
+            for (var insertedElement : listChange.insertedElementList()) {
+                if (!removedElementSet.contains(insertedElement)) {
+                    scoreDirector.beforeListVariableElementAssigned(listChange.variableDescriptor(), insertedElement);
+                }
+            }
+        }
+        for (var listChange : listChangeList) {
+            var fromIndex = listChange.fromIndex();
+            scoreDirector.beforeListVariableChanged(listChange.variableDescriptor(), listChange.entity(), fromIndex,
+                    fromIndex);
+            listChange.variableDescriptor().getValue(listChange.entity())
+                    .addAll(fromIndex, listChange.insertedElementList());
+            scoreDirector.afterListVariableChanged(listChange.variableDescriptor(), listChange.entity(), fromIndex,
+                    fromIndex + listChange.insertedElementList().size());
+        }
+        for (var i = 0; i < listChangeList.size(); i++) {
+            var listChange = listChangeList.get(i);
+            for (var insertedElement : listChange.insertedElementList()) {
+                if (!removedElementSet.contains(insertedElement)) {
+                    scoreDirector.afterListVariableElementAssigned(listChange.variableDescriptor(), insertedElement);
+                }
+            }
+            for (var unassignedElement : unassignedElementListList.get(i)) {
+                scoreDirector.afterListVariableElementUnassigned(listChange.variableDescriptor(), unassignedElement);
+            }
+        }
+    }
+
+    private record BasicVariableChange<Solution_>(BasicVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            @Nullable Object value) {
+
+    }
+
+    /**
+     * Replaces the range [fromIndex, removedToIndex) of the working list with the inserted elements.
+     * The range excludes the common prefix and suffix of the working and expected list,
+     * which keeps it out of the pinned part of the list.
+     */
+    private record ListVariableChange<Solution_>(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int removedToIndex, List<Object> insertedElementList) {
+
+        static <Solution_> @Nullable ListVariableChange<Solution_> ofDifference(
+                ListVariableDescriptor<Solution_> variableDescriptor, Object entity, List<Object> expectedList) {
+            var workingList = variableDescriptor.getValue(entity);
+            var workingSize = workingList.size();
+            var expectedSize = expectedList.size();
+            var prefixLength = 0;
+            while (prefixLength < workingSize && prefixLength < expectedSize
+                    && workingList.get(prefixLength) == expectedList.get(prefixLength)) {
+                prefixLength++;
+            }
+            if (prefixLength == workingSize && prefixLength == expectedSize) {
+                return null;
+            }
+            var suffixLength = 0;
+            while (suffixLength < workingSize - prefixLength && suffixLength < expectedSize - prefixLength
+                    && workingList.get(workingSize - 1 - suffixLength) == expectedList
+                            .get(expectedSize - 1 - suffixLength)) {
+                suffixLength++;
+            }
+            return new ListVariableChange<>(variableDescriptor, entity, prefixLength, workingSize - suffixLength,
+                    new ArrayList<>(expectedList.subList(prefixLength, expectedSize - suffixLength)));
+        }
+
+        List<Object> getWorkingSubList() {
+            return variableDescriptor.getValue(entity).subList(fromIndex, removedToIndex);
+        }
+
+    }
+
+    private enum UnmatchedValue {
+        INSTANCE
+    }
+
+}
@@ -0,0 +1,111 @@
+package ai.timefold.solver.core.impl.solver.monitoring.statistic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.bavet.common.SamplingConstraintProfiler;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirector;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+
+/**
+ * Exposes the measurements of the {@link SamplingConstraintProfiler} of the solver's score director,
+ * per constraint (tagged with {@link #CONSTRAINT_ID_TAG}) and per node (tagged with {@link #CONSTRAINT_NODE_TAG}).
+ * The gauges read the profiler of the current session,
+ * so that they survive the score director replacing its session.
+ */
+public class ConstraintProfileStatistic<Solution_> implements SolverStatistic<Solution_> {
+
+    public static final String CONSTRAINT_ID_TAG = "constraint.id";
+    public static final String CONSTRAINT_NODE_TAG = "constraint.node";
+    public static final String TIME_SUFFIX = "time";
+    public static final String TUPLE_COUNT_SUFFIX = "tuple.count";
+
+    private final Map<Solver<Solution_>, List<Meter.Id>> solverToMeterIdListMap = new WeakHashMap<>();
+
+    @Override
+    public void register(Solver<Solution_> solver) {
+        var solverScope = ((DefaultSolver<Solution_>) solver).getSolverScope();
+        var profiler = getProfiler(solverScope);
+        if (profiler == null) { // Not a Bavet score director, or the enterprise profiler is in use.
+            return;
+        }
+        var meterId = SolverMetric.CONSTRAINT_PROFILE.getMeterId();
+        var meterIdList = new ArrayList<Meter.Id>();
+        for (var constraintRef : profiler.getConstraintRefs()) {
+            var tags = solverScope.getMonitoringTags().and(CONSTRAINT_ID_TAG, constraintRef.id());
+            meterIdList.add(registerTimeGauge(meterId + "." + TIME_SUFFIX, tags, solverScope,
+                    p -> p.isProfiled(constraintRef) ? p.getConstraintNanos(constraintRef) : -1L));
+            meterIdList.add(registerGauge(meterId + "." + TUPLE_COUNT_SUFFIX, tags, solverScope,
+                    p -> p.isProfiled(constraintRef) ? p.getConstraintTupleCount(constraintRef) : -1L));
+        }
+        for (var profileId : profiler.getProfileIds()) {
+            var tags = solverScope.getMonitoringTags().and(CONSTRAINT_NODE_TAG, profileId.toString());
+            meterIdList.add(registerTimeGauge(meterId + ".node." + TIME_SUFFIX, tags, solverScope,
+                    p -> p.isProfiled(profileId) ? p.getNodeNanos(profileId) : -1L));
+            meterIdList.add(registerGauge(meterId + ".node." + TUPLE_COUNT_SUFFIX, tags, solverScope,
+                    p -> p.isProfiled(profileId) ? p.getNodeTupleCount(profileId) : -1L));
+        }
+        synchronized (solverToMeterIdListMap) {
+            solverToMeterIdListMap.put(solver, meterIdList);
+        }
+    }
+
+    private static <Solution_> Meter.Id registerTimeGauge(String name, Tags tags, SolverScope<Solution_> solverScope,
+            ToLongFunction<SamplingConstraintProfiler> nanosFunction) {
+        return TimeGauge.builder(name, solverScope, TimeUnit.NANOSECONDS,
+                scope -> extract(scope, nanosFunction))
+                .tags(tags)
+                .register(Metrics.globalRegistry)
+                .getId();
+    }
+
+    private static <Solution_> Meter.Id registerGauge(String name, Tags tags, SolverScope<Solution_> solverScope,
+            ToLongFunction<SamplingConstraintProfiler> countFunction) {
+        return Gauge.builder(name, solverScope, scope -> extract(scope, countFunction))
+                .tags(tags)
+                .register(Metrics.globalRegistry)
+                .getId();
+    }
+
+    private static double extract(SolverScope<?> solverScope, ToLongFunction<SamplingConstraintProfiler> function) {
+        var profiler = getProfiler(solverScope);
+        if (profiler == null) {
+            return Double.NaN;
+        }
+        var value = function.applyAsLong(profiler);
+        // A negative value means the constraint or node is not part of the current session.
+        return value < 0L ? Double.NaN : value;
+    }
+
+    private static SamplingConstraintProfiler getProfiler(SolverScope<?> solverScope) {
+        if (solverScope.getScoreDirector() instanceof BavetConstraintStreamScoreDirector<?, ?> scoreDirector) {
+            return scoreDirector.getSamplingConstraintProfiler();
+        }
+        return null;
+    }
+
+    @Override
+    public void unregister(Solver<Solution_> solver) {
+        List<Meter.Id> meterIdList;
+        synchronized (solverToMeterIdListMap) {
+            meterIdList = solverToMeterIdListMap.remove(solver);
+        }
+        if (meterIdList != null) {
+            meterIdList.forEach(Metrics.globalRegistry::remove);
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package ai.timefold.solver.core.impl.solver.monitoring.statistic;
+
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Exposes the number of recreates done by ruin and recreate moves and the total time they took,
+ * so that the mean recreate time per move can be derived.
+ */
+public class RuinRecreateTimeStatistic<Solution_> implements SolverStatistic<Solution_> {
+
+    @Override
+    public void register(Solver<Solution_> solver) {
+        SolverScope<Solution_> solverScope = ((DefaultSolver<Solution_>) solver).getSolverScope();
+        FunctionTimer.builder(SolverMetric.RUIN_RECREATE_TIME.getMeterId(), solverScope,
+                SolverScope::getRuinRecreateCount, SolverScope::getRuinRecreateTimeNanos, TimeUnit.NANOSECONDS)
+                .tags(solverScope.getMonitoringTags())
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void unregister(Solver<Solution_> solver) {
+        SolverScope<Solution_> solverScope = ((DefaultSolver<Solution_>) solver).getSolverScope();
+        Metrics.globalRegistry.remove(new Meter.Id(SolverMetric.RUIN_RECREATE_TIME.getMeterId(),
+                solverScope.getMonitoringTags(),
+                null,
+                null,
+                Meter.Type.TIMER));
+    }
+
+}
@@ -1,9 +1,13 @@
 package ai.timefold.solver.core.impl.solver.recaller;
 
+import java.util.function.Supplier;
+
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.api.solver.event.EventProducerId;
+import ai.timefold.solver.core.config.solver.BestSolutionCloningMode;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
@@ -11,6 +15,8 @@ import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.impl.solver.event.SolverEventSupport;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
+import org.jspecify.annotations.Nullable;
+
 /**
  * Remembers the {@link PlanningSolution best solution} that a {@link Solver} encounters.
  *
@@ -21,9 +27,16 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     protected boolean assertInitialScoreFromScratch = false;
     protected boolean assertShadowVariablesAreNotStale = false;
     protected boolean assertBestScoreIsUnmodified = false;
+    protected boolean deferBestSolutionCloning = false;
 
     protected SolverEventSupport<Solution_> solverEventSupport;
 
+    /**
+     * Not null while the best solution is only known by its score and still needs to be cloned from the working solution.
+     * That score is {@link SolverScope#getLatestBestScore()}, see {@link BestSolutionCloningMode#DEFERRED}.
+     */
+    private @Nullable EventProducerId deferredBestSolutionEventProducerId = null;
+
     public void setAssertInitialScoreFromScratch(boolean assertInitialScoreFromScratch) {
         this.assertInitialScoreFromScratch = assertInitialScoreFromScratch;
     }
@@ -36,6 +49,10 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         this.assertBestScoreIsUnmodified = assertBestScoreIsUnmodified;
     }
 
+    public void setDeferBestSolutionCloning(boolean deferBestSolutionCloning) {
+        this.deferBestSolutionCloning = deferBestSolutionCloning;
+    }
+
     public void setSolverEventSupport(SolverEventSupport<Solution_> solverEventSupport) {
         this.solverEventSupport = solverEventSupport;
     }
@@ -48,6 +65,8 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     @Override
     public void solvingStarted(SolverScope<Solution_> solverScope) {
         // Starting bestSolution is already set by Solver.solve(Solution)
+        deferredBestSolutionEventProducerId = null;
+        solverScope.setDeferredBestScore(null);
         var scoreDirector = solverScope.getScoreDirector();
         InnerScore innerScore = scoreDirector.calculateScore();
         var score = innerScore.raw();
@@ -87,7 +106,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         stepScope.setBestScoreImproved(bestScoreImproved);
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            var newBestSolution = stepScope.cloneWorkingSolution();
+            var newBestSolution = cloneBestSolution(solverScope, stepScope::cloneWorkingSolution);
             var innerScore = buildInnerScore(solverScope.getSolutionDescriptor().<Score_> getScore(newBestSolution),
                     stepScope.getScoreDirector().getWorkingInitScore(), true);
             updateBestSolutionAndFire(solverScope, phaseScope, innerScore, newBestSolution);
@@ -96,6 +115,86 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         }
     }
 
+    /**
+     * As defined by {@link #processWorkingSolutionDuringStep(AbstractStepScope)},
+     * but with {@link BestSolutionCloningMode#DEFERRED}, a new best solution is not cloned yet.
+     * The caller must then call {@link #processWorkingSolutionBeforeStep(AbstractStepScope)}
+     * before it changes the working solution with the next step.
+     *
+     * @param stepScope the step which has just been done on the working solution
+     */
+    public <Score_ extends Score<Score_>> void processWorkingSolutionDuringDeferrableStep(
+            AbstractStepScope<Solution_> stepScope) {
+        if (!deferBestSolutionCloning) {
+            processWorkingSolutionDuringStep(stepScope);
+            return;
+        }
+        var phaseScope = stepScope.getPhaseScope();
+        var score = stepScope.<Score_> getScore();
+        var solverScope = phaseScope.getSolverScope();
+        var bestScoreImproved = score.compareTo(solverScope.getLatestBestScore()) > 0;
+        stepScope.setBestScoreImproved(bestScoreImproved);
+        if (bestScoreImproved) {
+            phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
+            var innerScore = buildInnerScore(
+                    solverScope.getSolutionDescriptor().<Score_> getScore(stepScope.getWorkingSolution()),
+                    stepScope.getScoreDirector().getWorkingInitScore(), true);
+            if (innerScore.isFullyAssigned() && !solverScope.isBestSolutionInitialized()) {
+                solverScope.setStartingInitializedScore(innerScore.raw());
+            }
+            // The best score is only published together with its solution, once that is cloned.
+            solverScope.setDeferredBestScore(innerScore);
+            solverScope.setBestSolutionTimeMillis(solverScope.getClock().millis());
+            deferredBestSolutionEventProducerId = phaseScope.getPhaseId();
+        } else if (deferredBestSolutionEventProducerId != null) {
+            throw new IllegalStateException("""
+                    Impossible state: the step (%s) with score (%s) did not improve the best score (%s), \
+                    even though its score predicted it would, so the deferred best solution got lost.
+                    Maybe there is score corruption; run with environmentMode (%s) to find it."""
+                    .formatted(stepScope, score, solverScope.getLatestBestScore(), EnvironmentMode.FULL_ASSERT));
+        } else if (assertBestScoreIsUnmodified) {
+            solverScope.assertScoreFromScratch(solverScope.getBestSolution());
+        }
+    }
+
+    /**
+     * Clones the deferred best solution, unless the step about to be done is already known to replace it.
+     * That is the case if the step's score, calculated when the step was evaluated as a move,
+     * improves on the best score.
+     *
+     * @param stepScope the step which is about to be done on the working solution
+     */
+    public void processWorkingSolutionBeforeStep(AbstractStepScope<Solution_> stepScope) {
+        if (deferredBestSolutionEventProducerId == null) {
+            return;
+        }
+        var solverScope = stepScope.getPhaseScope().getSolverScope();
+        if (stepScope.getScore().compareTo(solverScope.getLatestBestScore()) <= 0) {
+            cloneDeferredBestSolution(solverScope);
+        }
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        if (deferredBestSolutionEventProducerId != null) {
+            cloneDeferredBestSolution(phaseScope.getSolverScope());
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void cloneDeferredBestSolution(SolverScope<Solution_> solverScope) {
+        var eventProducerId = deferredBestSolutionEventProducerId;
+        deferredBestSolutionEventProducerId = null;
+        InnerScore bestScore = solverScope.getLatestBestScore();
+        var bestSolution = cloneBestSolution(solverScope, solverScope.getScoreDirector()::cloneWorkingSolution);
+        // Evaluating moves since the best step has overwritten the score of the working solution.
+        solverScope.getSolutionDescriptor().setScore(bestSolution, bestScore.raw());
+        solverScope.setBestSolution(bestSolution);
+        solverScope.setBestScore(bestScore);
+        solverScope.setDeferredBestScore(null);
+        solverEventSupport.fireBestSolutionChanged(solverScope, eventProducerId, bestSolution);
+    }
+
     public <Score_ extends Score<Score_>> void processWorkingSolutionDuringMove(InnerScore<Score_> moveScore,
             AbstractStepScope<Solution_> stepScope) {
         var phaseScope = stepScope.getPhaseScope();
@@ -108,7 +207,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         }
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            var newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+            var newBestSolution = cloneBestSolution(solverScope, solverScope.getScoreDirector()::cloneWorkingSolution);
             // The solution for mixed models can generate a partially solved solution,
             // as the complete solution will only be achieved when all variable types are assigned.
             updateBestSolutionAndFire(solverScope, phaseScope,
@@ -143,7 +242,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private void updateBestSolutionWithoutFiring(SolverScope<Solution_> solverScope) {
         // We clone the existing working solution to set it as the best current solution
-        var newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+        var newBestSolution = cloneBestSolution(solverScope, solverScope.getScoreDirector()::cloneWorkingSolution);
         var newBestScore = solverScope.getSolutionDescriptor().<Score> getScore(newBestSolution);
         var innerScore = buildInnerScore(newBestScore, solverScope.getScoreDirector().getWorkingInitScore(), true);
         updateBestSolutionWithoutFiring(solverScope, innerScore, newBestSolution);
@@ -160,6 +259,14 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         solverScope.setBestSolutionTimeMillis(solverScope.getClock().millis());
     }
 
+    private static <Solution_> Solution_ cloneBestSolution(SolverScope<Solution_> solverScope,
+            Supplier<Solution_> workingSolutionCloner) {
+        var startNanos = System.nanoTime();
+        var bestSolution = workingSolutionCloner.get();
+        solverScope.addBestSolutionClone(System.nanoTime() - startNanos);
+        return bestSolution;
+    }
+
     private static <Score_ extends Score<Score_>> InnerScore<Score_> buildInnerScore(Score_ moveScore, int uninitializedScore,
             boolean acceptUnassigned) {
         if (acceptUnassigned) {
@@ -1,5 +1,6 @@
 package ai.timefold.solver.core.impl.solver.recaller;
 
+import ai.timefold.solver.core.config.solver.BestSolutionCloningMode;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 
 public class BestSolutionRecallerFactory {
@@ -9,7 +10,13 @@ public class BestSolutionRecallerFactory {
     }
 
     public <Solution_> BestSolutionRecaller<Solution_> buildBestSolutionRecaller(EnvironmentMode environmentMode) {
+        return buildBestSolutionRecaller(environmentMode, BestSolutionCloningMode.EAGER);
+    }
+
+    public <Solution_> BestSolutionRecaller<Solution_> buildBestSolutionRecaller(EnvironmentMode environmentMode,
+            BestSolutionCloningMode bestSolutionCloningMode) {
         BestSolutionRecaller<Solution_> bestSolutionRecaller = new BestSolutionRecaller<>();
+        bestSolutionRecaller.setDeferBestSolutionCloning(bestSolutionCloningMode == BestSolutionCloningMode.DEFERRED);
         if (environmentMode.isFullyAsserted()) {
             bestSolutionRecaller.setAssertInitialScoreFromScratch(true);
             bestSolutionRecaller.setAssertShadowVariablesAreNotStale(true);
@@ -10,6 +10,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -17,6 +18,8 @@ import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.solver.ProblemSizeStatistics;
 import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.config.solver.BestSolutionCloningMode;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
@@ -24,6 +27,7 @@ import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
 import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.solver.AbstractSolver;
+import ai.timefold.solver.core.impl.solver.change.BestSolutionRestorer;
 import ai.timefold.solver.core.impl.solver.change.DefaultProblemChangeDirector;
 import ai.timefold.solver.core.impl.solver.monitoring.ScoreLevels;
 import ai.timefold.solver.core.impl.solver.random.DefaultRandomSource;
@@ -31,6 +35,8 @@ import ai.timefold.solver.core.impl.solver.random.RandomSource;
 import ai.timefold.solver.core.impl.solver.termination.PhaseTermination;
 import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
 
+import org.jspecify.annotations.Nullable;
+
 import io.micrometer.core.instrument.Tags;
 
 /**
@@ -44,6 +50,11 @@ public class SolverScope<Solution_> {
     private final AtomicReference<ProblemSizeStatistics> problemSizeStatistics = new AtomicReference<>();
     private final AtomicReference<Solution_> bestSolution = new AtomicReference<>();
     private final AtomicReference<InnerScore<?>> bestScore = new AtomicReference<>();
+    /**
+     * Not null while a new best solution is only known by its score and has not been cloned yet,
+     * see {@link BestSolutionCloningMode#DEFERRED}.
+     */
+    private final AtomicReference<InnerScore<?>> deferredBestScore = new AtomicReference<>();
     private final AtomicLong startingSystemTimeMillis = resetAtomicLongTimeMillis(new AtomicLong());
     private final AtomicLong endingSystemTimeMillis = resetAtomicLongTimeMillis(new AtomicLong());
 
@@ -63,6 +74,12 @@ public class SolverScope<Solution_> {
 
     private long moveEvaluationCount = 0L;
 
+    private long bestSolutionCloneCount = 0L;
+    private long bestSolutionCloneTimeNanos = 0L;
+    // Ruin and recreate moves may be evaluated by move threads.
+    private final AtomicLong ruinRecreateCount = new AtomicLong();
+    private final AtomicLong ruinRecreateTimeNanos = new AtomicLong();
+
     private Score<?> startingInitializedScore;
 
     private Long bestSolutionTimeMillis;
@@ -221,6 +238,44 @@ public class SolverScope<Solution_> {
         return moveEvaluationCount;
     }
 
+    public void addBestSolutionClone(long cloneTimeNanos) {
+        bestSolutionCloneCount++;
+        bestSolutionCloneTimeNanos += cloneTimeNanos;
+    }
+
+    public long getBestSolutionCloneCount() {
+        return bestSolutionCloneCount;
+    }
+
+    /**
+     * @return the total time spent cloning the working solution into new best solutions, since solving (re)started
+     */
+    public long getBestSolutionCloneTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(bestSolutionCloneTimeNanos);
+    }
+
+    /**
+     * @param recreateTimeNanos the time spent by the nested construction heuristic of a ruin and recreate move
+     */
+    public void addRuinRecreateTime(long recreateTimeNanos) {
+        ruinRecreateCount.incrementAndGet();
+        ruinRecreateTimeNanos.addAndGet(recreateTimeNanos);
+    }
+
+    /**
+     * @return the number of times a ruin and recreate move recreated the solution, since solving (re)started
+     */
+    public long getRuinRecreateCount() {
+        return ruinRecreateCount.get();
+    }
+
+    /**
+     * @return the total time spent recreating the solution in ruin and recreate moves, since solving (re)started
+     */
+    public long getRuinRecreateTimeNanos() {
+        return ruinRecreateTimeNanos.get();
+    }
+
     public Solution_ getBestSolution() {
         return bestSolution.get();
     }
@@ -248,6 +303,27 @@ public class SolverScope<Solution_> {
         this.bestScore.set(bestScore);
     }
 
+    /**
+     * Unlike {@link #getBestScore()}, which always belongs to {@link #getBestSolution()},
+     * this includes a new best score whose solution has not been cloned yet,
+     * so that the search and its terminations do not depend on when the best solution is cloned.
+     *
+     * @return the best score found so far
+     */
+    @SuppressWarnings("unchecked")
+    public <Score_ extends Score<Score_>> InnerScore<Score_> getLatestBestScore() {
+        var latestBestScore = deferredBestScore.get();
+        return (InnerScore<Score_>) (latestBestScore == null ? bestScore.get() : latestBestScore);
+    }
+
+    /**
+     * @param deferredBestScore null once the best solution with that score has been cloned,
+     *        see {@link BestSolutionCloningMode#DEFERRED}
+     */
+    public void setDeferredBestScore(@Nullable InnerScore<?> deferredBestScore) {
+        this.deferredBestScore.set(deferredBestScore);
+    }
+
     public Long getBestSolutionTimeMillis() {
         return bestSolutionTimeMillis;
     }
@@ -276,6 +352,10 @@ public class SolverScope<Solution_> {
         startingSystemTimeMillis.set(getClock().millis());
         resetAtomicLongTimeMillis(endingSystemTimeMillis);
         this.moveEvaluationCount = 0L;
+        this.bestSolutionCloneCount = 0L;
+        this.ruinRecreateCount.set(0L);
+        this.ruinRecreateTimeNanos.set(0L);
+        this.bestSolutionCloneTimeNanos = 0L;
     }
 
     public Long getBestSolutionTimeMillisSpent() {
@@ -287,7 +367,7 @@ public class SolverScope<Solution_> {
     }
 
     public boolean isBestSolutionInitialized() {
-        return getBestScore().isFullyAssigned();
+        return getLatestBestScore().isFullyAssigned();
     }
 
     public long calculateTimeMillisSpentUpToNow() {
@@ -338,6 +418,38 @@ public class SolverScope<Solution_> {
         scoreDirector.setWorkingSolution(scoreDirector.cloneSolution(getBestSolution()));
     }
 
+    /**
+     * As defined by {@link #setWorkingSolutionFromBestSolution()},
+     * but keeps the working solution and its score director session if possible,
+     * by only changing the genuine variables in which the working solution differs from the best solution.
+     * This avoids recalculating the entire score, for example before applying problem changes.
+     *
+     * @param assertRestoredScore true to fail fast if the restored working solution does not have the best score,
+     *        instead of replacing it by a clone of the best solution
+     * @return true if the working solution was kept, false if it was replaced by a clone of the best solution
+     * @throws IllegalStateException if assertRestoredScore is true
+     *         and the restored working solution does not have the best score
+     */
+    public boolean restoreWorkingSolutionFromBestSolution(boolean assertRestoredScore) {
+        var bestScore = getBestScore();
+        if (new BestSolutionRestorer<>(scoreDirector).restore(getBestSolution())) {
+            var restoredScore = scoreDirector.calculateScore();
+            if (restoredScore.raw().equals(bestScore.raw())) {
+                return true;
+            }
+            if (assertRestoredScore) {
+                throw new IllegalStateException("""
+                        The working solution was restored to the best solution, \
+                        but its score (%s) differs from the best score (%s).
+                        Maybe a shadow variable or the score depends on state that is not a genuine variable, \
+                        or the score calculation is corrupted; try %s to find out."""
+                        .formatted(restoredScore.raw(), bestScore.raw(), EnvironmentMode.TRACKED_FULL_ASSERT));
+            }
+        }
+        setWorkingSolutionFromBestSolution();
+        return false;
+    }
+
     public void setInitialSolution(Solution_ initialSolution) {
         // The workingSolution must never be the same instance as the bestSolution.
         scoreDirector.setWorkingSolution(scoreDirector.cloneSolution(initialSolution));
@@ -350,6 +462,7 @@ public class SolverScope<Solution_> {
         SolverScope<Solution_> childThreadSolverScope = new SolverScope<>(clock);
         childThreadSolverScope.bestSolution.set(null);
         childThreadSolverScope.bestScore.set(null);
+        childThreadSolverScope.deferredBestScore.set(null);
         childThreadSolverScope.monitoringTags = monitoringTags;
         childThreadSolverScope.solverMetricSet = solverMetricSet;
         childThreadSolverScope.startingSolverCount = startingSolverCount;
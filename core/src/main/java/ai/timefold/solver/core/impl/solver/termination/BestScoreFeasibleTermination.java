@@ -31,7 +31,7 @@ final class BestScoreFeasibleTermination<Solution_>
 
     @Override
     public boolean isSolverTerminated(SolverScope<Solution_> solverScope) {
-        return isTerminated(solverScope.getBestScore());
+        return isTerminated(solverScope.getLatestBestScore());
     }
 
     @Override
@@ -47,7 +47,7 @@ final class BestScoreFeasibleTermination<Solution_>
     @Override
     public double calculateSolverTimeGradient(SolverScope<Solution_> solverScope) {
         return calculateFeasibilityTimeGradient(InnerScore.fullyAssigned((Score) solverScope.getStartingInitializedScore()),
-                solverScope.getBestScore().raw());
+                solverScope.getLatestBestScore().raw());
     }
 
     @Override
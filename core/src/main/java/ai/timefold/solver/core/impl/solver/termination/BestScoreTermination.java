@@ -34,7 +34,7 @@ final class BestScoreTermination<Solution_>
 
     @Override
     public boolean isSolverTerminated(SolverScope<Solution_> solverScope) {
-        return isTerminated(solverScope.isBestSolutionInitialized(), solverScope.getBestScore().raw());
+        return isTerminated(solverScope.isBestSolutionInitialized(), solverScope.getLatestBestScore().raw());
     }
 
     @Override
@@ -50,7 +50,7 @@ final class BestScoreTermination<Solution_>
     @Override
     public double calculateSolverTimeGradient(SolverScope<Solution_> solverScope) {
         var startingInitializedScore = solverScope.getStartingInitializedScore();
-        var bestScore = solverScope.getBestScore();
+        var bestScore = solverScope.getLatestBestScore();
         return calculateTimeGradient((Score) startingInitializedScore, getBestScoreLimit(), (Score) bestScore.raw());
     }
 
@@ -93,7 +93,7 @@ final class UnimprovedTimeMillisSpentScoreDifferenceThresholdTermination<Solutio
         if (stepScope.getBestScoreImproved()) {
             var solverScope = stepScope.getPhaseScope().getSolverScope();
             var bestSolutionTimeMillis = solverScope.getBestSolutionTimeMillis();
-            var bestScore = solverScope.getBestScore();
+            var bestScore = solverScope.getLatestBestScore();
             var bestScoreValue = (Score) bestScore.raw();
             for (var it = bestScoreImprovementHistoryQueue.iterator(); it.hasNext();) {
                 var bestScoreImprovement = it.next();
@@ -0,0 +1,378 @@
+package ai.timefold.solver.core.impl.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A hash map for the hot paths of Bavet nodes, such as the equal indexers,
+ * which specializes its storage on the type of the first key it receives:
+ * <ul>
+ * <li>Enum keys are stored in an array indexed by {@link Enum#ordinal()}; no hashing at all.</li>
+ * <li>{@link Integer}, {@link Long}, {@link Short} and {@link Byte} keys are stored in an open-addressing table
+ * of primitive {@code long}s; no {@link Object#hashCode()}/{@link Object#equals(Object)} calls
+ * and no entry allocation on insert.</li>
+ * <li>Any other key type is stored in a {@link HashMap}.</li>
+ * </ul>
+ * Key functions such as {@code Lesson::getTimeslotId} are erased to {@code Function<A, Object>},
+ * so the key type can not be known up-front; it is only known once the first key arrives.
+ * Should a later key not fit the specialized storage (for example a key function returning mixed types),
+ * the map permanently falls back to a {@link HashMap},
+ * preserving the {@link Object#equals(Object)} semantics of the keys it has already received.
+ * <p>
+ * Only one map is used per node, so the extra branching is well-predicted,
+ * while keeping the call sites of this class monomorphic.
+ * <p>
+ * The {@code null} key is supported.
+ * Values must not be {@code null}, as {@code null} signifies an absent key.
+ * This class is not thread-safe.
+ *
+ * @param <Key_> the key type
+ * @param <Value_> the value type
+ */
+@NullMarked
+public final class AdaptiveKeyMap<Key_, Value_> {
+
+    /**
+     * The number 16 is chosen as that is the default initial capacity of a HashMap
+     * and we have no good way of estimating the number of keys up-front.
+     * Any reasonable problem will quickly resize the map, and by a lot.
+     * Since the solver is typically a long-running process,
+     * this initial overhead is negligible in the grand scheme of things.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+    /**
+     * 0.5f has been established experimentally as a good load factor for the equal indexers,
+     * balancing memory consumption with lookup speed.
+     * On index-heavy problems, higher load factors were observed to lead to significant lookup slowdowns.
+     * Even lower load factors (0.25, 0.1) were tested and yielded further performance improvements,
+     * but the memory consumption impact was deemed too high to justify it.
+     * This trade-off may change with future versions of the JDK,
+     * and should be re-evaluated occasionally.
+     * <p>
+     * The open-addressing table uses the same load factor, as linear probing also degrades quickly when crowded.
+     */
+    private static final float LOAD_FACTOR = 0.5f;
+    private static final long FIBONACCI_HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private enum StorageType {
+        UNDECIDED,
+        ENUM,
+        INTEGRAL,
+        GENERIC
+    }
+
+    private StorageType storageType = StorageType.UNDECIDED;
+    /**
+     * The {@link Enum#getDeclaringClass() declaring class} of enum keys, or the boxed class of integral keys.
+     */
+    private @Nullable Class<?> keyClass = null;
+    private Object @Nullable [] enumValueArray = null;
+    private long @Nullable [] integralKeyArray = null;
+    private Object @Nullable [] integralValueArray = null;
+    private int integralHashShift = 0;
+    private @Nullable Map<Key_, Value_> genericMap = null;
+    private @Nullable Value_ nullKeyValue = null;
+    private int size = 0;
+
+    public @Nullable Value_ get(@Nullable Object key) {
+        if (key == null) {
+            return nullKeyValue;
+        }
+        if (storageType == StorageType.ENUM) {
+            if (!(key instanceof Enum<?> enumKey) || enumKey.getDeclaringClass() != keyClass) {
+                return null; // Enum equality is identity.
+            }
+            return (Value_) enumValueArray[enumKey.ordinal()];
+        } else if (storageType == StorageType.INTEGRAL) {
+            if (key.getClass() != keyClass) {
+                return null; // Boxed integral types are never equal to an instance of another class.
+            }
+            var slot = findIntegralSlot(((Number) key).longValue());
+            return slot < 0 ? null : (Value_) integralValueArray[slot];
+        } else if (storageType == StorageType.GENERIC) {
+            return genericMap.get(key);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * @param key may be null
+     * @param value never null
+     */
+    public void put(@Nullable Key_ key, Value_ value) {
+        if (key == null) {
+            if (nullKeyValue == null) {
+                size++;
+            }
+            nullKeyValue = value;
+            return;
+        }
+        if (storageType == StorageType.UNDECIDED) {
+            decideStorageType(key);
+        }
+        if (storageType == StorageType.ENUM) {
+            if (key instanceof Enum<?> enumKey && enumKey.getDeclaringClass() == keyClass) {
+                var ordinal = enumKey.ordinal();
+                if (enumValueArray[ordinal] == null) {
+                    size++;
+                }
+                enumValueArray[ordinal] = value;
+                return;
+            }
+            switchToGeneric();
+        } else if (storageType == StorageType.INTEGRAL) {
+            if (key.getClass() == keyClass) {
+                putIntegral(((Number) key).longValue(), value);
+                return;
+            }
+            switchToGeneric();
+        }
+        if (genericMap.put(key, value) == null) {
+            size++;
+        }
+    }
+
+    /**
+     * @param key may be null
+     * @return the value previously associated with the key, or null if there was none
+     */
+    public @Nullable Value_ remove(@Nullable Object key) {
+        if (key == null) {
+            var oldValue = nullKeyValue;
+            if (oldValue != null) {
+                nullKeyValue = null;
+                size--;
+            }
+            return oldValue;
+        }
+        Value_ oldValue;
+        if (storageType == StorageType.ENUM) {
+            if (!(key instanceof Enum<?> enumKey) || enumKey.getDeclaringClass() != keyClass) {
+                return null;
+            }
+            var ordinal = enumKey.ordinal();
+            oldValue = (Value_) enumValueArray[ordinal];
+            enumValueArray[ordinal] = null;
+        } else if (storageType == StorageType.INTEGRAL) {
+            if (key.getClass() != keyClass) {
+                return null;
+            }
+            oldValue = removeIntegral(((Number) key).longValue());
+        } else if (storageType == StorageType.GENERIC) {
+            oldValue = genericMap.remove(key);
+        } else {
+            return null;
+        }
+        if (oldValue != null) {
+            size--;
+        }
+        return oldValue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Visits all values in no particular order.
+     * The map must not be modified during the visit.
+     *
+     * @param valueConsumer never null
+     */
+    public void forEachValue(Consumer<Value_> valueConsumer) {
+        if (nullKeyValue != null) {
+            valueConsumer.accept(nullKeyValue);
+        }
+        if (storageType == StorageType.ENUM) {
+            forEachNonNull(enumValueArray, valueConsumer);
+        } else if (storageType == StorageType.INTEGRAL) {
+            forEachNonNull(integralValueArray, valueConsumer);
+        } else if (storageType == StorageType.GENERIC) {
+            genericMap.values().forEach(valueConsumer);
+        }
+    }
+
+    private static <Value_> void forEachNonNull(Object[] valueArray, Consumer<Value_> valueConsumer) {
+        for (var value : valueArray) {
+            if (value != null) {
+                valueConsumer.accept((Value_) value);
+            }
+        }
+    }
+
+    private void decideStorageType(Object key) {
+        if (key instanceof Enum<?> enumKey) {
+            storageType = StorageType.ENUM;
+            keyClass = enumKey.getDeclaringClass();
+            enumValueArray = new Object[keyClass.getEnumConstants().length];
+        } else if (key instanceof Integer || key instanceof Long || key instanceof Short || key instanceof Byte) {
+            storageType = StorageType.INTEGRAL;
+            keyClass = key.getClass();
+            allocateIntegralArrays(INITIAL_CAPACITY);
+        } else {
+            storageType = StorageType.GENERIC;
+            genericMap = new HashMap<>(INITIAL_CAPACITY, LOAD_FACTOR);
+        }
+    }
+
+    private void switchToGeneric() {
+        var newGenericMap = new HashMap<Key_, Value_>(Math.max(INITIAL_CAPACITY, (int) (size / LOAD_FACTOR) + 1),
+                LOAD_FACTOR);
+        if (storageType == StorageType.ENUM) {
+            var enumConstants = keyClass.getEnumConstants();
+            for (var ordinal = 0; ordinal < enumValueArray.length; ordinal++) {
+                var value = enumValueArray[ordinal];
+                if (value != null) {
+                    newGenericMap.put((Key_) enumConstants[ordinal], (Value_) value);
+                }
+            }
+            enumValueArray = null;
+        } else if (storageType == StorageType.INTEGRAL) {
+            for (var slot = 0; slot < integralValueArray.length; slot++) {
+                var value = integralValueArray[slot];
+                if (value != null) {
+                    newGenericMap.put(boxIntegralKey(integralKeyArray[slot]), (Value_) value);
+                }
+            }
+            integralKeyArray = null;
+            integralValueArray = null;
+        }
+        storageType = StorageType.GENERIC;
+        keyClass = null;
+        genericMap = newGenericMap;
+    }
+
+    private Key_ boxIntegralKey(long key) {
+        Object boxedKey;
+        if (keyClass == Integer.class) {
+            boxedKey = (int) key;
+        } else if (keyClass == Long.class) {
+            boxedKey = key;
+        } else if (keyClass == Short.class) {
+            boxedKey = (short) key;
+        } else if (keyClass == Byte.class) {
+            boxedKey = (byte) key;
+        } else {
+            throw new IllegalStateException("Impossible state: the keyClass (%s) is not integral."
+                    .formatted(keyClass));
+        }
+        return (Key_) boxedKey;
+    }
+
+    // ************************************************************************
+    // Open-addressing table for integral keys, with linear probing
+    // ************************************************************************
+
+    private void allocateIntegralArrays(int capacity) {
+        integralKeyArray = new long[capacity];
+        integralValueArray = new Object[capacity];
+        integralHashShift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    /**
+     * Fibonacci hashing spreads consecutive ids, a common case for keys, over the whole table.
+     */
+    private int homeSlot(long key) {
+        return (int) ((key * FIBONACCI_HASH_MULTIPLIER) >>> integralHashShift);
+    }
+
+    /**
+     * @return the slot of the key, or -1 if the key is absent
+     */
+    private int findIntegralSlot(long key) {
+        var mask = integralKeyArray.length - 1;
+        var slot = homeSlot(key);
+        while (integralValueArray[slot] != null) {
+            if (integralKeyArray[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void putIntegral(long key, Object value) {
+        var mask = integralKeyArray.length - 1;
+        var slot = homeSlot(key);
+        while (integralValueArray[slot] != null) {
+            if (integralKeyArray[slot] == key) {
+                integralValueArray[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        integralKeyArray[slot] = key;
+        integralValueArray[slot] = value;
+        size++;
+        if (size > integralKeyArray.length * LOAD_FACTOR) {
+            resizeIntegral(integralKeyArray.length * 2);
+        }
+    }
+
+    private void resizeIntegral(int newCapacity) {
+        var oldKeyArray = integralKeyArray;
+        var oldValueArray = integralValueArray;
+        allocateIntegralArrays(newCapacity);
+        var mask = newCapacity - 1;
+        for (var oldSlot = 0; oldSlot < oldValueArray.length; oldSlot++) {
+            var value = oldValueArray[oldSlot];
+            if (value != null) {
+                var key = oldKeyArray[oldSlot];
+                var slot = homeSlot(key);
+                while (integralValueArray[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                integralKeyArray[slot] = key;
+                integralValueArray[slot] = value;
+            }
+        }
+    }
+
+    /**
+     * Removes without tombstones, by shifting back the entries of the same probe sequence,
+     * so that lookups never have to skip deleted slots.
+     */
+    private @Nullable Value_ removeIntegral(long key) {
+        var slot = findIntegralSlot(key);
+        if (slot < 0) {
+            return null;
+        }
+        var oldValue = (Value_) integralValueArray[slot];
+        var mask = integralKeyArray.length - 1;
+        var emptySlot = slot;
+        var candidateSlot = slot;
+        while (true) {
+            candidateSlot = (candidateSlot + 1) & mask;
+            if (integralValueArray[candidateSlot] == null) {
+                break;
+            }
+            var candidateHomeSlot = homeSlot(integralKeyArray[candidateSlot]);
+            // The candidate may only move back if its home slot does not lie cyclically in (emptySlot, candidateSlot].
+            var staysInPlace = emptySlot <= candidateSlot
+                    ? emptySlot < candidateHomeSlot && candidateHomeSlot <= candidateSlot
+                    : emptySlot < candidateHomeSlot || candidateHomeSlot <= candidateSlot;
+            if (!staysInPlace) {
+                integralKeyArray[emptySlot] = integralKeyArray[candidateSlot];
+                integralValueArray[emptySlot] = integralValueArray[candidateSlot];
+                emptySlot = candidateSlot;
+            }
+        }
+        integralValueArray[emptySlot] = null;
+        return oldValue;
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + size;
+    }
+
+}
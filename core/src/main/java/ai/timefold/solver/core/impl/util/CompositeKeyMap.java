@@ -0,0 +1,209 @@
+package ai.timefold.solver.core.impl.util;
+
+import java.util.Arrays;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A hash map for the hot paths of Bavet nodes, whose keys consist of a fixed number of components,
+ * such as the group keys of {@code groupBy(Shift::getEmployee, Shift::getDate, count())}.
+ * <p>
+ * The caller passes the components of a key in an array, which it may reuse for the next call;
+ * the map copies the components it needs to keep.
+ * Therefore, unlike a {@link java.util.HashMap} keyed by {@link Pair} or {@link Triple},
+ * neither a lookup nor an insert creates a composite key or an entry.
+ * The components and the hash of every key are stored in an open-addressing table with linear probing,
+ * and the hash is compared before the components, so that {@link Object#equals(Object)} is only called on a likely match.
+ * <p>
+ * Key components may be {@code null}.
+ * Values must not be {@code null}, as {@code null} signifies an absent key.
+ * This class is not thread-safe.
+ *
+ * @param <Value_> the value type
+ */
+@NullMarked
+public final class CompositeKeyMap<Value_> {
+
+    // See AdaptiveKeyMap for the rationale behind the capacity and the load factor.
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+    private static final int FIBONACCI_HASH_MULTIPLIER = 0x9E3779B9;
+
+    private final int arity;
+    private @Nullable Object[] componentArray;
+    private int[] hashArray;
+    private @Nullable Object[] valueArray;
+    private int hashShift;
+    private int size = 0;
+
+    public CompositeKeyMap(int arity) {
+        if (arity < 1) {
+            throw new IllegalArgumentException("The arity (%d) must be at least 1.".formatted(arity));
+        }
+        this.arity = arity;
+        allocateArrays(INITIAL_CAPACITY);
+    }
+
+    public int arity() {
+        return arity;
+    }
+
+    /**
+     * @param components the components of the key, the array length at least {@link #arity()}
+     * @return the value, or null if the key is absent
+     */
+    public @Nullable Value_ get(@Nullable Object[] components) {
+        var slot = findSlot(components, hash(components));
+        return slot < 0 ? null : (Value_) valueArray[slot];
+    }
+
+    /**
+     * @param components the components of the key, the array length at least {@link #arity()}
+     * @param value never null
+     */
+    public void put(@Nullable Object[] components, Value_ value) {
+        var hash = hash(components);
+        var mask = valueArray.length - 1;
+        var slot = homeSlot(hash);
+        while (valueArray[slot] != null) {
+            if (hashArray[slot] == hash && componentsEqual(slot, components)) {
+                valueArray[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        System.arraycopy(components, 0, componentArray, slot * arity, arity);
+        hashArray[slot] = hash;
+        valueArray[slot] = value;
+        size++;
+        if (size > valueArray.length * LOAD_FACTOR) {
+            resize(valueArray.length * 2);
+        }
+    }
+
+    /**
+     * @param components the components of the key, the array length at least {@link #arity()}
+     * @return the value previously associated with the key, or null if there was none
+     */
+    public @Nullable Value_ remove(@Nullable Object[] components) {
+        var slot = findSlot(components, hash(components));
+        if (slot < 0) {
+            return null;
+        }
+        var oldValue = (Value_) valueArray[slot];
+        var mask = valueArray.length - 1;
+        var emptySlot = slot;
+        var candidateSlot = slot;
+        // Removes without tombstones, as in AdaptiveKeyMap.
+        while (true) {
+            candidateSlot = (candidateSlot + 1) & mask;
+            if (valueArray[candidateSlot] == null) {
+                break;
+            }
+            var candidateHomeSlot = homeSlot(hashArray[candidateSlot]);
+            // The candidate may only move back if its home slot does not lie cyclically in (emptySlot, candidateSlot].
+            var staysInPlace = emptySlot <= candidateSlot
+                    ? emptySlot < candidateHomeSlot && candidateHomeSlot <= candidateSlot
+                    : emptySlot < candidateHomeSlot || candidateHomeSlot <= candidateSlot;
+            if (!staysInPlace) {
+                moveSlot(candidateSlot, emptySlot);
+                emptySlot = candidateSlot;
+            }
+        }
+        Arrays.fill(componentArray, emptySlot * arity, (emptySlot + 1) * arity, null);
+        valueArray[emptySlot] = null;
+        size--;
+        return oldValue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int hash(@Nullable Object[] components) {
+        // Same as the hashCode() of Pair, Triple and Quadruple, so that both spread keys alike.
+        var hash = 1;
+        for (var i = 0; i < arity; i++) {
+            var component = components[i];
+            hash = 31 * hash + (component == null ? 0 : component.hashCode());
+        }
+        return hash;
+    }
+
+    /**
+     * Fibonacci hashing spreads the poorly distributed lower bits of polynomial hashes over the whole table.
+     */
+    private int homeSlot(int hash) {
+        return (hash * FIBONACCI_HASH_MULTIPLIER) >>> hashShift;
+    }
+
+    private int findSlot(@Nullable Object[] components, int hash) {
+        var mask = valueArray.length - 1;
+        var slot = homeSlot(hash);
+        while (valueArray[slot] != null) {
+            if (hashArray[slot] == hash && componentsEqual(slot, components)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private boolean componentsEqual(int slot, @Nullable Object[] components) {
+        var offset = slot * arity;
+        for (var i = 0; i < arity; i++) {
+            var stored = componentArray[offset + i];
+            var component = components[i];
+            // We do not use Objects.equals(...) due to https://bugs.openjdk.org/browse/JDK-8015417.
+            if (stored != component && (stored == null || !stored.equals(component))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void moveSlot(int fromSlot, int toSlot) {
+        System.arraycopy(componentArray, fromSlot * arity, componentArray, toSlot * arity, arity);
+        hashArray[toSlot] = hashArray[fromSlot];
+        valueArray[toSlot] = valueArray[fromSlot];
+    }
+
+    private void allocateArrays(int capacity) {
+        componentArray = new Object[capacity * arity];
+        hashArray = new int[capacity];
+        valueArray = new Object[capacity];
+        hashShift = Integer.SIZE - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    private void resize(int newCapacity) {
+        var oldComponentArray = componentArray;
+        var oldHashArray = hashArray;
+        var oldValueArray = valueArray;
+        allocateArrays(newCapacity);
+        var mask = newCapacity - 1;
+        for (var oldSlot = 0; oldSlot < oldValueArray.length; oldSlot++) {
+            var value = oldValueArray[oldSlot];
+            if (value != null) {
+                var hash = oldHashArray[oldSlot];
+                var slot = homeSlot(hash);
+                while (valueArray[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                System.arraycopy(oldComponentArray, oldSlot * arity, componentArray, slot * arity, arity);
+                hashArray[slot] = hash;
+                valueArray[slot] = value;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + size;
+    }
+
+}
@@ -94,10 +94,12 @@ module ai.timefold.solver.core {
             ai.timefold.solver.enterprise.core;
     exports ai.timefold.solver.core.impl.domain.solution.cloner.gizmo
             to ai.timefold.solver.quarkus.deployment;
+    exports ai.timefold.solver.core.impl.bavet.common.tuple.gizmo
+            to ai.timefold.solver.quarkus, ai.timefold.solver.quarkus.deployment;
     exports ai.timefold.solver.core.impl.domain.common.accessor
-            to ai.timefold.solver.quarkus.deployment, ai.timefold.solver.quarkus;
+            to ai.timefold.solver.quarkus.deployment, ai.timefold.solver.quarkus, ai.timefold.solver.snapshot;
     exports ai.timefold.solver.core.impl.domain.common
-            to ai.timefold.solver.quarkus.deployment;
+            to ai.timefold.solver.quarkus.deployment, ai.timefold.solver.snapshot;
     exports ai.timefold.solver.core.impl.domain.entity.descriptor
             to ai.timefold.solver.jackson, ai.timefold.solver.jaxb, ai.timefold.solver.benchmark,
             ai.timefold.solver.spring.boot.autoconfigure, ai.timefold.solver.quarkus.integration.test,
@@ -146,10 +148,11 @@ module ai.timefold.solver.core {
     exports ai.timefold.solver.core.impl.score.constraint to ai.timefold.solver.benchmark,
             ai.timefold.solver.enterprise.core;
     exports ai.timefold.solver.core.impl.score.definition
-            to ai.timefold.solver.benchmark,
+            to ai.timefold.solver.benchmark, ai.timefold.solver.snapshot,
             ai.timefold.solver.enterprise.core;
     exports ai.timefold.solver.core.impl.score.director.easy to ai.timefold.solver.benchmark,
             ai.timefold.solver.enterprise.core;
+    exports ai.timefold.solver.core.impl.score.director.stream to ai.timefold.solver.quarkus.deployment;
     exports ai.timefold.solver.core.impl.score.stream.common
             to ai.timefold.solver.quarkus, ai.timefold.solver.spring.boot.autoconfigure;
     exports ai.timefold.solver.core.impl.score.stream.collector
@@ -169,6 +172,7 @@ module ai.timefold.solver.core {
             ai.timefold.solver.enterprise.quarkus.jackson;
     exports ai.timefold.solver.core.impl.solver.monitoring to ai.timefold.solver.benchmark,
             ai.timefold.solver.enterprise.core;
+    exports ai.timefold.solver.core.impl.solver.monitoring.statistic to ai.timefold.solver.benchmark;
     exports ai.timefold.solver.core.impl.solver.scope to
             ai.timefold.solver.jackson, ai.timefold.solver.benchmark, ai.timefold.solver.spring.boot.autoconfigure,
             ai.timefold.solver.quarkus.deployment, ai.timefold.solver.quarkus.integration.test,
@@ -176,7 +180,7 @@ module ai.timefold.solver.core {
     exports ai.timefold.solver.core.impl.solver.thread
             to ai.timefold.solver.enterprise.core, ai.timefold.solver.benchmark;
     exports ai.timefold.solver.core.impl.util
-            to ai.timefold.solver.jackson, ai.timefold.solver.benchmark,
+            to ai.timefold.solver.jackson, ai.timefold.solver.benchmark, ai.timefold.solver.snapshot,
             ai.timefold.solver.quarkus.deployment, ai.timefold.solver.quarkus.jackson,
             ai.timefold.solver.enterprise.core, ai.timefold.solver.enterprise.quarkus.deployment;
 
@@ -1315,6 +1315,77 @@ class SolverManagerTest {
         }
     }
 
+    @Test
+    @Timeout(60)
+    void solveWithPriority_highestQueuedJobStartsFirst() throws InterruptedException, ExecutionException {
+        var firstJobStartedLatch = new CountDownLatch(1);
+        var firstJobReleaseLatch = new CountDownLatch(1);
+        var startedProblemCodeList = Collections.synchronizedList(new ArrayList<String>());
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(
+                        (PhaseCommand<TestdataSolution>) context -> {
+                            var code = context.getWorkingSolution().getCode();
+                            startedProblemCodeList.add(code);
+                            if (code.equals(DEFAULT_PROBLEM_FINDER.apply(1L).getCode())) {
+                                firstJobStartedLatch.countDown();
+                                try {
+                                    firstJobReleaseLatch.await();
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                    fail("Latch failed.");
+                                }
+                            }
+                        }), new ConstructionHeuristicPhaseConfig());
+        try (var solverManager = createSolverManagerWithOneSolver(solverConfig)) {
+            var solverJob1 = solverManager.solveBuilder()
+                    .withProblemId(1L)
+                    .withProblemFinder(DEFAULT_PROBLEM_FINDER)
+                    .run();
+            firstJobStartedLatch.await();
+            var solverJob2 = solverManager.solveBuilder()
+                    .withProblemId(2L)
+                    .withProblemFinder(DEFAULT_PROBLEM_FINDER)
+                    .run();
+            var solverJob3 = solverManager.solveBuilder()
+                    .withProblemId(3L)
+                    .withProblemFinder(DEFAULT_PROBLEM_FINDER)
+                    .withPriority(10)
+                    .run();
+            var solverJob4 = solverManager.solveBuilder()
+                    .withProblemId(4L)
+                    .withProblemFinder(DEFAULT_PROBLEM_FINDER)
+                    .run();
+            firstJobReleaseLatch.countDown();
+            for (var solverJob : List.of(solverJob1, solverJob2, solverJob3, solverJob4)) {
+                assertSolutionInitialized(solverJob.getFinalBestSolution());
+            }
+            assertThat(startedProblemCodeList)
+                    .containsExactly(DEFAULT_PROBLEM_FINDER.apply(1L).getCode(), DEFAULT_PROBLEM_FINDER.apply(3L).getCode(),
+                            DEFAULT_PROBLEM_FINDER.apply(2L).getCode(), DEFAULT_PROBLEM_FINDER.apply(4L).getCode());
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void virtualConsumerThreadsAreUsed() throws InterruptedException {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        var solverManagerConfig = new SolverManagerConfig().withVirtualConsumerThreads(true);
+        try (var solverManager = createSolverManager(solverConfig, solverManagerConfig)) {
+            var consumerThreadVirtual = new AtomicBoolean(false);
+            var consumedLatch = new CountDownLatch(1);
+            solverManager.solveBuilder()
+                    .withProblemId(1L)
+                    .withProblemFinder(DEFAULT_PROBLEM_FINDER)
+                    .withFinalBestSolutionEventConsumer(event -> {
+                        consumerThreadVirtual.set(Thread.currentThread().isVirtual());
+                        consumedLatch.countDown();
+                    })
+                    .run();
+            consumedLatch.await();
+            assertThat(consumerThreadVirtual).isTrue();
+        }
+    }
+
     record InitialSolutionEvent(MutableBoolean isInitializedRef, MutableReference<EventProducerId> producerIdRef) {
         InitialSolutionEvent() {
             this(new MutableBoolean(false), new MutableReference<>(null));
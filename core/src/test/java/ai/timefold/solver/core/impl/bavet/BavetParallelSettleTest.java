@@ -0,0 +1,130 @@
+package ai.timefold.solver.core.impl.bavet;
+
+import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ForkJoinPool;
+
+import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.common.AbstractNode;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirector;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.core.testdomain.score.lavish.TestdataLavishEntity;
+import ai.timefold.solver.core.testdomain.score.lavish.TestdataLavishEntityGroup;
+import ai.timefold.solver.core.testdomain.score.lavish.TestdataLavishSolution;
+import ai.timefold.solver.core.testdomain.score.lavish.TestdataLavishValue;
+import ai.timefold.solver.core.testdomain.score.lavish.TestdataLavishValueGroup;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class BavetParallelSettleTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdownNow();
+    }
+
+    private static final class DisjointConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory factory) {
+            return new Constraint[] {
+                    factory.forEach(TestdataLavishEntity.class)
+                            .join(TestdataLavishValue.class, equal(TestdataLavishEntity::getValue, value -> value))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("entityJoinValue"),
+                    factory.forEach(TestdataLavishEntityGroup.class)
+                            .ifExists(TestdataLavishEntity.class, equal(group -> group, TestdataLavishEntity::getEntityGroup))
+                            .reward(SimpleScore.of(2))
+                            .asConstraint("usedEntityGroup"),
+                    factory.forEach(TestdataLavishValueGroup.class)
+                            .groupBy(ConstraintCollectors.count())
+                            .penalize(SimpleScore.ONE, count -> count * count)
+                            .asConstraint("valueGroupCount")
+            };
+        }
+
+    }
+
+    private static BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore>
+            buildScoreDirector(@Nullable ForkJoinPool initializationPool) {
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore>(
+                TestdataLavishSolution.buildSolutionDescriptor(), new DisjointConstraintProvider(),
+                EnvironmentMode.PHASE_ASSERT);
+        return scoreDirectorFactory.createScoreDirectorBuilder()
+                .withConstraintMatchPolicy(ConstraintMatchPolicy.ENABLED)
+                .withInitializationPool(initializationPool)
+                .build();
+    }
+
+    @Test
+    void networkSplitsIntoBranches() {
+        try (var scoreDirector = buildScoreDirector(pool)) {
+            scoreDirector.setWorkingSolution(TestdataLavishSolution.generateSolution(2, 10, 3, 50));
+            AbstractBavetNodeNetwork nodeNetwork = scoreDirector.getSession().getNodeNetwork();
+            // The join of entities and values shares the entity forEach with the ifExists of entity groups;
+            // value groups are counted in a branch of their own.
+            assertThat(nodeNetwork.getNodes().stream().mapToInt(AbstractNode::getBranchIndex).distinct().count())
+                    .isGreaterThanOrEqualTo(2);
+        }
+    }
+
+    @Test
+    void sameScoreAsSequential() {
+        var solution = TestdataLavishSolution.generateSolution(3, 20, 5, 200);
+        try (var sequentialScoreDirector = buildScoreDirector(null);
+                var parallelScoreDirector = buildScoreDirector(pool)) {
+            sequentialScoreDirector.setWorkingSolution(solution);
+            parallelScoreDirector.setWorkingSolution(solution);
+            var expectedScore = sequentialScoreDirector.calculateScore();
+            assertThat(parallelScoreDirector.calculateScore()).isEqualTo(expectedScore);
+            var expectedConstraintMatchTotalMap = sequentialScoreDirector.getConstraintMatchTotalMap();
+            assertThat(parallelScoreDirector.getConstraintMatchTotalMap())
+                    .hasSameSizeAs(expectedConstraintMatchTotalMap)
+                    .allSatisfy((constraintRef, constraintMatchTotal) -> {
+                        var expectedConstraintMatchTotal = expectedConstraintMatchTotalMap.get(constraintRef);
+                        assertThat(constraintMatchTotal.getScore()).isEqualTo(expectedConstraintMatchTotal.getScore());
+                        assertThat(constraintMatchTotal.getConstraintMatchCount())
+                                .isEqualTo(expectedConstraintMatchTotal.getConstraintMatchCount());
+                    });
+        }
+    }
+
+    @Test
+    void incrementalAfterParallelSettle() {
+        var solution = TestdataLavishSolution.generateSolution(3, 20, 5, 200);
+        try (var parallelScoreDirector = buildScoreDirector(pool)) {
+            parallelScoreDirector.setWorkingSolution(solution);
+            parallelScoreDirector.calculateScore();
+
+            var entity = solution.getEntityList().get(0);
+            var value = solution.getValueList().get(1);
+            parallelScoreDirector.beforeVariableChanged(entity, "value");
+            entity.setValue(value);
+            parallelScoreDirector.afterVariableChanged(entity, "value");
+            var score = parallelScoreDirector.calculateScore();
+
+            try (var sequentialScoreDirector = buildScoreDirector(null)) {
+                sequentialScoreDirector.setWorkingSolution(solution);
+                assertThat(score).isEqualTo(sequentialScoreDirector.calculateScore());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+package ai.timefold.solver.core.impl.bavet.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintRef;
+import ai.timefold.solver.core.impl.bavet.common.InnerConstraintProfiler.Operation;
+
+import org.junit.jupiter.api.Test;
+
+class SamplingConstraintProfilerTest {
+
+    private static ConstraintNodeProfileId profileId(long key) {
+        return new ConstraintNodeProfileId(key, StreamKind.FILTER, new TreeSet<>());
+    }
+
+    @Test
+    void samplingIntervalMustBePowerOfTwo() {
+        assertThatThrownBy(() -> new SamplingConstraintProfiler(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SamplingConstraintProfiler(3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void tupleCountFollowsNestedInsertsAndRetracts() {
+        var profiler = new SamplingConstraintProfiler();
+        var propagatorId = profileId(0);
+        var lifecycleId = profileId(1);
+        profiler.register(propagatorId);
+        profiler.register(lifecycleId);
+        var constraintRef = ConstraintRef.of("constraint");
+        profiler.registerConstraint(constraintRef, Set.of(propagatorId, lifecycleId));
+
+        profiler.measure(propagatorId, Operation.INSERT, () -> {
+            profiler.measure(lifecycleId, Operation.INSERT, () -> {
+            });
+            profiler.measure(lifecycleId, Operation.INSERT, () -> {
+            });
+            profiler.measure(lifecycleId, Operation.UPDATE, () -> {
+            });
+        });
+        profiler.measure(propagatorId, Operation.RETRACT,
+                () -> profiler.measure(lifecycleId, Operation.RETRACT, () -> {
+                }));
+
+        assertThat(profiler.getNodeTupleCount(lifecycleId)).isOne();
+        assertThat(profiler.getNodeTupleCount(propagatorId)).isZero();
+        assertThat(profiler.getConstraintTupleCount(constraintRef)).isOne();
+        assertThat(profiler.getConstraintNanos(constraintRef))
+                .isEqualTo(profiler.getNodeNanos(propagatorId) + profiler.getNodeNanos(lifecycleId));
+    }
+
+    @Test
+    void nestedTimeIsChargedToTheLifecycle() {
+        var profiler = new SamplingConstraintProfiler(1);
+        var propagatorId = profileId(0);
+        var lifecycleId = profileId(1);
+        profiler.register(propagatorId);
+        profiler.register(lifecycleId);
+
+        var start = System.nanoTime();
+        profiler.measure(propagatorId, Operation.INSERT, () -> {
+            spin(1_000_000L);
+            profiler.measure(lifecycleId, Operation.INSERT, () -> spin(2_000_000L));
+        });
+        var totalNanos = System.nanoTime() - start;
+
+        assertThat(profiler.getNodeNanos(lifecycleId)).isGreaterThanOrEqualTo(2_000_000L);
+        assertThat(profiler.getNodeNanos(propagatorId))
+                .isGreaterThanOrEqualTo(1_000_000L)
+                .isLessThanOrEqualTo(totalNanos - profiler.getNodeNanos(lifecycleId));
+    }
+
+    @Test
+    void unsampledLifecycleIsRecordedWithoutMeasuring() {
+        var profiler = new SamplingConstraintProfiler(2);
+        var propagatorId = profileId(0);
+        var lifecycleId = profileId(1);
+        profiler.register(propagatorId);
+        profiler.register(lifecycleId);
+
+        // Outside a propagation, the lifecycle is a propagation of its own.
+        assertThat(profiler.recordWithoutMeasuring(lifecycleId, Operation.INSERT)).isFalse();
+        // The first propagation is timed, and so are the lifecycles within it.
+        profiler.measure(propagatorId, Operation.INSERT,
+                () -> assertThat(profiler.recordWithoutMeasuring(lifecycleId, Operation.INSERT)).isFalse());
+        // The second one is not, so the lifecycles only need to be counted.
+        profiler.measure(propagatorId, Operation.INSERT,
+                () -> assertThat(profiler.recordWithoutMeasuring(lifecycleId, Operation.INSERT)).isTrue());
+        assertThat(profiler.getNodeTupleCount(lifecycleId)).isOne();
+    }
+
+    private static void spin(long nanos) {
+        var start = System.nanoTime();
+        while (System.nanoTime() - start < nanos) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @Test
+    void unknownIds() {
+        var profiler = new SamplingConstraintProfiler();
+        profiler.register(profileId(0));
+        assertThat(profiler.isProfiled(profileId(0))).isTrue();
+        assertThat(profiler.isProfiled(profileId(1000))).isFalse();
+        assertThat(profiler.isProfiled(ConstraintRef.of("unknown"))).isFalse();
+        assertThatThrownBy(() -> profiler.getNodeNanos(profileId(1000)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> profiler.getConstraintNanos(ConstraintRef.of("unknown")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
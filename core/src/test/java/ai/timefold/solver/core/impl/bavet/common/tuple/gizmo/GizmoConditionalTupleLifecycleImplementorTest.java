@@ -0,0 +1,99 @@
+package ai.timefold.solver.core.impl.bavet.common.tuple.gizmo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import ai.timefold.solver.core.api.function.QuadPredicate;
+import ai.timefold.solver.core.impl.bavet.common.tuple.BiTuple;
+import ai.timefold.solver.core.impl.bavet.common.tuple.QuadTuple;
+import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.core.impl.domain.common.accessor.gizmo.GizmoClassLoader;
+
+import org.junit.jupiter.api.Test;
+
+class GizmoConditionalTupleLifecycleImplementorTest {
+
+    private static String getClassName(int arity, int index) {
+        return GizmoConditionalTupleLifecycleImplementor.getGeneratedClassName(
+                GizmoConditionalTupleLifecycleImplementorTest.class.getName(), arity, index);
+    }
+
+    @Test
+    void filterUniTuples() {
+        var prototype = GizmoConditionalTupleLifecycleImplementor.createPrototype(getClassName(1, 0), 1,
+                new GizmoClassLoader());
+        assertThat(prototype.getArity()).isEqualTo(1);
+
+        TupleLifecycle<UniTuple<String>> downstream = mock(TupleLifecycle.class);
+        Predicate<String> predicate = a -> a.startsWith("accepted");
+        var lifecycle = prototype.specialize(downstream, predicate);
+        var acceptedTuple = UniTuple.of("accepted", 0);
+        var rejectedTuple = UniTuple.of("rejected", 0);
+
+        lifecycle.insert(acceptedTuple);
+        lifecycle.insert(rejectedTuple);
+        verify(downstream).insert(acceptedTuple);
+        verify(downstream, never()).insert(rejectedTuple);
+
+        lifecycle.update(acceptedTuple);
+        lifecycle.update(rejectedTuple);
+        verify(downstream).update(acceptedTuple);
+        verify(downstream, never()).update(rejectedTuple);
+        verify(downstream).retract(rejectedTuple);
+
+        lifecycle.retract(acceptedTuple);
+        verify(downstream).retract(acceptedTuple);
+    }
+
+    @Test
+    void filterQuadTuples() {
+        var prototype = GizmoConditionalTupleLifecycleImplementor.createPrototype(getClassName(4, 0), 4,
+                new GizmoClassLoader());
+        assertThat(prototype.getArity()).isEqualTo(4);
+
+        TupleLifecycle<QuadTuple<Integer, Integer, Integer, Integer>> downstream = mock(TupleLifecycle.class);
+        QuadPredicate<Integer, Integer, Integer, Integer> predicate = (a, b, c, d) -> a + b + c + d == 10;
+        var lifecycle = prototype.specialize(downstream, predicate);
+        var acceptedTuple = QuadTuple.of(1, 2, 3, 4, 0);
+        var rejectedTuple = QuadTuple.of(4, 3, 2, 0, 0);
+
+        lifecycle.insert(acceptedTuple);
+        lifecycle.insert(rejectedTuple);
+        verify(downstream).insert(acceptedTuple);
+        verify(downstream, never()).insert(rejectedTuple);
+    }
+
+    @Test
+    void everyPrototypeHasItsOwnClass() {
+        var gizmoClassLoader = new GizmoClassLoader();
+        var firstPrototype = GizmoConditionalTupleLifecycleImplementor.createPrototype(getClassName(2, 0), 2,
+                gizmoClassLoader);
+        var secondPrototype = GizmoConditionalTupleLifecycleImplementor.createPrototype(getClassName(2, 1), 2,
+                gizmoClassLoader);
+        assertThat(firstPrototype.getClass()).isNotEqualTo(secondPrototype.getClass());
+
+        TupleLifecycle<BiTuple<String, String>> downstream = mock(TupleLifecycle.class);
+        BiPredicate<String, String> predicate = String::equals;
+        assertThat(firstPrototype.specialize(downstream, predicate))
+                .isExactlyInstanceOf(firstPrototype.getClass());
+        assertThat(secondPrototype.specialize(downstream, predicate))
+                .isExactlyInstanceOf(secondPrototype.getClass());
+    }
+
+    @Test
+    void invalidArity() {
+        var gizmoClassLoader = new GizmoClassLoader();
+        assertThatThrownBy(() -> GizmoConditionalTupleLifecycleImplementor.createPrototype(getClassName(5, 0), 5,
+                gizmoClassLoader))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("arity (5)");
+    }
+
+}
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Consumer;
 
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
@@ -113,4 +114,103 @@ class ExternalizedListVariableStateSupplyTest {
         }
     }
 
+    @Test
+    void assignValueAddedAfterReset() {
+        var variableDescriptor = TestdataAllowsUnassignedValuesListEntity.buildVariableDescriptorForValueList();
+        @SuppressWarnings("unchecked")
+        var notifier = (Consumer<Object>) mock(Consumer.class);
+        try (var supply = new ExternalizedListVariableStateSupply<>(variableDescriptor, notifier)) {
+
+            var v1 = new TestdataAllowsUnassignedValuesListValue("1");
+            var v2 = new TestdataAllowsUnassignedValuesListValue("2");
+            var e1 = new TestdataAllowsUnassignedValuesListEntity("e1", v1);
+
+            var solution = new TestdataAllowsUnassignedValuesListSolution();
+            solution.setEntityList(new ArrayList<>(List.of(e1)));
+            solution.setValueList(new ArrayList<>(List.of(v1, v2)));
+
+            var scoreDirector = mock(InnerScoreDirector.class);
+            var valueRangeManager =
+                    ValueRangeManager.of(variableDescriptor.getEntityDescriptor().getSolutionDescriptor(), solution);
+            when(scoreDirector.getValueRangeManager()).thenReturn(valueRangeManager);
+            when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+            supply.resetWorkingSolution(scoreDirector);
+
+            // v3 is not known to the supply yet, as if it were added by a problem change.
+            var v3 = new TestdataAllowsUnassignedValuesListValue("3");
+            e1.getValueList().add(0, v3);
+            e1.getValueList().add(v2);
+            supply.afterListVariableChanged(scoreDirector, e1, 0, 3);
+            assertSoftly(softly -> {
+                softly.assertThat(supply.getElementPosition(v3)).isEqualTo(ElementPosition.of(e1, 0));
+                softly.assertThat(supply.getElementPosition(v1)).isEqualTo(ElementPosition.of(e1, 1));
+                softly.assertThat(supply.getElementPosition(v2)).isEqualTo(ElementPosition.of(e1, 2));
+                softly.assertThat(supply.getPreviousElement(v1)).isSameAs(v3);
+                softly.assertThat(supply.getNextElement(v1)).isSameAs(v2);
+            });
+
+            e1.getValueList().remove(v3);
+            supply.afterListElementUnassigned(scoreDirector, v3);
+            supply.afterListVariableChanged(scoreDirector, e1, 0, 0);
+            assertSoftly(softly -> {
+                softly.assertThat(supply.getElementPosition(v3)).isEqualTo(ElementPosition.unassigned());
+                softly.assertThat(supply.getElementPosition(v1)).isEqualTo(ElementPosition.of(e1, 0));
+                softly.assertThat(supply.getElementPosition(v2)).isEqualTo(ElementPosition.of(e1, 1));
+            });
+        }
+    }
+
+    @Test
+    void reassignAfterUnassign() {
+        var variableDescriptor = TestdataAllowsUnassignedValuesListEntity.buildVariableDescriptorForValueList();
+        @SuppressWarnings("unchecked")
+        var notifier = (Consumer<Object>) mock(Consumer.class);
+        try (var supply = new ExternalizedListVariableStateSupply<>(variableDescriptor, notifier)) {
+
+            var v1 = new TestdataAllowsUnassignedValuesListValue("1");
+            var v2 = new TestdataAllowsUnassignedValuesListValue("2");
+            var v3 = new TestdataAllowsUnassignedValuesListValue("3");
+            var e1 = new TestdataAllowsUnassignedValuesListEntity("e1", v1, v2);
+            var e2 = new TestdataAllowsUnassignedValuesListEntity("e2");
+
+            var solution = new TestdataAllowsUnassignedValuesListSolution();
+            solution.setEntityList(new ArrayList<>(Arrays.asList(e1, e2)));
+            solution.setValueList(Arrays.asList(v1, v2, v3));
+
+            var scoreDirector = mock(InnerScoreDirector.class);
+            var valueRangeManager =
+                    ValueRangeManager.of(variableDescriptor.getEntityDescriptor().getSolutionDescriptor(), solution);
+            when(scoreDirector.getValueRangeManager()).thenReturn(valueRangeManager);
+            when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+            supply.resetWorkingSolution(scoreDirector);
+            var oldPositionOfV1 = supply.getElementPosition(v1);
+
+            // The positions of the unassigned elements are reused when other elements are assigned.
+            e1.getValueList().clear();
+            supply.afterListElementUnassigned(scoreDirector, v1);
+            supply.afterListElementUnassigned(scoreDirector, v2);
+            supply.afterListVariableChanged(scoreDirector, e1, 0, 0);
+            e2.getValueList().addAll(List.of(v3, v1));
+            supply.afterListVariableChanged(scoreDirector, e2, 0, 2);
+            assertSoftly(softly -> {
+                softly.assertThat(supply.getUnassignedCount()).isEqualTo(1);
+                softly.assertThat(supply.getElementPosition(v3)).isEqualTo(ElementPosition.of(e2, 0));
+                softly.assertThat(supply.getElementPosition(v1)).isEqualTo(ElementPosition.of(e2, 1));
+                softly.assertThat(supply.getElementPosition(v2)).isEqualTo(ElementPosition.unassigned());
+                softly.assertThat(supply.getInverseSingleton(v3)).isSameAs(e2);
+                softly.assertThat(supply.getPreviousElement(v1)).isSameAs(v3);
+                softly.assertThat(oldPositionOfV1).isEqualTo(ElementPosition.of(e1, 0));
+            });
+
+            // Resetting the working solution reuses the positions too.
+            supply.resetWorkingSolution(scoreDirector);
+            assertSoftly(softly -> {
+                softly.assertThat(supply.getUnassignedCount()).isEqualTo(1);
+                softly.assertThat(supply.getElementPosition(v3)).isEqualTo(ElementPosition.of(e2, 0));
+                softly.assertThat(supply.getElementPosition(v1)).isEqualTo(ElementPosition.of(e2, 1));
+                softly.assertThat(supply.getElementPosition(v2)).isEqualTo(ElementPosition.unassigned());
+            });
+        }
+    }
+
 }
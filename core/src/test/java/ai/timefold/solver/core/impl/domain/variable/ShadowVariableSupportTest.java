@@ -318,6 +318,46 @@ class ShadowVariableSupportTest {
         assertThat((Collection<Object>) supply.getInverseCollection(val3)).containsExactly(a);
     }
 
+    @Test
+    void cancelledBasicVariableChangeHandlerIsNotDispatchedTo() {
+        var scoreDirector = basicScoreDirectorMock(TestdataSolution.buildSolutionDescriptor());
+        var shadowVariableSupport =
+                new ShadowVariableSupport<TestdataSolution>(scoreDirector, DefaultTopologicalOrderGraph::new);
+        shadowVariableSupport.linkShadowVariables();
+
+        var variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        var demand = new BasicVariableStateDemand<>(variableDescriptor);
+        var supply = shadowVariableSupport.demand(demand);
+        shadowVariableSupport.demand(demand);
+
+        var val1 = new TestdataValue("1");
+        var val2 = new TestdataValue("2");
+        var a = new TestdataEntity("a", val1);
+
+        var solution = new TestdataSolution("solution");
+        solution.setEntityList(List.of(a));
+        solution.setValueList(List.of(val1, val2));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        shadowVariableSupport.resetWorkingSolution();
+
+        // The supply is still demanded once.
+        shadowVariableSupport.cancel(demand);
+        shadowVariableSupport.beforeVariableChanged(variableDescriptor, a);
+        a.setValue(val2);
+        shadowVariableSupport.afterVariableChanged(variableDescriptor, a);
+        assertThat((Collection<Object>) supply.getInverseCollection(val2)).containsExactly(a);
+
+        // The supply is removed, so it is no longer kept up to date.
+        shadowVariableSupport.cancel(demand);
+        assertThat(shadowVariableSupport.getActiveCount(demand)).isZero();
+        shadowVariableSupport.beforeVariableChanged(variableDescriptor, a);
+        a.setValue(val1);
+        shadowVariableSupport.afterVariableChanged(variableDescriptor, a);
+        var newSupply = shadowVariableSupport.demand(demand);
+        assertThat(newSupply).isNotSameAs(supply);
+    }
+
     @Test
     void listVariableChangeIsDispatchedEagerly() {
         var variableDescriptor = TestdataAllowsUnassignedValuesListEntity.buildVariableDescriptorForValueList();
@@ -0,0 +1,32 @@
+package ai.timefold.solver.core.impl.domain.variable.declarative;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+public class IntArrayTopologicalGraphTest extends AbstractTopologicalGraphTest<IntArrayTopologicalOrderGraph> {
+
+    @Override
+    protected IntArrayTopologicalOrderGraph createTopologicalGraph(int graphSize) {
+        return new IntArrayTopologicalOrderGraph(graphSize);
+    }
+
+    @Override
+    protected void verifyConsistent(IntArrayTopologicalOrderGraph graph) {
+        // Every edge either stays within one component, or goes forward in the topological order.
+        graph.forEachEdge((from, to) -> {
+            var fromComponent = graph.getComponent(from);
+            if (fromComponent.contains(to)) {
+                assertThat(graph.getComponent(to)).containsExactlyInAnyOrderElementsOf(fromComponent);
+            } else {
+                assertThat(graph.getTopologicalOrder(from)).isLessThan(graph.getTopologicalOrder(to));
+            }
+        });
+    }
+
+    @Override
+    protected List<Integer> getComponentMembers(IntArrayTopologicalOrderGraph graph, int graphSize, int node) {
+        return graph.getComponent(node);
+    }
+
+}
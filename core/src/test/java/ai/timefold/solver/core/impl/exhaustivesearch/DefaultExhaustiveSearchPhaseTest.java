@@ -16,6 +16,8 @@ import java.util.List;
 
 import ai.timefold.solver.core.api.score.SimpleScore;
 import ai.timefold.solver.core.config.exhaustivesearch.ExhaustiveSearchPhaseConfig;
+import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
+import ai.timefold.solver.core.impl.exhaustivesearch.BlackBoxBasicVariableExhaustiveSearchPhaseTest.TestdataComparableDifferentValuesCalculator;
 import ai.timefold.solver.core.impl.exhaustivesearch.decider.BasicVariableExhaustiveSearchDecider;
 import ai.timefold.solver.core.impl.exhaustivesearch.decider.ListVariableExhaustiveSearchDecider;
 import ai.timefold.solver.core.impl.exhaustivesearch.node.ExhaustiveSearchLayer;
@@ -31,6 +33,8 @@ import ai.timefold.solver.core.preview.api.move.MutableSolutionView;
 import ai.timefold.solver.core.testdomain.TestdataEntity;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
 import ai.timefold.solver.core.testdomain.TestdataValue;
+import ai.timefold.solver.core.testdomain.comparable.TestdataDifficultyComparingEntity;
+import ai.timefold.solver.core.testdomain.comparable.TestdataDifficultyComparingSolution;
 import ai.timefold.solver.core.testdomain.list.TestdataListEntity;
 import ai.timefold.solver.core.testdomain.list.TestdataListSolution;
 import ai.timefold.solver.core.testdomain.list.TestdataListValue;
@@ -405,4 +409,44 @@ class DefaultExhaustiveSearchPhaseTest {
         assertThat(solution.getEntityList()).isEmpty();
     }
 
+    @Test
+    void solveWithExpandableNodeLimit() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataDifficultyComparingSolution.class,
+                TestdataDifficultyComparingEntity.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ExhaustiveSearchPhaseConfig()
+                .withExpandableNodeLimit(2)));
+        solverConfig.setScoreDirectorFactoryConfig(new ScoreDirectorFactoryConfig()
+                .withEasyScoreCalculatorClass(TestdataComparableDifferentValuesCalculator.class));
+
+        var solution = new TestdataDifficultyComparingSolution("s1");
+        solution.setEntityList(List.of(new TestdataDifficultyComparingEntity("e1"),
+                new TestdataDifficultyComparingEntity("e2"),
+                new TestdataDifficultyComparingEntity("e3"),
+                new TestdataDifficultyComparingEntity("e4")));
+        solution.setValueList(List.of(new TestdataValue("v1"),
+                new TestdataValue("v2"),
+                new TestdataValue("v3")));
+
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getEntityList())
+                .allSatisfy(entity -> assertThat(entity.getValue()).isNotNull());
+        // Spilled nodes are restored, so the optimal solution is still found.
+        assertThat(solution.getScore()).isEqualTo(SimpleScore.of(-1));
+    }
+
+    @Test
+    void solveWithInvalidExpandableNodeLimit() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ExhaustiveSearchPhaseConfig()
+                .withExpandableNodeLimit(1)));
+
+        var solution = new TestdataSolution("s1");
+        solution.setValueList(List.of(new TestdataValue("v1")));
+        solution.setEntityList(List.of(new TestdataEntity("e1")));
+        assertThatThrownBy(() -> PlannerTestUtils.solve(solverConfig, solution))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("expandableNodeLimit (1)");
+    }
+
 }
@@ -0,0 +1,112 @@
+package ai.timefold.solver.core.impl.exhaustivesearch.node;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Comparator;
+import java.util.TreeSet;
+
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+
+import org.junit.jupiter.api.Test;
+
+class ExhaustiveSearchNodeSpillTest {
+
+    private static TreeSet<ExhaustiveSearchNode<TestdataSolution>> buildQueue() {
+        // Least promising first, like the node comparators do.
+        return new TreeSet<>(Comparator.<ExhaustiveSearchNode<TestdataSolution>> comparingInt(
+                node -> node.getLayer().getDepth())
+                .thenComparingLong(ExhaustiveSearchNode::getBreadth));
+    }
+
+    private static ExhaustiveSearchNode<TestdataSolution> buildChild(ExhaustiveSearchLayer layer,
+            ExhaustiveSearchNode<TestdataSolution> parent, int moveIndex) {
+        var node = new ExhaustiveSearchNode<>(layer, parent);
+        node.setMoveIndex(moveIndex);
+        return node;
+    }
+
+    @Test
+    void limitMustBeAtLeastTwo() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ExhaustiveSearchNodeSpill<>(1));
+    }
+
+    @Test
+    void spillAndRestore() {
+        var rootLayer = new ExhaustiveSearchLayer(0, new Object());
+        var childLayer = new ExhaustiveSearchLayer(1, new Object());
+        var root = new ExhaustiveSearchNode<TestdataSolution>(rootLayer, null);
+        var queue = buildQueue();
+        try (var spill = new ExhaustiveSearchNodeSpill<TestdataSolution>(4)) {
+            for (var i = 0; i < 4; i++) {
+                queue.add(buildChild(childLayer, root, i));
+                spill.spillIfOverLimit(queue);
+            }
+            assertThat(queue).hasSize(4);
+            assertThat(spill.isEmpty()).isTrue();
+
+            queue.add(buildChild(childLayer, root, 4));
+            spill.spillIfOverLimit(queue);
+            assertThat(queue).hasSize(3)
+                    .extracting(ExhaustiveSearchNode::getMoveIndex)
+                    .containsExactly(2, 3, 4);
+            assertThat(spill.isEmpty()).isFalse();
+
+            var expansion = spill.pollExpansion();
+            assertThat(expansion.parent()).isSameAs(root);
+            assertThat(expansion.moveIndexes()).containsExactly(0, 1);
+            assertThat(spill.isEmpty()).isTrue();
+        }
+    }
+
+    @Test
+    void startNodeIsNeverSpilled() {
+        var rootLayer = new ExhaustiveSearchLayer(0, new Object());
+        var childLayer = new ExhaustiveSearchLayer(1, new Object());
+        var root = new ExhaustiveSearchNode<TestdataSolution>(rootLayer, null);
+        var queue = buildQueue();
+        try (var spill = new ExhaustiveSearchNodeSpill<TestdataSolution>(2)) {
+            queue.add(root);
+            queue.add(buildChild(childLayer, root, 0));
+            queue.add(buildChild(childLayer, root, 1));
+            spill.spillIfOverLimit(queue);
+            assertThat(queue).hasSize(2)
+                    .contains(root);
+            var expansion = spill.pollExpansion();
+            assertThat(expansion.moveIndexes()).containsExactly(0);
+        }
+    }
+
+    @Test
+    void restoreGroupsByParent() {
+        var rootLayer = new ExhaustiveSearchLayer(0, new Object());
+        var childLayer = new ExhaustiveSearchLayer(1, new Object());
+        var root = new ExhaustiveSearchNode<TestdataSolution>(rootLayer, null);
+        var parentA = buildChild(childLayer, root, 0);
+        var parentB = buildChild(childLayer, root, 1);
+        var grandChildLayer = new ExhaustiveSearchLayer(2, new Object());
+        var queue = buildQueue();
+        try (var spill = new ExhaustiveSearchNodeSpill<TestdataSolution>(8)) {
+            queue.add(buildChild(grandChildLayer, parentA, 3));
+            queue.add(buildChild(grandChildLayer, parentB, 0));
+            queue.add(buildChild(grandChildLayer, parentA, 1));
+            queue.add(buildChild(grandChildLayer, parentB, 2));
+            for (var i = 0; i < 5; i++) {
+                queue.add(buildChild(grandChildLayer, parentB, 10 + i));
+            }
+            spill.spillIfOverLimit(queue);
+            assertThat(queue).hasSize(5);
+
+            var first = spill.pollExpansion();
+            var second = spill.pollExpansion();
+            assertThat(spill.isEmpty()).isTrue();
+            var expansionA = first.parent() == parentA ? first : second;
+            var expansionB = first.parent() == parentA ? second : first;
+            assertThat(expansionA.parent()).isSameAs(parentA);
+            assertThat(expansionA.moveIndexes()).containsExactly(1, 3);
+            assertThat(expansionB.parent()).isSameAs(parentB);
+            assertThat(expansionB.moveIndexes()).containsExactly(0, 2);
+        }
+    }
+
+}
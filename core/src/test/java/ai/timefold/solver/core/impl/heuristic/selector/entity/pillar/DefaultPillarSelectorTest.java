@@ -13,6 +13,7 @@ import java.util.Comparator;
 import java.util.List;
 
 import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
 import ai.timefold.solver.core.config.heuristic.selector.entity.pillar.SubPillarConfigPolicy;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.ShadowVariableSupport;
@@ -20,6 +21,8 @@ import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDe
 import ai.timefold.solver.core.impl.domain.variable.supply.SupplyManager;
 import ai.timefold.solver.core.impl.heuristic.selector.SelectorTestUtils;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
+import ai.timefold.solver.core.impl.heuristic.selector.entity.FromSolutionEntitySelector;
+import ai.timefold.solver.core.impl.heuristic.selector.entity.decorator.FilteringEntitySelector;
 import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
@@ -70,8 +73,8 @@ class DefaultPillarSelectorTest {
         assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, d]", "[c, e, f]");
         pillarSelector.stepEnded(stepScopeA1);
 
-        b.setValue(val3);
-        f.setValue(val4);
+        changeValue(solverScope, variableDescriptor, b, val3);
+        changeValue(solverScope, variableDescriptor, f, val4);
 
         AbstractStepScope stepScopeA2 = mock(AbstractStepScope.class);
         when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
@@ -98,10 +101,23 @@ class DefaultPillarSelectorTest {
         verifyPhaseLifecycle(entitySelector, 1, 2, 3);
     }
 
+    private static void changeValue(SolverScope<TestdataSolution> solverScope,
+            GenuineVariableDescriptor<TestdataSolution> variableDescriptor, TestdataEntity entity, TestdataValue value) {
+        var shadowVariableSupport = (ShadowVariableSupport<TestdataSolution>) solverScope.getScoreDirector().getSupplyManager();
+        shadowVariableSupport.beforeVariableChanged(variableDescriptor, entity);
+        entity.setValue(value);
+        shadowVariableSupport.afterVariableChanged(variableDescriptor, entity);
+    }
+
     private SolverScope<TestdataSolution> mockSolverScope() {
+        return mockSolverScope(new TestdataSolution());
+    }
+
+    private SolverScope<TestdataSolution> mockSolverScope(TestdataSolution workingSolution) {
         SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
         InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
         doReturn(solutionDescriptor).when(scoreDirector).getSolutionDescriptor();
+        doReturn(workingSolution).when(scoreDirector).getWorkingSolution();
         doReturn(ShadowVariableSupport.create(scoreDirector)).when(scoreDirector).getSupplyManager();
 
         SolverScope<TestdataSolution> solverScope = PlannerTestUtils.mockSolverScope();
@@ -198,8 +214,8 @@ class DefaultPillarSelectorTest {
         assertCodesOfNeverEndingPillarSelector(pillarSelector, "[a]", "[c, e]", "[b]", "[d]");
         pillarSelector.stepEnded(stepScopeA1);
 
-        b.setValue(val3);
-        f.setValue(val4);
+        changeValue(solverScope, variableDescriptor, b, val3);
+        changeValue(solverScope, variableDescriptor, f, val4);
 
         AbstractStepScope stepScopeA2 = PlannerTestUtils.delegatingStepScope(phaseScopeA);
         pillarSelector.stepStarted(stepScopeA2);
@@ -407,11 +423,6 @@ class DefaultPillarSelectorTest {
 
         AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
         when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
-        pillarSelector1.phaseStarted(phaseScopeA);
-        pillarSelector2.phaseStarted(phaseScopeA);
-
-        AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
-        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
 
         /*
          * We do not have a direct way of testing that the pillar cache is reused.
@@ -419,27 +430,30 @@ class DefaultPillarSelectorTest {
          *
          * It starts with active count 0, then first selector creates the supply and active count goes to 1.
          * Second selector increases the count to 2, but the supply stays the same.
-         * Then after step end, the same process repeats in reverse, eventually reaching zero active count.
+         * The supply lives as long as the phase, so steps do not change the count.
+         * Then after phase end, the same process repeats in reverse, eventually reaching zero active count.
          */
         SupplyManager pillarSupplyManager = solverScope.getScoreDirector().getSupplyManager();
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(0);
-        pillarSelector1.stepStarted(stepScopeA1);
+        pillarSelector1.phaseStarted(phaseScopeA);
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
-
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector2.getPillarDemand())).isEqualTo(1);
-        pillarSelector2.stepStarted(stepScopeA1);
+        pillarSelector2.phaseStarted(phaseScopeA);
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector2.getPillarDemand())).isEqualTo(2);
 
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(2);
+        AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector1.stepStarted(stepScopeA1);
+        pillarSelector2.stepStarted(stepScopeA1);
+        assertAllCodesOfPillarSelector(pillarSelector1, "[a]", "[b, d]", "[c, e, f]");
+        assertAllCodesOfPillarSelector(pillarSelector2, "[a]", "[b, d]", "[c, e, f]");
         pillarSelector1.stepEnded(stepScopeA1);
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
-
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
         pillarSelector2.stepEnded(stepScopeA1);
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(0);
+        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(2);
 
         pillarSelector1.phaseEnded(phaseScopeA);
+        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
         pillarSelector2.phaseEnded(phaseScopeA);
+        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(0);
 
         pillarSelector1.solvingEnded(solverScope);
         pillarSelector2.solvingEnded(solverScope);
@@ -484,26 +498,146 @@ class DefaultPillarSelectorTest {
          * Therefore we need to ensure that the step cache is cleared on phaseEnded() as well.
          */
         SupplyManager pillarSupplyManager = solverScope.getScoreDirector().getSupplyManager();
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(0);
+        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(2);
         pillarSelector1.stepStarted(stepScopeA1);
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
-
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector2.getPillarDemand())).isEqualTo(1);
         pillarSelector2.stepStarted(stepScopeA1);
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector2.getPillarDemand())).isEqualTo(2);
 
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(2);
         pillarSelector1.phaseEnded(phaseScopeA);
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
-
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
         pillarSelector2.phaseEnded(phaseScopeA);
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(0);
 
+        // The next phase starts from scratch.
+        AbstractPhaseScope phaseScopeB = mock(AbstractPhaseScope.class);
+        when(phaseScopeB.getSolverScope()).thenReturn(solverScope);
+        pillarSelector1.phaseStarted(phaseScopeB);
+        AbstractStepScope stepScopeB1 = mock(AbstractStepScope.class);
+        when(stepScopeB1.getPhaseScope()).thenReturn(phaseScopeB);
+        pillarSelector1.stepStarted(stepScopeB1);
+        assertAllCodesOfPillarSelector(pillarSelector1, "[a]", "[b, d]", "[c, e, f]");
+        pillarSelector1.phaseEnded(phaseScopeB);
+
         pillarSelector1.solvingEnded(solverScope);
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(0);
         pillarSelector2.solvingEnded(solverScope);
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector2.getPillarDemand())).isEqualTo(0);
     }
 
+    @Test
+    void updatePillarsOfChangedEntitiesOnly() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataValue val3 = new TestdataValue("3");
+
+        final TestdataEntity a = new TestdataEntity("a", val1);
+        final TestdataEntity b = new TestdataEntity("b", val2);
+        final TestdataEntity c = new TestdataEntity("c", val3);
+        final TestdataEntity d = new TestdataEntity("d", val2);
+
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        // Only an entity selector which selects every entity of the working solution keeps its pillars between steps.
+        EntitySelector entitySelector = new FromSolutionEntitySelector<>(variableDescriptor.getEntityDescriptor(),
+                SelectionCacheType.JUST_IN_TIME, false);
+
+        DefaultPillarSelector pillarSelector = new DefaultPillarSelector(entitySelector, List.of(variableDescriptor), false,
+                SubPillarConfigPolicy.withoutSubpillars());
+
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(buildSolution(a, b, c, d));
+        pillarSelector.solvingStarted(solverScope);
+
+        AbstractPhaseScope phaseScopeA = mockPhaseScope(solverScope);
+        pillarSelector.phaseStarted(phaseScopeA);
+
+        AbstractStepScope stepScopeA1 = mockStepScope(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA1);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, d]", "[c]");
+        List<Object> pillarOfB = (List<Object>) pillarSelector.listIterator(1).next();
+        List<Object> pillarOfC = (List<Object>) pillarSelector.listIterator(2).next();
+        // A move which is undone does not change the pillars.
+        changeValue(solverScope, variableDescriptor, a, val3);
+        changeValue(solverScope, variableDescriptor, a, val1);
+        // The step's move.
+        changeValue(solverScope, variableDescriptor, d, val1);
+        pillarSelector.stepEnded(stepScopeA1);
+
+        AbstractStepScope stepScopeA2 = mockStepScope(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA2);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a, d]", "[b]", "[c]");
+        // Moves of the previous step may still hold its pillars.
+        Assertions.assertThat(pillarOfB).containsExactly(b, d);
+        // The pillar of an entity which did not change is not built again.
+        Assertions.assertThat(pillarSelector.listIterator(2).next()).isSameAs(pillarOfC);
+        pillarSelector.stepEnded(stepScopeA2);
+
+        pillarSelector.phaseEnded(phaseScopeA);
+        pillarSelector.solvingEnded(solverScope);
+    }
+
+    @Test
+    void rebuildPillarsOfFilteredEntitySelectorEveryStep() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataValue val3 = new TestdataValue("3");
+
+        final TestdataEntity a = new TestdataEntity("a", val1);
+        final TestdataEntity b = new TestdataEntity("b", val2);
+        final TestdataEntity c = new TestdataEntity("c", val3);
+        final TestdataEntity d = new TestdataEntity("d", val2);
+
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        // The filter reads the planning variable, so the selected entities change from step to step.
+        EntitySelector entitySelector = FilteringEntitySelector.of(
+                new FromSolutionEntitySelector<>(variableDescriptor.getEntityDescriptor(), SelectionCacheType.JUST_IN_TIME,
+                        false),
+                (scoreDirector, entity) -> ((TestdataEntity) entity).getValue() != val3);
+
+        DefaultPillarSelector pillarSelector = new DefaultPillarSelector(entitySelector, List.of(variableDescriptor), false,
+                SubPillarConfigPolicy.withoutSubpillars());
+
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(buildSolution(a, b, c, d));
+        pillarSelector.solvingStarted(solverScope);
+
+        AbstractPhaseScope phaseScopeA = mockPhaseScope(solverScope);
+        pillarSelector.phaseStarted(phaseScopeA);
+
+        AbstractStepScope stepScopeA1 = mockStepScope(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA1);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, d]");
+        // The step's move filters out b and no longer filters out c.
+        changeValue(solverScope, variableDescriptor, b, val3);
+        changeValue(solverScope, variableDescriptor, c, val1);
+        pillarSelector.stepEnded(stepScopeA1);
+
+        AbstractStepScope stepScopeA2 = mockStepScope(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA2);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a, c]", "[d]");
+        pillarSelector.stepEnded(stepScopeA2);
+
+        pillarSelector.phaseEnded(phaseScopeA);
+        pillarSelector.solvingEnded(solverScope);
+    }
+
+    private static TestdataSolution buildSolution(TestdataEntity... entities) {
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setEntityList(Arrays.asList(entities));
+        return solution;
+    }
+
+    private static AbstractPhaseScope mockPhaseScope(SolverScope<TestdataSolution> solverScope) {
+        InnerScoreDirector<TestdataSolution, ?> scoreDirector = solverScope.getScoreDirector();
+        AbstractPhaseScope phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        doReturn(scoreDirector).when(phaseScope).getScoreDirector();
+        return phaseScope;
+    }
+
+    private static AbstractStepScope mockStepScope(AbstractPhaseScope phaseScope) {
+        InnerScoreDirector<TestdataSolution, ?> scoreDirector = phaseScope.getScoreDirector();
+        AbstractStepScope stepScope = mock(AbstractStepScope.class);
+        when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+        doReturn(scoreDirector).when(stepScope).getScoreDirector();
+        return stepScope;
+    }
+
 }
@@ -2,12 +2,10 @@ package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import ai.timefold.solver.core.config.score.trend.InitializingScoreTrendLevel;
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
-import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.score.trend.InitializingScoreTrend;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
 
@@ -38,11 +36,31 @@ class RuinRecreateConstructionHeuristicPhaseBuilderTest {
                 .build();
         var constructionHeuristicConfig = mock(ConstructionHeuristicPhaseConfig.class);
         var builder = RuinRecreateConstructionHeuristicPhaseBuilder.create(solverConfigPolicy, constructionHeuristicConfig);
-        var scoreDirector = mock(InnerScoreDirector.class);
-        when(scoreDirector.isDerived()).thenReturn(true);
-        var phase = builder
-                .ensureThreadSafe(scoreDirector)
+        // Move threads hold engines at the same time; they must not share a placer.
+        var engine = builder.acquireEngine();
+        var otherEngine = builder.acquireEngine();
+        assertThat(engine.getPhase()).isNotSameAs(otherEngine.getPhase());
+        assertThat(engine.getPhase().getEntityPlacer())
+                .isNotSameAs(otherEngine.getPhase().getEntityPlacer())
+                .isNotSameAs(builder.getEntityPlacer());
+    }
+
+    @Test
+    void enginesArePooled() {
+        var solverConfigPolicy = new HeuristicConfigPolicy.Builder<TestdataSolution>()
+                .withSolutionDescriptor(TestdataSolution.buildSolutionDescriptor())
+                .withInitializingScoreTrend(new InitializingScoreTrend(new InitializingScoreTrendLevel[] {
+                        InitializingScoreTrendLevel.ANY, InitializingScoreTrendLevel.ANY, InitializingScoreTrendLevel.ANY }))
                 .build();
-        assertThat(phase.getEntityPlacer()).isNotSameAs(builder.getEntityPlacer());
+        var constructionHeuristicConfig = mock(ConstructionHeuristicPhaseConfig.class);
+        var builder = RuinRecreateConstructionHeuristicPhaseBuilder.create(solverConfigPolicy, constructionHeuristicConfig);
+        var engine = builder.acquireEngine();
+        var otherEngine = builder.acquireEngine();
+        assertThat(otherEngine).isNotSameAs(engine);
+        engine.close();
+        assertThat(builder.acquireEngine()).isSameAs(engine);
+        otherEngine.close();
+        builder.clearEnginePool();
+        assertThat(builder.acquireEngine()).isNotSameAs(otherEngine);
     }
 }
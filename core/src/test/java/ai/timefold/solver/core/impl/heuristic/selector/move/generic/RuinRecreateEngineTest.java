@@ -0,0 +1,49 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+
+import org.junit.jupiter.api.Test;
+
+class RuinRecreateEngineTest {
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void recreateUsesNestedSolverScope() {
+        var builder = mock(RuinRecreateConstructionHeuristicPhaseBuilder.class);
+        var phase = mock(RuinRecreateConstructionHeuristicPhase.class);
+        var scoreDirector = (InnerScoreDirector<TestdataSolution, ?>) mock(InnerScoreDirector.class);
+        var elementsToRecreateSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        var engine = new RuinRecreateEngine<TestdataSolution>(builder, phase, elementsToRecreateSet);
+        var mainSolverScope = new SolverScope<TestdataSolution>();
+
+        var e1 = new TestdataEntity("e1");
+        engine.recreate(mainSolverScope, scoreDirector, List.of(e1), Set.of(), 0L);
+        // Not using the main solver scope
+        verify(phase, times(0)).solve(mainSolverScope);
+        // Uses a new instance of SolverScope
+        verify(phase, times(1)).solve(any());
+        assertThat(elementsToRecreateSet).containsExactly(e1);
+        assertThat(mainSolverScope.getRuinRecreateCount()).isOne();
+
+        engine.close();
+        // Pooled engines do not keep the working solution reachable
+        assertThat(elementsToRecreateSet).isEmpty();
+        verify(builder).releaseEngine(same(engine));
+    }
+
+}
@@ -6,11 +6,25 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchType;
+import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
+import ai.timefold.solver.core.config.solver.BestSolutionCloningMode;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.config.solver.SolverConfig;
 import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
 import ai.timefold.solver.core.testdomain.TestdataEntity;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
 import ai.timefold.solver.core.testdomain.TestdataValue;
@@ -23,6 +37,7 @@ import ai.timefold.solver.core.testdomain.pinned.unassignedvar.TestdataPinnedAll
 import ai.timefold.solver.core.testdomain.pinned.unassignedvar.TestdataPinnedAllowsUnassignedSolution;
 import ai.timefold.solver.core.testutil.PlannerTestUtils;
 
+import org.jspecify.annotations.NonNull;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
@@ -244,4 +259,131 @@ class DefaultLocalSearchPhaseTest {
                 .hasMessageContaining("uninitialized entities");
     }
 
+    @Test
+    void solveMultiThreadedReproducesSingleThreadedResult() {
+        var singleThreadedSolution = solveWithValueConflicts(null);
+        var multiThreadedSolution = solveWithValueConflicts("4");
+        assertThat(multiThreadedSolution.getScore()).isEqualTo(singleThreadedSolution.getScore());
+        assertThat(multiThreadedSolution.getEntityList())
+                .map(entity -> entity.getValue().getCode())
+                .containsExactlyElementsOf(singleThreadedSolution.getEntityList().stream()
+                        .map(entity -> entity.getValue().getCode())
+                        .toList());
+    }
+
+    private static TestdataSolution solveWithValueConflicts(String moveThreadCount) {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withScoreDirectorFactory(new ScoreDirectorFactoryConfig()
+                        .withConstraintProviderClass(TestdataValueConflictConstraintProvider.class))
+                .withPhases(new ConstructionHeuristicPhaseConfig(),
+                        new LocalSearchPhaseConfig()
+                                .withTerminationConfig(new TerminationConfig().withStepCountLimit(50)));
+        if (moveThreadCount != null) {
+            solverConfig.withMoveThreadCount(moveThreadCount);
+        }
+        return PlannerTestUtils.solve(solverConfig, TestdataSolution.generateUninitializedSolution(4, 12));
+    }
+
+    @Test
+    void solveWithDeferredBestSolutionCloningReproducesEagerResult() {
+        var eagerEventCount = new AtomicInteger();
+        var eagerSolution = solveCountingEvents(
+                buildValueConflictSolverConfig().withBestSolutionCloningMode(BestSolutionCloningMode.EAGER),
+                eagerEventCount);
+        var deferredEventCount = new AtomicInteger();
+        var deferredSolution = solveCountingEvents(
+                buildValueConflictSolverConfig().withBestSolutionCloningMode(BestSolutionCloningMode.DEFERRED),
+                deferredEventCount);
+        assertSameSolution(deferredSolution, eagerSolution);
+        // Best solutions superseded by the very next step are neither cloned nor reported.
+        assertThat(deferredEventCount.get())
+                .isPositive()
+                .isLessThan(eagerEventCount.get());
+    }
+
+    @Test
+    void solveWithDeferredBestSolutionCloningPublishesScoreWithSolution() {
+        // Asserting modes recalculate the working score after every evaluated move, which would hide a stale score.
+        var solverConfig = buildValueConflictSolverConfig().withBestSolutionCloningMode(BestSolutionCloningMode.DEFERRED)
+                .withEnvironmentMode(EnvironmentMode.NO_ASSERT);
+        var solver = (DefaultSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(solverConfig)
+                .buildSolver();
+        var deferredStepCount = new AtomicInteger();
+        solver.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<>() {
+
+            @Override
+            public void stepEnded(AbstractStepScope<TestdataSolution> stepScope) {
+                var solverScope = stepScope.getPhaseScope().getSolverScope();
+                assertThat(solverScope.<SimpleScore> getBestScore().raw())
+                        .isEqualTo(solverScope.getBestSolution().getScore());
+                var latestBestScore = solverScope.<SimpleScore> getLatestBestScore();
+                if (latestBestScore.compareTo(solverScope.getBestScore()) > 0) {
+                    deferredStepCount.incrementAndGet();
+                    assertThat(stepScope.getPhaseScope().<SimpleScore> getBestScore()).isEqualTo(latestBestScore);
+                }
+            }
+
+        });
+        solver.addEventListener(event -> assertThat(event.getNewBestScore())
+                .isEqualTo(event.getNewBestSolution().getScore()));
+        solver.solve(generateValueConflictSolution());
+        assertThat(deferredStepCount.get()).isPositive();
+    }
+
+    @Test
+    void solveWithoutMaterializingRejectedScoresReproducesFullAssertResult() {
+        // FULL_ASSERT creates the score of every move, to check it from scratch.
+        var fullAssertSolution = PlannerTestUtils.solve(buildValueConflictSolverConfig(), generateValueConflictSolution());
+        var phaseAssertSolution = PlannerTestUtils.solve(
+                buildValueConflictSolverConfig().withEnvironmentMode(EnvironmentMode.PHASE_ASSERT),
+                generateValueConflictSolution());
+        assertSameSolution(phaseAssertSolution, fullAssertSolution);
+    }
+
+    private static TestdataSolution solveCountingEvents(SolverConfig solverConfig, AtomicInteger eventCount) {
+        var solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        solver.addEventListener(event -> eventCount.incrementAndGet());
+        return solver.solve(generateValueConflictSolution());
+    }
+
+    private static SolverConfig buildValueConflictSolverConfig() {
+        return PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withScoreDirectorFactory(new ScoreDirectorFactoryConfig()
+                        .withConstraintProviderClass(TestdataValueConflictConstraintProvider.class))
+                .withPhases(new LocalSearchPhaseConfig()
+                        .withTerminationConfig(new TerminationConfig().withStepCountLimit(50)));
+    }
+
+    private static TestdataSolution generateValueConflictSolution() {
+        // All entities start on the same value, so that local search finds many new best solutions.
+        var solution = TestdataSolution.generateSolution(4, 12);
+        var firstValue = solution.getValueList().get(0);
+        solution.getEntityList().forEach(entity -> entity.setValue(firstValue));
+        return solution;
+    }
+
+    private static void assertSameSolution(TestdataSolution actualSolution, TestdataSolution expectedSolution) {
+        assertThat(actualSolution.getScore()).isEqualTo(expectedSolution.getScore());
+        assertThat(actualSolution.getEntityList())
+                .map(entity -> entity.getValue().getCode())
+                .containsExactlyElementsOf(expectedSolution.getEntityList().stream()
+                        .map(entity -> entity.getValue().getCode())
+                        .toList());
+    }
+
+    public static final class TestdataValueConflictConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEachUniquePair(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Value conflict")
+            };
+        }
+
+    }
+
 }
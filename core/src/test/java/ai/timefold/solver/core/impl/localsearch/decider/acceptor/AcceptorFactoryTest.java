@@ -128,4 +128,21 @@ class AcceptorFactoryTest {
         assertThatIllegalArgumentException()
                 .isThrownBy(() -> factory.buildAcceptor(mock(HeuristicConfigPolicy.class)));
     }
+
+    @Test
+    <Solution_> void simulatedAnnealingWithoutStartingTemperature() {
+        var config = new LocalSearchAcceptorConfig()
+                .withAcceptorTypeList(List.of(AcceptorType.SIMULATED_ANNEALING));
+        AcceptorFactory<Solution_> factory = AcceptorFactory.create(config);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> factory.buildAcceptor(mock(HeuristicConfigPolicy.class)))
+                .withMessageContaining("adaptiveTuningEnabled");
+
+        var adaptiveConfig = new LocalSearchAcceptorConfig()
+                .withAcceptorTypeList(List.of(AcceptorType.SIMULATED_ANNEALING))
+                .withAdaptiveTuningEnabled(true);
+        AcceptorFactory<Solution_> adaptiveFactory = AcceptorFactory.create(adaptiveConfig);
+        assertThat(adaptiveFactory.buildAcceptor(mock(HeuristicConfigPolicy.class)))
+                .isExactlyInstanceOf(SimulatedAnnealingAcceptor.class);
+    }
 }
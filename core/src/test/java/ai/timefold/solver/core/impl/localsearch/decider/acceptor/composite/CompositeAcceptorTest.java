@@ -9,11 +9,13 @@ import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 
+import ai.timefold.solver.core.api.score.SimpleScore;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.CompositeAcceptor;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
 
@@ -69,4 +71,40 @@ class CompositeAcceptorTest {
         var acceptor = new CompositeAcceptor<>(acceptorList);
         return acceptor.isAccepted(mock(LocalSearchMoveScope.class));
     }
+
+    @Test
+    void minimumAcceptedScore() {
+        LocalSearchStepScope<TestdataSolution> stepScope = mock(LocalSearchStepScope.class);
+        var acceptor1 = mockAcceptor(stepScope, null, false);
+        var acceptor2 = mockAcceptor(stepScope, InnerScore.fullyAssigned(SimpleScore.of(-10)), false);
+        var acceptor3 = mockAcceptor(stepScope, InnerScore.fullyAssigned(SimpleScore.of(-5)), false);
+
+        // Every acceptor must accept, so the highest minimum applies.
+        var compositeAcceptor = new CompositeAcceptor<>(acceptor1, acceptor2, acceptor3);
+        assertThat(compositeAcceptor.isAcceptanceRandom()).isFalse();
+        assertThat(compositeAcceptor.getMinimumAcceptedScore(stepScope))
+                .isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-5)));
+        assertThat(new CompositeAcceptor<>(acceptor1).getMinimumAcceptedScore(stepScope)).isNull();
+    }
+
+    @Test
+    void minimumAcceptedScoreWithRandomAcceptance() {
+        LocalSearchStepScope<TestdataSolution> stepScope = mock(LocalSearchStepScope.class);
+        var randomAcceptor = mockAcceptor(stepScope, null, true);
+        var boundedAcceptor = mockAcceptor(stepScope, InnerScore.fullyAssigned(SimpleScore.of(-5)), false);
+
+        // Discarding moves would skip the draws of the random acceptor, but only in some environment modes.
+        var compositeAcceptor = new CompositeAcceptor<>(randomAcceptor, boundedAcceptor);
+        assertThat(compositeAcceptor.isAcceptanceRandom()).isTrue();
+        assertThat(compositeAcceptor.getMinimumAcceptedScore(stepScope)).isNull();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Acceptor<TestdataSolution> mockAcceptor(LocalSearchStepScope<TestdataSolution> stepScope,
+            InnerScore<?> minimumAcceptedScore, boolean acceptanceRandom) {
+        Acceptor<TestdataSolution> acceptor = mock(Acceptor.class);
+        when(acceptor.getMinimumAcceptedScore(stepScope)).thenReturn((InnerScore) minimumAcceptedScore);
+        when(acceptor.isAcceptanceRandom()).thenReturn(acceptanceRandom);
+        return acceptor;
+    }
 }
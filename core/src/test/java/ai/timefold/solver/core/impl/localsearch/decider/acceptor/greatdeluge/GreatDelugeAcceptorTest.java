@@ -195,4 +195,68 @@ class GreatDelugeAcceptorTest extends AbstractAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    @Test
+    void minimumAcceptedScoreWithUnassignedValues() {
+        var acceptor = new GreatDelugeAcceptor<>();
+        acceptor.setWaterLevelIncrementScore(SimpleScore.of(100));
+
+        var solverScope = new SolverScope<>();
+        solverScope.setBestScore(InnerScore.withUnassignedCount(SimpleScore.of(-1000), 2));
+        var phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
+        var lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(solverScope.getBestScore());
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        acceptor.phaseStarted(phaseScope);
+
+        // lastCompletedStepScore = -2init/-1000
+        // water level -1000
+        var stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        acceptor.stepStarted(stepScope0);
+        assertThat(acceptor.getMinimumAcceptedScore(stepScope0))
+                .isEqualTo(InnerScore.withUnassignedCount(SimpleScore.of(-1000), 2));
+        assertOnlyRejectedMovesAreDiscarded(acceptor, stepScope0);
+        var moveScope0 = buildMoveScope(stepScope0, -500, 2);
+        // Acceptance ignores the unassigned count.
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope0, -500, 3))).isTrue();
+
+        stepScope0.setStep(moveScope0.getMove());
+        stepScope0.setScore(moveScope0.getScore());
+        solverScope.setBestScore((InnerScore) moveScope0.getScore());
+        acceptor.stepEnded(stepScope0);
+        phaseScope.setLastCompletedStepScope(stepScope0);
+
+        // lastCompletedStepScore = -2init/-500
+        // water level -900
+        var stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        acceptor.stepStarted(stepScope1);
+        assertThat(acceptor.getMinimumAcceptedScore(stepScope1))
+                .isEqualTo(InnerScore.withUnassignedCount(SimpleScore.of(-900), 2));
+        assertOnlyRejectedMovesAreDiscarded(acceptor, stepScope1);
+
+        acceptor.phaseEnded(phaseScope);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static void assertOnlyRejectedMovesAreDiscarded(GreatDelugeAcceptor<Object> acceptor,
+            LocalSearchStepScope<Object> stepScope) {
+        InnerScore minimumAcceptedScore = acceptor.getMinimumAcceptedScore(stepScope);
+        for (var score : new int[] { -2000, -1001, -1000, -901, -900, -500, 0 }) {
+            for (var unassignedCount = 0; unassignedCount <= 3; unassignedCount++) {
+                var moveScope = buildMoveScope(stepScope, score, unassignedCount);
+                if (moveScope.getScore().isWorseAtSameUnassignedCount(minimumAcceptedScore)) {
+                    assertThat(acceptor.isAccepted(moveScope))
+                            .as("The move with score (%s) is discarded, but it would be accepted.", moveScope.getScore())
+                            .isFalse();
+                }
+            }
+        }
+    }
+
+    private static LocalSearchMoveScope<Object> buildMoveScope(LocalSearchStepScope<Object> stepScope, int score,
+            int unassignedCount) {
+        var moveScope = new LocalSearchMoveScope<>(stepScope, 0, mock(Move.class));
+        moveScope.setScore(InnerScore.withUnassignedCount(SimpleScore.of(score), unassignedCount));
+        return moveScope;
+    }
+
 }
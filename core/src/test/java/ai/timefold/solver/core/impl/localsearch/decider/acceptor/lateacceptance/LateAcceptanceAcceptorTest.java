@@ -377,6 +377,61 @@ class LateAcceptanceAcceptorTest extends AbstractAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    @Test
+    void minimumAcceptedScore() {
+        var acceptor = new LateAcceptanceAcceptor<>();
+        acceptor.setLateAcceptanceSize(2);
+        acceptor.setHillClimbingEnabled(true);
+
+        var solverScope = new SolverScope<>();
+        solverScope.setInitializedBestScore(SimpleScore.of(-1000));
+        var phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
+        var lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(solverScope.getBestScore());
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        var scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
+        solverScope.setScoreDirector(scoreDirector);
+        acceptor.phaseStarted(phaseScope);
+
+        // lateScore = -1000, lastCompletedStepScore = -1000
+        var stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        acceptor.stepStarted(stepScope0);
+        assertThat(acceptor.getMinimumAcceptedScore(stepScope0))
+                .isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-1000)));
+        var moveScope0 = buildMoveScope(stepScope0, -500);
+        stepScope0.setStep(moveScope0.getMove());
+        stepScope0.setScore(moveScope0.getScore());
+        solverScope.setBestScore((InnerScore) moveScope0.getScore());
+        acceptor.stepEnded(stepScope0);
+        phaseScope.setLastCompletedStepScope(stepScope0);
+
+        // lateScore = -1000, lastCompletedStepScore = -500
+        var stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        acceptor.stepStarted(stepScope1);
+        assertThat(acceptor.getMinimumAcceptedScore(stepScope1))
+                .isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-1000)));
+        var moveScope1 = buildMoveScope(stepScope1, -800);
+        stepScope1.setStep(moveScope1.getMove());
+        stepScope1.setScore(moveScope1.getScore());
+        acceptor.stepEnded(stepScope1);
+        phaseScope.setLastCompletedStepScope(stepScope1);
+
+        // lateScore = -500, lastCompletedStepScore = -800
+        var stepScope2 = new LocalSearchStepScope<>(phaseScope);
+        acceptor.stepStarted(stepScope2);
+        var minimumAcceptedScore = acceptor.getMinimumAcceptedScore(stepScope2);
+        assertThat(minimumAcceptedScore).isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-800)));
+        // Every move worse than the minimum is rejected, the minimum itself is accepted.
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope2, -801))).isFalse();
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope2, -800))).isTrue();
+
+        acceptor.setHillClimbingEnabled(false);
+        assertThat(acceptor.getMinimumAcceptedScore(stepScope2))
+                .isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-500)));
+        acceptor.phaseEnded(phaseScope);
+    }
+
     @Test
     void zeroLateAcceptanceSize() {
         var acceptor = new LateAcceptanceAcceptor<>();
@@ -106,4 +106,45 @@ class LateAcceptanceScoreBufferTest {
             assertThat(buffer.<SimpleScore> get(i)).isEqualTo(resetScore);
         }
     }
+
+    @Test
+    void resizeSmallerKeepsMostRecentScores() {
+        var buffer = new LateAcceptanceScoreBuffer(3, InnerScore.fullyAssigned(SimpleScore.of(-10)));
+        buffer.update(InnerScore.fullyAssigned(SimpleScore.of(-1)));
+        buffer.update(InnerScore.fullyAssigned(SimpleScore.of(-2)));
+        var resized = buffer.resize(2);
+        assertThat(resized.size()).isEqualTo(2);
+        assertThat(resized.<SimpleScore> getCurrent()).isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-1)));
+        assertThat(resized.<SimpleScore> get(1)).isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-2)));
+    }
+
+    @Test
+    void resizeLargerPadsWithOldestScore() {
+        var oldestScore = InnerScore.fullyAssigned(SimpleScore.of(-10));
+        var buffer = new LateAcceptanceScoreBuffer(3, oldestScore);
+        buffer.update(InnerScore.fullyAssigned(SimpleScore.of(-1)));
+        buffer.update(InnerScore.fullyAssigned(SimpleScore.of(-2)));
+        var resized = buffer.resize(5);
+        assertThat(resized.size()).isEqualTo(5);
+        for (var i = 0; i < 3; i++) {
+            assertThat(resized.<SimpleScore> get(i)).isEqualTo(oldestScore);
+        }
+        assertThat(resized.<SimpleScore> get(3)).isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-1)));
+        assertThat(resized.<SimpleScore> get(4)).isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-2)));
+        // The next update overwrites the oldest score.
+        resized.update(InnerScore.fullyAssigned(SimpleScore.of(-3)));
+        assertThat(resized.<SimpleScore> get(0)).isEqualTo(InnerScore.fullyAssigned(SimpleScore.of(-3)));
+    }
+
+    @Test
+    void resizeAfterResetUsesResetScore() {
+        var buffer = new LateAcceptanceScoreBuffer(3, InnerScore.fullyAssigned(SimpleScore.of(-10)));
+        buffer.update(InnerScore.fullyAssigned(SimpleScore.of(-1)));
+        var resetScore = InnerScore.fullyAssigned(SimpleScore.of(0));
+        buffer.tryReset(resetScore);
+        var resized = buffer.resize(4);
+        for (var i = 0; i < 4; i++) {
+            assertThat(resized.<SimpleScore> get(i)).isEqualTo(resetScore);
+        }
+    }
 }
@@ -0,0 +1,61 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.lateacceptance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+
+import org.junit.jupiter.api.Test;
+
+class LateAcceptanceSizeTunerTest {
+
+    private static int runWindow(LateAcceptanceSizeTuner tuner, int size, boolean bestScoreImproved,
+            long selectedMoveCount, long acceptedMoveCount) {
+        var phaseScope = new LocalSearchPhaseScope<>(new SolverScope<>(), 0);
+        var newSize = size;
+        for (var i = 0; i < Math.max(size, LateAcceptanceSizeTuner.MINIMUM_WINDOW_STEP_COUNT); i++) {
+            assertThat(newSize).isEqualTo(size);
+            var stepScope = new LocalSearchStepScope<>(phaseScope);
+            stepScope.setBestScoreImproved(bestScoreImproved);
+            stepScope.setSelectedMoveCount(selectedMoveCount);
+            stepScope.setAcceptedMoveCount(acceptedMoveCount);
+            newSize = tuner.stepEnded(stepScope, size);
+        }
+        return newSize;
+    }
+
+    @Test
+    void growsWhenStuck() {
+        var tuner = new LateAcceptanceSizeTuner(100);
+        assertThat(runWindow(tuner, 100, false, 10L, 1L)).isEqualTo(200);
+        assertThat(runWindow(tuner, 200, false, 10L, 1L)).isEqualTo(400);
+    }
+
+    @Test
+    void shrinksWhenImprovingAndAcceptingEasily() {
+        var tuner = new LateAcceptanceSizeTuner(100);
+        assertThat(runWindow(tuner, 100, true, 10L, 5L)).isEqualTo(50);
+    }
+
+    @Test
+    void keepsSizeWhenImprovingAndAcceptingRarely() {
+        var tuner = new LateAcceptanceSizeTuner(100);
+        assertThat(runWindow(tuner, 100, true, 10L, 1L)).isEqualTo(100);
+    }
+
+    @Test
+    void staysWithinRange() {
+        var tuner = new LateAcceptanceSizeTuner(64);
+        var size = 64;
+        for (var i = 0; i < 10; i++) {
+            size = runWindow(tuner, size, false, 10L, 1L);
+        }
+        assertThat(size).isEqualTo(64 * LateAcceptanceSizeTuner.SIZE_RANGE_FACTOR);
+        for (var i = 0; i < 20; i++) {
+            size = runWindow(tuner, size, true, 10L, 5L);
+        }
+        assertThat(size).isEqualTo(64 / LateAcceptanceSizeTuner.SIZE_RANGE_FACTOR);
+    }
+
+}
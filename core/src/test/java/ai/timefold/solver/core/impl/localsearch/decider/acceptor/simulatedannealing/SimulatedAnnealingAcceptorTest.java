@@ -2,14 +2,23 @@ package ai.timefold.solver.core.impl.localsearch.decider.acceptor.simulatedannea
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import ai.timefold.solver.core.api.score.HardMediumSoftScore;
+import ai.timefold.solver.core.api.score.HardSoftScore;
 import ai.timefold.solver.core.api.score.SimpleScore;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AbstractAcceptorTest;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.definition.HardSoftScoreDefinition;
+import ai.timefold.solver.core.impl.score.definition.SimpleScoreDefinition;
 import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.preview.api.move.Move;
 import ai.timefold.solver.core.testutil.TestRandom;
 
 import org.junit.jupiter.api.Test;
@@ -88,4 +97,99 @@ class SimulatedAnnealingAcceptorTest extends AbstractAcceptorTest {
         assertThatIllegalArgumentException().isThrownBy(() -> acceptor.phaseStarted(null));
     }
 
+    @Test
+    void adaptiveTuningEstimatesStartingTemperature() {
+        var acceptor = new SimulatedAnnealingAcceptor<>();
+        acceptor.setAdaptiveTuningEnabled(true);
+
+        var solverScope = new SolverScope<>();
+        solverScope.setInitializedBestScore(SimpleScore.of(-1000));
+        var scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
+        solverScope.setScoreDirector(scoreDirector);
+        var phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
+        var lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setInitializedScore(SimpleScore.of(-1000));
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        acceptor.phaseStarted(phaseScope);
+
+        // Nothing is known about the score differences yet, so no worsening move is accepted.
+        var stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        stepScope0.setTimeGradient(0.0);
+        acceptor.stepStarted(stepScope0);
+        solverScope.setWorkingRandom(new TestRandom(0.0));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope0, -1100))).isFalse();
+        var moveScope0 = buildMoveScope(stepScope0, -1000);
+        assertThat(acceptor.isAccepted(moveScope0)).isTrue();
+        stepScope0.setStep(moveScope0.getMove());
+        stepScope0.setScore(moveScope0.getScore());
+        acceptor.stepEnded(stepScope0);
+        phaseScope.setLastCompletedStepScope(stepScope0);
+
+        // The average worsening of 100 is accepted at the initial acceptance rate,
+        // heated up because no worsening move was accepted.
+        var stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        stepScope1.setTimeGradient(0.0);
+        acceptor.stepStarted(stepScope1);
+        var expectedTemperature = 100.0 / -Math.log(SimulatedAnnealingAcceptor.INITIAL_ACCEPTANCE_RATE) * Math.exp(0.2);
+        assertThat(acceptor.temperatureLevels[0]).isCloseTo(expectedTemperature, within(1.0E-9));
+        var acceptChance = Math.exp(-100.0 / expectedTemperature);
+        solverScope.setWorkingRandom(new TestRandom(acceptChance - 0.01));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, -1100))).isTrue();
+        solverScope.setWorkingRandom(new TestRandom(acceptChance + 0.01));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, -1100))).isFalse();
+        acceptor.phaseEnded(phaseScope);
+    }
+
+    @Test
+    void adaptiveTuningKeepsHardLevelsCold() {
+        var acceptor = new SimulatedAnnealingAcceptor<>();
+        acceptor.setAdaptiveTuningEnabled(true);
+
+        var solverScope = new SolverScope<>();
+        solverScope.setInitializedBestScore(HardSoftScore.ofSoft(-1000));
+        var scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getScoreDefinition()).thenReturn(new HardSoftScoreDefinition());
+        solverScope.setScoreDirector(scoreDirector);
+        var phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
+        var lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setInitializedScore(HardSoftScore.ofSoft(-1000));
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        acceptor.phaseStarted(phaseScope);
+
+        var stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        stepScope0.setTimeGradient(0.0);
+        acceptor.stepStarted(stepScope0);
+        solverScope.setWorkingRandom(new TestRandom(0.0));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope0, HardSoftScore.of(-1, -900)))).isFalse();
+        solverScope.setWorkingRandom(new TestRandom(0.0));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope0, HardSoftScore.ofSoft(-1100)))).isFalse();
+        var moveScope0 = buildMoveScope(stepScope0, HardSoftScore.ofSoft(-1000));
+        assertThat(acceptor.isAccepted(moveScope0)).isTrue();
+        stepScope0.setStep(moveScope0.getMove());
+        stepScope0.setScore(moveScope0.getScore());
+        acceptor.stepEnded(stepScope0);
+        phaseScope.setLastCompletedStepScope(stepScope0);
+
+        // Only the soft level is estimated from the worsening moves.
+        var stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        stepScope1.setTimeGradient(0.0);
+        acceptor.stepStarted(stepScope1);
+        assertThat(acceptor.temperatureLevels[0]).isEqualTo(acceptor.temperatureMinimum);
+        assertThat(acceptor.temperatureLevels[1]).isGreaterThan(acceptor.temperatureMinimum);
+        solverScope.setWorkingRandom(new TestRandom(0.0));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, HardSoftScore.of(-1, -900)))).isFalse();
+        solverScope.setWorkingRandom(new TestRandom(0.0));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, HardSoftScore.ofSoft(-1100)))).isTrue();
+        acceptor.phaseEnded(phaseScope);
+    }
+
+    private <Solution_> LocalSearchMoveScope<Solution_> buildMoveScope(LocalSearchStepScope<Solution_> stepScope,
+            HardSoftScore score) {
+        Move<Solution_> move = mock(Move.class);
+        var moveScope = new LocalSearchMoveScope<>(stepScope, 0, move);
+        moveScope.setInitializedScore(score);
+        return moveScope;
+    }
+
 }
@@ -210,6 +210,36 @@ class AcceptedLocalSearchForagerTest {
         forager.phaseEnded(phaseScope);
     }
 
+    @Test
+    void isMoveScopeRetained() {
+        // Setup
+        LocalSearchForager<TestdataSolution> forager = new AcceptedLocalSearchForager<>(new HighestScoreFinalistPodium<>(),
+                LocalSearchPickEarlyType.NEVER, Integer.MAX_VALUE, false);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope();
+        forager.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        forager.stepStarted(stepScope);
+        // Pre conditions
+        LocalSearchMoveScope<TestdataSolution> a = createMoveScope(stepScope, SimpleScore.of(-20), false);
+        LocalSearchMoveScope<TestdataSolution> b = createMoveScope(stepScope, SimpleScore.of(-30), false);
+        LocalSearchMoveScope<TestdataSolution> c = createMoveScope(stepScope, SimpleScore.of(-40), true);
+        LocalSearchMoveScope<TestdataSolution> d = createMoveScope(stepScope, SimpleScore.of(-1), false);
+        LocalSearchMoveScope<TestdataSolution> e = createMoveScope(stepScope, SimpleScore.of(-40), true);
+        // Do stuff and post conditions
+        forager.addMove(a);
+        assertThat(forager.isMoveScopeRetained(a)).isTrue(); // No accepted move yet, so the best unaccepted one is kept.
+        forager.addMove(b);
+        assertThat(forager.isMoveScopeRetained(b)).isFalse();
+        forager.addMove(c);
+        assertThat(forager.isMoveScopeRetained(c)).isTrue();
+        forager.addMove(d);
+        assertThat(forager.isMoveScopeRetained(d)).isFalse(); // Unaccepted moves no longer count.
+        forager.addMove(e);
+        assertThat(forager.isMoveScopeRetained(e)).isTrue(); // A tie.
+        assertThat(forager.pickMove(stepScope)).isSameAs(c);
+        forager.phaseEnded(phaseScope);
+    }
+
     private static LocalSearchPhaseScope<TestdataSolution> createPhaseScope() {
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
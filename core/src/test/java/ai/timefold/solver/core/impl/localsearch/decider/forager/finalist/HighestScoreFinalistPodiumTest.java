@@ -0,0 +1,67 @@
+package ai.timefold.solver.core.impl.localsearch.decider.forager.finalist;
+
+import static ai.timefold.solver.core.testutil.PlannerAssert.extractSingleton;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.preview.api.move.Move;
+
+import org.junit.jupiter.api.Test;
+
+class HighestScoreFinalistPodiumTest {
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void minimumFinalistScoreWithUnassignedValues() {
+        var finalistPodium = new HighestScoreFinalistPodium<>();
+
+        var solverScope = new SolverScope<>();
+        solverScope.setBestScore(InnerScore.withUnassignedCount(SimpleScore.of(-200), 1));
+        var phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
+        var lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(solverScope.getBestScore());
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        finalistPodium.phaseStarted(phaseScope);
+
+        var stepScope = new LocalSearchStepScope<>(phaseScope);
+        finalistPodium.stepStarted(stepScope);
+        var minimumAcceptedScore = InnerScore.withUnassignedCount(SimpleScore.of(-50), 1);
+        assertThat(finalistPodium.getMinimumFinalistScore(minimumAcceptedScore)).isNull();
+
+        // Until a move is accepted, the best rejected moves are finalists too.
+        finalistPodium.addMove(buildRejectedMoveScope(stepScope, -100, 1));
+        var minimumFinalistScore =
+                (InnerScore<SimpleScore>) finalistPodium.getMinimumFinalistScore(minimumAcceptedScore);
+        assertThat(minimumFinalistScore).isEqualTo(InnerScore.withUnassignedCount(SimpleScore.of(-100), 1));
+        // The podium compares raw scores, so no bound can cover both unassigned counts.
+        assertThat(finalistPodium.getMinimumFinalistScore(InnerScore.withUnassignedCount(SimpleScore.of(-50), 0)))
+                .isNull();
+
+        // More unassigned values, but a better raw score, so it must not be discarded.
+        var moveScope = buildRejectedMoveScope(stepScope, -90, 2);
+        assertThat(moveScope.<SimpleScore> getScore().isWorseAtSameUnassignedCount(minimumFinalistScore)).isFalse();
+        finalistPodium.addMove(moveScope);
+        assertThat(extractSingleton(finalistPodium.getFinalistList())).isSameAs(moveScope);
+
+        // The finalist and the minimum accepted score now differ in their unassigned count.
+        assertThat(finalistPodium.getMinimumFinalistScore(minimumAcceptedScore)).isNull();
+        finalistPodium.addMove(buildRejectedMoveScope(stepScope, -95, 1));
+        assertThat(extractSingleton(finalistPodium.getFinalistList())).isSameAs(moveScope);
+        finalistPodium.phaseEnded(phaseScope);
+    }
+
+    private static LocalSearchMoveScope<Object> buildRejectedMoveScope(LocalSearchStepScope<Object> stepScope, int score,
+            int unassignedCount) {
+        var moveScope = new LocalSearchMoveScope<>(stepScope, 0, mock(Move.class));
+        moveScope.setScore(InnerScore.withUnassignedCount(SimpleScore.of(score), unassignedCount));
+        moveScope.setAccepted(false);
+        return moveScope;
+    }
+
+}
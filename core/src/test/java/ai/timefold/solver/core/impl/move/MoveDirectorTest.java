@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
@@ -15,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import ai.timefold.solver.core.api.score.SimpleScore;
 import ai.timefold.solver.core.api.score.stream.Constraint;
@@ -26,8 +29,8 @@ import ai.timefold.solver.core.impl.domain.variable.ListVariableStateSupply;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.supply.SupplyManager;
-import ai.timefold.solver.core.impl.heuristic.selector.move.generic.RuinRecreateConstructionHeuristicPhase;
 import ai.timefold.solver.core.impl.heuristic.selector.move.generic.RuinRecreateConstructionHeuristicPhaseBuilder;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.RuinRecreateEngine;
 import ai.timefold.solver.core.impl.heuristic.selector.move.generic.SelectorBasedRuinRecreateMove;
 import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.SelectorBasedListAssignMove;
 import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ruin.SelectorBasedListRuinRecreateMove;
@@ -1521,7 +1524,7 @@ class MoveDirectorTest {
         var listVariableDescriptor = mock(ListVariableDescriptor.class);
         var supplyManager = mock(SupplyManager.class);
         var ruinRecreateConstructionHeuristicPhaseBuilder = mock(RuinRecreateConstructionHeuristicPhaseBuilder.class);
-        var constructionHeuristicPhase = mock(RuinRecreateConstructionHeuristicPhase.class);
+        var ruinRecreateEngine = mock(RuinRecreateEngine.class);
 
         // The objective is to simulate the reassignment of v1 from e1 to e2
         // The R&R move analyzes only e1 initially,
@@ -1546,14 +1549,10 @@ class MoveDirectorTest {
         when(listVariableDescriptor.getListSize(any())).thenReturn(1);
         when(listVariableDescriptor.getValue(any())).thenReturn(e1.getValueList(), e2.getValueList());
         // Ignore the nested phase but simulates v1 moving to e2
-        when(ruinRecreateConstructionHeuristicPhaseBuilder.withElementsToRecreate(any()))
-                .thenReturn(ruinRecreateConstructionHeuristicPhaseBuilder);
-        when(ruinRecreateConstructionHeuristicPhaseBuilder.withElementsToRuin(any()))
-                .thenReturn(ruinRecreateConstructionHeuristicPhaseBuilder);
-        when(ruinRecreateConstructionHeuristicPhaseBuilder.ensureThreadSafe(any()))
-                .thenReturn(ruinRecreateConstructionHeuristicPhaseBuilder);
-        when(ruinRecreateConstructionHeuristicPhaseBuilder.build()).thenReturn(constructionHeuristicPhase);
-        when(constructionHeuristicPhase.getMissingUpdatedElementsMap()).thenReturn(Map.of(e2, List.of(v2)));
+        when(ruinRecreateConstructionHeuristicPhaseBuilder.acquireEngine()).thenReturn(ruinRecreateEngine);
+        when(ruinRecreateEngine.getScratch(any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        when(ruinRecreateEngine.getMissingUpdatedElementsMap()).thenReturn(Map.of(e2, List.of(v2)));
 
         var ephemeralMoveDirector = moveDirector.ephemeral();
         var move = new SelectorBasedListRuinRecreateMove<TestdataListSolution>(listVariableDescriptor,
@@ -1590,7 +1589,7 @@ class MoveDirectorTest {
         var genuineVariableDescriptor = mock(GenuineVariableDescriptor.class);
         var supplyManager = mock(SupplyManager.class);
         var ruinRecreateConstructionHeuristicPhaseBuilder = mock(RuinRecreateConstructionHeuristicPhaseBuilder.class);
-        var constructionHeuristicPhase = mock(RuinRecreateConstructionHeuristicPhase.class);
+        var ruinRecreateEngine = mock(RuinRecreateEngine.class);
         var mainSolverScope = new SolverScope<TestdataSolution>();
 
         var v1 = new TestdataValue("v1");
@@ -1603,20 +1602,16 @@ class MoveDirectorTest {
         when(innerScoreDirector.getWorkingSolution()).thenReturn(s1);
         when(innerScoreDirector.isDerived()).thenReturn(false);
         when(innerScoreDirector.getSupplyManager()).thenReturn(supplyManager);
-        when(ruinRecreateConstructionHeuristicPhaseBuilder.withElementsToRecreate(any()))
-                .thenReturn(ruinRecreateConstructionHeuristicPhaseBuilder);
-        when(ruinRecreateConstructionHeuristicPhaseBuilder.ensureThreadSafe(any()))
-                .thenReturn(ruinRecreateConstructionHeuristicPhaseBuilder);
-        when(ruinRecreateConstructionHeuristicPhaseBuilder.build()).thenReturn(constructionHeuristicPhase);
+        when(ruinRecreateConstructionHeuristicPhaseBuilder.acquireEngine()).thenReturn(ruinRecreateEngine);
         var ephemeralMoveDirector = moveDirector.ephemeral();
         var move = new SelectorBasedRuinRecreateMove<TestdataSolution>(genuineVariableDescriptor,
                 ruinRecreateConstructionHeuristicPhaseBuilder, mainSolverScope, List.of(v1), new LinkedHashSet<>(Set.of(e1)),
                 0L);
         move.execute(ephemeralMoveDirector);
-        // Not using the main solver scope
-        verify(constructionHeuristicPhase, times(0)).solve(mainSolverScope);
-        // Uses a new instance of SolverScope
-        verify(constructionHeuristicPhase, times(1)).solve(any());
+        // The engine runs the nested phase with its own solver scope, see RuinRecreateEngineTest
+        verify(ruinRecreateEngine, times(1)).recreate(same(mainSolverScope), any(), eq(List.of(v1)), any(), eq(0L));
+        // The engine is returned to the pool
+        verify(ruinRecreateEngine, times(1)).close();
         ephemeralMoveDirector.close();
     }
 
@@ -54,6 +54,19 @@ class ScoreDirectorFactoryFactoryTest {
         assertThat(scoreDirectorFactory).isInstanceOf(BavetConstraintStreamScoreDirectorFactory.class);
     }
 
+    @Test
+    void intArrayShadowVariableGraphEnabled() {
+        var config = new ScoreDirectorFactoryConfig()
+                .withConstraintProviderClass(TestdataConstraintProvider.class);
+        assertThat(((AbstractScoreDirectorFactory<?, ?, ?>) buildTestdataScoreDirectoryFactory(config))
+                .isIntArrayShadowVariableGraphEnabled())
+                .isFalse();
+        config.setIntArrayShadowVariableGraphEnabled(true);
+        assertThat(((AbstractScoreDirectorFactory<?, ?, ?>) buildTestdataScoreDirectoryFactory(config))
+                .isIntArrayShadowVariableGraphEnabled())
+                .isTrue();
+    }
+
     public static class TestCustomPropertiesEasyScoreCalculator
             implements EasyScoreCalculator<TestdataSolution, SimpleScore> {
 
@@ -0,0 +1,49 @@
+package ai.timefold.solver.core.impl.score.director.stream;
+
+import static ai.timefold.solver.core.api.score.stream.Joiners.filtering;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+
+import org.junit.jupiter.api.Test;
+
+class BavetConstraintStreamScoreDirectorFactoryTest {
+
+    @Test
+    void countFilterStreamsByArityWithoutFusedFilters() {
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                TestdataSolution.buildSolutionDescriptor(),
+                constraintFactory -> {
+                    var sharedJoin = constraintFactory.forEach(TestdataEntity.class)
+                            .join(TestdataEntity.class, filtering((a, b) -> a != b));
+                    return new Constraint[] {
+                            constraintFactory.forEach(TestdataEntity.class)
+                                    .filter(entity -> entity.getValue() != null)
+                                    .penalize(SimpleScore.ONE)
+                                    .asConstraint("Uni filter"),
+                            // The join is only followed by the filter, so it tests the predicate itself.
+                            constraintFactory.forEach(TestdataEntity.class)
+                                    .join(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue))
+                                    .filter((a, b) -> a != b)
+                                    .penalize(SimpleScore.ONE)
+                                    .asConstraint("Fused bi filter"),
+                            // The join is followed by both filters, so neither of them is fused into it.
+                            sharedJoin.filter((a, b) -> a.getValue() == b.getValue())
+                                    .penalize(SimpleScore.ONE)
+                                    .asConstraint("Shared join with same value"),
+                            sharedJoin.filter((a, b) -> a.getValue() != b.getValue())
+                                    .penalize(SimpleScore.ONE)
+                                    .asConstraint("Shared join with different value")
+                    };
+                },
+                EnvironmentMode.PHASE_ASSERT);
+
+        assertThat(scoreDirectorFactory.countFilterStreamsByArity()).containsExactly(1, 2, 0, 0);
+    }
+
+}
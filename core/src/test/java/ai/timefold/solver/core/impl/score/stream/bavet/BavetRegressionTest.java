@@ -522,6 +522,117 @@ final class BavetRegressionTest extends AbstractConstraintStreamTest {
                 assertMatch(entity2));
     }
 
+    /**
+     * The join tests the predicate of the filter, so the tuples the filter rejects never leave the join.
+     */
+    @TestTemplate
+    void filterFusedIntoJoin() {
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(TestdataSolution.buildSolutionDescriptor(),
+                        factory -> new Constraint[] {
+                                factory.forEach(TestdataEntity.class)
+                                        .join(TestdataEntity.class, filtering((a, b) -> a != b))
+                                        .filter((a, b) -> a.getValue() == b.getValue())
+                                        .penalize(SimpleScore.ONE)
+                                        .asConstraint(TEST_CONSTRAINT_ID)
+                        });
+
+        var solution = TestdataSolution.generateSolution(2, 3);
+        var entity1 = solution.getEntityList().get(0);
+        var entity2 = solution.getEntityList().get(1);
+        var entity3 = solution.getEntityList().get(2);
+        var valueA = solution.getValueList().get(0);
+        var valueB = solution.getValueList().get(1);
+        entity1.setValue(valueA);
+        entity2.setValue(valueA);
+        entity3.setValue(valueB);
+
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity2),
+                assertMatch(entity2, entity1));
+
+        // The filter now accepts the updated tuples of entity3.
+        scoreDirector.beforeVariableChanged(entity3, "value");
+        entity3.setValue(valueA);
+        scoreDirector.afterVariableChanged(entity3, "value");
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity2),
+                assertMatch(entity2, entity1),
+                assertMatch(entity1, entity3),
+                assertMatch(entity3, entity1),
+                assertMatch(entity2, entity3),
+                assertMatch(entity3, entity2));
+
+        // The filter now rejects the updated tuples of entity1.
+        scoreDirector.beforeVariableChanged(entity1, "value");
+        entity1.setValue(valueB);
+        scoreDirector.afterVariableChanged(entity1, "value");
+        assertScore(scoreDirector,
+                assertMatch(entity2, entity3),
+                assertMatch(entity3, entity2));
+
+        // Retracts the tuples of entity2, both those the filter accepted and those it rejected.
+        scoreDirector.beforeVariableChanged(entity2, "value");
+        entity2.setValue(null);
+        scoreDirector.afterVariableChanged(entity2, "value");
+        assertScore(scoreDirector);
+
+        scoreDirector.beforeVariableChanged(entity2, "value");
+        entity2.setValue(valueB);
+        scoreDirector.afterVariableChanged(entity2, "value");
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity2),
+                assertMatch(entity2, entity1));
+    }
+
+    /**
+     * The join is shared by both constraints, so neither of the filters is fused into it.
+     */
+    @TestTemplate
+    void filtersAfterSharedJoin() {
+        var otherConstraintId = "otherConstraintId";
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(TestdataSolution.buildSolutionDescriptor(),
+                        factory -> {
+                            var join = factory.forEach(TestdataEntity.class)
+                                    .join(TestdataEntity.class, filtering((a, b) -> a != b));
+                            return new Constraint[] {
+                                    join.filter((a, b) -> a.getValue() == b.getValue())
+                                            .penalize(SimpleScore.ONE)
+                                            .asConstraint(TEST_CONSTRAINT_ID),
+                                    join.filter((a, b) -> a.getValue() != b.getValue())
+                                            .penalize(SimpleScore.ONE)
+                                            .asConstraint(otherConstraintId)
+                            };
+                        });
+
+        var solution = TestdataSolution.generateSolution(2, 2);
+        var entity1 = solution.getEntityList().get(0);
+        var entity2 = solution.getEntityList().get(1);
+        var valueA = solution.getValueList().get(0);
+        var valueB = solution.getValueList().get(1);
+        entity1.setValue(valueA);
+        entity2.setValue(valueB);
+
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(otherConstraintId, entity1, entity2),
+                assertMatch(otherConstraintId, entity2, entity1));
+
+        scoreDirector.beforeVariableChanged(entity2, "value");
+        entity2.setValue(valueA);
+        scoreDirector.afterVariableChanged(entity2, "value");
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity2),
+                assertMatch(entity2, entity1));
+
+        scoreDirector.beforeVariableChanged(entity1, "value");
+        entity1.setValue(null);
+        scoreDirector.afterVariableChanged(entity1, "value");
+        assertScore(scoreDirector);
+    }
+
     @TestTemplate
     @SuppressWarnings("unchecked")
     void clearEvents() {
@@ -0,0 +1,54 @@
+package ai.timefold.solver.core.impl.score.stream.bavet.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+
+import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.impl.bavet.common.tuple.ConditionalTupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.core.impl.domain.variable.declarative.ConsistencyTracker;
+import ai.timefold.solver.core.impl.score.stream.common.inliner.AbstractScoreInliner;
+
+import org.junit.jupiter.api.Test;
+
+class ConstraintNodeBuildHelperTest {
+
+    @SuppressWarnings("unchecked")
+    private static ConstraintNodeBuildHelper<Object, SimpleScore> buildHelper() {
+        return new ConstraintNodeBuildHelper<>(new ConsistencyTracker<>(), Collections.emptySet(),
+                mock(AbstractScoreInliner.class), null);
+    }
+
+    @Test
+    void consecutiveFiltersAreFused() {
+        var buildHelper = buildHelper();
+        TupleLifecycle<UniTuple<String>> downstream = mock(TupleLifecycle.class);
+        var secondFilter = buildHelper.conditionally(downstream, (String a) -> a.endsWith("b"));
+        var firstFilter = buildHelper.conditionally(secondFilter, (String a) -> a.startsWith("a"));
+        assertThat(firstFilter)
+                .isInstanceOfSatisfying(ConditionalTupleLifecycle.class,
+                        conditionalTupleLifecycle -> assertThat(conditionalTupleLifecycle.downstreamLifecycle())
+                                .isSameAs(downstream));
+
+        var acceptedTuple = UniTuple.of("ab", 0);
+        var rejectedByFirstTuple = UniTuple.of("bb", 0);
+        var rejectedBySecondTuple = UniTuple.of("aa", 0);
+        firstFilter.insert(acceptedTuple);
+        firstFilter.insert(rejectedByFirstTuple);
+        firstFilter.insert(rejectedBySecondTuple);
+        verify(downstream).insert(acceptedTuple);
+        verify(downstream, never()).insert(rejectedByFirstTuple);
+        verify(downstream, never()).insert(rejectedBySecondTuple);
+
+        firstFilter.update(acceptedTuple);
+        firstFilter.update(rejectedBySecondTuple);
+        verify(downstream).update(acceptedTuple);
+        verify(downstream).retract(rejectedBySecondTuple);
+    }
+
+}
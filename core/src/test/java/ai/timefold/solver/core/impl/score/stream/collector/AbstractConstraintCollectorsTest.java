@@ -1,12 +1,15 @@
 package ai.timefold.solver.core.impl.score.stream.collector;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
+import ai.timefold.solver.core.api.score.stream.common.Break;
 import ai.timefold.solver.core.api.score.stream.common.ConnectedRangeChain;
+import ai.timefold.solver.core.api.score.stream.common.Sequence;
 import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.impl.score.stream.collector.connected_ranges.ConnectedRangeTracker;
-import ai.timefold.solver.core.impl.score.stream.collector.consecutive.ConsecutiveSetTree;
+import ai.timefold.solver.core.impl.score.stream.collector.consecutive.IntConsecutiveSetTree;
 
 /**
  * Prescribes tests that must be implemented for every cardinality of a constraint collector.
@@ -77,13 +80,65 @@ public abstract class AbstractConstraintCollectorsTest {
 
     protected static SequenceChain<Integer, Integer> buildSequenceChain(Integer... data) {
         return Arrays.stream(data).collect(
-                () -> new ConsecutiveSetTree<Integer, Integer, Integer>((a, b) -> b - a, Integer::sum, 1, 0),
+                () -> new IntConsecutiveSetTree<Integer>(1),
                 (tree, datum) -> tree.add(datum, datum),
                 (a1, b1) -> {
                     throw new UnsupportedOperationException();
                 });
     }
 
+    /**
+     * Sequence chains are compared by everything they expose, not by how they store it;
+     * two chains with the same items may keep them in differently shaped trees,
+     * depending on the order in which the items were added and removed.
+     */
+    protected static Object toComparableResult(Object result) {
+        if (result instanceof SequenceChain<?, ?> sequenceChain) {
+            return new SequenceChainView(
+                    sequenceChain.getConsecutiveSequences().stream()
+                            .map(AbstractConstraintCollectorsTest::toSequenceView)
+                            .toList(),
+                    sequenceChain.getBreaks().stream()
+                            .map(AbstractConstraintCollectorsTest::toBreakView)
+                            .toList(),
+                    toSequenceView(sequenceChain.getFirstSequence()), toSequenceView(sequenceChain.getLastSequence()),
+                    toBreakView(sequenceChain.getFirstBreak()), toBreakView(sequenceChain.getLastBreak()));
+        }
+        return result;
+    }
+
+    private static SequenceView toSequenceView(Sequence<?, ?> sequence) {
+        if (sequence == null) {
+            return null;
+        }
+        return new SequenceView(List.copyOf(sequence.getItems()), sequence.getFirstItem(), sequence.getLastItem(),
+                sequence.getCount(), sequence.getLength(), sequence.isFirst(), sequence.isLast(),
+                toBreakView(sequence.getPreviousBreak()), toBreakView(sequence.getNextBreak()));
+    }
+
+    private static BreakView toBreakView(Break<?, ?> sequenceBreak) {
+        if (sequenceBreak == null) {
+            return null;
+        }
+        return new BreakView(sequenceBreak.getPreviousSequenceEnd(), sequenceBreak.getNextSequenceStart(),
+                sequenceBreak.getLength(), sequenceBreak.isFirst(), sequenceBreak.isLast());
+    }
+
+    private record SequenceChainView(List<SequenceView> sequences, List<BreakView> breaks,
+            SequenceView firstSequence, SequenceView lastSequence, BreakView firstBreak, BreakView lastBreak) {
+
+    }
+
+    private record SequenceView(List<?> items, Object firstItem, Object lastItem, int count, Object length,
+            boolean isFirst, boolean isLast, BreakView previousBreak, BreakView nextBreak) {
+
+    }
+
+    private record BreakView(Object previousSequenceEnd, Object nextSequenceStart, Object length,
+            boolean isFirst, boolean isLast) {
+
+    }
+
     protected ConnectedRangeChain<Interval, Integer, Integer> buildConsecutiveUsage(Interval... data) {
         return Arrays.stream(data).collect(
                 () -> new ConnectedRangeTracker<>(Interval::start, Interval::end, (a, b) -> b - a),
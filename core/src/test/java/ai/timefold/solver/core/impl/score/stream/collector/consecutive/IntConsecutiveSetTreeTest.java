@@ -0,0 +1,254 @@
+package ai.timefold.solver.core.impl.score.stream.collector.consecutive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import ai.timefold.solver.core.api.score.stream.common.Break;
+import ai.timefold.solver.core.api.score.stream.common.Sequence;
+import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+class IntConsecutiveSetTreeTest {
+
+    @Test
+    void testNonconsecutiveNumbers() {
+        var tree = new IntConsecutiveSetTree<String>(1);
+        tree.add("a", 1);
+        tree.add("b", 3);
+        tree.add("c", 7);
+
+        var sequenceList = new IterableList<>(tree.getConsecutiveSequences());
+        var breakList = new IterableList<>(tree.getBreaks());
+        assertSoftly(softly -> {
+            softly.assertThat(sequenceList).hasSize(3);
+            softly.assertThat(sequenceList.get(0).getItems()).containsExactly("a");
+            softly.assertThat(sequenceList.get(1).getItems()).containsExactly("b");
+            softly.assertThat(sequenceList.get(2).getItems()).containsExactly("c");
+            softly.assertThat(tree.getFirstSequence()).isSameAs(sequenceList.get(0));
+            softly.assertThat(tree.getLastSequence()).isSameAs(sequenceList.get(2));
+            softly.assertThat(breakList).hasSize(2);
+            softly.assertThat(breakList.get(0).getLength()).isEqualTo(2);
+            softly.assertThat(breakList.get(1).getLength()).isEqualTo(4);
+            softly.assertThat(tree.getFirstBreak()).isSameAs(breakList.get(0));
+            softly.assertThat(tree.getLastBreak()).isSameAs(breakList.get(1));
+        });
+    }
+
+    @Test
+    void testDuplicateNumbers() {
+        var tree = new IntConsecutiveSetTree<String>(1);
+        tree.add("a", 1);
+        tree.add("b", 2);
+        tree.add("c", 3);
+        tree.add("c", 3);
+        tree.add("c", 3);
+
+        var sequenceList = new IterableList<>(tree.getConsecutiveSequences());
+        assertThat(sequenceList).hasSize(1);
+        assertThat(sequenceList.get(0).getCount()).isEqualTo(3);
+        assertThat(sequenceList.get(0).getLength()).isEqualTo(3);
+
+        tree.remove("c", 3);
+        tree.remove("c", 3);
+        assertThat(sequenceList.get(0).getCount()).isEqualTo(3);
+        tree.remove("c", 3);
+        assertThat(sequenceList).hasSize(1);
+        assertThat(sequenceList.get(0).getCount()).isEqualTo(2);
+        assertThat(sequenceList.get(0).getLastItem()).isEqualTo("b");
+        assertThat(tree.remove("c", 3)).isFalse();
+    }
+
+    @Test
+    void testEqualValuesAreTheSameItem() {
+        var tree = new IntConsecutiveSetTree<String>(1);
+        var value = new String("a");
+        var equalValue = new String("a");
+        tree.add(value, 1);
+        tree.add(equalValue, 1);
+        assertThat(tree.getFirstSequence().getCount()).isEqualTo(1);
+
+        tree.remove(value, 1);
+        assertThat(tree.getConsecutiveSequences()).hasSize(1);
+        tree.remove(equalValue, 1);
+        assertThat(tree.getConsecutiveSequences()).isEmpty();
+    }
+
+    @Test
+    void testCollidingHashCodesAtTheSamePoint() {
+        var tree = new IntConsecutiveSetTree<CollidingValue>(1);
+        var a = new CollidingValue("a");
+        var b = new CollidingValue("b");
+        var c = new CollidingValue("c");
+        tree.add(a, 3);
+        tree.add(b, 3);
+        tree.add(c, 3);
+        tree.add(b, 3);
+
+        var sequenceList = new IterableList<>(tree.getConsecutiveSequences());
+        assertThat(sequenceList).hasSize(1);
+        assertThat(sequenceList.get(0).getCount()).isEqualTo(3);
+        assertThat(sequenceList.get(0).getItems()).containsExactlyInAnyOrder(a, b, c);
+
+        // Removing the value at the home key must not lose the displaced values.
+        tree.remove(a, 3);
+        assertThat(sequenceList.get(0).getItems()).containsExactlyInAnyOrder(b, c);
+        tree.add(a, 3);
+        assertThat(sequenceList.get(0).getItems()).containsExactlyInAnyOrder(a, b, c);
+        tree.remove(b, 3);
+        assertThat(sequenceList.get(0).getItems()).containsExactlyInAnyOrder(a, b, c);
+        tree.remove(b, 3);
+        tree.remove(c, 3);
+        assertThat(sequenceList.get(0).getItems()).containsExactly(a);
+        tree.remove(a, 3);
+        assertThat(sequenceList).isEmpty();
+    }
+
+    @Test
+    void testNegativePoints() {
+        var tree = new IntConsecutiveSetTree<Integer>(1);
+        tree.add(-2, -2);
+        tree.add(0, 0);
+        tree.add(-1, -1);
+        tree.add(2, 2);
+
+        var sequenceList = new IterableList<>(tree.getConsecutiveSequences());
+        assertThat(sequenceList).hasSize(2);
+        assertThat(sequenceList.get(0).getItems()).containsExactly(-2, -1, 0);
+        assertThat(sequenceList.get(1).getItems()).containsExactly(2);
+        assertThat(tree.getFirstBreak().getLength()).isEqualTo(2);
+    }
+
+    @Test
+    void testRandomSequencesMatchSortedValues() {
+        var random = new Random(1);
+        var valueToCountMap = new TreeMap<Integer, Integer>(
+                Comparator.<Integer, Integer> comparing(Math::abs).thenComparing(Integer::intValue));
+
+        // Absolute value consecutive, at most difference 2
+        var tree = new IntConsecutiveSetTree<Integer>(2);
+
+        for (var i = 0; i < 2000; i++) {
+            var value = random.nextInt(64) - 32;
+            String op;
+            if (valueToCountMap.containsKey(value) && random.nextDouble() < 0.6) {
+                op = valueToCountMap.keySet().stream().map(Object::toString)
+                        .collect(Collectors.joining(", ", "Removing " + value + " from [", "]"));
+                valueToCountMap.computeIfPresent(value, (key, count) -> (count == 1) ? null : count - 1);
+                tree.remove(value, Math.abs(value));
+            } else {
+                op = valueToCountMap.keySet().stream().map(Object::toString)
+                        .collect(Collectors.joining(", ", "Adding " + value + " to [", "]"));
+                valueToCountMap.merge(value, 1, Integer::sum);
+                tree.add(value, Math.abs(value));
+            }
+
+            var expectedSequences = groupIntoSequences(valueToCountMap.keySet(), 2);
+            assertThat(describeSequences(tree)).as("Mismatched Sequence: " + op)
+                    .isEqualTo(describeExpectedSequences(expectedSequences, 2));
+            assertThat(describeBreaks(tree)).as("Mismatched Break: " + op)
+                    .isEqualTo(describeExpectedBreaks(expectedSequences));
+        }
+    }
+
+    /**
+     * Splits the values, sorted by their point, wherever two neighbours are more than maxDifference apart.
+     */
+    private static List<List<Integer>> groupIntoSequences(Collection<Integer> sortedValues, int maxDifference) {
+        var sequences = new ArrayList<List<Integer>>();
+        List<Integer> sequence = null;
+        for (var value : sortedValues) {
+            if (sequence == null || Math.abs(value) - Math.abs(sequence.get(sequence.size() - 1)) > maxDifference) {
+                sequence = new ArrayList<>();
+                sequences.add(sequence);
+            }
+            sequence.add(value);
+        }
+        return sequences;
+    }
+
+    private static List<String> describeExpectedSequences(List<List<Integer>> sequences, int maxDifference) {
+        var descriptions = new ArrayList<String>(sequences.size());
+        for (var i = 0; i < sequences.size(); i++) {
+            var sequence = sequences.get(i);
+            var firstPoint = Math.abs(sequence.get(0));
+            var lastPoint = Math.abs(sequence.get(sequence.size() - 1));
+            descriptions.add(describeSequence(sequence, firstPoint, lastPoint, sequence.size(),
+                    maxDifference + lastPoint - firstPoint, i == 0, i == sequences.size() - 1));
+        }
+        return descriptions;
+    }
+
+    private static List<String> describeExpectedBreaks(List<List<Integer>> sequences) {
+        var descriptions = new ArrayList<String>();
+        for (var i = 1; i < sequences.size(); i++) {
+            var previousSequence = sequences.get(i - 1);
+            var end = Math.abs(previousSequence.get(previousSequence.size() - 1));
+            var start = Math.abs(sequences.get(i).get(0));
+            descriptions.add(describeBreak(end, start, start - end, i == 1, i == sequences.size() - 1));
+        }
+        return descriptions;
+    }
+
+    /**
+     * Items at the same point may be in any order,
+     * so the first and last items are compared by their point only.
+     */
+    private static List<String> describeSequences(SequenceChain<Integer, Integer> sequenceChain) {
+        return sequenceChain.getConsecutiveSequences().stream()
+                .map(IntConsecutiveSetTreeTest::describeSequence)
+                .toList();
+    }
+
+    private static String describeSequence(Sequence<Integer, Integer> sequence) {
+        return describeSequence(sequence.getItems(), Math.abs(sequence.getFirstItem()), Math.abs(sequence.getLastItem()),
+                sequence.getCount(), sequence.getLength(), sequence.isFirst(), sequence.isLast());
+    }
+
+    private static String describeSequence(Collection<Integer> items, int first, int last, int count, int length,
+            boolean isFirst, boolean isLast) {
+        var sortedItems = items.stream()
+                .sorted()
+                .map(Object::toString)
+                .collect(Collectors.joining(", ", "[", "]"));
+        return sortedItems + " first=" + first + " last=" + last + " count=" + count + " length=" + length
+                + " isFirst=" + isFirst + " isLast=" + isLast;
+    }
+
+    private static List<String> describeBreaks(SequenceChain<Integer, Integer> sequenceChain) {
+        return sequenceChain.getBreaks().stream()
+                .map(IntConsecutiveSetTreeTest::describeBreak)
+                .toList();
+    }
+
+    private static String describeBreak(Break<Integer, Integer> sequenceBreak) {
+        return describeBreak(Math.abs(sequenceBreak.getPreviousSequenceEnd()),
+                Math.abs(sequenceBreak.getNextSequenceStart()), sequenceBreak.getLength(),
+                sequenceBreak.isFirst(), sequenceBreak.isLast());
+    }
+
+    private static String describeBreak(int end, int start, int length, boolean isFirst, boolean isLast) {
+        return "end=" + end + " start=" + start + " length=" + length + " isFirst=" + isFirst + " isLast=" + isLast;
+    }
+
+    private record CollidingValue(String name) {
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+    }
+
+}
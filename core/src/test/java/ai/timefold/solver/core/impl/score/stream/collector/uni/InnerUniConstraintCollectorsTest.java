@@ -1036,11 +1036,9 @@ final class InnerUniConstraintCollectorsTest extends AbstractConstraintCollector
     private static <A, Container_, Result_> void assertResultRecursive(UniConstraintCollector<A, Container_, Result_> collector,
             Object container, Result_ expectedResult) {
         var actualResult = collector.finisher().apply((Container_) container);
-        assertThat(actualResult)
+        assertThat(toComparableResult(actualResult))
                 .as("Collector (" + collector + ") did not produce expected result.")
-                .usingRecursiveComparison()
-                .ignoringFields("sourceTree", "indexFunction", "sequenceList", "startItemToSequence")
-                .isEqualTo(expectedResult);
+                .isEqualTo(toComparableResult(expectedResult));
     }
 
     private static <Container_> void assertUnfairness(
@@ -91,6 +91,21 @@ class HardSoftScoreInlinerTest extends AbstractScoreInlinerTest<TestdataHardSoft
                 .isEqualTo(HardSoftScore.of(0, 0));
     }
 
+    @Test
+    void compareScoreTo() {
+        var constraintWeight = HardSoftScore.of(-1, 10);
+        var impacter = buildScoreImpacter(constraintWeight);
+        var scoreInliner = (AbstractScoreInliner<HardSoftScore>) impacter.getContext().inliner;
+
+        impacter.impactScore(2, ConstraintMatchSupplier.empty()); // -2hard/20soft
+        for (var score : new HardSoftScore[] { HardSoftScore.of(-2, 20), HardSoftScore.of(-2, 19),
+                HardSoftScore.of(-2, 21), HardSoftScore.of(-3, 100), HardSoftScore.of(-1, -100) }) {
+            assertThat(Integer.signum(scoreInliner.compareScoreTo(score)))
+                    .as("Comparison to (%s)", score)
+                    .isEqualTo(Integer.signum(scoreInliner.extractScore().compareTo(score)));
+        }
+    }
+
     @Test
     void impactAllMatchWeightOverflow() {
         var constraintWeight = HardSoftScore.of(10, 100);
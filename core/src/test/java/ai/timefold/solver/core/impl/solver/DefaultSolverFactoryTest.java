@@ -18,6 +18,7 @@ import ai.timefold.solver.core.testdomain.TestdataConstraintProvider;
 import ai.timefold.solver.core.testdomain.TestdataEntity;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
 import ai.timefold.solver.core.testdomain.invalid.noentity.TestdataNoEntitySolution;
+import ai.timefold.solver.core.testutil.PlannerTestUtils;
 
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
@@ -165,4 +166,27 @@ class DefaultSolverFactoryTest {
                         "remove constraintStreamProfilingEnabled from the solver configuration");
     }
 
+    @Test
+    void testParallelInitialization() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withScoreDirectorFactory(new ScoreDirectorFactoryConfig()
+                        .withConstraintProviderClass(TestdataConstraintProvider.class)
+                        .withConstraintStreamParallelInitializationEnabled(true));
+        var solution = PlannerTestUtils.solve(solverConfig, TestdataSolution.generateSolution(3, 5));
+        assertThat(solution.getScore()).isNotNull();
+        assertThat(solution.getEntityList()).allSatisfy(entity -> assertThat(entity.getValue()).isNotNull());
+    }
+
+    @Test
+    void testInvalidParallelInitializationWithoutConstraintProvider() {
+        var solverConfig = new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withScoreDirectorFactory(new ScoreDirectorFactoryConfig()
+                        .withEasyScoreCalculatorClass(DummyEasyScoreCalculator.class)
+                        .withConstraintStreamParallelInitializationEnabled(true));
+        assertThatCode(() -> new DefaultSolverFactory<>(solverConfig).buildSolver(new SolverConfigOverride()))
+                .hasMessageContaining("then constraintStreamParallelInitializationEnabled (true) must be false");
+    }
+
 }
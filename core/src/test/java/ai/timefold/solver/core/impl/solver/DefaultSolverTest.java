@@ -161,6 +161,7 @@ import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 @ExtendWith(SoftAssertionsExtension.class)
 @Execution(ExecutionMode.CONCURRENT)
@@ -1407,9 +1408,10 @@ class DefaultSolverTest {
         assertThat(solution.getScore()).isEqualTo(SimpleScore.of(-2));
     }
 
-    @Test
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
     @Timeout(60)
-    void solveStaleDeclarativeShadows() {
+    void solveStaleDeclarativeShadows(boolean intArrayShadowVariableGraphEnabled) {
         // Timeout is necessary since we use best score feasible as changes to random affect
         // the step count to get to a feasible solution, and if we somehow broke LS so it never
         // find a feasible solution, it would run forever otherwise.
@@ -1420,6 +1422,8 @@ class DefaultSolverTest {
                 .withConstraintProviderClass(TestdataConcurrentConstraintProvider.class)
                 .withPhases(new LocalSearchPhaseConfig().withTerminationConfig(new TerminationConfig()
                         .withBestScoreFeasible(true)));
+        solverConfig.getScoreDirectorFactoryConfig()
+                .withIntArrayShadowVariableGraphEnabled(intArrayShadowVariableGraphEnabled);
 
         var e1 = new TestdataConcurrentEntity("e1");
         var e2 = new TestdataConcurrentEntity("e2");
@@ -31,6 +31,7 @@ import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristi
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicType;
 import ai.timefold.solver.core.config.exhaustivesearch.ExhaustiveSearchPhaseConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.RuinRecreateMoveSelectorConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchType;
 import ai.timefold.solver.core.config.phase.custom.CustomPhaseConfig;
@@ -45,6 +46,7 @@ import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 import ai.timefold.solver.core.impl.score.director.ScoreDirector;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 import ai.timefold.solver.core.preview.api.move.builtin.Moves;
+import ai.timefold.solver.core.testdomain.TestdataConstraintProvider;
 import ai.timefold.solver.core.testdomain.TestdataEntity;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
 import ai.timefold.solver.core.testdomain.TestdataValue;
@@ -882,4 +884,83 @@ class SolverMetricsIT extends AbstractMeterTest {
         assertThat(moveCountPer2Opt.get()).isPositive();
     }
 
+    @Test
+    void solveWithConstraintProfileMetric() {
+        var meterRegistry = new TestMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withScoreDirectorFactory(
+                        new ScoreDirectorFactoryConfig().withConstraintProviderClass(TestdataConstraintProvider.class))
+                .withMonitoringConfig(new MonitoringConfig().withSolverMetricList(List.of(SolverMetric.CONSTRAINT_PROFILE)));
+
+        var problem = new TestdataSolution("s1");
+        problem.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        problem.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2"), new TestdataEntity("e3")));
+
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+        var tupleCount = new AtomicLong(-1L);
+        var calculationNanos = new AtomicLong(-1L);
+        var nodeGaugeCount = new AtomicInteger();
+        ((DefaultSolver<TestdataSolution>) solver).addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<>() {
+            @Override
+            public void solvingEnded(SolverScope<TestdataSolution> solverScope) {
+                var meterId = SolverMetric.CONSTRAINT_PROFILE.getMeterId();
+                var tupleCountGauge = meterRegistry.find(meterId + ".tuple.count").tag("constraint.id", "Always penalize")
+                        .gauge();
+                var timeGauge = meterRegistry.find(meterId + ".time").tag("constraint.id", "Always penalize")
+                        .timeGauge();
+                if (tupleCountGauge != null && timeGauge != null) {
+                    tupleCount.set((long) tupleCountGauge.value());
+                    calculationNanos.set((long) timeGauge.value(TimeUnit.NANOSECONDS));
+                }
+                nodeGaugeCount.set(meterRegistry.find(meterId + ".node.tuple.count").gauges().size());
+            }
+        });
+        solver.solve(problem);
+        assertThat(tupleCount.get()).isPositive();
+        assertThat(calculationNanos.get()).isNotNegative();
+        assertThat(nodeGaugeCount.get()).isPositive();
+        // The gauges are removed when solving ends.
+        assertThat(meterRegistry.find(SolverMetric.CONSTRAINT_PROFILE.getMeterId() + ".tuple.count").gauges()).isEmpty();
+    }
+
+    @Test
+    void solveWithRuinRecreateTimeMetric() {
+        var meterRegistry = new TestMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig(),
+                        new LocalSearchPhaseConfig()
+                                .withMoveSelectorConfig(new RuinRecreateMoveSelectorConfig())
+                                .withTerminationConfig(new TerminationConfig().withStepCountLimit(10)))
+                .withMonitoringConfig(new MonitoringConfig().withSolverMetricList(List.of(SolverMetric.RUIN_RECREATE_TIME)));
+
+        var problem = new TestdataSolution("s1");
+        problem.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        problem.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2"), new TestdataEntity("e3")));
+
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+        var recreateCount = new AtomicLong(-1L);
+        var recreateNanos = new AtomicLong(-1L);
+        ((DefaultSolver<TestdataSolution>) solver).addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<>() {
+            @Override
+            public void solvingEnded(SolverScope<TestdataSolution> solverScope) {
+                var functionTimer = meterRegistry.find(SolverMetric.RUIN_RECREATE_TIME.getMeterId()).functionTimer();
+                if (functionTimer != null) {
+                    recreateCount.set((long) functionTimer.count());
+                    recreateNanos.set((long) functionTimer.totalTime(TimeUnit.NANOSECONDS));
+                }
+            }
+        });
+        solver.solve(problem);
+        assertThat(recreateCount.get()).isPositive();
+        assertThat(recreateNanos.get()).isPositive();
+        // The timer is removed when solving ends.
+        assertThat(meterRegistry.find(SolverMetric.RUIN_RECREATE_TIME.getMeterId()).functionTimers()).isEmpty();
+    }
+
 }
@@ -0,0 +1,105 @@
+package ai.timefold.solver.core.impl.solver.change;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+import ai.timefold.solver.core.testdomain.list.TestdataListSolution;
+import ai.timefold.solver.core.testdomain.list.TestdataListValue;
+import ai.timefold.solver.core.testutil.PlannerTestUtils;
+
+import org.junit.jupiter.api.Test;
+
+class BestSolutionRestorerTest {
+
+    @Test
+    void restoreBasicVariables() {
+        var scoreDirector = PlannerTestUtils.mockScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(TestdataSolution.generateSolution(3, 3));
+        var bestSolution = scoreDirector.cloneWorkingSolution();
+        var bestValueList = bestSolution.getValueList();
+        bestSolution.getEntityList().get(0).setValue(bestValueList.get(2));
+        bestSolution.getEntityList().get(2).setValue(null);
+
+        assertThat(new BestSolutionRestorer<>(scoreDirector).restore(bestSolution)).isTrue();
+        var workingSolution = scoreDirector.getWorkingSolution();
+        var workingValueList = workingSolution.getValueList();
+        assertThat(workingSolution.getEntityList())
+                .map(TestdataEntity::getValue)
+                .containsExactly(workingValueList.get(2), workingValueList.get(1), null);
+        var workingEntityList = workingSolution.getEntityList();
+        verify(scoreDirector).beforeVariableChanged(any(VariableDescriptor.class), eq(workingEntityList.get(0)));
+        verify(scoreDirector, never()).beforeVariableChanged(any(VariableDescriptor.class), eq(workingEntityList.get(1)));
+        verify(scoreDirector).beforeVariableChanged(any(VariableDescriptor.class), eq(workingEntityList.get(2)));
+    }
+
+    @Test
+    void restoreListVariable() {
+        var scoreDirector = PlannerTestUtils.mockScoreDirector(TestdataListSolution.buildSolutionDescriptor());
+        // e0 = [v0, v2, v4], e1 = [v1, v3]
+        scoreDirector.setWorkingSolution(TestdataListSolution.generateInitializedSolution(5, 2));
+        var bestSolution = scoreDirector.cloneWorkingSolution();
+        var bestValues = bestSolution.getValueList();
+        // e0 = [v0, v3, v4], e1 = [v2, v1]
+        bestSolution.getEntityList().get(0).setValueList(new ArrayList<>(List.of(bestValues.get(0), bestValues.get(3),
+                bestValues.get(4))));
+        bestSolution.getEntityList().get(1).setValueList(new ArrayList<>(List.of(bestValues.get(2), bestValues.get(1))));
+
+        assertThat(new BestSolutionRestorer<>(scoreDirector).restore(bestSolution)).isTrue();
+        var workingSolution = scoreDirector.getWorkingSolution();
+        var workingValues = workingSolution.getValueList();
+        var workingEntity0 = workingSolution.getEntityList().get(0);
+        var workingEntity1 = workingSolution.getEntityList().get(1);
+        assertThat(workingEntity0.getValueList())
+                .containsExactly(workingValues.get(0), workingValues.get(3), workingValues.get(4));
+        assertThat(workingEntity1.getValueList())
+                .containsExactly(workingValues.get(2), workingValues.get(1));
+        assertThat(workingValues)
+                .map(TestdataListValue::getEntity)
+                .containsExactly(workingEntity0, workingEntity1, workingEntity1, workingEntity0, workingEntity0);
+        assertThat(workingValues)
+                .map(TestdataListValue::getIndex)
+                .containsExactly(0, 1, 0, 1, 2);
+        // Only the middle element of e0 differs.
+        verify(scoreDirector).beforeListVariableChanged(any(ListVariableDescriptor.class), eq(workingEntity0), eq(1), eq(2));
+        verify(scoreDirector).beforeListVariableChanged(any(ListVariableDescriptor.class), eq(workingEntity1), eq(0), eq(2));
+        verify(scoreDirector, never()).afterListVariableElementUnassigned(any(ListVariableDescriptor.class), any());
+    }
+
+    @Test
+    void unchangedSolution() {
+        var scoreDirector = PlannerTestUtils.mockScoreDirector(TestdataListSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(TestdataListSolution.generateInitializedSolution(5, 2));
+        var bestSolution = scoreDirector.cloneWorkingSolution();
+
+        assertThat(new BestSolutionRestorer<>(scoreDirector).restore(bestSolution)).isTrue();
+        verify(scoreDirector, never()).beforeListVariableChanged(any(ListVariableDescriptor.class), any(Object.class), anyInt(),
+                anyInt());
+        verify(scoreDirector, times(1)).updateShadowVariables();
+    }
+
+    @Test
+    void differentEntitiesLeaveWorkingSolutionUntouched() {
+        var scoreDirector = PlannerTestUtils.mockScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(TestdataSolution.generateSolution(3, 3));
+        var bestSolution = scoreDirector.cloneWorkingSolution();
+        bestSolution.getEntityList().get(0).setValue(null);
+        bestSolution.getEntityList().add(new TestdataEntity("Added entity", bestSolution.getValueList().get(0)));
+
+        assertThat(new BestSolutionRestorer<>(scoreDirector).restore(bestSolution)).isFalse();
+        assertThat(scoreDirector.getWorkingSolution().getEntityList().get(0).getValue()).isNotNull();
+        verify(scoreDirector, never()).beforeVariableChanged(any(VariableDescriptor.class), any(Object.class));
+    }
+
+}
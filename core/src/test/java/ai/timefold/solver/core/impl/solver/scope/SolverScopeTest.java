@@ -0,0 +1,74 @@
+package ai.timefold.solver.core.impl.solver.scope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import ai.timefold.solver.core.testdomain.TestdataEasyScoreCalculator;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+
+import org.junit.jupiter.api.Test;
+
+class SolverScopeTest {
+
+    /**
+     * The best solution assigns the first entity to the value of the second entity, which scores -2.
+     *
+     * @param bestScore the best score to record, which may differ from the actual score of the best solution
+     */
+    private static SolverScope<TestdataSolution> buildSolverScope(SimpleScore bestScore) {
+        var scoreDirectorFactory = new EasyScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                new TestdataEasyScoreCalculator(), EnvironmentMode.PHASE_ASSERT);
+        var scoreDirector = scoreDirectorFactory.buildScoreDirector();
+        scoreDirector.setWorkingSolution(TestdataSolution.generateSolution(3, 3));
+        var bestSolution = scoreDirector.cloneWorkingSolution();
+        var bestEntityList = bestSolution.getEntityList();
+        bestEntityList.get(0).setValue(bestEntityList.get(1).getValue());
+        var solverScope = new SolverScope<TestdataSolution>();
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setBestSolution(bestSolution);
+        solverScope.setBestScore(InnerScore.fullyAssigned(bestScore));
+        return solverScope;
+    }
+
+    @Test
+    void restoreWorkingSolutionFromBestSolution() {
+        var solverScope = buildSolverScope(SimpleScore.of(-2));
+        var workingSolution = solverScope.getWorkingSolution();
+
+        assertThat(solverScope.restoreWorkingSolutionFromBestSolution(true)).isTrue();
+        assertThat(solverScope.getWorkingSolution()).isSameAs(workingSolution);
+        var workingValueList = workingSolution.getValueList();
+        assertThat(workingSolution.getEntityList())
+                .map(TestdataEntity::getValue)
+                .containsExactly(workingValueList.get(1), workingValueList.get(1), workingValueList.get(2));
+        assertThat(solverScope.getScoreDirector().calculateScore().raw()).isEqualTo(SimpleScore.of(-2));
+    }
+
+    @Test
+    void restoreWorkingSolutionFromBestSolutionWithOtherScore() {
+        var solverScope = buildSolverScope(SimpleScore.of(-5));
+        var workingSolution = solverScope.getWorkingSolution();
+
+        assertThat(solverScope.restoreWorkingSolutionFromBestSolution(false)).isFalse();
+        assertThat(solverScope.getWorkingSolution())
+                .isNotSameAs(workingSolution)
+                .isNotSameAs(solverScope.getBestSolution());
+    }
+
+    @Test
+    void restoreWorkingSolutionFromBestSolutionWithOtherScoreAsserted() {
+        var solverScope = buildSolverScope(SimpleScore.of(-5));
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> solverScope.restoreWorkingSolutionFromBestSolution(true))
+                .withMessageContaining("score (-2)")
+                .withMessageContaining("best score (-5)")
+                .withMessageContaining("Maybe");
+    }
+
+}
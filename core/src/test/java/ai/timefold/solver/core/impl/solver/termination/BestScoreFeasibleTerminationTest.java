@@ -30,27 +30,27 @@ class BestScoreFeasibleTerminationTest {
         doReturn(HardSoftScore.of(-100, -100)).when(solverScope).getStartingInitializedScore();
         when(solverScope.isBestSolutionInitialized()).thenReturn(true);
 
-        doReturn(InnerScore.fullyAssigned(HardSoftScore.of(-100, -100))).when(solverScope).getBestScore();
+        doReturn(InnerScore.fullyAssigned(HardSoftScore.of(-100, -100))).when(solverScope).getLatestBestScore();
         assertThat(termination.isSolverTerminated(solverScope)).isFalse();
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(0.0, offset(0.0));
 
-        doReturn(InnerScore.fullyAssigned(HardSoftScore.of(-80, -100))).when(solverScope).getBestScore();
+        doReturn(InnerScore.fullyAssigned(HardSoftScore.of(-80, -100))).when(solverScope).getLatestBestScore();
         assertThat(termination.isSolverTerminated(solverScope)).isFalse();
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(0.2, offset(0.0));
 
-        doReturn(InnerScore.fullyAssigned(HardSoftScore.of(-60, -100))).when(solverScope).getBestScore();
+        doReturn(InnerScore.fullyAssigned(HardSoftScore.of(-60, -100))).when(solverScope).getLatestBestScore();
         assertThat(termination.isSolverTerminated(solverScope)).isFalse();
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(0.4, offset(0.0));
 
-        doReturn(InnerScore.fullyAssigned(HardSoftScore.of(-40, -100))).when(solverScope).getBestScore();
+        doReturn(InnerScore.fullyAssigned(HardSoftScore.of(-40, -100))).when(solverScope).getLatestBestScore();
         assertThat(termination.isSolverTerminated(solverScope)).isFalse();
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(0.6, offset(0.0));
 
-        doReturn(InnerScore.fullyAssigned(HardSoftScore.of(-20, -100))).when(solverScope).getBestScore();
+        doReturn(InnerScore.fullyAssigned(HardSoftScore.of(-20, -100))).when(solverScope).getLatestBestScore();
         assertThat(termination.isSolverTerminated(solverScope)).isFalse();
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(0.8, offset(0.0));
 
-        doReturn(InnerScore.fullyAssigned(HardSoftScore.ofSoft(-100))).when(solverScope).getBestScore();
+        doReturn(InnerScore.fullyAssigned(HardSoftScore.ofSoft(-100))).when(solverScope).getLatestBestScore();
         assertThat(termination.isSolverTerminated(solverScope)).isTrue();
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(1.0, offset(0.0));
     }
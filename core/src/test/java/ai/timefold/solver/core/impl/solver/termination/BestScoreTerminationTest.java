@@ -35,27 +35,27 @@ class BestScoreTerminationTest {
         when(solverScope.isBestSolutionInitialized()).thenReturn(true);
         doReturn(SimpleScore.of(-1100)).when(solverScope).getStartingInitializedScore();
 
-        doReturn(InnerScore.fullyAssigned(SimpleScore.of(-1100))).when(solverScope).getBestScore();
+        doReturn(InnerScore.fullyAssigned(SimpleScore.of(-1100))).when(solverScope).getLatestBestScore();
         assertThat(termination.isSolverTerminated(solverScope)).isFalse();
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(0.0, offset(0.0));
 
-        doReturn(InnerScore.fullyAssigned(SimpleScore.of(-1100))).when(solverScope).getBestScore();
+        doReturn(InnerScore.fullyAssigned(SimpleScore.of(-1100))).when(solverScope).getLatestBestScore();
         assertThat(termination.isSolverTerminated(solverScope)).isFalse();
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(0.0, offset(0.0));
 
-        doReturn(InnerScore.fullyAssigned(SimpleScore.of(-1040))).when(solverScope).getBestScore();
+        doReturn(InnerScore.fullyAssigned(SimpleScore.of(-1040))).when(solverScope).getLatestBestScore();
         assertThat(termination.isSolverTerminated(solverScope)).isFalse();
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(0.6, offset(0.0));
 
-        doReturn(InnerScore.fullyAssigned(SimpleScore.of(-1040))).when(solverScope).getBestScore();
+        doReturn(InnerScore.fullyAssigned(SimpleScore.of(-1040))).when(solverScope).getLatestBestScore();
         assertThat(termination.isSolverTerminated(solverScope)).isFalse();
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(0.6, offset(0.0));
 
-        doReturn(InnerScore.fullyAssigned(SimpleScore.of(-1000))).when(solverScope).getBestScore();
+        doReturn(InnerScore.fullyAssigned(SimpleScore.of(-1000))).when(solverScope).getLatestBestScore();
         assertThat(termination.isSolverTerminated(solverScope)).isTrue();
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(1.0, offset(0.0));
 
-        doReturn(InnerScore.fullyAssigned(SimpleScore.of(-900))).when(solverScope).getBestScore();
+        doReturn(InnerScore.fullyAssigned(SimpleScore.of(-900))).when(solverScope).getLatestBestScore();
         assertThat(termination.isSolverTerminated(solverScope)).isTrue();
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(1.0, offset(0.0));
     }
@@ -0,0 +1,118 @@
+package ai.timefold.solver.core.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveKeyMapTest {
+
+    @Test
+    void enumKeys() {
+        var map = new AdaptiveKeyMap<DayOfWeek, String>();
+        assertThat(map.isEmpty()).isTrue();
+
+        map.put(DayOfWeek.MONDAY, "Monday");
+        map.put(DayOfWeek.FRIDAY, "Friday");
+        map.put(DayOfWeek.MONDAY, "Mon");
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(DayOfWeek.MONDAY)).isEqualTo("Mon");
+        assertThat(map.get(DayOfWeek.FRIDAY)).isEqualTo("Friday");
+        assertThat(map.get(DayOfWeek.SUNDAY)).isNull();
+        assertThat(map.get("MONDAY")).isNull();
+
+        assertThat(map.remove(DayOfWeek.MONDAY)).isEqualTo("Mon");
+        assertThat(map.remove(DayOfWeek.MONDAY)).isNull();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void integralKeys() {
+        var map = new AdaptiveKeyMap<Integer, String>();
+        map.put(1, "1");
+        map.put(1_000_000, "1M");
+        map.put(-1, "-1");
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.get(1)).isEqualTo("1");
+        assertThat(map.get(1_000_000)).isEqualTo("1M");
+        assertThat(map.get(-1)).isEqualTo("-1");
+        assertThat(map.get(2)).isNull();
+        // An Integer key is never equal to a Long key.
+        assertThat(map.get(1L)).isNull();
+
+        assertThat(map.remove(1_000_000)).isEqualTo("1M");
+        assertThat(map.get(1_000_000)).isNull();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void nullKey() {
+        var map = new AdaptiveKeyMap<Long, String>();
+        map.put(null, "null");
+        map.put(7L, "7");
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(null)).isEqualTo("null");
+        assertThat(map.remove(null)).isEqualTo("null");
+        assertThat(map.get(null)).isNull();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void switchToGenericOnMixedKeys() {
+        var map = new AdaptiveKeyMap<Object, String>();
+        map.put(1, "1");
+        map.put(2L, "2L");
+        map.put(DayOfWeek.MONDAY, "Monday");
+        map.put("a", "a");
+        assertThat(map.size()).isEqualTo(4);
+        assertThat(map.get(1)).isEqualTo("1");
+        assertThat(map.get(1L)).isNull();
+        assertThat(map.get(2L)).isEqualTo("2L");
+        assertThat(map.get(DayOfWeek.MONDAY)).isEqualTo("Monday");
+        assertThat(map.get("a")).isEqualTo("a");
+
+        var enumMap = new AdaptiveKeyMap<Object, String>();
+        enumMap.put(DayOfWeek.MONDAY, "Monday");
+        enumMap.put(3, "3");
+        assertThat(enumMap.get(DayOfWeek.MONDAY)).isEqualTo("Monday");
+        assertThat(enumMap.get(3)).isEqualTo("3");
+    }
+
+    @Test
+    void forEachValue() {
+        var map = new AdaptiveKeyMap<Integer, String>();
+        map.put(null, "null");
+        map.put(1, "1");
+        map.put(2, "2");
+        var valueList = new ArrayList<String>();
+        map.forEachValue(valueList::add);
+        assertThat(valueList).containsExactlyInAnyOrder("null", "1", "2");
+    }
+
+    @Test
+    void behavesLikeHashMapUnderRandomOperations() {
+        var random = new Random(37);
+        var map = new AdaptiveKeyMap<Long, Long>();
+        var expectedMap = new HashMap<Long, Long>();
+        for (var i = 0; i < 100_000; i++) {
+            // A small key space forces collisions, resizes and removals from the middle of probe sequences.
+            var key = (long) random.nextInt(500) * (random.nextBoolean() ? 1 : 1L << 32);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expectedMap.remove(key));
+            } else {
+                map.put(key, (long) i);
+                expectedMap.put(key, (long) i);
+            }
+            assertThat(map.size()).isEqualTo(expectedMap.size());
+        }
+        for (var key = -1L; key < 500; key++) {
+            assertThat(map.get(key)).isEqualTo(expectedMap.get(key));
+            assertThat(map.get(key << 32)).isEqualTo(expectedMap.get(key << 32));
+        }
+    }
+
+}
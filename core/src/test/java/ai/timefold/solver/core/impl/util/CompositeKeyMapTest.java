@@ -0,0 +1,94 @@
+package ai.timefold.solver.core.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.DayOfWeek;
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class CompositeKeyMapTest {
+
+    @Test
+    void pairKeys() {
+        var map = new CompositeKeyMap<String>(2);
+        assertThat(map.isEmpty()).isTrue();
+
+        var components = new Object[2];
+        map.put(fill(components, "Ann", DayOfWeek.MONDAY), "Ann Monday");
+        map.put(fill(components, "Ann", DayOfWeek.FRIDAY), "Ann Friday");
+        map.put(fill(components, "Beth", DayOfWeek.MONDAY), "Beth Monday");
+        map.put(fill(components, "Ann", DayOfWeek.MONDAY), "Ann Mon");
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.get(fill(components, "Ann", DayOfWeek.MONDAY))).isEqualTo("Ann Mon");
+        assertThat(map.get(fill(components, "Ann", DayOfWeek.FRIDAY))).isEqualTo("Ann Friday");
+        assertThat(map.get(fill(components, "Beth", DayOfWeek.MONDAY))).isEqualTo("Beth Monday");
+        assertThat(map.get(fill(components, "Beth", DayOfWeek.FRIDAY))).isNull();
+
+        assertThat(map.remove(fill(components, "Ann", DayOfWeek.MONDAY))).isEqualTo("Ann Mon");
+        assertThat(map.remove(fill(components, "Ann", DayOfWeek.MONDAY))).isNull();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void componentsAreCopied() {
+        var map = new CompositeKeyMap<String>(3);
+        var components = new Object[] { 1, 2, 3 };
+        map.put(components, "1-2-3");
+        components[2] = 4;
+        assertThat(map.get(components)).isNull();
+        assertThat(map.get(new Object[] { 1, 2, 3 })).isEqualTo("1-2-3");
+    }
+
+    @Test
+    void nullComponents() {
+        var map = new CompositeKeyMap<String>(2);
+        map.put(new Object[] { null, null }, "null-null");
+        map.put(new Object[] { "a", null }, "a-null");
+        map.put(new Object[] { null, "a" }, "null-a");
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.get(new Object[] { null, null })).isEqualTo("null-null");
+        assertThat(map.get(new Object[] { "a", null })).isEqualTo("a-null");
+        assertThat(map.get(new Object[] { null, "a" })).isEqualTo("null-a");
+        assertThat(map.remove(new Object[] { null, null })).isEqualTo("null-null");
+        assertThat(map.get(new Object[] { null, null })).isNull();
+    }
+
+    @Test
+    void arityMustBePositive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new CompositeKeyMap<String>(0));
+    }
+
+    @Test
+    void behavesLikeHashMapUnderRandomOperations() {
+        var random = new Random(37);
+        var map = new CompositeKeyMap<Integer>(2);
+        var expectedMap = new HashMap<Pair<Integer, String>, Integer>();
+        var components = new Object[2];
+        for (var i = 0; i < 100_000; i++) {
+            // A small key space forces collisions, resizes and removals from the middle of probe sequences.
+            var key = new Pair<>(random.nextInt(50), random.nextInt(10) == 0 ? null : "s" + random.nextInt(10));
+            fill(components, key.key(), key.value());
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(components)).isEqualTo(expectedMap.remove(key));
+            } else {
+                map.put(components, i);
+                expectedMap.put(key, i);
+            }
+            assertThat(map.size()).isEqualTo(expectedMap.size());
+        }
+        for (var entry : expectedMap.entrySet()) {
+            fill(components, entry.getKey().key(), entry.getKey().value());
+            assertThat(map.get(components)).isEqualTo(entry.getValue());
+        }
+    }
+
+    private static Object[] fill(Object[] components, Object a, Object b) {
+        components[0] = a;
+        components[1] = b;
+        return components;
+    }
+
+}
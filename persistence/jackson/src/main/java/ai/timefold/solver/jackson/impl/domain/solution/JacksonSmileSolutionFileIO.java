@@ -0,0 +1,28 @@
+package ai.timefold.solver.jackson.impl.domain.solution;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Reads and writes a solution in Smile, the binary equivalent of JSON.
+ * Smile files are smaller than JSON files and faster to read,
+ * because numbers are not parsed from text and repeated property names are written only once.
+ * <p>
+ * Requires {@code tools.jackson.dataformat:jackson-dataformat-smile} on the classpath,
+ * which is an optional dependency.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class JacksonSmileSolutionFileIO<Solution_> extends JacksonSolutionFileIO<Solution_> {
+
+    public JacksonSmileSolutionFileIO(Class<Solution_> clazz) {
+        // Loads TimefoldJacksonModule via ServiceLoader, as well as any other Jackson modules on the classpath.
+        this(clazz, SmileMapper.builder().findAndAddModules().build());
+    }
+
+    public JacksonSmileSolutionFileIO(Class<Solution_> clazz, SmileMapper mapper) {
+        super(clazz, mapper, "sml", false);
+    }
+
+}
@@ -2,22 +2,35 @@ package ai.timefold.solver.jackson.impl.domain.solution;
 
 import java.io.File;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.domain.solution.SolutionFileIO;
 
 import tools.jackson.core.JacksonException;
+import tools.jackson.core.StreamWriteFeature;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
 import tools.jackson.databind.json.JsonMapper;
 
 /**
+ * Reads and writes a solution as JSON.
+ * <p>
+ * Both reading and writing stream the solution token by token,
+ * so the file is never held in memory as a whole.
+ * Pretty printing is enabled by default, so that the output is human-readable;
+ * disable it to write smaller files, which are also faster to read.
+ * For even smaller and faster files, use {@link JacksonSmileSolutionFileIO}.
  *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
 public class JacksonSolutionFileIO<Solution_> implements SolutionFileIO<Solution_> {
 
-    private final Class<Solution_> clazz;
-    private final ObjectMapper mapper;
+    private final String fileExtension;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final ObjectWriter streamWriter;
 
     public JacksonSolutionFileIO(Class<Solution_> clazz) {
         // Loads TimefoldJacksonModule via ServiceLoader, as well as any other Jackson modules on the classpath.
@@ -25,24 +38,42 @@ public class JacksonSolutionFileIO<Solution_> implements SolutionFileIO<Solution
     }
 
     public JacksonSolutionFileIO(Class<Solution_> clazz, ObjectMapper mapper) {
-        this.clazz = clazz;
-        this.mapper = mapper;
+        this(clazz, mapper, true);
+    }
+
+    /**
+     * @param clazz never null
+     * @param mapper never null
+     * @param prettyPrint false to write compact JSON, which is smaller and faster to read
+     */
+    public JacksonSolutionFileIO(Class<Solution_> clazz, ObjectMapper mapper, boolean prettyPrint) {
+        this(clazz, mapper, "json", prettyPrint);
+    }
+
+    protected JacksonSolutionFileIO(Class<Solution_> clazz, ObjectMapper mapper, String fileExtension,
+            boolean prettyPrint) {
+        this.fileExtension = fileExtension;
+        // Readers and writers are immutable and thread-safe, so they are resolved once instead of on every call.
+        this.reader = mapper.readerFor(clazz);
+        this.writer = prettyPrint ? mapper.writerWithDefaultPrettyPrinter() : mapper.writer();
+        // The caller owns the stream, so it must stay open after writing.
+        this.streamWriter = writer.without(StreamWriteFeature.AUTO_CLOSE_TARGET);
     }
 
     @Override
     public String getInputFileExtension() {
-        return "json";
+        return fileExtension;
     }
 
     @Override
     public String getOutputFileExtension() {
-        return "json";
+        return fileExtension;
     }
 
     @Override
     public Solution_ read(File inputSolutionFile) {
         try {
-            return mapper.readValue(inputSolutionFile, clazz);
+            return reader.readValue(inputSolutionFile);
         } catch (JacksonException e) {
             throw new IllegalArgumentException("Failed reading inputSolutionFile (" + inputSolutionFile + ").", e);
         }
@@ -50,7 +81,7 @@ public class JacksonSolutionFileIO<Solution_> implements SolutionFileIO<Solution
 
     public Solution_ read(InputStream inputSolutionStream) {
         try {
-            return mapper.readValue(inputSolutionStream, clazz);
+            return reader.readValue(inputSolutionStream);
         } catch (JacksonException e) {
             throw new IllegalArgumentException("Failed reading inputSolutionStream.", e);
         }
@@ -59,10 +90,24 @@ public class JacksonSolutionFileIO<Solution_> implements SolutionFileIO<Solution
     @Override
     public void write(Solution_ solution, File file) {
         try {
-            mapper.writerWithDefaultPrettyPrinter().writeValue(file, solution);
+            writer.writeValue(file, solution);
         } catch (JacksonException e) {
             throw new IllegalArgumentException("Failed write", e);
         }
     }
 
+    /**
+     * Does not close the stream.
+     *
+     * @param solution never null
+     * @param outputSolutionStream never null
+     */
+    public void write(Solution_ solution, OutputStream outputSolutionStream) {
+        try {
+            streamWriter.writeValue(outputSolutionStream, solution);
+        } catch (JacksonException e) {
+            throw new IllegalArgumentException("Failed writing outputSolutionStream.", e);
+        }
+    }
+
 }
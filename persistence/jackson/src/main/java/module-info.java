@@ -8,6 +8,7 @@ module ai.timefold.solver.jackson {
     requires transitive ai.timefold.solver.core;
     requires org.jspecify;
     requires tools.jackson.databind;
+    requires static tools.jackson.dataformat.smile;
 
     uses tools.jackson.databind.JacksonModule;
 
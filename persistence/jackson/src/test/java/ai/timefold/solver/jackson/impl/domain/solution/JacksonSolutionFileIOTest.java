@@ -4,6 +4,8 @@ import static ai.timefold.solver.core.testutil.PlannerAssert.assertAllCodesOfIte
 import static ai.timefold.solver.core.testutil.PlannerAssert.assertCode;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.util.Arrays;
 
@@ -15,6 +17,8 @@ import ai.timefold.solver.jackson.testdomain.JacksonTestdataValue;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import tools.jackson.databind.json.JsonMapper;
+
 class JacksonSolutionFileIOTest {
 
     private static File solutionTestDir;
@@ -31,15 +35,77 @@ class JacksonSolutionFileIOTest {
                 new JacksonSolutionFileIO<>(JacksonTestdataSolution.class);
         File file = new File(solutionTestDir, "testdataSolution.json");
 
-        JacksonTestdataSolution original = new JacksonTestdataSolution("s1");
-        JacksonTestdataValue originalV1 = new JacksonTestdataValue("v1");
-        original.setValueList(Arrays.asList(originalV1, new JacksonTestdataValue("v2")));
-        original.setEntityList(Arrays.asList(
-                new JacksonTestdataEntity("e1"), new JacksonTestdataEntity("e2", originalV1), new JacksonTestdataEntity("e3")));
-        original.setScore(SimpleScore.of(-321));
+        JacksonTestdataSolution original = createSolution();
         solutionFileIO.write(original, file);
         JacksonTestdataSolution copy = solutionFileIO.read(file);
 
+        assertCopy(original, copy);
+    }
+
+    @Test
+    void readAndWriteCompact() {
+        JacksonSolutionFileIO<JacksonTestdataSolution> prettySolutionFileIO =
+                new JacksonSolutionFileIO<>(JacksonTestdataSolution.class);
+        JacksonSolutionFileIO<JacksonTestdataSolution> compactSolutionFileIO =
+                new JacksonSolutionFileIO<>(JacksonTestdataSolution.class,
+                        JsonMapper.builder().findAndAddModules().build(), false);
+        File prettyFile = new File(solutionTestDir, "testdataSolution-pretty.json");
+        File compactFile = new File(solutionTestDir, "testdataSolution-compact.json");
+
+        JacksonTestdataSolution original = createSolution();
+        prettySolutionFileIO.write(original, prettyFile);
+        compactSolutionFileIO.write(original, compactFile);
+        assertThat(compactFile.length()).isLessThan(prettyFile.length());
+
+        assertCopy(original, compactSolutionFileIO.read(compactFile));
+        // Both read each other's output.
+        assertCopy(original, prettySolutionFileIO.read(compactFile));
+        assertCopy(original, compactSolutionFileIO.read(prettyFile));
+    }
+
+    @Test
+    void readAndWriteStream() {
+        JacksonSolutionFileIO<JacksonTestdataSolution> solutionFileIO =
+                new JacksonSolutionFileIO<>(JacksonTestdataSolution.class);
+
+        JacksonTestdataSolution original = createSolution();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        solutionFileIO.write(original, outputStream);
+        JacksonTestdataSolution copy = solutionFileIO.read(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        assertCopy(original, copy);
+    }
+
+    @Test
+    void readAndWriteSmile() {
+        JacksonSolutionFileIO<JacksonTestdataSolution> jsonSolutionFileIO =
+                new JacksonSolutionFileIO<>(JacksonTestdataSolution.class);
+        JacksonSmileSolutionFileIO<JacksonTestdataSolution> smileSolutionFileIO =
+                new JacksonSmileSolutionFileIO<>(JacksonTestdataSolution.class);
+        assertThat(smileSolutionFileIO.getInputFileExtension()).isEqualTo("sml");
+        assertThat(smileSolutionFileIO.getOutputFileExtension()).isEqualTo("sml");
+        File jsonFile = new File(solutionTestDir, "testdataSolution-smile.json");
+        File smileFile = new File(solutionTestDir, "testdataSolution.sml");
+
+        JacksonTestdataSolution original = createSolution();
+        jsonSolutionFileIO.write(original, jsonFile);
+        smileSolutionFileIO.write(original, smileFile);
+        assertThat(smileFile.length()).isLessThan(jsonFile.length());
+
+        assertCopy(original, smileSolutionFileIO.read(smileFile));
+    }
+
+    private static JacksonTestdataSolution createSolution() {
+        JacksonTestdataSolution solution = new JacksonTestdataSolution("s1");
+        JacksonTestdataValue v1 = new JacksonTestdataValue("v1");
+        solution.setValueList(Arrays.asList(v1, new JacksonTestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(
+                new JacksonTestdataEntity("e1"), new JacksonTestdataEntity("e2", v1), new JacksonTestdataEntity("e3")));
+        solution.setScore(SimpleScore.of(-321));
+        return solution;
+    }
+
+    private static void assertCopy(JacksonTestdataSolution original, JacksonTestdataSolution copy) {
         assertThat(copy).isNotSameAs(original);
         assertCode("s1", copy);
         assertAllCodesOfIterator(copy.getValueList().iterator(), "v1", "v2");
@@ -0,0 +1,86 @@
+package ai.timefold.solver.snapshot.api;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.solution.SolutionFileIO;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.snapshot.impl.SnapshotCodec;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Reads and writes a solution as a binary snapshot,
+ * which restores a large dataset much faster than parsing JSON or XML.
+ * <p>
+ * A snapshot stores every object reachable from the solution with all its fields,
+ * including the values of planning variables and shadow variables.
+ * It is memory-mapped on read, and every object is restored through a no-arg constructor (or, for a record,
+ * its canonical constructor) and precomputed field handles, without reflective lookups per object.
+ * <p>
+ * A snapshot is meant for warm restarts of the same application version, not for long-term storage or exchange:
+ * reading fails fast if a class in the snapshot has gained, lost or retyped a field since it was written.
+ * <p>
+ * A snapshot is at most 2 GB, because the whole file is memory-mapped as a single buffer, which is indexed by an int.
+ * Writing a larger solution fails fast with an {@link IllegalStateException}.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+@NullMarked
+public class SnapshotSolutionFileIO<Solution_> implements SolutionFileIO<Solution_> {
+
+    public static final String FILE_EXTENSION = "tfsnapshot";
+
+    private final SnapshotCodec<Solution_> codec;
+
+    /**
+     * @param solutionClass never null
+     * @param entityClasses never null, the planning entity classes of the solution
+     */
+    public SnapshotSolutionFileIO(Class<Solution_> solutionClass, Class<?>... entityClasses) {
+        this(SolutionDescriptor.buildSolutionDescriptor(solutionClass, entityClasses));
+    }
+
+    public SnapshotSolutionFileIO(SolutionDescriptor<Solution_> solutionDescriptor) {
+        this.codec = new SnapshotCodec<>(solutionDescriptor);
+    }
+
+    @Override
+    public String getInputFileExtension() {
+        return FILE_EXTENSION;
+    }
+
+    @Override
+    public String getOutputFileExtension() {
+        return FILE_EXTENSION;
+    }
+
+    @Override
+    public Solution_ read(File inputSolutionFile) {
+        try (var channel = FileChannel.open(inputSolutionFile.toPath(), StandardOpenOption.READ)) {
+            var size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The inputSolutionFile (%s) is larger than the supported maximum of 2 GB."
+                        .formatted(inputSolutionFile));
+            }
+            return codec.read(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed reading inputSolutionFile (" + inputSolutionFile + ").", e);
+        }
+    }
+
+    @Override
+    public void write(Solution_ solution, File outputSolutionFile) {
+        try (var outputStream = new BufferedOutputStream(Files.newOutputStream(outputSolutionFile.toPath()))) {
+            codec.write(solution, outputStream);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing outputSolutionFile (" + outputSolutionFile + ").", e);
+        }
+    }
+
+}
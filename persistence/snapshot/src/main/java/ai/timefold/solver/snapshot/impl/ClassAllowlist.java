@@ -0,0 +1,158 @@
+package ai.timefold.solver.snapshot.impl;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.UUID;
+
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * The only classes a snapshot may refer to by name.
+ * A snapshot is untrusted input, so reading it never loads a class by its name:
+ * it only looks up the classes of the domain of the solution and a fixed set of JDK value and collection types.
+ * <p>
+ * The domain consists of the solution, entity and problem fact classes of the {@link SolutionDescriptor},
+ * and every class that is reachable from them through the declared types of their fields,
+ * including the type arguments of collections and maps and the component types of arrays.
+ */
+@NullMarked
+final class ClassAllowlist {
+
+    /**
+     * The JDK classes which are stored by name: enums, and the component types of arrays.
+     * All other JDK values are stored by their {@link ValueTag}, without a class name.
+     */
+    private static final List<Class<?>> JDK_CLASS_LIST = List.of(Object.class, String.class, Boolean.class, Byte.class,
+            Short.class, Character.class, Integer.class, Long.class, Float.class, Double.class, Number.class,
+            BigInteger.class, BigDecimal.class, LocalDate.class, LocalTime.class, LocalDateTime.class, Instant.class,
+            Duration.class, UUID.class, DayOfWeek.class, Month.class,
+            Collection.class, List.class, Set.class, SortedSet.class, Map.class, SortedMap.class);
+
+    static ClassAllowlist of(SolutionDescriptor<?> solutionDescriptor) {
+        var classMap = new HashMap<String, Class<?>>();
+        for (var jdkClass : JDK_CLASS_LIST) {
+            classMap.put(jdkClass.getName(), jdkClass);
+        }
+        Queue<Class<?>> classQueue = new ArrayDeque<>();
+        classQueue.add(solutionDescriptor.getSolutionClass());
+        classQueue.addAll(solutionDescriptor.getEntityClassSet());
+        classQueue.addAll(solutionDescriptor.getProblemFactOrEntityClassSet());
+        while (!classQueue.isEmpty()) {
+            var clazz = classQueue.remove();
+            // Other JDK classes are never stored by name, except for enums, which are restored by constant name.
+            var isOtherJdkClass = clazz.getName().startsWith("java.") && !clazz.isEnum();
+            if (clazz.isPrimitive() || isOtherJdkClass || classMap.containsKey(clazz.getName())) {
+                continue;
+            }
+            classMap.put(clazz.getName(), clazz);
+            if (clazz.isArray()) {
+                classQueue.add(clazz.getComponentType());
+            } else if (!clazz.isEnum()) {
+                collectFieldTypeClasses(clazz, classQueue);
+            }
+        }
+        return new ClassAllowlist(solutionDescriptor.getSolutionClass(), classMap);
+    }
+
+    private static void collectFieldTypeClasses(Class<?> clazz, Queue<Class<?>> classQueue) {
+        for (var declaringClass = clazz; declaringClass != null
+                && declaringClass != Object.class; declaringClass = declaringClass.getSuperclass()) {
+            for (var field : declaringClass.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    collectTypeClasses(field.getGenericType(), classQueue);
+                }
+            }
+        }
+    }
+
+    private static void collectTypeClasses(Type type, Queue<Class<?>> classQueue) {
+        switch (type) {
+            case Class<?> clazz -> classQueue.add(clazz);
+            case ParameterizedType parameterizedType -> {
+                collectTypeClasses(parameterizedType.getRawType(), classQueue);
+                for (var typeArgument : parameterizedType.getActualTypeArguments()) {
+                    collectTypeClasses(typeArgument, classQueue);
+                }
+            }
+            case GenericArrayType genericArrayType ->
+                collectTypeClasses(genericArrayType.getGenericComponentType(), classQueue);
+            case WildcardType wildcardType -> {
+                for (var upperBound : wildcardType.getUpperBounds()) {
+                    collectTypeClasses(upperBound, classQueue);
+                }
+            }
+            case TypeVariable<?> typeVariable -> {
+                for (var bound : typeVariable.getBounds()) {
+                    collectTypeClasses(bound, classQueue);
+                }
+            }
+            default -> {
+                // No classes to collect.
+            }
+        }
+    }
+
+    private final Class<?> solutionClass;
+    private final Map<String, Class<?>> classMap;
+
+    private ClassAllowlist(Class<?> solutionClass, Map<String, Class<?>> classMap) {
+        this.solutionClass = solutionClass;
+        this.classMap = classMap;
+    }
+
+    /**
+     * @param clazz never null
+     * @throws IllegalArgumentException if the class is not allowed in a snapshot
+     */
+    void assertAllowed(Class<?> clazz) {
+        if (classMap.get(clazz.getName()) != clazz) {
+            throw new IllegalArgumentException("""
+                    The class (%s) cannot be stored in a snapshot, \
+                    because it is not reachable from the declared field types of the domain of the solution class (%s).
+                    Maybe declare a field with that class as its type, \
+                    or add that class as a problem fact or an entity class?"""
+                    .formatted(clazz.getName(), solutionClass.getName()));
+        }
+    }
+
+    /**
+     * @param className never null, as read from the snapshot
+     * @return never null
+     * @throws IllegalStateException if the class is not allowed in a snapshot
+     */
+    Class<?> getClass(String className) {
+        var clazz = classMap.get(className);
+        if (clazz == null) {
+            throw new IllegalStateException("""
+                    The snapshot refers to the class (%s), which is not part of the domain of the solution class (%s).
+                    Maybe the snapshot was written for another solution class, or the file is not a trusted snapshot?"""
+                    .formatted(className, solutionClass.getName()));
+        }
+        return clazz;
+    }
+
+}
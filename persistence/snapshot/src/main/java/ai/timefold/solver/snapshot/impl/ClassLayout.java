@@ -0,0 +1,227 @@
+package ai.timefold.solver.snapshot.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import ai.timefold.solver.core.impl.domain.common.DomainAccessType;
+import ai.timefold.solver.core.impl.domain.common.accessor.MemberAccessor;
+import ai.timefold.solver.core.impl.domain.common.accessor.MemberAccessorFactory;
+import ai.timefold.solver.core.impl.domain.common.accessor.MemberAccessorType;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * How the instances of a class are stored in a snapshot:
+ * the names and types of its fields in a fixed order, and the member accessors to read and restore them.
+ * All accessors are resolved once per class, through the {@link MemberAccessorFactory} of the solution descriptor,
+ * so that restoring an instance does no reflective lookups and honors the domain access type (such as Gizmo).
+ * <p>
+ * A regular class is restored through its public no-arg constructor and the getters and setters of its fields.
+ * A record is restored through its public canonical constructor.
+ * An enum constant is restored by its name, so that adding or reordering constants does not break a snapshot.
+ */
+@NullMarked
+final class ClassLayout {
+
+    enum Kind {
+        OBJECT,
+        RECORD,
+        ENUM
+    }
+
+    static ClassLayout of(Class<?> clazz, MemberAccessorFactory memberAccessorFactory,
+            DomainAccessType domainAccessType) {
+        if (clazz.isEnum()) {
+            var constantNames = Arrays.stream(clazz.getEnumConstants())
+                    .map(constant -> ((Enum<?>) constant).name())
+                    .toArray(String[]::new);
+            return new ClassLayout(clazz, Kind.ENUM, constantNames, new String[0], null, new MemberAccessor[0]);
+        } else if (clazz.isRecord()) {
+            return ofRecord(clazz, memberAccessorFactory, domainAccessType);
+        } else if (clazz.isAnonymousClass() || clazz.isHidden() || clazz.isArray() || clazz.isInterface()
+                || Modifier.isAbstract(clazz.getModifiers())) {
+            throw new IllegalArgumentException("The class (%s) cannot be stored in a snapshot.".formatted(clazz.getName()));
+        }
+        return ofObject(clazz, memberAccessorFactory, domainAccessType);
+    }
+
+    private static ClassLayout ofObject(Class<?> clazz, MemberAccessorFactory memberAccessorFactory,
+            DomainAccessType domainAccessType) {
+        var fieldList = new ArrayList<Field>();
+        collectFields(clazz, fieldList);
+        var fieldNames = new String[fieldList.size()];
+        var fieldTypeNames = new String[fieldList.size()];
+        var memberAccessors = new MemberAccessor[fieldList.size()];
+        for (var i = 0; i < fieldList.size(); i++) {
+            var field = fieldList.get(i);
+            fieldNames[i] = field.getDeclaringClass().getSimpleName() + "." + field.getName();
+            fieldTypeNames[i] = field.getType().getName();
+            memberAccessors[i] = buildMemberAccessor(clazz, field, MemberAccessorType.FIELD_OR_GETTER_METHOD_WITH_SETTER,
+                    memberAccessorFactory, domainAccessType);
+        }
+        try {
+            var constructor = MethodHandles.publicLookup().unreflectConstructor(clazz.getConstructor());
+            return new ClassLayout(clazz, Kind.OBJECT, fieldNames, fieldTypeNames, constructor, memberAccessors);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException(
+                    "To restore it from a snapshot, the class (%s) must have a public no-arg constructor."
+                            .formatted(clazz.getName()),
+                    e);
+        }
+    }
+
+    /**
+     * Superclass fields come first, as their values may be needed by subclass fields.
+     */
+    private static void collectFields(Class<?> clazz, List<Field> fieldList) {
+        var superclass = clazz.getSuperclass();
+        if (superclass != null && superclass != Object.class) {
+            collectFields(superclass, fieldList);
+        }
+        for (var field : clazz.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                fieldList.add(field);
+            }
+        }
+    }
+
+    private static ClassLayout ofRecord(Class<?> clazz, MemberAccessorFactory memberAccessorFactory,
+            DomainAccessType domainAccessType) {
+        var components = clazz.getRecordComponents();
+        var fieldNames = new String[components.length];
+        var fieldTypeNames = new String[components.length];
+        var memberAccessors = new MemberAccessor[components.length];
+        for (var i = 0; i < components.length; i++) {
+            var component = components[i];
+            fieldNames[i] = component.getName();
+            fieldTypeNames[i] = component.getType().getName();
+            memberAccessors[i] = buildMemberAccessor(clazz, component.getAccessor(), MemberAccessorType.FIELD_OR_READ_METHOD,
+                    memberAccessorFactory, domainAccessType);
+        }
+        try {
+            var canonicalConstructor = clazz.getConstructor(Arrays.stream(components)
+                    .map(RecordComponent::getType)
+                    .toArray(Class<?>[]::new));
+            return new ClassLayout(clazz, Kind.RECORD, fieldNames, fieldTypeNames,
+                    MethodHandles.publicLookup().unreflectConstructor(canonicalConstructor), memberAccessors);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException(
+                    "To restore it from a snapshot, the record (%s) must have a public canonical constructor."
+                            .formatted(clazz.getName()),
+                    e);
+        }
+    }
+
+    private static MemberAccessor buildMemberAccessor(Class<?> clazz, Member member, MemberAccessorType memberAccessorType,
+            MemberAccessorFactory memberAccessorFactory, DomainAccessType domainAccessType) {
+        try {
+            return memberAccessorFactory.buildAndCacheMemberAccessor(member, memberAccessorType, domainAccessType);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new IllegalArgumentException("""
+                    The class (%s) cannot be stored in a snapshot, because its member (%s) cannot be accessed.
+                    Maybe add a public getter and setter for that field?"""
+                    .formatted(clazz.getName(), member.getName()), e);
+        }
+    }
+
+    private final Class<?> clazz;
+    private final Kind kind;
+    private final String[] fieldNames;
+    private final String[] fieldTypeNames;
+    private final @Nullable MethodHandle constructor;
+    private final MemberAccessor[] memberAccessors;
+
+    private ClassLayout(Class<?> clazz, Kind kind, String[] fieldNames, String[] fieldTypeNames,
+            @Nullable MethodHandle constructor, MemberAccessor[] memberAccessors) {
+        this.clazz = clazz;
+        this.kind = kind;
+        this.fieldNames = fieldNames;
+        this.fieldTypeNames = fieldTypeNames;
+        this.constructor = constructor;
+        this.memberAccessors = memberAccessors;
+    }
+
+    Class<?> getClazz() {
+        return clazz;
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return for an enum, the names of its constants
+     */
+    String[] getFieldNames() {
+        return fieldNames;
+    }
+
+    String[] getFieldTypeNames() {
+        return fieldTypeNames;
+    }
+
+    int getFieldCount() {
+        return fieldNames.length;
+    }
+
+    /**
+     * Fails fast if the class changed since the snapshot was written,
+     * because its field values would otherwise be restored into the wrong fields.
+     *
+     * @param storedKind as written in the snapshot
+     * @param storedFieldNames as written in the snapshot
+     * @param storedFieldTypeNames as written in the snapshot
+     */
+    void assertCompatible(Kind storedKind, String[] storedFieldNames, String[] storedFieldTypeNames) {
+        if (storedKind != kind || !Arrays.equals(storedFieldNames, fieldNames)
+                || !Arrays.equals(storedFieldTypeNames, fieldTypeNames)) {
+            throw new IllegalStateException("""
+                    The snapshot stores the class (%s) as a %s with the fields %s,
+                    but that class is now a %s with the fields %s.
+                    Maybe the class changed since the snapshot was written? Recreate the snapshot."""
+                    .formatted(clazz.getName(), storedKind, Arrays.toString(storedFieldNames), kind,
+                            Arrays.toString(fieldNames)));
+        }
+    }
+
+    Object newInstance() {
+        try {
+            return constructor.invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot create an instance of the class (%s)."
+                    .formatted(clazz.getName()), e);
+        }
+    }
+
+    Object newRecord(@Nullable Object[] componentValues) {
+        try {
+            return constructor.invokeWithArguments(componentValues);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot create an instance of the record (%s)."
+                    .formatted(clazz.getName()), e);
+        }
+    }
+
+    @Nullable
+    Object getFieldValue(Object bean, int fieldIndex) {
+        return memberAccessors[fieldIndex].executeGetter(bean);
+    }
+
+    void setFieldValue(Object bean, int fieldIndex, @Nullable Object value) {
+        memberAccessors[fieldIndex].executeSetter(bean, value);
+    }
+
+    @Override
+    public String toString() {
+        return clazz.getName();
+    }
+
+}
@@ -0,0 +1,774 @@
+package ai.timefold.solver.snapshot.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.util.ConcurrentMemoization;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Writes a planning solution, with all objects reachable from it, to a binary snapshot and restores it.
+ * <p>
+ * A snapshot consists of:
+ * <ol>
+ * <li>A header with a magic number and the format version.</li>
+ * <li>The class table, with the layout of every class in the snapshot: the names and types of its fields.
+ * The solution class comes first, followed by the entity classes in the order of the {@link SolutionDescriptor}.</li>
+ * <li>The string table, so that every distinct string is stored and decoded only once.</li>
+ * <li>The object table, with the class and the body offset of every object.
+ * The solution is always the first object.</li>
+ * <li>The bodies of all objects, with the values of their fields in the order of the class layout.</li>
+ * </ol>
+ * Because every object knows the offset of its body, the snapshot is read directly from a (memory-mapped) buffer,
+ * without an intermediate tree and without resolving references by id afterward.
+ * <p>
+ * Objects are identified by identity, so shared references and cycles between them survive a round trip.
+ * Collections, maps and arrays are stored inside the object that references them first;
+ * every later reference to the same instance refers back to that first occurrence,
+ * so that they are restored as a single instance too.
+ * <p>
+ * A snapshot refers to classes by name, but only the classes of the {@link ClassAllowlist} can be restored,
+ * so that reading a snapshot never loads or instantiates an arbitrary class.
+ * <p>
+ * A snapshot is at most 2 GB, because it is read through a single {@link ByteBuffer}, which is indexed by an int.
+ * Writing a larger snapshot fails fast, before anything is written to the output stream.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <Solution_> the solution type, the class with the
+ *        {@link ai.timefold.solver.core.api.domain.solution.PlanningSolution} annotation
+ */
+@NullMarked
+public final class SnapshotCodec<Solution_> {
+
+    private static final int MAGIC_NUMBER = 0x54465350; // "TFSP"
+    private static final int FORMAT_VERSION = 2;
+    private static final long MAX_SNAPSHOT_BYTES = Integer.MAX_VALUE;
+    /**
+     * The largest byte array the JVM can allocate.
+     */
+    private static final int MAX_BODY_BYTES = Integer.MAX_VALUE - 8;
+    private static final ClassLayout.Kind[] KINDS = ClassLayout.Kind.values();
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final ClassAllowlist classAllowlist;
+    private final Map<Class<?>, ClassLayout> classLayoutMemoization = new ConcurrentMemoization<>();
+
+    public SnapshotCodec(SolutionDescriptor<Solution_> solutionDescriptor) {
+        this.solutionDescriptor = solutionDescriptor;
+        this.classAllowlist = ClassAllowlist.of(solutionDescriptor);
+    }
+
+    /**
+     * @param solution never null
+     * @param outputStream never null, not closed by this method
+     * @throws IOException if writing to the stream fails
+     * @throws IllegalStateException if the snapshot would be larger than 2 GB
+     */
+    public void write(Solution_ solution, OutputStream outputStream) throws IOException {
+        new Encoder().encode(solution, new DataOutputStream(outputStream));
+    }
+
+    /**
+     * @param buffer never null, positioned at the start of the snapshot, typically a memory-mapped file
+     * @return never null
+     */
+    public Solution_ read(ByteBuffer buffer) {
+        return new Decoder(buffer).decode();
+    }
+
+    private ClassLayout getClassLayout(Class<?> clazz) {
+        return classLayoutMemoization.computeIfAbsent(clazz,
+                key -> ClassLayout.of(key, solutionDescriptor.getMemberAccessorFactory(),
+                        solutionDescriptor.getDomainAccessType()));
+    }
+
+    private static void writeString(DataOutputStream output, String string) throws IOException {
+        var bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static void writeStringArray(DataOutputStream output, String[] strings) throws IOException {
+        output.writeInt(strings.length);
+        for (var string : strings) {
+            writeString(output, string);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        var bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String[] readStringArray(ByteBuffer buffer) {
+        var strings = new String[buffer.getInt()];
+        for (var i = 0; i < strings.length; i++) {
+            strings[i] = readString(buffer);
+        }
+        return strings;
+    }
+
+    /**
+     * Encodes a single snapshot; not thread-safe.
+     */
+    private final class Encoder {
+
+        private final Map<Class<?>, Integer> classIndexMap = new LinkedHashMap<>();
+        private final List<ClassLayout> classLayoutList = new ArrayList<>();
+        private final Map<String, Integer> stringIndexMap = new HashMap<>();
+        private final List<String> stringList = new ArrayList<>();
+        private final Map<Object, Integer> objectIndexMap = new IdentityHashMap<>();
+        private final List<Object> objectList = new ArrayList<>();
+        /**
+         * Maps every collection, map and array to the body offset of its first occurrence.
+         */
+        private final Map<Object, Integer> containerOffsetMap = new IdentityHashMap<>();
+        private final BodyOutputStream bodyBytes = new BodyOutputStream();
+        private final DataOutputStream body = new DataOutputStream(bodyBytes);
+
+        void encode(Solution_ solution, DataOutputStream output) throws IOException {
+            // The descriptor determines the order of the first classes, so that the layout is stable between runs.
+            getClassIndex(solutionDescriptor.getSolutionClass());
+            for (var entityClass : solutionDescriptor.getEntityClassSet()) {
+                if (!entityClass.isInterface() && !Modifier.isAbstract(entityClass.getModifiers())) {
+                    getClassIndex(entityClass);
+                }
+            }
+            getObjectIndex(solution);
+            var bodyOffsets = new int[16];
+            // Writing a body may discover new objects, which are appended to the object list.
+            for (var i = 0; i < objectList.size(); i++) {
+                if (i == bodyOffsets.length) {
+                    bodyOffsets = Arrays.copyOf(bodyOffsets, i * 2);
+                }
+                bodyOffsets[i] = body.size();
+                var object = objectList.get(i);
+                var classLayout = classLayoutList.get(getClassIndex(object.getClass()));
+                for (var fieldIndex = 0; fieldIndex < classLayout.getFieldCount(); fieldIndex++) {
+                    writeValue(classLayout.getFieldValue(object, fieldIndex));
+                }
+            }
+            body.flush();
+
+            // The tables are small compared to the body, so they are buffered too, to check the total size first.
+            var headerBytes = new ByteArrayOutputStream();
+            var header = new DataOutputStream(headerBytes);
+            header.writeInt(MAGIC_NUMBER);
+            header.writeInt(FORMAT_VERSION);
+            header.writeInt(classLayoutList.size());
+            for (var classLayout : classLayoutList) {
+                header.writeByte(classLayout.getKind().ordinal());
+                writeString(header, classLayout.getClazz().getName());
+                writeStringArray(header, classLayout.getFieldNames());
+                writeStringArray(header, classLayout.getFieldTypeNames());
+            }
+            header.writeInt(stringList.size());
+            for (var string : stringList) {
+                writeString(header, string);
+            }
+            header.writeInt(objectList.size());
+            for (var i = 0; i < objectList.size(); i++) {
+                header.writeInt(getClassIndex(objectList.get(i).getClass()));
+                header.writeInt(bodyOffsets[i]);
+            }
+            header.writeInt(bodyBytes.size());
+            header.flush();
+            var snapshotBytes = (long) headerBytes.size() + bodyBytes.size();
+            if (snapshotBytes > MAX_SNAPSHOT_BYTES) {
+                throw new IllegalStateException(
+                        "The snapshot (%d bytes) is larger than the supported maximum of 2 GB (%d bytes)."
+                                .formatted(snapshotBytes, MAX_SNAPSHOT_BYTES));
+            }
+            headerBytes.writeTo(output);
+            bodyBytes.writeTo(output);
+            output.flush();
+        }
+
+        private int getClassIndex(Class<?> clazz) {
+            var classIndex = classIndexMap.get(clazz);
+            if (classIndex == null) {
+                classAllowlist.assertAllowed(clazz);
+                classIndex = classLayoutList.size();
+                classLayoutList.add(getClassLayout(clazz));
+                classIndexMap.put(clazz, classIndex);
+            }
+            return classIndex;
+        }
+
+        private int getStringIndex(String string) {
+            var stringIndex = stringIndexMap.get(string);
+            if (stringIndex == null) {
+                stringIndex = stringList.size();
+                stringList.add(string);
+                stringIndexMap.put(string, stringIndex);
+            }
+            return stringIndex;
+        }
+
+        private int getObjectIndex(Object object) {
+            var objectIndex = objectIndexMap.get(object);
+            if (objectIndex == null) {
+                // Fails fast on an unsupported class, while the referencing object is still known.
+                getClassIndex(object.getClass());
+                objectIndex = objectList.size();
+                objectList.add(object);
+                objectIndexMap.put(object, objectIndex);
+            }
+            return objectIndex;
+        }
+
+        private void writeValue(@Nullable Object value) throws IOException {
+            if (value instanceof Collection<?> || value instanceof Map<?, ?> || (value != null && value.getClass().isArray())) {
+                var firstOffset = containerOffsetMap.putIfAbsent(value, bodyBytes.size());
+                if (firstOffset != null) {
+                    bodyBytes.markShared(firstOffset);
+                    body.writeByte(ValueTag.SHARED_REFERENCE);
+                    body.writeInt(firstOffset);
+                    return;
+                }
+            }
+            switch (value) {
+                case null -> body.writeByte(ValueTag.NULL);
+                case Boolean booleanValue -> {
+                    body.writeByte(ValueTag.BOOLEAN);
+                    body.writeBoolean(booleanValue);
+                }
+                case Byte byteValue -> {
+                    body.writeByte(ValueTag.BYTE);
+                    body.writeByte(byteValue);
+                }
+                case Short shortValue -> {
+                    body.writeByte(ValueTag.SHORT);
+                    body.writeShort(shortValue);
+                }
+                case Character charValue -> {
+                    body.writeByte(ValueTag.CHAR);
+                    body.writeChar(charValue);
+                }
+                case Integer intValue -> {
+                    body.writeByte(ValueTag.INT);
+                    body.writeInt(intValue);
+                }
+                case Long longValue -> {
+                    body.writeByte(ValueTag.LONG);
+                    body.writeLong(longValue);
+                }
+                case Float floatValue -> {
+                    body.writeByte(ValueTag.FLOAT);
+                    body.writeFloat(floatValue);
+                }
+                case Double doubleValue -> {
+                    body.writeByte(ValueTag.DOUBLE);
+                    body.writeDouble(doubleValue);
+                }
+                case String string -> {
+                    body.writeByte(ValueTag.STRING);
+                    body.writeInt(getStringIndex(string));
+                }
+                case Enum<?> enumValue -> {
+                    body.writeByte(ValueTag.ENUM);
+                    body.writeInt(getClassIndex(enumValue.getDeclaringClass()));
+                    body.writeInt(enumValue.ordinal());
+                }
+                case BigInteger bigInteger -> {
+                    body.writeByte(ValueTag.BIG_INTEGER);
+                    writeByteArray(bigInteger.toByteArray());
+                }
+                case BigDecimal bigDecimal -> {
+                    body.writeByte(ValueTag.BIG_DECIMAL);
+                    body.writeInt(bigDecimal.scale());
+                    writeByteArray(bigDecimal.unscaledValue().toByteArray());
+                }
+                case LocalDate localDate -> {
+                    body.writeByte(ValueTag.LOCAL_DATE);
+                    body.writeLong(localDate.toEpochDay());
+                }
+                case LocalTime localTime -> {
+                    body.writeByte(ValueTag.LOCAL_TIME);
+                    body.writeLong(localTime.toNanoOfDay());
+                }
+                case LocalDateTime localDateTime -> {
+                    body.writeByte(ValueTag.LOCAL_DATE_TIME);
+                    body.writeLong(localDateTime.toLocalDate().toEpochDay());
+                    body.writeLong(localDateTime.toLocalTime().toNanoOfDay());
+                }
+                case Instant instant -> {
+                    body.writeByte(ValueTag.INSTANT);
+                    body.writeLong(instant.getEpochSecond());
+                    body.writeInt(instant.getNano());
+                }
+                case Duration duration -> {
+                    body.writeByte(ValueTag.DURATION);
+                    body.writeLong(duration.getSeconds());
+                    body.writeInt(duration.getNano());
+                }
+                case UUID uuid -> {
+                    body.writeByte(ValueTag.UUID);
+                    body.writeLong(uuid.getMostSignificantBits());
+                    body.writeLong(uuid.getLeastSignificantBits());
+                }
+                case Score<?> score -> {
+                    var scoreClass = solutionDescriptor.getScoreDefinition().getScoreClass();
+                    if (score.getClass() != scoreClass) {
+                        throw new IllegalArgumentException(
+                                "The score (%s) of class (%s) differs from the solution's score class (%s)."
+                                        .formatted(score, score.getClass().getName(), scoreClass.getName()));
+                    }
+                    body.writeByte(ValueTag.SCORE);
+                    body.writeInt(getStringIndex(score.toString()));
+                }
+                case byte[] byteArray -> {
+                    body.writeByte(ValueTag.BYTE_ARRAY);
+                    writeByteArray(byteArray);
+                }
+                case int[] intArray -> {
+                    body.writeByte(ValueTag.INT_ARRAY);
+                    body.writeInt(intArray.length);
+                    for (var element : intArray) {
+                        body.writeInt(element);
+                    }
+                }
+                case long[] longArray -> {
+                    body.writeByte(ValueTag.LONG_ARRAY);
+                    body.writeInt(longArray.length);
+                    for (var element : longArray) {
+                        body.writeLong(element);
+                    }
+                }
+                case double[] doubleArray -> {
+                    body.writeByte(ValueTag.DOUBLE_ARRAY);
+                    body.writeInt(doubleArray.length);
+                    for (var element : doubleArray) {
+                        body.writeDouble(element);
+                    }
+                }
+                case Object[] objectArray -> {
+                    var componentClass = objectArray.getClass().getComponentType();
+                    classAllowlist.assertAllowed(componentClass);
+                    body.writeByte(ValueTag.OBJECT_ARRAY);
+                    body.writeInt(getStringIndex(componentClass.getName()));
+                    body.writeInt(objectArray.length);
+                    for (var element : objectArray) {
+                        writeValue(element);
+                    }
+                }
+                case List<?> list -> writeCollection(list instanceof LinkedList<?> ? ValueTag.LINKED_LIST : ValueTag.LIST,
+                        list);
+                case SortedSet<?> sortedSet when sortedSet.comparator() == null ->
+                    writeCollection(ValueTag.SORTED_SET, sortedSet);
+                case Set<?> set when !(set instanceof SortedSet<?>) -> writeCollection(ValueTag.SET, set);
+                case SortedMap<?, ?> sortedMap when sortedMap.comparator() == null ->
+                    writeMap(ValueTag.SORTED_MAP, sortedMap);
+                case Map<?, ?> map when !(map instanceof SortedMap<?, ?>) -> writeMap(ValueTag.MAP, map);
+                default -> {
+                    var valueClass = value.getClass();
+                    if (value instanceof Collection<?> || value instanceof Map<?, ?> || valueClass.isArray()
+                            || valueClass.getName().startsWith("java.")) {
+                        throw new IllegalArgumentException("""
+                                The value (%s) of class (%s) cannot be stored in a snapshot.
+                                Supported are primitives, strings, enums, common java.math and java.time types, \
+                                lists, sets and maps (sorted ones only in their natural order), \
+                                arrays and classes with a no-arg constructor or records."""
+                                .formatted(value, valueClass.getName()));
+                    }
+                    body.writeByte(ValueTag.OBJECT);
+                    body.writeInt(getObjectIndex(value));
+                }
+            }
+        }
+
+        private void writeByteArray(byte[] bytes) throws IOException {
+            body.writeInt(bytes.length);
+            body.write(bytes);
+        }
+
+        private void writeCollection(byte tag, Collection<?> collection) throws IOException {
+            body.writeByte(tag);
+            body.writeInt(collection.size());
+            for (var element : collection) {
+                writeValue(element);
+            }
+        }
+
+        private void writeMap(byte tag, Map<?, ?> map) throws IOException {
+            body.writeByte(tag);
+            body.writeInt(map.size());
+            for (var entry : map.entrySet()) {
+                writeValue(entry.getKey());
+                writeValue(entry.getValue());
+            }
+        }
+
+    }
+
+    /**
+     * Holds the bodies of all objects.
+     * Fails fast once they no longer fit in a byte array,
+     * and flags the first occurrence of a container once it is referenced again.
+     */
+    private static final class BodyOutputStream extends ByteArrayOutputStream {
+
+        @Override
+        public void write(int b) {
+            ensureRoomFor(1);
+            super.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureRoomFor(len);
+            super.write(b, off, len);
+        }
+
+        private void ensureRoomFor(int length) {
+            if ((long) count + length > MAX_BODY_BYTES) {
+                throw new IllegalStateException(
+                        "The snapshot is larger than the supported maximum of 2 GB (%d bytes)."
+                                .formatted(MAX_SNAPSHOT_BYTES));
+            }
+        }
+
+        void markShared(int offset) {
+            buf[offset] |= ValueTag.SHARED_FLAG;
+        }
+
+    }
+
+    /**
+     * Decodes a single snapshot; not thread-safe.
+     */
+    private final class Decoder {
+
+        private final ByteBuffer buffer;
+        private ClassLayout[] classLayouts;
+        /**
+         * For every enum class in the class table, its constants in the order in which the snapshot refers to them.
+         */
+        private Object[][] enumConstants;
+        private String[] strings;
+        private Class<?>[] componentClasses;
+        private int[] objectClassIndexes;
+        private int[] bodyOffsets;
+        private int bodyStart;
+        private @Nullable Object[] objects;
+        private boolean[] recordsUnderConstruction;
+        /**
+         * Maps the body offset of the first occurrence of every shared container to the restored container.
+         */
+        private final Map<Integer, Object> sharedContainerMap = new HashMap<>();
+        /**
+         * Maps the body offset of a shared container which was restored ahead of its first occurrence
+         * to the position right after that first occurrence, so that it can be skipped when it is reached.
+         */
+        private final Map<Integer, Integer> sharedContainerEndMap = new HashMap<>();
+
+        Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @SuppressWarnings("unchecked")
+        Solution_ decode() {
+            if (buffer.remaining() < Integer.BYTES * 2 || buffer.getInt() != MAGIC_NUMBER) {
+                throw new IllegalArgumentException("The input is not a solution snapshot.");
+            }
+            var formatVersion = buffer.getInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalArgumentException("The snapshot format version (%d) is not supported, expected (%d)."
+                        .formatted(formatVersion, FORMAT_VERSION));
+            }
+            readClassTable();
+            strings = readStringArray(buffer);
+            componentClasses = new Class<?>[strings.length];
+            var objectCount = buffer.getInt();
+            objectClassIndexes = new int[objectCount];
+            bodyOffsets = new int[objectCount];
+            for (var i = 0; i < objectCount; i++) {
+                objectClassIndexes[i] = buffer.getInt();
+                bodyOffsets[i] = buffer.getInt();
+            }
+            buffer.getInt(); // The body length; only needed by readers which do not map the whole snapshot.
+            bodyStart = buffer.position();
+
+            // First create all regular objects, so that the fields of any object can refer to any other object.
+            objects = new Object[objectCount];
+            recordsUnderConstruction = new boolean[objectCount];
+            for (var i = 0; i < objectCount; i++) {
+                var classLayout = classLayouts[objectClassIndexes[i]];
+                if (classLayout.getKind() == ClassLayout.Kind.OBJECT) {
+                    objects[i] = classLayout.newInstance();
+                }
+            }
+            for (var i = 0; i < objectCount; i++) {
+                var classLayout = classLayouts[objectClassIndexes[i]];
+                if (classLayout.getKind() == ClassLayout.Kind.OBJECT) {
+                    buffer.position(bodyStart + bodyOffsets[i]);
+                    var object = objects[i];
+                    for (var fieldIndex = 0; fieldIndex < classLayout.getFieldCount(); fieldIndex++) {
+                        classLayout.setFieldValue(object, fieldIndex, readValue());
+                    }
+                } else {
+                    getObject(i);
+                }
+            }
+            return (Solution_) objects[0];
+        }
+
+        private void readClassTable() {
+            var classCount = buffer.getInt();
+            classLayouts = new ClassLayout[classCount];
+            enumConstants = new Object[classCount][];
+            for (var i = 0; i < classCount; i++) {
+                var kind = KINDS[buffer.get()];
+                var className = readString(buffer);
+                var fieldNames = readStringArray(buffer);
+                var fieldTypeNames = readStringArray(buffer);
+                var clazz = classAllowlist.getClass(className);
+                var classLayout = getClassLayout(clazz);
+                if (kind == ClassLayout.Kind.ENUM) {
+                    enumConstants[i] = readEnumConstants(clazz, fieldNames);
+                } else {
+                    classLayout.assertCompatible(kind, fieldNames, fieldTypeNames);
+                }
+                classLayouts[i] = classLayout;
+            }
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private static Object[] readEnumConstants(Class<?> enumClass, String[] constantNames) {
+            var constants = new Object[constantNames.length];
+            for (var i = 0; i < constantNames.length; i++) {
+                try {
+                    constants[i] = Enum.valueOf((Class) enumClass, constantNames[i]);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalStateException(
+                            "The snapshot refers to the constant (%s) of the enum (%s), which no longer exists."
+                                    .formatted(constantNames[i], enumClass.getName()),
+                            e);
+                }
+            }
+            return constants;
+        }
+
+        private Object getObject(int objectIndex) {
+            var object = objects[objectIndex];
+            if (object != null) {
+                return object;
+            }
+            // Only records are created on demand, because their constructor needs all their component values.
+            var classLayout = classLayouts[objectClassIndexes[objectIndex]];
+            if (recordsUnderConstruction[objectIndex]) {
+                throw new IllegalStateException(
+                        "The record (%s) refers back to itself, so it cannot be restored from a snapshot."
+                                .formatted(classLayout));
+            }
+            recordsUnderConstruction[objectIndex] = true;
+            var position = buffer.position();
+            buffer.position(bodyStart + bodyOffsets[objectIndex]);
+            var componentValues = new Object[classLayout.getFieldCount()];
+            for (var i = 0; i < componentValues.length; i++) {
+                componentValues[i] = readValue();
+            }
+            buffer.position(position);
+            object = classLayout.newRecord(componentValues);
+            objects[objectIndex] = object;
+            recordsUnderConstruction[objectIndex] = false;
+            return object;
+        }
+
+        private @Nullable Object readValue() {
+            var offset = buffer.position() - bodyStart;
+            var tag = buffer.get();
+            if ((tag & ValueTag.SHARED_FLAG) == 0) {
+                return readValue(tag, -1);
+            }
+            var sharedContainer = sharedContainerMap.get(offset);
+            if (sharedContainer != null) { // Restored ahead of its first occurrence by getSharedContainer().
+                buffer.position(sharedContainerEndMap.get(offset));
+                return sharedContainer;
+            }
+            return readValue((byte) (tag & ~ValueTag.SHARED_FLAG), offset);
+        }
+
+        /**
+         * @param sharedOffset the body offset of the value if it is a shared container, otherwise -1
+         */
+        private @Nullable Object readValue(byte tag, int sharedOffset) {
+            return switch (tag) {
+                case ValueTag.NULL -> null;
+                case ValueTag.OBJECT -> getObject(buffer.getInt());
+                case ValueTag.SHARED_REFERENCE -> getSharedContainer(buffer.getInt());
+                case ValueTag.BOOLEAN -> buffer.get() != 0;
+                case ValueTag.BYTE -> buffer.get();
+                case ValueTag.SHORT -> buffer.getShort();
+                case ValueTag.CHAR -> buffer.getChar();
+                case ValueTag.INT -> buffer.getInt();
+                case ValueTag.LONG -> buffer.getLong();
+                case ValueTag.FLOAT -> buffer.getFloat();
+                case ValueTag.DOUBLE -> buffer.getDouble();
+                case ValueTag.STRING -> strings[buffer.getInt()];
+                case ValueTag.ENUM -> {
+                    var classIndex = buffer.getInt();
+                    yield enumConstants[classIndex][buffer.getInt()];
+                }
+                case ValueTag.BIG_INTEGER -> new BigInteger(readByteArray());
+                case ValueTag.BIG_DECIMAL -> {
+                    var scale = buffer.getInt();
+                    yield new BigDecimal(new BigInteger(readByteArray()), scale);
+                }
+                case ValueTag.LOCAL_DATE -> LocalDate.ofEpochDay(buffer.getLong());
+                case ValueTag.LOCAL_TIME -> LocalTime.ofNanoOfDay(buffer.getLong());
+                case ValueTag.LOCAL_DATE_TIME -> {
+                    var localDate = LocalDate.ofEpochDay(buffer.getLong());
+                    yield LocalDateTime.of(localDate, LocalTime.ofNanoOfDay(buffer.getLong()));
+                }
+                case ValueTag.INSTANT -> {
+                    var seconds = buffer.getLong();
+                    yield Instant.ofEpochSecond(seconds, buffer.getInt());
+                }
+                case ValueTag.DURATION -> {
+                    var seconds = buffer.getLong();
+                    yield Duration.ofSeconds(seconds, buffer.getInt());
+                }
+                case ValueTag.UUID -> {
+                    var mostSignificantBits = buffer.getLong();
+                    yield new UUID(mostSignificantBits, buffer.getLong());
+                }
+                case ValueTag.SCORE -> solutionDescriptor.getScoreDefinition().parseScore(strings[buffer.getInt()]);
+                case ValueTag.LIST, ValueTag.LINKED_LIST, ValueTag.SET, ValueTag.SORTED_SET ->
+                    readCollection(tag, buffer.getInt(), sharedOffset);
+                case ValueTag.MAP, ValueTag.SORTED_MAP -> readMap(tag, buffer.getInt(), sharedOffset);
+                case ValueTag.BYTE_ARRAY -> registerShared(sharedOffset, readByteArray());
+                case ValueTag.INT_ARRAY -> {
+                    var array = new int[buffer.getInt()];
+                    buffer.asIntBuffer().get(array);
+                    buffer.position(buffer.position() + array.length * Integer.BYTES);
+                    yield registerShared(sharedOffset, array);
+                }
+                case ValueTag.LONG_ARRAY -> {
+                    var array = new long[buffer.getInt()];
+                    buffer.asLongBuffer().get(array);
+                    buffer.position(buffer.position() + array.length * Long.BYTES);
+                    yield registerShared(sharedOffset, array);
+                }
+                case ValueTag.DOUBLE_ARRAY -> {
+                    var array = new double[buffer.getInt()];
+                    buffer.asDoubleBuffer().get(array);
+                    buffer.position(buffer.position() + array.length * Double.BYTES);
+                    yield registerShared(sharedOffset, array);
+                }
+                case ValueTag.OBJECT_ARRAY -> {
+                    var componentClass = getComponentClass(buffer.getInt());
+                    var array = registerShared(sharedOffset, (Object[]) Array.newInstance(componentClass, buffer.getInt()));
+                    for (var i = 0; i < array.length; i++) {
+                        array[i] = readValue();
+                    }
+                    yield array;
+                }
+                default -> throw new IllegalStateException("The snapshot is corrupt: unknown value tag (%d) at position (%d)."
+                        .formatted(tag, buffer.position() - 1));
+            };
+        }
+
+        /**
+         * Registers a shared container before its elements are read,
+         * so that an element which refers back to it gets the same instance.
+         */
+        private <Container_> Container_ registerShared(int sharedOffset, Container_ container) {
+            if (sharedOffset >= 0) {
+                sharedContainerMap.put(sharedOffset, container);
+            }
+            return container;
+        }
+
+        private Object getSharedContainer(int offset) {
+            var sharedContainer = sharedContainerMap.get(offset);
+            if (sharedContainer != null) {
+                return sharedContainer;
+            }
+            // Bodies are read in the order they were written, so a container is usually restored by now.
+            // Only a record, which is restored on demand, may refer to a container ahead of its first occurrence.
+            var position = buffer.position();
+            buffer.position(bodyStart + offset);
+            sharedContainer = readValue();
+            sharedContainerEndMap.put(offset, buffer.position());
+            buffer.position(position);
+            return sharedContainer;
+        }
+
+        private Collection<@Nullable Object> readCollection(byte tag, int size, int sharedOffset) {
+            Collection<@Nullable Object> collection = registerShared(sharedOffset, switch (tag) {
+                case ValueTag.LIST -> new ArrayList<>(size);
+                case ValueTag.LINKED_LIST -> new LinkedList<>();
+                case ValueTag.SET -> LinkedHashSet.newLinkedHashSet(size);
+                default -> new TreeSet<>();
+            });
+            for (var i = 0; i < size; i++) {
+                collection.add(readValue());
+            }
+            return collection;
+        }
+
+        private Map<@Nullable Object, @Nullable Object> readMap(byte tag, int size, int sharedOffset) {
+            Map<@Nullable Object, @Nullable Object> map = registerShared(sharedOffset, tag == ValueTag.MAP
+                    ? LinkedHashMap.newLinkedHashMap(size)
+                    : new TreeMap<>());
+            for (var i = 0; i < size; i++) {
+                var key = readValue();
+                map.put(key, readValue());
+            }
+            return map;
+        }
+
+        private byte[] readByteArray() {
+            var bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            return bytes;
+        }
+
+        private Class<?> getComponentClass(int stringIndex) {
+            var componentClass = componentClasses[stringIndex];
+            if (componentClass == null) {
+                componentClass = classAllowlist.getClass(strings[stringIndex]);
+                componentClasses[stringIndex] = componentClass;
+            }
+            return componentClass;
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+package ai.timefold.solver.snapshot.impl;
+
+/**
+ * The first byte of every value in a snapshot, which determines how the bytes after it are read.
+ * Never change the number of an existing tag, as it would break existing snapshots;
+ * add a new tag instead.
+ */
+final class ValueTag {
+
+    static final byte NULL = 0;
+    /**
+     * Followed by the index of the object in the object table.
+     */
+    static final byte OBJECT = 1;
+    static final byte BOOLEAN = 2;
+    static final byte BYTE = 3;
+    static final byte SHORT = 4;
+    static final byte CHAR = 5;
+    static final byte INT = 6;
+    static final byte LONG = 7;
+    static final byte FLOAT = 8;
+    static final byte DOUBLE = 9;
+    /**
+     * Followed by the index of the string in the string table.
+     */
+    static final byte STRING = 10;
+    /**
+     * Followed by the index of the enum class in the class table and the index of the constant in that class.
+     */
+    static final byte ENUM = 11;
+    static final byte BIG_INTEGER = 12;
+    static final byte BIG_DECIMAL = 13;
+    static final byte LOCAL_DATE = 14;
+    static final byte LOCAL_TIME = 15;
+    static final byte LOCAL_DATE_TIME = 16;
+    static final byte INSTANT = 17;
+    static final byte DURATION = 18;
+    static final byte UUID = 19;
+    /**
+     * Followed by the index of the string representation of the score in the string table.
+     */
+    static final byte SCORE = 20;
+    static final byte LIST = 21;
+    static final byte LINKED_LIST = 22;
+    static final byte SET = 23;
+    static final byte SORTED_SET = 24;
+    static final byte MAP = 25;
+    static final byte SORTED_MAP = 26;
+    static final byte BYTE_ARRAY = 27;
+    static final byte INT_ARRAY = 28;
+    static final byte LONG_ARRAY = 29;
+    static final byte DOUBLE_ARRAY = 30;
+    /**
+     * Followed by the index of the name of the component type in the string table.
+     */
+    static final byte OBJECT_ARRAY = 31;
+    /**
+     * Followed by the body offset of the first occurrence of the same collection, map or array.
+     */
+    static final byte SHARED_REFERENCE = 32;
+
+    /**
+     * Set on the tag of the first occurrence of a collection, map or array which is referenced again later,
+     * so that only those are remembered while reading.
+     */
+    static final byte SHARED_FLAG = (byte) 0x80;
+
+    private ValueTag() {
+    }
+
+}
@@ -0,0 +1,8 @@
+module ai.timefold.solver.snapshot {
+
+    exports ai.timefold.solver.snapshot.api;
+
+    requires transitive ai.timefold.solver.core;
+    requires org.jspecify;
+
+}
@@ -0,0 +1,237 @@
+package ai.timefold.solver.snapshot.api;
+
+import static ai.timefold.solver.core.testutil.PlannerAssert.assertAllCodesOfIterator;
+import static ai.timefold.solver.core.testutil.PlannerAssert.assertCode;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+import ai.timefold.solver.core.testdomain.TestdataValue;
+import ai.timefold.solver.core.testdomain.list.TestdataListEntity;
+import ai.timefold.solver.core.testdomain.list.TestdataListSolution;
+import ai.timefold.solver.core.testdomain.list.TestdataListValue;
+import ai.timefold.solver.core.testdomain.record.TestdataRecordEntity;
+import ai.timefold.solver.core.testdomain.record.TestdataRecordSolution;
+import ai.timefold.solver.snapshot.testdomain.SnapshotTestdataShift;
+import ai.timefold.solver.snapshot.testdomain.SnapshotTestdataSolution;
+import ai.timefold.solver.snapshot.testdomain.SnapshotTestdataTeam;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class SnapshotSolutionFileIOTest {
+
+    private static File solutionTestDir;
+
+    @BeforeAll
+    static void setup() {
+        solutionTestDir = new File("target/solutionTest/");
+        solutionTestDir.mkdirs();
+    }
+
+    @Test
+    void readAndWrite() {
+        var solutionFileIO = new SnapshotSolutionFileIO<>(TestdataSolution.class, TestdataEntity.class);
+        var file = new File(solutionTestDir, "testdataSolution.tfsnapshot");
+
+        var original = TestdataSolution.generateSolution(3, 5);
+        original.setScore(SimpleScore.of(-321));
+        solutionFileIO.write(original, file);
+        var copy = solutionFileIO.read(file);
+
+        assertThat(copy).isNotSameAs(original);
+        assertCode("Generated Solution 0", copy);
+        assertAllCodesOfIterator(copy.getValueList().iterator(),
+                "Generated Value 0", "Generated Value 1", "Generated Value 2");
+        assertAllCodesOfIterator(copy.getEntityList().iterator(),
+                "Generated Entity 0", "Generated Entity 1", "Generated Entity 2", "Generated Entity 3",
+                "Generated Entity 4");
+        for (var i = 0; i < original.getEntityList().size(); i++) {
+            var originalValue = original.getEntityList().get(i).getValue();
+            var copyValue = copy.getEntityList().get(i).getValue();
+            // A planning value must be the same instance as the one in the value range.
+            assertThat(copyValue).isSameAs(copy.getValueList().get(original.getValueList().indexOf(originalValue)));
+        }
+        assertThat(copy.getScore()).isEqualTo(SimpleScore.of(-321));
+    }
+
+    @Test
+    void readAndWriteListVariableWithShadowVariables() {
+        var solutionFileIO = new SnapshotSolutionFileIO<>(TestdataListSolution.class, TestdataListEntity.class,
+                TestdataListValue.class);
+        var file = new File(solutionTestDir, "testdataListSolution.tfsnapshot");
+
+        var original = TestdataListSolution.generateInitializedSolution(7, 3);
+        solutionFileIO.write(original, file);
+        var copy = solutionFileIO.read(file);
+
+        assertThat(copy.getEntityList()).hasSize(3);
+        assertThat(copy.getValueList()).hasSize(7);
+        for (var entity : copy.getEntityList()) {
+            var valueList = entity.getValueList();
+            for (var i = 0; i < valueList.size(); i++) {
+                var value = valueList.get(i);
+                assertThat(copy.getValueList()).containsOnlyOnce(value);
+                assertThat(value.getEntity()).isSameAs(entity);
+                assertThat(value.getIndex()).isEqualTo(i);
+            }
+        }
+        // The list variable is restored as a mutable list, so that the solver can change it.
+        copy.getEntityList().get(0).getValueList().clear();
+    }
+
+    @Test
+    void readAndWriteRecords() {
+        var solutionFileIO = new SnapshotSolutionFileIO<>(TestdataRecordSolution.class, TestdataRecordEntity.class);
+        var file = new File(solutionTestDir, "testdataRecordSolution.tfsnapshot");
+
+        var original = TestdataRecordSolution.generateSolution(2, 4);
+        solutionFileIO.write(original, file);
+        var copy = solutionFileIO.read(file);
+
+        assertThat(copy.getValueList()).isEqualTo(original.getValueList());
+        var copyValue0 = copy.getValueList().get(0);
+        assertThat(copy.getEntityList().get(0).getValue()).isSameAs(copyValue0);
+        assertThat(copy.getEntityList().get(2).getValue()).isSameAs(copyValue0);
+    }
+
+    @Test
+    void readAndWriteValueTypes() {
+        var solutionFileIO = new SnapshotSolutionFileIO<>(SnapshotTestdataSolution.class, TestdataEntity.class);
+        var file = new File(solutionTestDir, "snapshotTestdataSolution.tfsnapshot");
+
+        var original = new SnapshotTestdataSolution("s1");
+        var v1 = new TestdataValue("v1");
+        var v2 = new TestdataValue("v2");
+        original.setValueList(List.of(v1, v2));
+        original.setEntityList(List.of(new TestdataEntity("e1", v2), new TestdataEntity("e2")));
+        var start = LocalDateTime.of(2024, 3, 31, 2, 30, 15, 123_456_789);
+        var shift = new SnapshotTestdataShift("shift1", DayOfWeek.SUNDAY, start, Duration.ofMinutes(90), v1);
+        original.setShiftList(new ArrayList<>(List.of(shift)));
+        original.setCostMap(Map.of("regular", new BigDecimal("12.50"), "overtime", new BigDecimal("-1E+3")));
+        original.setHolidaySet(new TreeSet<>(List.of(LocalDate.of(2024, 12, 25), LocalDate.of(2024, 1, 1))));
+        original.setWeights(new int[] { 3, -1, Integer.MAX_VALUE });
+        original.setTags(new String[] { "urgent", null, "urgent", "été ☃" });
+        original.setTenantId(UUID.randomUUID());
+        original.setScore(SimpleScore.of(7));
+        solutionFileIO.write(original, file);
+        var copy = solutionFileIO.read(file);
+
+        // The shift refers to a restored value, which is another instance than the original value.
+        assertThat(copy.getShiftList()).singleElement().usingRecursiveComparison().isEqualTo(shift);
+        assertThat(copy.getShiftList().get(0).value()).isSameAs(copy.getValueList().get(0));
+        assertThat(copy.getEntityList().get(0).getValue()).isSameAs(copy.getValueList().get(1));
+        assertThat(copy.getEntityList().get(1).getValue()).isNull();
+        assertThat(copy.getCostMap()).isEqualTo(original.getCostMap());
+        assertThat(copy.getHolidaySet()).isInstanceOf(TreeSet.class)
+                .containsExactly(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 25));
+        assertThat(copy.getWeights()).containsExactly(3, -1, Integer.MAX_VALUE);
+        assertThat(copy.getTags()).containsExactly("urgent", null, "urgent", "été ☃");
+        assertThat(copy.getTenantId()).isEqualTo(original.getTenantId());
+        assertThat(copy.getScore()).isEqualTo(SimpleScore.of(7));
+    }
+
+    @Test
+    void sharedContainersKeepTheirIdentity() {
+        var solutionFileIO = new SnapshotSolutionFileIO<>(SnapshotTestdataSolution.class, TestdataEntity.class);
+        var file = new File(solutionTestDir, "sharedContainersSolution.tfsnapshot");
+
+        var original = new SnapshotTestdataSolution("s1");
+        var v1 = new TestdataValue("v1");
+        var v2 = new TestdataValue("v2");
+        var valueList = new ArrayList<>(List.of(v1, v2));
+        original.setValueList(valueList);
+        original.setEntityList(List.of(new TestdataEntity("e1", v1)));
+        var preferredValueList = new ArrayList<>(List.of(v2));
+        // The team record is restored on demand, before the solution's own reference to the list is reached.
+        original.setTeam(new SnapshotTestdataTeam("team1", preferredValueList));
+        original.setPreferredValueList(preferredValueList);
+        original.setShiftList(new ArrayList<>(List.of(
+                new SnapshotTestdataShift("shift1", DayOfWeek.MONDAY, LocalDateTime.of(2024, 1, 1, 8, 0),
+                        Duration.ofHours(8), v1))));
+        original.setScore(SimpleScore.of(-2));
+        solutionFileIO.write(original, file);
+        var copy = solutionFileIO.read(file);
+
+        assertThat(copy.getPreferredValueList()).isSameAs(copy.getTeam().memberList())
+                .containsExactly(copy.getValueList().get(1));
+        assertThat(copy.getShiftList().get(0).value()).isSameAs(copy.getValueList().get(0));
+        // The solution's own reference to the list is skipped, so the field after it must still be read.
+        assertThat(copy.getScore()).isEqualTo(SimpleScore.of(-2));
+        copy.getPreferredValueList().add(copy.getValueList().get(0));
+        assertThat(copy.getTeam().memberList()).hasSize(2);
+    }
+
+    @Test
+    void unsupportedValue() {
+        var solutionFileIO = new SnapshotSolutionFileIO<>(SnapshotTestdataSolution.class, TestdataEntity.class);
+        var file = new File(solutionTestDir, "unsupportedSolution.tfsnapshot");
+
+        var original = new SnapshotTestdataSolution("s1");
+        original.setHolidaySet(new TreeSet<>(Comparator.<LocalDate> reverseOrder()));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> solutionFileIO.write(original, file))
+                .withMessageContaining("cannot be stored in a snapshot");
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    void classOutsideTheDomain() {
+        var solutionFileIO = new SnapshotSolutionFileIO<>(SnapshotTestdataSolution.class, TestdataEntity.class);
+        var file = new File(solutionTestDir, "classOutsideTheDomainSolution.tfsnapshot");
+
+        var original = new SnapshotTestdataSolution("s1");
+        original.setCostMap((Map) Map.of("regular", new NotInDomain("n1")));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> solutionFileIO.write(original, file))
+                .withMessageContaining(NotInDomain.class.getName())
+                .withMessageContaining("cannot be stored in a snapshot");
+    }
+
+    @Test
+    void readSnapshotOfOtherDomain() {
+        var file = new File(solutionTestDir, "otherDomainSolution.tfsnapshot");
+        new SnapshotSolutionFileIO<>(TestdataListSolution.class, TestdataListEntity.class, TestdataListValue.class)
+                .write(TestdataListSolution.generateInitializedSolution(2, 1), file);
+
+        // A snapshot is untrusted input: it must not be able to make the reader load any class it names.
+        var solutionFileIO = new SnapshotSolutionFileIO<>(TestdataSolution.class, TestdataEntity.class);
+        assertThatIllegalStateException()
+                .isThrownBy(() -> solutionFileIO.read(file))
+                .withMessageContaining(TestdataListSolution.class.getName())
+                .withMessageContaining("not part of the domain");
+    }
+
+    @Test
+    void readOtherFile() throws IOException {
+        var solutionFileIO = new SnapshotSolutionFileIO<>(TestdataSolution.class, TestdataEntity.class);
+        var file = new File(solutionTestDir, "notASnapshot.tfsnapshot");
+        Files.writeString(file.toPath(), "{ \"code\": \"s1\" }");
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> solutionFileIO.read(file))
+                .withMessageContaining("not a solution snapshot");
+    }
+
+    public record NotInDomain(String code) {
+    }
+
+}
@@ -0,0 +1,11 @@
+package ai.timefold.solver.snapshot.testdomain;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import ai.timefold.solver.core.testdomain.TestdataValue;
+
+public record SnapshotTestdataShift(String code, DayOfWeek dayOfWeek, LocalDateTime start, Duration duration,
+        TestdataValue value) {
+}
@@ -0,0 +1,136 @@
+package ai.timefold.solver.snapshot.testdomain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.UUID;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
+import ai.timefold.solver.core.api.domain.solution.PlanningScore;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty;
+import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
+import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataObject;
+import ai.timefold.solver.core.testdomain.TestdataValue;
+
+@PlanningSolution
+public class SnapshotTestdataSolution extends TestdataObject {
+
+    private List<TestdataValue> valueList;
+    private List<TestdataEntity> entityList;
+    private List<SnapshotTestdataShift> shiftList;
+    private Map<String, BigDecimal> costMap;
+    private SortedSet<LocalDate> holidaySet;
+    private int[] weights;
+    private String[] tags;
+    private UUID tenantId;
+    private SnapshotTestdataTeam team;
+    private List<TestdataValue> preferredValueList;
+
+    private SimpleScore score;
+
+    public SnapshotTestdataSolution() {
+    }
+
+    public SnapshotTestdataSolution(String code) {
+        super(code);
+    }
+
+    @ValueRangeProvider(id = "valueRange")
+    @ProblemFactCollectionProperty
+    public List<TestdataValue> getValueList() {
+        return valueList;
+    }
+
+    public void setValueList(List<TestdataValue> valueList) {
+        this.valueList = valueList;
+    }
+
+    @PlanningEntityCollectionProperty
+    public List<TestdataEntity> getEntityList() {
+        return entityList;
+    }
+
+    public void setEntityList(List<TestdataEntity> entityList) {
+        this.entityList = entityList;
+    }
+
+    @ProblemFactCollectionProperty
+    public List<SnapshotTestdataShift> getShiftList() {
+        return shiftList;
+    }
+
+    public void setShiftList(List<SnapshotTestdataShift> shiftList) {
+        this.shiftList = shiftList;
+    }
+
+    public Map<String, BigDecimal> getCostMap() {
+        return costMap;
+    }
+
+    public void setCostMap(Map<String, BigDecimal> costMap) {
+        this.costMap = costMap;
+    }
+
+    public SortedSet<LocalDate> getHolidaySet() {
+        return holidaySet;
+    }
+
+    public void setHolidaySet(SortedSet<LocalDate> holidaySet) {
+        this.holidaySet = holidaySet;
+    }
+
+    public int[] getWeights() {
+        return weights;
+    }
+
+    public void setWeights(int[] weights) {
+        this.weights = weights;
+    }
+
+    public String[] getTags() {
+        return tags;
+    }
+
+    public void setTags(String[] tags) {
+        this.tags = tags;
+    }
+
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(UUID tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public SnapshotTestdataTeam getTeam() {
+        return team;
+    }
+
+    public void setTeam(SnapshotTestdataTeam team) {
+        this.team = team;
+    }
+
+    public List<TestdataValue> getPreferredValueList() {
+        return preferredValueList;
+    }
+
+    public void setPreferredValueList(List<TestdataValue> preferredValueList) {
+        this.preferredValueList = preferredValueList;
+    }
+
+    @PlanningScore
+    public SimpleScore getScore() {
+        return score;
+    }
+
+    public void setScore(SimpleScore score) {
+        this.score = score;
+    }
+
+}
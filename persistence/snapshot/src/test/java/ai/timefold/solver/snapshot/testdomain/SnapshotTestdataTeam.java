@@ -0,0 +1,8 @@
+package ai.timefold.solver.snapshot.testdomain;
+
+import java.util.List;
+
+import ai.timefold.solver.core.testdomain.TestdataValue;
+
+public record SnapshotTestdataTeam(String code, List<TestdataValue> memberList) {
+}
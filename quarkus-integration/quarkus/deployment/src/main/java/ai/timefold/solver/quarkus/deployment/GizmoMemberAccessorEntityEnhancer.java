@@ -16,11 +16,13 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -31,6 +33,10 @@ import java.util.stream.Collectors;
 import jakarta.enterprise.context.ApplicationScoped;
 
 import ai.timefold.solver.core.api.domain.solution.cloner.SolutionCloner;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.impl.bavet.common.tuple.gizmo.AbstractGizmoConditionalTupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.gizmo.GizmoConditionalTupleLifecycleImplementor;
+import ai.timefold.solver.core.impl.domain.common.DomainAccessType;
 import ai.timefold.solver.core.impl.domain.common.ReflectionHelper;
 import ai.timefold.solver.core.impl.domain.common.accessor.MemberAccessor;
 import ai.timefold.solver.core.impl.domain.common.accessor.gizmo.AccessorInfo;
@@ -44,6 +50,8 @@ import ai.timefold.solver.core.impl.domain.solution.cloner.gizmo.GizmoSolutionCl
 import ai.timefold.solver.core.impl.domain.solution.cloner.gizmo.GizmoSolutionClonerImplementor;
 import ai.timefold.solver.core.impl.domain.solution.cloner.gizmo.GizmoSolutionOrEntityDescriptor;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.core.impl.solver.DefaultSolverFactory;
 import ai.timefold.solver.quarkus.gizmo.TimefoldGizmoBeanFactory;
 
 import org.jboss.jandex.AnnotationInstance;
@@ -81,6 +89,8 @@ final class GizmoMemberAccessorEntityEnhancer {
     // This keep track of what fields we made non-final
     private final Set<Field> visitedFinalFields = new HashSet<>();
     private final Set<MethodInfo> visitedMethods = new HashSet<>();
+    // Solver configs with the same constraint provider share their generated conditional tuple lifecycles
+    private final Set<String> generatedConditionalTupleLifecycleClassNames = new HashSet<>();
 
     private static String getVirtualGetterName(boolean isField, String name) {
         return "$get$timefold$__" + ((isField) ? "field$__" : "method$__") + name;
@@ -402,6 +412,39 @@ final class GizmoMemberAccessorEntityEnhancer {
         }
     }
 
+    /**
+     * Generates a subclass of {@link AbstractGizmoConditionalTupleLifecycle} for every filter stream
+     * of the constraints of the solver config.
+     * Solver configs with the same constraint provider get the same classes.
+     *
+     * @return never null, the names of the generated classes, empty unless the solver uses constraint streams
+     */
+    public List<String> generateConditionalTupleLifecycles(SolverConfig solverConfig, ClassOutput classOutput) {
+        var constraintProviderClass = solverConfig.getScoreDirectorFactoryConfig().getConstraintProviderClass();
+        if (constraintProviderClass == null) {
+            return List.of();
+        }
+        var solverFactory = new DefaultSolverFactory<>(solverConfig, DomainAccessType.FORCE_REFLECTION);
+        if (!(solverFactory
+                .getScoreDirectorFactory() instanceof BavetConstraintStreamScoreDirectorFactory<?, ?> scoreDirectorFactory)) {
+            return List.of();
+        }
+        var filterStreamCounts = scoreDirectorFactory.countFilterStreamsByArity();
+        var generatedClassNameList = new ArrayList<String>();
+        for (var arity = 1; arity <= filterStreamCounts.length; arity++) {
+            for (var index = 0; index < filterStreamCounts[arity - 1]; index++) {
+                var generatedClassName = GizmoConditionalTupleLifecycleImplementor
+                        .getGeneratedClassName(constraintProviderClass.getName(), arity, index);
+                if (generatedConditionalTupleLifecycleClassNames.add(generatedClassName)) {
+                    GizmoConditionalTupleLifecycleImplementor.defineConditionalTupleLifecycleFor(generatedClassName,
+                            classOutput, arity);
+                }
+                generatedClassNameList.add(generatedClassName);
+            }
+        }
+        return generatedClassNameList;
+    }
+
     public static Map<String, RuntimeValue<MemberAccessor>> getGeneratedGizmoMemberAccessorMap(RecorderContext recorderContext,
             Set<String> generatedMemberAccessorsClassNames) {
         Map<String, RuntimeValue<MemberAccessor>> generatedGizmoMemberAccessorNameToInstanceMap = new HashMap<>();
@@ -421,6 +464,16 @@ final class GizmoMemberAccessorEntityEnhancer {
         return generatedGizmoSolutionClonerNameToInstanceMap;
     }
 
+    public static List<RuntimeValue<AbstractGizmoConditionalTupleLifecycle<?>>> getGeneratedConditionalTupleLifecycleList(
+            RecorderContext recorderContext, List<String> generatedConditionalTupleLifecycleClassNames) {
+        List<RuntimeValue<AbstractGizmoConditionalTupleLifecycle<?>>> generatedConditionalTupleLifecycleList =
+                new ArrayList<>(generatedConditionalTupleLifecycleClassNames.size());
+        for (var className : generatedConditionalTupleLifecycleClassNames) {
+            generatedConditionalTupleLifecycleList.add(recorderContext.newInstance(className));
+        }
+        return generatedConditionalTupleLifecycleList;
+    }
+
     public void generateGizmoBeanFactory(ClassOutput classOutput, Set<Class<?>> beanClasses,
             BuildProducer<BytecodeTransformerBuildItem> transformers) {
         var generatedClassName = TimefoldGizmoBeanFactory.class.getName() + "$Implementation";
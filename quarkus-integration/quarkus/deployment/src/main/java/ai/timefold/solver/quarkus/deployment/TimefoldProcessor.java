@@ -632,7 +632,10 @@ class TimefoldProcessor {
                                                 .getGeneratedGizmoClasses().memberAccessorClassSet()),
                                 GizmoMemberAccessorEntityEnhancer.getGeneratedSolutionClonerMap(recorderContext,
                                         solverConfigBuildItem
-                                                .getGeneratedGizmoClasses().solutionClonerClassSet())))
+                                                .getGeneratedGizmoClasses().solutionClonerClassSet()),
+                                GizmoMemberAccessorEntityEnhancer.getGeneratedConditionalTupleLifecycleList(recorderContext,
+                                        solverConfigBuildItem.getGeneratedGizmoClasses()
+                                                .conditionalTupleLifecycleClassMap().getOrDefault(key, List.of()))))
                         .setRuntimeInit()
                         .defaultBean()
                         .done());
@@ -660,7 +663,11 @@ class TimefoldProcessor {
                                                         .getGeneratedGizmoClasses().memberAccessorClassSet()),
                                         GizmoMemberAccessorEntityEnhancer.getGeneratedSolutionClonerMap(recorderContext,
                                                 solverConfigBuildItem
-                                                        .getGeneratedGizmoClasses().solutionClonerClassSet())))
+                                                        .getGeneratedGizmoClasses().solutionClonerClassSet()),
+                                        GizmoMemberAccessorEntityEnhancer.getGeneratedConditionalTupleLifecycleList(
+                                                recorderContext, solverConfigBuildItem.getGeneratedGizmoClasses()
+                                                        .conditionalTupleLifecycleClassMap()
+                                                        .getOrDefault(key, List.of()))))
                                 .setRuntimeInit()
                                 .named(key)
                                 .done());
@@ -792,6 +799,11 @@ class TimefoldProcessor {
                 .ifPresent(profilingEnabled -> solverConfig.getScoreDirectorFactoryConfig()
                         .withConstraintStreamProfilingEnabled(profilingEnabled));
 
+        timefoldBuildTimeConfig.getSolverConfig(solverName)
+                .flatMap(SolverBuildTimeConfig::constraintStreamParallelInitializationEnabled)
+                .ifPresent(parallelInitializationEnabled -> solverConfig.getScoreDirectorFactoryConfig()
+                        .withConstraintStreamParallelInitializationEnabled(parallelInitializationEnabled));
+
         timefoldBuildTimeConfig.getSolverConfig(solverName)
                 .flatMap(SolverBuildTimeConfig::nearbyDistanceMeterClass)
                 .ifPresent(clazz -> {
@@ -1095,8 +1107,14 @@ class TimefoldProcessor {
                     .add(entityEnhancer.generateSolutionCloner(solutionDescriptor, classOutput, indexView, transformers));
         });
 
+        // Every filter stream gets its own class, so that its predicate call site is monomorphic
+        var conditionalTupleLifecycleClassNameMap = new HashMap<String, List<String>>();
+        solverConfigMap.forEach((solverName, solverConfig) -> conditionalTupleLifecycleClassNameMap.put(solverName,
+                entityEnhancer.generateConditionalTupleLifecycles(solverConfig, classOutput)));
+
         entityEnhancer.generateGizmoBeanFactory(beanClassOutput, reflectiveClassSet, transformers);
-        return new GeneratedGizmoClasses(generatedMemberAccessorsClassNameSet, gizmoSolutionClonerClassNameSet);
+        return new GeneratedGizmoClasses(generatedMemberAccessorsClassNameSet, gizmoSolutionClonerClassNameSet,
+                conditionalTupleLifecycleClassNameMap);
     }
 
     private static void generateDomainAccessorsForShadowSources(IndexView indexView,
@@ -1,12 +1,19 @@
 package ai.timefold.solver.quarkus.deployment.api;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
-public record GeneratedGizmoClasses(Set<String> memberAccessorClassSet, Set<String> solutionClonerClassSet) {
+/**
+ * @param conditionalTupleLifecycleClassMap per solver name, the classes of its generated conditional tuple lifecycles
+ */
+public record GeneratedGizmoClasses(Set<String> memberAccessorClassSet, Set<String> solutionClonerClassSet,
+        Map<String, List<String>> conditionalTupleLifecycleClassMap) {
 
     public GeneratedGizmoClasses {
         memberAccessorClassSet = Set.copyOf(memberAccessorClassSet);
         solutionClonerClassSet = Set.copyOf(solutionClonerClassSet);
+        conditionalTupleLifecycleClassMap = Map.copyOf(conditionalTupleLifecycleClassMap);
     }
 
 }
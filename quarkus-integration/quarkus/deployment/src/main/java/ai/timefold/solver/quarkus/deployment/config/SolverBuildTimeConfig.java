@@ -52,6 +52,13 @@ public interface SolverBuildTimeConfig {
      */
     Optional<Boolean> constraintStreamProfilingEnabled();
 
+    /**
+     * If the first score calculation of a working solution
+     * runs the independent parts of the constraint streams in parallel.
+     * Defaults to false.
+     */
+    Optional<Boolean> constraintStreamParallelInitializationEnabled();
+
     /**
      * Enable rewriting the {@link ConstraintProvider} class
      * so nodes share lambdas when possible, improving performance.
@@ -0,0 +1,107 @@
+package ai.timefold.solver.quarkus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.inject.Inject;
+
+import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.impl.bavet.common.tuple.gizmo.GizmoConditionalTupleLifecycleImplementor;
+import ai.timefold.solver.core.impl.bavet.common.tuple.gizmo.GizmoConditionalTupleLifecycleRegistry;
+import ai.timefold.solver.quarkus.testdomain.normal.TestdataQuarkusEntity;
+import ai.timefold.solver.quarkus.testdomain.normal.TestdataQuarkusSolution;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+class TimefoldProcessorConditionalTupleLifecycleTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(TestdataQuarkusEntity.class, TestdataQuarkusSolution.class,
+                            FilteringConstraintProvider.class));
+
+    @Inject
+    SolutionManager<TestdataQuarkusSolution, SimpleScore> solutionManager;
+
+    private static String getGeneratedClassName(int arity) {
+        return GizmoConditionalTupleLifecycleImplementor.getGeneratedClassName(FilteringConstraintProvider.class.getName(),
+                arity, 0);
+    }
+
+    @Test
+    void generatedForEveryFilterStream() {
+        // Creating the bean registers the prototypes.
+        solutionManager.update(newSolution());
+        assertThat(GizmoConditionalTupleLifecycleRegistry.getPrototypeList(FilteringConstraintProvider.class.getName()))
+                .map(prototype -> prototype.getClass().getName())
+                .containsExactly(getGeneratedClassName(1), getGeneratedClassName(2));
+    }
+
+    @Test
+    void usedByEveryFilterStream() {
+        // 2 entities with value v1 (-2), and 1 value with more than 1 entity (-1).
+        assertThat(solutionManager.update(newSolution())).isEqualTo(SimpleScore.of(-3));
+        assertThat(FilteringConstraintProvider.FILTER_CALLER_CLASS_NAME_SET)
+                .containsExactlyInAnyOrder(getGeneratedClassName(1), getGeneratedClassName(2));
+    }
+
+    private static TestdataQuarkusSolution newSolution() {
+        var solution = new TestdataQuarkusSolution();
+        solution.setValueList(List.of("v1", "v2"));
+        var entityList = List.of(new TestdataQuarkusEntity(), new TestdataQuarkusEntity(), new TestdataQuarkusEntity());
+        entityList.get(0).setValue("v1");
+        entityList.get(1).setValue("v1");
+        entityList.get(2).setValue("v2");
+        solution.setEntityList(entityList);
+        return solution;
+    }
+
+    public static class FilteringConstraintProvider implements ConstraintProvider {
+
+        static final Set<String> FILTER_CALLER_CLASS_NAME_SET = ConcurrentHashMap.newKeySet();
+
+        /**
+         * Records the class which calls the predicate, the first frame outside of this class.
+         */
+        private static boolean recordCaller() {
+            StackWalker.getInstance()
+                    .walk(frames -> frames.dropWhile(
+                            frame -> frame.getClassName().equals(FilteringConstraintProvider.class.getName()))
+                            .findFirst())
+                    .ifPresent(frame -> FILTER_CALLER_CLASS_NAME_SET.add(frame.getClassName()));
+            return true;
+        }
+
+        @Override
+        public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory factory) {
+            return new Constraint[] {
+                    factory.forEach(TestdataQuarkusEntity.class)
+                            .filter(entity -> recordCaller() && entity.getValue().equals("v1"))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Entity with value v1"),
+                    factory.forEach(TestdataQuarkusEntity.class)
+                            .groupBy(TestdataQuarkusEntity::getValue, ConstraintCollectors.count())
+                            .filter((value, count) -> recordCaller() && count > 1)
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Value with more than 1 entity")
+            };
+        }
+
+    }
+
+}
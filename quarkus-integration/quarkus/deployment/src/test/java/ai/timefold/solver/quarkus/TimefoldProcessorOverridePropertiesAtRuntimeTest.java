@@ -65,6 +65,7 @@ class TimefoldProcessorOverridePropertiesAtRuntimeTest {
         out.put("quarkus.timefold.solver.termination.best-score-limit", "7");
         out.put("quarkus.timefold.solver.move-thread-count", "3");
         out.put("quarkus.timefold.solver-manager.parallel-solver-count", "10");
+        out.put("quarkus.timefold.solver-manager.virtual-consumer-threads", "true");
         out.put("quarkus.timefold.solver.termination.diminished-returns.enabled", "true");
         out.put("quarkus.timefold.solver.termination.diminished-returns.sliding-window-duration", "6h");
         out.put("quarkus.timefold.solver.termination.diminished-returns.minimum-improvement-ratio", "0.5");
@@ -106,6 +107,7 @@ class TimefoldProcessorOverridePropertiesAtRuntimeTest {
         public String getSolverManagerConfig() {
             StringBuilder sb = new StringBuilder();
             sb.append("parallelSolverCount=").append(solverManagerConfig.getParallelSolverCount()).append("\n");
+            sb.append("virtualConsumerThreads=").append(solverManagerConfig.getVirtualConsumerThreads()).append("\n");
             return sb.toString();
         }
     }
@@ -136,6 +138,7 @@ class TimefoldProcessorOverridePropertiesAtRuntimeTest {
                 .get("/timefold/test/solver-manager-config")
                 .asInputStream());
         assertEquals("10", solverManagerProperties.get("parallelSolverCount"));
+        assertEquals("true", solverManagerProperties.get("virtualConsumerThreads"));
     }
 
 }
@@ -2,6 +2,7 @@ package ai.timefold.solver.quarkus;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -17,6 +18,8 @@ import ai.timefold.solver.core.config.solver.SolverConfig;
 import ai.timefold.solver.core.config.solver.SolverManagerConfig;
 import ai.timefold.solver.core.config.solver.termination.DiminishedReturnsTerminationConfig;
 import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.bavet.common.tuple.gizmo.AbstractGizmoConditionalTupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.gizmo.GizmoConditionalTupleLifecycleRegistry;
 import ai.timefold.solver.core.impl.domain.common.accessor.MemberAccessor;
 import ai.timefold.solver.quarkus.config.DiminishedReturnsRuntimeConfig;
 import ai.timefold.solver.quarkus.config.SolverRuntimeConfig;
@@ -65,7 +68,8 @@ public class TimefoldRecorder {
     public <Solution_> Supplier<SolverConfig> solverConfigSupplier(final String solverName,
             final SolverConfig solverConfig,
             Map<String, RuntimeValue<MemberAccessor>> generatedGizmoMemberAccessorMap,
-            Map<String, RuntimeValue<SolutionCloner<Solution_>>> generatedGizmoSolutionClonerMap) {
+            Map<String, RuntimeValue<SolutionCloner<Solution_>>> generatedGizmoSolutionClonerMap,
+            List<RuntimeValue<AbstractGizmoConditionalTupleLifecycle<?>>> generatedGizmoConditionalTupleLifecycleList) {
         return () -> {
             updateSolverConfigWithRuntimeProperties(solverName, solverConfig);
             Map<String, MemberAccessor> memberAccessorMap = new HashMap<>();
@@ -77,6 +81,7 @@ public class TimefoldRecorder {
 
             solverConfig.setGizmoMemberAccessorMap(memberAccessorMap);
             solverConfig.setGizmoSolutionClonerMap((Map) solutionClonerMap);
+            registerConditionalTupleLifecycles(solverConfig, generatedGizmoConditionalTupleLifecycleList);
             return solverConfig;
         };
     }
@@ -91,7 +96,8 @@ public class TimefoldRecorder {
     public <Solution_> Supplier<SolverManager<Solution_>> solverManager(final String solverName,
             final SolverConfig solverConfig,
             Map<String, RuntimeValue<MemberAccessor>> generatedGizmoMemberAccessorMap,
-            Map<String, RuntimeValue<SolutionCloner<Solution_>>> generatedGizmoSolutionClonerMap) {
+            Map<String, RuntimeValue<SolutionCloner<Solution_>>> generatedGizmoSolutionClonerMap,
+            List<RuntimeValue<AbstractGizmoConditionalTupleLifecycle<?>>> generatedGizmoConditionalTupleLifecycleList) {
         return () -> {
             updateSolverConfigWithRuntimeProperties(solverName, solverConfig);
             Map<String, MemberAccessor> memberAccessorMap = new HashMap<>();
@@ -103,6 +109,7 @@ public class TimefoldRecorder {
 
             solverConfig.setGizmoMemberAccessorMap(memberAccessorMap);
             solverConfig.setGizmoSolutionClonerMap(solutionClonerMap);
+            registerConditionalTupleLifecycles(solverConfig, generatedGizmoConditionalTupleLifecycleList);
 
             var solverManagerConfig = new SolverManagerConfig();
             updateSolverManagerConfigWithRuntimeProperties(solverManagerConfig);
@@ -113,6 +120,19 @@ public class TimefoldRecorder {
         };
     }
 
+    private static void registerConditionalTupleLifecycles(SolverConfig solverConfig,
+            List<RuntimeValue<AbstractGizmoConditionalTupleLifecycle<?>>> generatedGizmoConditionalTupleLifecycleList) {
+        if (generatedGizmoConditionalTupleLifecycleList.isEmpty()) {
+            return;
+        }
+        // Only generated for solvers with a constraint provider.
+        var constraintProviderClass = solverConfig.getScoreDirectorFactoryConfig().getConstraintProviderClass();
+        GizmoConditionalTupleLifecycleRegistry.register(constraintProviderClass.getName(),
+                generatedGizmoConditionalTupleLifecycleList.stream()
+                        .<AbstractGizmoConditionalTupleLifecycle<?>> map(RuntimeValue::getValue)
+                        .toList());
+    }
+
     private void updateSolverConfigWithRuntimeProperties(String solverName, SolverConfig solverConfig) {
         updateSolverConfigWithRuntimeProperties(solverConfig, timefoldRuntimeConfig.getValue()
                 .getSolverRuntimeConfig(solverName).orElse(null));
@@ -169,6 +189,8 @@ public class TimefoldRecorder {
     private void updateSolverManagerConfigWithRuntimeProperties(SolverManagerConfig solverManagerConfig) {
         timefoldRuntimeConfig.getValue().solverManager().parallelSolverCount()
                 .ifPresent(solverManagerConfig::setParallelSolverCount);
+        timefoldRuntimeConfig.getValue().solverManager().virtualConsumerThreads()
+                .ifPresent(solverManagerConfig::setVirtualConsumerThreads);
     }
 
 }
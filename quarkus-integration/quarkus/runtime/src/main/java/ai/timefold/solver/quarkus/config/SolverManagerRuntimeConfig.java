@@ -21,4 +21,12 @@ public interface SolverManagerRuntimeConfig {
     @WithDefault("AUTO")
     Optional<String> parallelSolverCount();
 
+    /**
+     * Whether the best solution, final best solution and first initialized solution consumers
+     * are called on virtual threads instead of platform threads.
+     * The solvers themselves always run on platform threads.
+     * Defaults to false.
+     */
+    Optional<Boolean> virtualConsumerThreads();
+
 }
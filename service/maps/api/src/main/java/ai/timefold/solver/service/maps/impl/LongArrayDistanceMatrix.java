@@ -3,6 +3,7 @@ package ai.timefold.solver.service.maps.impl;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -133,12 +134,11 @@ public final class LongArrayDistanceMatrix implements IndexableDistanceMatrix {
      * it is doubled and 1 is added to it.
      */
     private int getIndex(Location fromLocation, Location toLocation) {
-        short fromLocationShortId = getShortId(fromLocation);
-        short toLocationShortId = getShortId(toLocation);
-
         // conversion to unsigned int makes short sufficient for addressing MAXIMUM_LOCATION_COUNT locations
-        int fromLocationId = Short.toUnsignedInt(fromLocationShortId);
-        int toLocationId = Short.toUnsignedInt(toLocationShortId);
+        return getBucketIndex(Short.toUnsignedInt(getShortId(fromLocation)), Short.toUnsignedInt(getShortId(toLocation)));
+    }
+
+    private static int getBucketIndex(int fromLocationId, int toLocationId) {
         int offset = 0;
         if (fromLocationId > toLocationId) {
             offset = 1;
@@ -209,6 +209,54 @@ public final class LongArrayDistanceMatrix implements IndexableDistanceMatrix {
         distanceBuckets[index] = distance;
     }
 
+    /**
+     * Puts the distance between every origin and every destination, as if by {@link #put(Location, Location, long)}
+     * for every pair, but resolves every location only once and resizes the matrix at most once.
+     *
+     * @param fromLocations the origins, one per row of distances
+     * @param toLocations the destinations, one per column of distances
+     * @param distances {@code distances[i][j]} is the distance from the i-th origin to the j-th destination
+     */
+    public void putAll(List<Location> fromLocations, List<Location> toLocations, long[][] distances) {
+        if (distances.length != fromLocations.size()) {
+            throw new IllegalArgumentException("Expected distances to have " + fromLocations.size()
+                    + " rows but it has " + distances.length + ".");
+        }
+        if (fromLocations.isEmpty() || toLocations.isEmpty()) {
+            return;
+        }
+        int[] fromLocationIds = new int[fromLocations.size()];
+        int maximumLocationId = 0;
+        for (int i = 0; i < fromLocationIds.length; i++) {
+            short shortId = getShortId(fromLocations.get(i));
+            originLocationsID.add(shortId);
+            fromLocationIds[i] = Short.toUnsignedInt(shortId);
+            maximumLocationId = Math.max(maximumLocationId, fromLocationIds[i]);
+        }
+        int[] toLocationIds = new int[toLocations.size()];
+        for (int j = 0; j < toLocationIds.length; j++) {
+            short shortId = getShortId(toLocations.get(j));
+            destLocationsID.add(shortId);
+            toLocationIds[j] = Short.toUnsignedInt(shortId);
+            maximumLocationId = Math.max(maximumLocationId, toLocationIds[j]);
+        }
+        int requiredArraySize = maximumLocationId + 2;
+        if (distanceBuckets.length < requiredArraySize * requiredArraySize) {
+            resize(maximumLocationId + 1);
+        }
+        for (int i = 0; i < fromLocationIds.length; i++) {
+            long[] row = distances[i];
+            if (row.length != toLocationIds.length) {
+                throw new IllegalArgumentException("Expected row (" + i + ") of distances to have " + toLocationIds.length
+                        + " columns but it has " + row.length + ".");
+            }
+            int fromLocationId = fromLocationIds[i];
+            for (int j = 0; j < toLocationIds.length; j++) {
+                distanceBuckets[getBucketIndex(fromLocationId, toLocationIds[j])] = row[j];
+            }
+        }
+    }
+
     @Override
     public int getNumberOfOriginLocations() {
         return originLocationsID.size();
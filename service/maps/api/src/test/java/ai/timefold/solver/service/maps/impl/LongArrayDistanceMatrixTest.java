@@ -191,6 +191,34 @@ public class LongArrayDistanceMatrixTest {
         }
     }
 
+    @Test
+    void putAllWithResize() {
+        LongArrayDistanceMatrix distanceMatrix = new LongArrayDistanceMatrix(2);
+        Location a = new Location(0.0, 1.0);
+        Location b = new Location(1.0, 0.0);
+        Location c = new Location(0.25, 0.75);
+        Location d = new Location(0.75, 0.5);
+
+        distanceMatrix.putAll(List.of(a, b), List.of(a, b, c), new long[][] {
+                { 0L, 1L, 2L },
+                { 3L, 4L, 5L }
+        });
+        distanceMatrix.putAll(List.of(d), List.of(c, a), new long[][] { { 6L, 7L } });
+
+        assertThat(distanceMatrix.get(a, a)).isEqualTo(0L);
+        assertThat(distanceMatrix.get(a, c)).isEqualTo(2L);
+        assertThat(distanceMatrix.get(b, a)).isEqualTo(3L);
+        assertThat(distanceMatrix.get(b, c)).isEqualTo(5L);
+        assertThat(distanceMatrix.get(d, c)).isEqualTo(6L);
+        assertThat(distanceMatrix.get(d, a)).isEqualTo(7L);
+        assertThat(distanceMatrix.get(c, d)).isZero();
+        assertThat(distanceMatrix.getNumberOfOriginLocations()).isEqualTo(3);
+        assertThat(distanceMatrix.getNumberOfDestinationLocations()).isEqualTo(3);
+
+        assertThatCode(() -> distanceMatrix.putAll(List.of(a), List.of(b), new long[][] { { 1L, 2L } }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void tooLargeExpectedSizeFailFast() {
         assertThatCode(() -> new LongArrayDistanceMatrix(LongArrayDistanceMatrix.MAXIMUM_LOCATION_COUNT + 1))
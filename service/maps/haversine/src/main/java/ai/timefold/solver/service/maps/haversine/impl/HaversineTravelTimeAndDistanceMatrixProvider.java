@@ -1,20 +1,22 @@
 package ai.timefold.solver.service.maps.haversine.impl;
 
 import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import ai.timefold.solver.service.definition.internal.error.ErrorCodes;
 import ai.timefold.solver.service.definition.internal.error.TimefoldRuntimeException;
-import ai.timefold.solver.service.maps.api.DistanceMatrix;
 import ai.timefold.solver.service.maps.api.model.Location;
+import ai.timefold.solver.service.maps.impl.LongArrayDistanceMatrix;
 import ai.timefold.solver.service.maps.service.integration.internal.model.TravelTimeAndDistance;
 import ai.timefold.solver.service.maps.service.integration.internal.provider.TravelTimeAndDistanceMatrixProvider;
 import ai.timefold.solver.service.maps.service.integration.internal.provider.TravelTimeAndDistanceMatrixResponse;
@@ -28,6 +30,7 @@ public class HaversineTravelTimeAndDistanceMatrixProvider extends HaversineProvi
 
     private static final int EARTH_RADIUS_IN_M = 6371000;
     private static final int TWICE_EARTH_RADIUS_IN_M = 2 * EARTH_RADIUS_IN_M;
+    private static final int ROW_BATCH_SIZE = 256;
     public static final int AVERAGE_SPEED_KMPH = 50;
 
     private ObjectMapper mapper;
@@ -63,21 +66,58 @@ public class HaversineTravelTimeAndDistanceMatrixProvider extends HaversineProvi
         }
     }
 
+    /**
+     * Calculates the matrices between every origin and every destination.
+     * The cartesian coordinates of every location are calculated only once,
+     * the rows are calculated in parallel in batches of {@value #ROW_BATCH_SIZE}
+     * and every batch is stored in the matrices in bulk.
+     */
     public TravelTimeAndDistance calculateBulkDistance(
             Collection<Location> fromLocations,
             Collection<Location> toLocations) {
         Set<Location> locationSet = Collections.newSetFromMap(new IdentityHashMap<>());
         locationSet.addAll(fromLocations);
         locationSet.addAll(toLocations);
-        DistanceMatrix distanceMatrix = DistanceMatrix.getInstance(locationSet.size());
-        DistanceMatrix travelTimeMatrix = DistanceMatrix.getInstance(locationSet.size());
-        TravelTimeAndDistance distanceMatrixCollection = new TravelTimeAndDistance(travelTimeMatrix, distanceMatrix);
-        for (Location fromLocation : fromLocations) {
-            for (Location toLocation : toLocations) {
-                updateDistanceMatrices(fromLocation, toLocation, distanceMatrixCollection);
+        LongArrayDistanceMatrix distanceMatrix = new LongArrayDistanceMatrix(locationSet.size());
+        LongArrayDistanceMatrix travelTimeMatrix = new LongArrayDistanceMatrix(locationSet.size());
+
+        List<Location> fromLocationList = new ArrayList<>(fromLocations);
+        List<Location> toLocationList = new ArrayList<>(toLocations);
+        CartesianCoordinates fromCoordinates = CartesianCoordinates.of(fromLocationList);
+        CartesianCoordinates toCoordinates = CartesianCoordinates.of(toLocationList);
+        for (int batchStart = 0; batchStart < fromLocationList.size(); batchStart += ROW_BATCH_SIZE) {
+            int batchEnd = Math.min(batchStart + ROW_BATCH_SIZE, fromLocationList.size());
+            long[][] rows = new long[batchEnd - batchStart][];
+            int firstRow = batchStart;
+            IntStream.range(0, rows.length).parallel()
+                    .forEach(i -> rows[i] = calculateDistanceRow(fromCoordinates, firstRow + i, toCoordinates));
+            List<Location> batchFromLocationList = fromLocationList.subList(batchStart, batchEnd);
+            distanceMatrix.putAll(batchFromLocationList, toLocationList, rows);
+            for (long[] row : rows) {
+                for (int j = 0; j < row.length; j++) {
+                    row[j] = metersToDrivingSeconds(row[j]);
+                }
             }
+            travelTimeMatrix.putAll(batchFromLocationList, toLocationList, rows);
         }
-        return distanceMatrixCollection;
+        return new TravelTimeAndDistance(travelTimeMatrix, distanceMatrix);
+    }
+
+    private static long[] calculateDistanceRow(CartesianCoordinates fromCoordinates, int fromIndex,
+            CartesianCoordinates toCoordinates) {
+        double fromX = fromCoordinates.x[fromIndex];
+        double fromY = fromCoordinates.y[fromIndex];
+        double fromZ = fromCoordinates.z[fromIndex];
+        long[] row = new long[toCoordinates.x.length];
+        for (int j = 0; j < row.length; j++) {
+            double dX = fromX - toCoordinates.x[j];
+            double dY = fromY - toCoordinates.y[j];
+            double dZ = fromZ - toCoordinates.z[j];
+            // Equal coordinates give r = 0 and therefore a distance of 0, as in calculateDistance(Location, Location).
+            double r = Math.sqrt((dX * dX) + (dY * dY) + (dZ * dZ));
+            row[j] = Math.round(TWICE_EARTH_RADIUS_IN_M * Math.asin(r));
+        }
+        return row;
     }
 
     public static long metersToDrivingSeconds(long meters) {
@@ -98,12 +138,6 @@ public class HaversineTravelTimeAndDistanceMatrixProvider extends HaversineProvi
         return metersToDrivingSeconds(calculateDistance(from, to));
     }
 
-    private void updateDistanceMatrices(Location from, Location to, TravelTimeAndDistance travelTimeAndDistance) {
-        long distance = calculateDistance(from, to);
-        travelTimeAndDistance.distance().put(from, to, distance);
-        travelTimeAndDistance.travelTime().put(from, to, metersToDrivingSeconds(distance));
-    }
-
     private long calculateDistance(CartesianCoordinate from, CartesianCoordinate to) {
         if (from.equals(to)) {
             return 0;
@@ -116,7 +150,7 @@ public class HaversineTravelTimeAndDistanceMatrixProvider extends HaversineProvi
         return Math.round(TWICE_EARTH_RADIUS_IN_M * Math.asin(r));
     }
 
-    private CartesianCoordinate locationToCartesian(Location location) {
+    private static CartesianCoordinate locationToCartesian(Location location) {
         double latitudeInRads = Math.toRadians(location.getLatitude());
         double longitudeInRads = Math.toRadians(location.getLongitude());
         // Cartesian coordinates, normalized for a sphere of diameter 1.0
@@ -128,4 +162,23 @@ public class HaversineTravelTimeAndDistanceMatrixProvider extends HaversineProvi
 
     private record CartesianCoordinate(double x, double y, double z) {
     }
+
+    /**
+     * The cartesian coordinates of a list of locations, as primitive arrays.
+     */
+    private record CartesianCoordinates(double[] x, double[] y, double[] z) {
+
+        static CartesianCoordinates of(List<Location> locations) {
+            double[] x = new double[locations.size()];
+            double[] y = new double[locations.size()];
+            double[] z = new double[locations.size()];
+            for (int i = 0; i < locations.size(); i++) {
+                CartesianCoordinate coordinate = locationToCartesian(locations.get(i));
+                x[i] = coordinate.x();
+                y[i] = coordinate.y();
+                z[i] = coordinate.z();
+            }
+            return new CartesianCoordinates(x, y, z);
+        }
+    }
 }
@@ -4,9 +4,12 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import ai.timefold.solver.service.maps.api.model.Location;
+import ai.timefold.solver.service.maps.service.integration.internal.model.TravelTimeAndDistance;
 
 import org.junit.jupiter.api.Test;
 
@@ -46,6 +49,29 @@ class HaversineTravelTimeAndDistanceMatrixProviderTest {
                 .isEqualTo(HaversineTravelTimeAndDistanceMatrixProvider.metersToDrivingSeconds(442297L));
     }
 
+    @Test
+    void calculateBulkDistance() {
+        Random random = new Random(37);
+        // More origins than a single batch of rows.
+        List<Location> fromLocations = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            fromLocations.add(new Location(random.nextDouble(50.0, 52.0), random.nextDouble(3.0, 6.0)));
+        }
+        List<Location> toLocations = new ArrayList<>(fromLocations.subList(250, 300));
+        toLocations.add(new Location(49.1913945, 16.6122723));
+
+        TravelTimeAndDistance travelTimeAndDistance = provider.calculateBulkDistance(fromLocations, toLocations);
+        for (Location from : fromLocations) {
+            for (Location to : toLocations) {
+                assertThat(travelTimeAndDistance.distance().get(from, to)).isEqualTo(provider.calculateDistance(from, to));
+                assertThat(travelTimeAndDistance.travelTime().get(from, to))
+                        .isEqualTo(provider.calculateTravelTime(from, to));
+            }
+        }
+        assertThat(travelTimeAndDistance.distance().getNumberOfOriginLocations()).isEqualTo(300);
+        assertThat(travelTimeAndDistance.distance().getNumberOfDestinationLocations()).isEqualTo(51);
+    }
+
     @Test
     void getLocationsOutOfMap() {
         Location Gent = new Location(51.0441461, 3.7336349);
@@ -52,20 +52,23 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Metrics;
 import io.quarkus.arc.All;
 
 public class MapServiceClientImpl implements MapService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MapServiceClientImpl.class);
 
+    public static final String DEFAULT_MATRIX_CACHE_MAX_MEGABYTES = "1024";
+
     private final MapServiceClient mapService;
     private final List<TravelTimeAndDistanceConverter> converters;
     private final Boolean fallbackEnabled;
     private final boolean useTraffic;
     private final Timeframe defaultTimeframe;
     private final MapServiceLocalHaversineImpl fallbackService;
-    private final SingleItemCache<CacheItem> travelTimeAndDistanceSingleItemCache;
-    private final SingleItemCache<TravelTimesByTimeframeWithMetadata> timeframedMatricesCache;
+    private final MatrixCache<CacheItem> travelTimeAndDistanceCache;
+    private final MatrixCache<TravelTimesByTimeframeWithMetadata> timeframedMatricesCache;
     private final TimeframeBucketing timeframeBucketing;
     private final ManagedExecutor managedExecutor;
     private final ObjectMapper mapper;
@@ -78,6 +81,8 @@ public class MapServiceClientImpl implements MapService {
             @ConfigProperty(name = "ai.timefold.platform.map-service.use-traffic", defaultValue = "false") Boolean useTraffic,
             @ConfigProperty(
                     name = "ai.timefold.platform.map-service.default-timeframe") Optional<String> defaultTimeframeOverride,
+            @ConfigProperty(name = "ai.timefold.platform.map-service.matrix-cache-max-megabytes",
+                    defaultValue = DEFAULT_MATRIX_CACHE_MAX_MEGABYTES) long matrixCacheMaxMegabytes,
             HaversineTravelTimeAndDistanceMatrixProvider travelTimeAndDistanceMatrixProvider,
             HaversineWaypointsProvider haversineWaypointsProvider,
             TimeframeBucketing timeframeBucketing,
@@ -92,8 +97,16 @@ public class MapServiceClientImpl implements MapService {
         this.managedExecutor = managedExecutor;
         this.mapper = mapper;
         fallbackService = new MapServiceLocalHaversineImpl(travelTimeAndDistanceMatrixProvider, haversineWaypointsProvider);
-        travelTimeAndDistanceSingleItemCache = new SingleItemCache<>();
-        timeframedMatricesCache = new SingleItemCache<>();
+        // Both caches share the configured budget.
+        long matrixCacheMaxBytes = matrixCacheMaxMegabytes * 1024L * 1024L / 2L;
+        travelTimeAndDistanceCache = new MatrixCache<>("travel-time-and-distance", matrixCacheMaxBytes,
+                item -> MatrixCache.estimateSizeInBytes(item.travelTimeAndDistance().travelTime(),
+                        item.travelTimeAndDistance().distance()),
+                Metrics.globalRegistry);
+        timeframedMatricesCache = new MatrixCache<>("by-timeframe", matrixCacheMaxBytes,
+                item -> MatrixCache.estimateSizeInBytes(item.travelTimesByTimeframe())
+                        + MatrixCache.estimateSizeInBytes(item.distancesByTimeframe()),
+                Metrics.globalRegistry);
     }
 
     /**
@@ -133,9 +146,13 @@ public class MapServiceClientImpl implements MapService {
             return generateZeroTravelTimeAndDistanceMatrixFromLocations(locations);
         }
 
+        // A location set is cached per options, as the maps-service keeps a matrix per timeframe and profile.
+        String locationSetCacheId = locationSetName == null ? null : locationSetName + "|" + options;
+        CacheItem locationSetCacheItem =
+                locationSetCacheId == null ? null : travelTimeAndDistanceCache.get(locationSetCacheId);
         // If location set name is not empty and is in cache, fetch from cache and check if there are updates since last stored hash
-        if (locationSetName != null && travelTimeAndDistanceSingleItemCache.isInCache(locationSetName)) {
-            String matrixHash = travelTimeAndDistanceSingleItemCache.get().hash();
+        if (locationSetCacheItem != null) {
+            String matrixHash = locationSetCacheItem.hash();
             Response response;
             try {
                 LOGGER.info("Distance matrix with location set name {} in cache, fetching updates", locationSetName);
@@ -147,7 +164,7 @@ public class MapServiceClientImpl implements MapService {
                         "Location set {} not in Maps Service but in client cache (probably deleted from the " +
                                 "Maps Service). Will try to calculate entire distance matrix.",
                         locationSetName);
-                travelTimeAndDistanceSingleItemCache.delete();
+                travelTimeAndDistanceCache.remove(locationSetCacheId);
                 return getFromCacheOrRequest(locations, options);
             }
 
@@ -158,22 +175,21 @@ public class MapServiceClientImpl implements MapService {
                 // If distance matrix is invalid but there is new matrix for location set, store in cache by location set name
                 LOGGER.info("Distance matrix in cache is invalid, processing new distance matrix from service");
                 TravelTimeAndDistanceWithMetadata travelTimeAndDistance =
-                        processResponseAndStoreInCache(response, locationSetName);
-                assertLocationsAreInCache(locations);
+                        processResponseAndStoreInCache(response, locationSetCacheId);
+                assertLocationsAreInCache(locations, locationSetCacheId);
                 return travelTimeAndDistance;
             } else if (chunkBytes.isEmpty()) {
                 // If there are no updates, return from cache
                 LOGGER.info("Distance matrix in cache is up-to-date, returning from cache");
-                assertLocationsAreInCache(locations);
-                CacheItem cached = travelTimeAndDistanceSingleItemCache.get();
-                return new TravelTimeAndDistanceWithMetadata(cached.travelTimeAndDistance(),
-                        cached.locationsOutOfMap(), cached.resolvedMapLocation());
+                assertLocationsAreInCache(locations, locationSetCacheItem);
+                return new TravelTimeAndDistanceWithMetadata(locationSetCacheItem.travelTimeAndDistance(),
+                        locationSetCacheItem.locationsOutOfMap(), locationSetCacheItem.resolvedMapLocation());
             } else {
                 // If there are updates, process them and update cache
                 LOGGER.info("Distance matrix in cache is not up-to-date, processing updates");
                 TravelTimeAndDistanceWithMetadata travelTimeAndDistance =
-                        processUpdateAndStoreInCache(response, locationSetName);
-                assertLocationsAreInCache(locations);
+                        processUpdateAndStoreInCache(response, locationSetCacheId, locationSetCacheItem);
+                assertLocationsAreInCache(locations, locationSetCacheId);
                 return travelTimeAndDistance;
             }
 
@@ -191,7 +207,7 @@ public class MapServiceClientImpl implements MapService {
                 return getFromCacheOrRequest(locations, options);
             }
             // If location set exists, store in cache by location set
-            return processResponseAndStoreInCache(response, locationSetName);
+            return processResponseAndStoreInCache(response, locationSetCacheId);
         } else {
             // If location set name is empty, get from cache if id matches the hash of request, otherwise request
             return getFromCacheOrRequest(locations, options);
@@ -203,9 +219,10 @@ public class MapServiceClientImpl implements MapService {
     public TravelTimesByTimeframeWithMetadata getTravelTimeAndDistanceByTimeframe(List<Location> locations,
             String options) {
         String cacheId = String.valueOf(Objects.hash(new HashSet<>(locations), options, "BY_TIMEFRAME"));
-        if (timeframedMatricesCache.isInCache(cacheId)) {
+        TravelTimesByTimeframeWithMetadata cached = timeframedMatricesCache.get(cacheId);
+        if (cached != null) {
             LOGGER.info("Timeframed matrices in cache, returning from cache");
-            return timeframedMatricesCache.get();
+            return cached;
         }
 
         if (!useTraffic) {
@@ -349,9 +366,9 @@ public class MapServiceClientImpl implements MapService {
     private TravelTimeAndDistanceWithMetadata getFromCacheOrRequest(List<Location> locations, String options) {
         String id = String.valueOf(Objects.hash(new HashSet<>(locations), options));
 
-        if (travelTimeAndDistanceSingleItemCache.isInCache(id)) {
+        CacheItem cacheItem = travelTimeAndDistanceCache.get(id);
+        if (cacheItem != null) {
             LOGGER.info("Distance matrix without location set name in cache, returning from cache");
-            CacheItem cacheItem = travelTimeAndDistanceSingleItemCache.get();
             return new TravelTimeAndDistanceWithMetadata(cacheItem.travelTimeAndDistance(), cacheItem.locationsOutOfMap(),
                     cacheItem.resolvedMapLocation());
         }
@@ -409,7 +426,7 @@ public class MapServiceClientImpl implements MapService {
                     convertResponse(provider, chunkBytes, responseLocations, data, locationsNotInMap);
             TravelTimeAndDistanceWithMetadata travelTimeAndDistance = new TravelTimeAndDistanceWithMetadata(
                     raw.travelTimeAndDistance(), raw.locationsNotInMapIdx(), resolvedMapLocation);
-            travelTimeAndDistanceSingleItemCache.put(localCacheId,
+            travelTimeAndDistanceCache.put(localCacheId,
                     new CacheItem(travelTimeAndDistance.travelTimeAndDistance(), responseLocations, matrixHash,
                             locationsNotInMap, resolvedMapLocation));
             return travelTimeAndDistance;
@@ -423,7 +440,8 @@ public class MapServiceClientImpl implements MapService {
         }
     }
 
-    private TravelTimeAndDistanceWithMetadata processUpdateAndStoreInCache(Response response, String locationSetName) {
+    private TravelTimeAndDistanceWithMetadata processUpdateAndStoreInCache(Response response, String locationSetCacheId,
+            CacheItem cacheItem) {
         String matrixHash = response.getHeaderString(X_MAPS_MATRIX_HASH_HEADER);
         String provider = response.getHeaderString(X_MAPS_PROVIDER_HEADER);
         String resolvedMapLocation = response.getHeaderString(X_MAPS_LOCATION_HEADER);
@@ -437,7 +455,6 @@ public class MapServiceClientImpl implements MapService {
         if (locationsNotInMapString != null && !locationsNotInMapString.isEmpty()) {
             locationsNotInMap = Arrays.stream(locationsNotInMapString.split(",")).map(Integer::valueOf).toList();
         }
-        CacheItem cacheItem = travelTimeAndDistanceSingleItemCache.get();
         try {
             InputStream data = response.readEntity(InputStream.class);
             List<Location> responseLocations = readLocationsFromInputStream(data, metadataBytes);
@@ -447,15 +464,14 @@ public class MapServiceClientImpl implements MapService {
             }
 
             TravelTimeAndDistanceWithMetadata raw =
-                    convertUpdate(provider, chunkBytes, responseLocations, data, cacheItem.locationsOutOfMap(),
-                            locationsNotInMap);
+                    convertUpdate(provider, cacheItem, chunkBytes, responseLocations, data, locationsNotInMap);
             String effectiveMapLocation = resolvedMapLocation != null ? resolvedMapLocation : cacheItem.resolvedMapLocation();
             TravelTimeAndDistanceWithMetadata travelTimeAndDistance = new TravelTimeAndDistanceWithMetadata(
                     raw.travelTimeAndDistance(), raw.locationsNotInMapIdx(), effectiveMapLocation);
 
             List<Location> newLocations = Stream.concat(cacheItem.locations().stream(), responseLocations.stream()).toList();
-            if (locationSetName != null && matrixHash != null) {
-                travelTimeAndDistanceSingleItemCache.put(locationSetName,
+            if (matrixHash != null) {
+                travelTimeAndDistanceCache.put(locationSetCacheId,
                         new CacheItem(travelTimeAndDistance.travelTimeAndDistance(), newLocations, matrixHash,
                                 locationsNotInMap, effectiveMapLocation));
             }
@@ -506,13 +522,12 @@ public class MapServiceClientImpl implements MapService {
         throw new IllegalArgumentException("No converter found for travel time and distance provider '" + provider + "'");
     }
 
-    private TravelTimeAndDistanceWithMetadata convertUpdate(String provider, List<Integer> chunkBytes,
-            List<Location> locations, InputStream data, List<Integer> oldLocationNotInMap, List<Integer> newLocationNotInMap) {
+    private TravelTimeAndDistanceWithMetadata convertUpdate(String provider, CacheItem cacheItem, List<Integer> chunkBytes,
+            List<Location> locations, InputStream data, List<Integer> newLocationNotInMap) {
         for (TravelTimeAndDistanceConverter converter : converters) {
             if (converter.canConvert(provider)) {
-                CacheItem cacheItem = travelTimeAndDistanceSingleItemCache.get();
                 return converter.update(cacheItem.travelTimeAndDistance(), cacheItem.locations(), locations, data,
-                        chunkBytes, oldLocationNotInMap, newLocationNotInMap);
+                        chunkBytes, cacheItem.locationsOutOfMap(), newLocationNotInMap);
             }
         }
         throw new IllegalArgumentException("No converter found for travel time and distance provider '" + provider + "'");
@@ -571,10 +586,17 @@ public class MapServiceClientImpl implements MapService {
         return locations;
     }
 
-    private void assertLocationsAreInCache(List<Location> locations) {
-        List<Location> locationsInCache = travelTimeAndDistanceSingleItemCache.get().locations();
+    private void assertLocationsAreInCache(List<Location> locations, String locationSetCacheId) {
+        // Another request may have evicted the item right after it was stored; then there is nothing to compare with.
+        CacheItem locationSetCacheItem = travelTimeAndDistanceCache.peek(locationSetCacheId);
+        if (locationSetCacheItem != null) {
+            assertLocationsAreInCache(locations, locationSetCacheItem);
+        }
+    }
+
+    private void assertLocationsAreInCache(List<Location> locations, CacheItem locationSetCacheItem) {
         Set<Location> locationsSet = new HashSet<>(locations);
-        HashSet<Location> locationsInCacheSet = new HashSet<>(locationsInCache);
+        HashSet<Location> locationsInCacheSet = new HashSet<>(locationSetCacheItem.locations());
         if (!locationsSet.equals(locationsInCacheSet)) {
             throw new IllegalArgumentException("Locations received do not correspond to location set");
         }
@@ -32,6 +32,7 @@ public class MapServiceProducer {
     private final Boolean fallbackEnabled;
     private final Boolean useTraffic;
     private final Optional<String> defaultTimeframeOverride;
+    private final long matrixCacheMaxMegabytes;
     private final TimeframeBucketing timeframeBucketing;
     private final ManagedExecutor managedExecutor;
     private final ObjectMapper mapper;
@@ -48,6 +49,8 @@ public class MapServiceProducer {
             @ConfigProperty(name = "ai.timefold.platform.map-service.use-traffic", defaultValue = "false") Boolean useTraffic,
             @ConfigProperty(
                     name = "ai.timefold.platform.map-service.default-timeframe") Optional<String> defaultTimeframeOverride,
+            @ConfigProperty(name = "ai.timefold.platform.map-service.matrix-cache-max-megabytes",
+                    defaultValue = MapServiceClientImpl.DEFAULT_MATRIX_CACHE_MAX_MEGABYTES) long matrixCacheMaxMegabytes,
             TimeframeBucketing timeframeBucketing,
             ManagedExecutor managedExecutor,
             ObjectMapper mapper) {
@@ -59,6 +62,7 @@ public class MapServiceProducer {
         this.fallbackEnabled = fallbackEnabled;
         this.useTraffic = useTraffic;
         this.defaultTimeframeOverride = defaultTimeframeOverride;
+        this.matrixCacheMaxMegabytes = matrixCacheMaxMegabytes;
         this.timeframeBucketing = timeframeBucketing;
         this.managedExecutor = managedExecutor;
         this.mapper = mapper;
@@ -68,7 +72,8 @@ public class MapServiceProducer {
     public MapService mapServiceProducer() {
         if (useRemote) {
             return new MapServiceClientImpl(mapService, converters, fallbackEnabled, useTraffic, defaultTimeframeOverride,
-                    travelTimeAndDistanceProvider, waypointsProvider, timeframeBucketing, managedExecutor, mapper);
+                    matrixCacheMaxMegabytes, travelTimeAndDistanceProvider, waypointsProvider, timeframeBucketing,
+                    managedExecutor, mapper);
         }
         return new MapServiceLocalHaversineImpl(travelTimeAndDistanceProvider, waypointsProvider);
     }
@@ -0,0 +1,157 @@
+package ai.timefold.solver.service.maps.service.client.impl;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+import ai.timefold.solver.service.maps.api.DistanceMatrix;
+import ai.timefold.solver.service.maps.impl.LongArrayDistanceMatrix;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * A least-recently-used cache of travel time and distance matrices, bounded by the size of the cached matrices.
+ * When adding an item exceeds the bound, the least recently used items are evicted until the cache fits again.
+ * The most recently added item is never evicted, even if it alone exceeds the bound,
+ * so that a single large matrix is still reused by the next request for the same locations.
+ * <p>
+ * Hits, misses and evictions are counted in the given {@link MeterRegistry},
+ * as {@code timefold.maps.matrix.cache.*} counters tagged with the name of the cache.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <T> the type of the cached items
+ */
+public final class MatrixCache<T> {
+
+    static final String METRIC_PREFIX = "timefold.maps.matrix.cache.";
+
+    private final long maximumSizeInBytes;
+    private final ToLongFunction<T> sizeInBytesFunction;
+    /**
+     * In insertion order; {@link #get(String)} re-inserts the item it returns,
+     * so the first entry is always the least recently used.
+     */
+    private final Map<String, SizedItem<T>> itemMap = new LinkedHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+    private long sizeInBytes = 0L;
+
+    /**
+     * @param name identifies the cache in the metrics
+     * @param maximumSizeInBytes the total size of the cached items, as estimated by sizeInBytesFunction
+     * @param sizeInBytesFunction estimates the memory retained by an item, see {@link #estimateSizeInBytes(DistanceMatrix...)}
+     * @param meterRegistry receives the cache metrics
+     */
+    public MatrixCache(String name, long maximumSizeInBytes, ToLongFunction<T> sizeInBytesFunction,
+            MeterRegistry meterRegistry) {
+        if (maximumSizeInBytes < 0L) {
+            throw new IllegalArgumentException("The maximumSizeInBytes (" + maximumSizeInBytes + ") cannot be negative.");
+        }
+        this.maximumSizeInBytes = maximumSizeInBytes;
+        this.sizeInBytesFunction = sizeInBytesFunction;
+        this.hitCounter = meterRegistry.counter(METRIC_PREFIX + "hits", "cache", name);
+        this.missCounter = meterRegistry.counter(METRIC_PREFIX + "misses", "cache", name);
+        this.evictionCounter = meterRegistry.counter(METRIC_PREFIX + "evictions", "cache", name);
+    }
+
+    /**
+     * Returns the item cached under the given id and marks it as the most recently used.
+     *
+     * @param id the cache key
+     * @return null if there is no item for that id
+     */
+    public synchronized T get(String id) {
+        SizedItem<T> sizedItem = itemMap.remove(id);
+        if (sizedItem == null) {
+            missCounter.increment();
+            return null;
+        }
+        itemMap.put(id, sizedItem);
+        hitCounter.increment();
+        return sizedItem.item();
+    }
+
+    /**
+     * As defined by {@link #get(String)}, but neither counted in the metrics nor affecting the eviction order.
+     */
+    public synchronized T peek(String id) {
+        SizedItem<T> sizedItem = itemMap.get(id);
+        return sizedItem == null ? null : sizedItem.item();
+    }
+
+    /**
+     * Caches the item under the given id, replacing any previous item for that id,
+     * and evicts the least recently used items which no longer fit.
+     */
+    public synchronized void put(String id, T item) {
+        SizedItem<T> sizedItem = new SizedItem<>(item, sizeInBytesFunction.applyAsLong(item));
+        SizedItem<T> oldSizedItem = itemMap.remove(id);
+        itemMap.put(id, sizedItem);
+        if (oldSizedItem != null) {
+            sizeInBytes -= oldSizedItem.sizeInBytes();
+        }
+        sizeInBytes += sizedItem.sizeInBytes();
+        Iterator<Map.Entry<String, SizedItem<T>>> iterator = itemMap.entrySet().iterator();
+        // The last entry is the item which was just added.
+        while (sizeInBytes > maximumSizeInBytes && itemMap.size() > 1) {
+            SizedItem<T> evictedItem = iterator.next().getValue();
+            iterator.remove();
+            sizeInBytes -= evictedItem.sizeInBytes();
+            evictionCounter.increment();
+        }
+    }
+
+    public synchronized void remove(String id) {
+        SizedItem<T> sizedItem = itemMap.remove(id);
+        if (sizedItem != null) {
+            sizeInBytes -= sizedItem.sizeInBytes();
+        }
+    }
+
+    public synchronized int size() {
+        return itemMap.size();
+    }
+
+    public synchronized long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    /**
+     * Estimates the memory retained by the given matrices.
+     * A matrix which is given more than once, such as a timeframe-independent matrix reused for every timeframe,
+     * only counts once.
+     *
+     * @param matrices may contain nulls
+     * @return the estimated size in bytes
+     */
+    public static long estimateSizeInBytes(DistanceMatrix... matrices) {
+        Set<DistanceMatrix> countedMatrixSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        long sizeInBytes = 0L;
+        for (DistanceMatrix matrix : matrices) {
+            if (matrix != null && countedMatrixSet.add(matrix)) {
+                sizeInBytes += estimateSizeInBytes(matrix);
+            }
+        }
+        return sizeInBytes;
+    }
+
+    private static long estimateSizeInBytes(DistanceMatrix matrix) {
+        if (matrix instanceof LongArrayDistanceMatrix longArrayDistanceMatrix) {
+            long[] distanceBuckets = longArrayDistanceMatrix.getDistanceBuckets();
+            return distanceBuckets == null ? 0L : (long) distanceBuckets.length * Long.BYTES;
+        }
+        return (long) matrix.getNumberOfOriginLocations() * matrix.getNumberOfDestinationLocations() * Long.BYTES;
+    }
+
+    private record SizedItem<T>(T item, long sizeInBytes) {
+
+    }
+
+}
@@ -0,0 +1,121 @@
+package ai.timefold.solver.service.maps.service.client.impl;
+
+import static ai.timefold.solver.service.definition.internal.Headers.X_MAPS_PROVIDER_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.ws.rs.core.Response;
+
+import ai.timefold.solver.service.maps.api.DistanceMatrix;
+import ai.timefold.solver.service.maps.api.model.Location;
+import ai.timefold.solver.service.maps.haversine.impl.HaversineTravelTimeAndDistanceMatrixProvider;
+import ai.timefold.solver.service.maps.haversine.impl.HaversineWaypointsProvider;
+import ai.timefold.solver.service.maps.service.client.impl.bucketing.StaticDaypartBucketing;
+import ai.timefold.solver.service.maps.service.integration.internal.MapServiceOptions;
+import ai.timefold.solver.service.maps.service.integration.internal.model.TravelTimeAndDistance;
+import ai.timefold.solver.service.maps.service.integration.internal.model.TravelTimeAndDistanceConverter;
+import ai.timefold.solver.service.maps.service.integration.internal.model.TravelTimeAndDistanceWithMetadata;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class MapServiceClientImplTest {
+
+    private static final String PROVIDER = "test";
+
+    private final List<String> requestedOptions = new ArrayList<>();
+
+    @Test
+    void alternatingDatasetsAreServedFromCache() {
+        var client = buildClient(1024L);
+        var firstLocations = List.of(Location.of(50.0, 4.0), Location.of(51.0, 5.0));
+        var secondLocations = List.of(Location.of(40.0, -3.0), Location.of(41.0, -2.0));
+
+        var firstMatrix = client.getTravelTimeAndDistance(firstLocations, null);
+        var secondMatrix = client.getTravelTimeAndDistance(secondLocations, null);
+        assertThat(requestedOptions).hasSize(2);
+
+        // A single-item cache would have gone back to the maps service for both.
+        assertThat(client.getTravelTimeAndDistance(firstLocations, null).travelTimeAndDistance())
+                .isSameAs(firstMatrix.travelTimeAndDistance());
+        assertThat(client.getTravelTimeAndDistance(secondLocations, null).travelTimeAndDistance())
+                .isSameAs(secondMatrix.travelTimeAndDistance());
+        assertThat(requestedOptions).hasSize(2);
+    }
+
+    @Test
+    void differentOptionsAreCachedSeparately() {
+        var client = buildClient(1024L);
+        var locations = List.of(Location.of(50.0, 4.0), Location.of(51.0, 5.0));
+
+        var morningOptions = MapServiceOptions.withOption(null, MapServiceOptions.TIMEFRAME, "morning");
+        var afternoonOptions = MapServiceOptions.withOption(null, MapServiceOptions.TIMEFRAME, "afternoon");
+
+        client.getTravelTimeAndDistance(locations, morningOptions);
+        client.getTravelTimeAndDistance(locations, afternoonOptions);
+        client.getTravelTimeAndDistance(locations, morningOptions);
+        client.getTravelTimeAndDistance(locations, afternoonOptions);
+        assertThat(requestedOptions).containsExactly(morningOptions, afternoonOptions);
+    }
+
+    private MapServiceClientImpl buildClient(long matrixCacheMaxMegabytes) {
+        var mapper = new ObjectMapper();
+        return new MapServiceClientImpl(buildMapServiceClient(), List.of(new TestConverter()), false, false,
+                Optional.empty(), matrixCacheMaxMegabytes, new HaversineTravelTimeAndDistanceMatrixProvider(mapper),
+                new HaversineWaypointsProvider(), new StaticDaypartBucketing(), null, mapper);
+    }
+
+    /**
+     * Answers every matrix request with an empty body, which {@link TestConverter} turns into a new matrix.
+     */
+    private MapServiceClient buildMapServiceClient() {
+        return (MapServiceClient) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { MapServiceClient.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("getTravelTimeAndDistance")) {
+                        requestedOptions.add((String) args[1]);
+                        return Response.ok(new ByteArrayInputStream(new byte[0]))
+                                .header(X_MAPS_PROVIDER_HEADER, PROVIDER)
+                                .build();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static final class TestConverter implements TravelTimeAndDistanceConverter {
+
+        @Override
+        public boolean canConvert(String provider) {
+            return PROVIDER.equals(provider);
+        }
+
+        @Override
+        public TravelTimeAndDistanceWithMetadata convert(List<Location> locations, InputStream data,
+                List<Integer> locationsNotInMap) {
+            var travelTimeAndDistance = new TravelTimeAndDistance(DistanceMatrix.getInstance(2),
+                    DistanceMatrix.getInstance(2));
+            return new TravelTimeAndDistanceWithMetadata(travelTimeAndDistance, locationsNotInMap, null);
+        }
+
+        @Override
+        public TravelTimeAndDistanceWithMetadata convert(List<Location> locations, InputStream data,
+                List<Integer> inputStreamBytes, List<Integer> locationsNotInMap) {
+            return convert(locations, data, locationsNotInMap);
+        }
+
+        @Override
+        public TravelTimeAndDistanceWithMetadata update(TravelTimeAndDistance travelTimeAndDistance,
+                List<Location> oldLocations, List<Location> newLocations, InputStream data, List<Integer> inputStreamBytes,
+                List<Integer> oldLocationsNotInMap, List<Integer> newLocationsNotInMap) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
@@ -0,0 +1,92 @@
+package ai.timefold.solver.service.maps.service.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import ai.timefold.solver.service.maps.api.DistanceMatrix;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MatrixCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MatrixCache<String> cache = new MatrixCache<>("test", 10L, item -> item.length(), meterRegistry);
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        assertThat(cache.get("a")).isEqualTo("aaaa");
+        // Exceeds the bound, so the least recently used "b" goes.
+        cache.put("c", "cccc");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo("aaaa");
+        assertThat(cache.get("c")).isEqualTo("cccc");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getSizeInBytes()).isEqualTo(8L);
+
+        assertThat(counter(meterRegistry, "hits")).isEqualTo(3.0);
+        assertThat(counter(meterRegistry, "misses")).isEqualTo(1.0);
+        assertThat(counter(meterRegistry, "evictions")).isEqualTo(1.0);
+    }
+
+    @Test
+    void keepsLatestItemEvenIfTooLarge() {
+        MatrixCache<String> cache = new MatrixCache<>("test", 10L, item -> item.length(), new SimpleMeterRegistry());
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbbbbbbbbbb");
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isEqualTo("bbbbbbbbbbbb");
+        assertThat(cache.getSizeInBytes()).isEqualTo(12L);
+    }
+
+    @Test
+    void replaceAndRemove() {
+        MatrixCache<String> cache = new MatrixCache<>("test", 10L, item -> item.length(), new SimpleMeterRegistry());
+        cache.put("a", "aaaa");
+        cache.put("a", "aa");
+        assertThat(cache.getSizeInBytes()).isEqualTo(2L);
+        assertThat(cache.peek("a")).isEqualTo("aa");
+        cache.remove("a");
+        cache.remove("a");
+        assertThat(cache.peek("a")).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getSizeInBytes()).isZero();
+    }
+
+    @Test
+    void peekDoesNotAffectEvictionOrder() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MatrixCache<String> cache = new MatrixCache<>("test", 8L, item -> item.length(), meterRegistry);
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        assertThat(cache.peek("a")).isEqualTo("aaaa");
+        cache.put("c", "cccc");
+        assertThat(cache.peek("a")).isNull();
+        assertThat(cache.peek("b")).isEqualTo("bbbb");
+        assertThat(counter(meterRegistry, "hits")).isZero();
+        assertThat(counter(meterRegistry, "misses")).isZero();
+    }
+
+    @Test
+    void negativeMaximumSize() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new MatrixCache<String>("test", -1L, item -> item.length(), new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void estimateSizeInBytesCountsSharedMatricesOnce() {
+        DistanceMatrix matrix = DistanceMatrix.getInstance(10);
+        long sizeInBytes = MatrixCache.estimateSizeInBytes(matrix);
+        assertThat(sizeInBytes).isPositive();
+        assertThat(MatrixCache.estimateSizeInBytes(matrix, matrix, null)).isEqualTo(sizeInBytes);
+        assertThat(MatrixCache.estimateSizeInBytes(matrix, DistanceMatrix.getInstance(10))).isEqualTo(2 * sizeInBytes);
+    }
+
+    private static double counter(MeterRegistry meterRegistry, String name) {
+        return meterRegistry.get(MatrixCache.METRIC_PREFIX + name).tag("cache", "test").counter().count();
+    }
+
+}
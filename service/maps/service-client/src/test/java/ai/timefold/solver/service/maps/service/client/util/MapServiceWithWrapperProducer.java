@@ -73,7 +73,8 @@ public class MapServiceWithWrapperProducer {
 
         if (useRemote) {
             mapService = new MapServiceClientImpl(this.mapService, converters, fallbackEnabled, false,
-                    Optional.empty(), travelTimeAndDistanceProvider, waypointsProvider, timeframeBucketing,
+                    Optional.empty(), Long.parseLong(MapServiceClientImpl.DEFAULT_MATRIX_CACHE_MAX_MEGABYTES),
+                    travelTimeAndDistanceProvider, waypointsProvider, timeframeBucketing,
                     managedExecutor, mapper);
         } else {
             mapService = new MapServiceLocalHaversineImpl(travelTimeAndDistanceProvider, waypointsProvider);
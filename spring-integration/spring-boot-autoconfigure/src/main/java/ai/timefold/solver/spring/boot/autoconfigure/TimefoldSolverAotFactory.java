@@ -33,6 +33,9 @@ public class TimefoldSolverAotFactory implements EnvironmentAware {
         if (solverManagerProperties != null && solverManagerProperties.getParallelSolverCount() != null) {
             solverManagerConfig.setParallelSolverCount(solverManagerProperties.getParallelSolverCount());
         }
+        if (solverManagerProperties != null && solverManagerProperties.getVirtualConsumerThreads() != null) {
+            solverManagerConfig.setVirtualConsumerThreads(solverManagerProperties.getVirtualConsumerThreads());
+        }
         return SolverManager.create(solverFactory, solverManagerConfig);
     }
 
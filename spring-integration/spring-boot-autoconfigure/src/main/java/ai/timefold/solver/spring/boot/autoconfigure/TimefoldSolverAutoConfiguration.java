@@ -294,6 +294,11 @@ public class TimefoldSolverAutoConfiguration
             Objects.requireNonNull(solverConfig.getScoreDirectorFactoryConfig())
                     .setConstraintStreamProfilingEnabled(solverProperties.getConstraintStreamProfilingEnabled());
         }
+        if (solverProperties.getConstraintStreamParallelInitializationEnabled() != null) {
+            Objects.requireNonNull(solverConfig.getScoreDirectorFactoryConfig())
+                    .setConstraintStreamParallelInitializationEnabled(
+                            solverProperties.getConstraintStreamParallelInitializationEnabled());
+        }
         if (solverProperties.getEnvironmentMode() != null) {
             solverConfig.setEnvironmentMode(solverProperties.getEnvironmentMode());
         }
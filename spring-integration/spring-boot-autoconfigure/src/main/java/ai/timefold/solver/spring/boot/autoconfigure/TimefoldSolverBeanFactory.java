@@ -104,6 +104,9 @@ public class TimefoldSolverBeanFactory implements ApplicationContextAware, Envir
         if (solverManagerProperties != null && solverManagerProperties.getParallelSolverCount() != null) {
             solverManagerConfig.setParallelSolverCount(solverManagerProperties.getParallelSolverCount());
         }
+        if (solverManagerProperties != null && solverManagerProperties.getVirtualConsumerThreads() != null) {
+            solverManagerConfig.setVirtualConsumerThreads(solverManagerProperties.getVirtualConsumerThreads());
+        }
         return SolverManager.create(solverFactory, solverManagerConfig);
     }
 
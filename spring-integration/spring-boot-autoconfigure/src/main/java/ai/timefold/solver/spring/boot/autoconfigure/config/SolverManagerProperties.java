@@ -9,6 +9,14 @@ public class SolverManagerProperties {
      */
     private String parallelSolverCount;
 
+    /**
+     * Whether the best solution, final best solution and first initialized solution consumers
+     * are called on virtual threads instead of platform threads.
+     * The solvers themselves always run on platform threads.
+     * Defaults to false.
+     */
+    private Boolean virtualConsumerThreads;
+
     // ************************************************************************
     // Getters/setters
     // ************************************************************************
@@ -21,4 +29,12 @@ public class SolverManagerProperties {
         this.parallelSolverCount = parallelSolverCount;
     }
 
+    public Boolean getVirtualConsumerThreads() {
+        return virtualConsumerThreads;
+    }
+
+    public void setVirtualConsumerThreads(Boolean virtualConsumerThreads) {
+        this.virtualConsumerThreads = virtualConsumerThreads;
+    }
+
 }
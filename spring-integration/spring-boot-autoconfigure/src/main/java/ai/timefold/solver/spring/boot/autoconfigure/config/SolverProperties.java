@@ -49,6 +49,12 @@ public class SolverProperties {
 
     private Boolean constraintStreamProfilingEnabled;
 
+    /**
+     * Run the independent parts of the constraint streams in parallel
+     * when calculating the first score of a working solution.
+     */
+    private Boolean constraintStreamParallelInitializationEnabled;
+
     /**
      * Note: this setting is only available in Timefold Solver
      * <a href="https://timefold.ai/docs/timefold-solver/latest/commercial-editions/commercial-editions">Enterprise Edition</a>.
@@ -129,6 +135,14 @@ public class SolverProperties {
         this.constraintStreamProfilingEnabled = constraintStreamProfilingEnabled;
     }
 
+    public Boolean getConstraintStreamParallelInitializationEnabled() {
+        return constraintStreamParallelInitializationEnabled;
+    }
+
+    public void setConstraintStreamParallelInitializationEnabled(Boolean constraintStreamParallelInitializationEnabled) {
+        this.constraintStreamParallelInitializationEnabled = constraintStreamParallelInitializationEnabled;
+    }
+
     public Boolean getConstraintStreamAutomaticNodeSharing() {
         return constraintStreamAutomaticNodeSharing;
     }
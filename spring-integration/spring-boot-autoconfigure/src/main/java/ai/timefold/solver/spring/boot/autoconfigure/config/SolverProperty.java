@@ -43,6 +43,9 @@ public enum SolverProperty {
     CONSTRAINT_STREAM_PROFILING_ENABLED("constraint-stream-profiling-enabled",
             SolverProperties::setConstraintStreamProfilingEnabled,
             value -> Boolean.valueOf(value.toString())),
+    CONSTRAINT_STREAM_PARALLEL_INITIALIZATION_ENABLED("constraint-stream-parallel-initialization-enabled",
+            SolverProperties::setConstraintStreamParallelInitializationEnabled,
+            value -> Boolean.valueOf(value.toString())),
     CONSTRAINT_STREAM_AUTOMATIC_NODE_SHARING("constraint-stream-automatic-node-sharing",
             SolverProperties::setConstraintStreamAutomaticNodeSharing,
             value -> Boolean.valueOf(value.toString())),
@@ -131,6 +131,31 @@ class TimefoldSolverSingleSolverAutoConfigurationTest {
                 });
     }
 
+    @Test
+    void solveWithParallelInitialization() {
+        contextRunner
+                .withClassLoader(allDefaultsFilteredClassLoader)
+                .withPropertyValues("timefold.solver.constraint-stream-parallel-initialization-enabled=true",
+                        "timefold.solver.termination.best-score-limit=0")
+                .run(context -> {
+                    var solverConfig = context.getBean(SolverConfig.class);
+                    assertThat(Objects.requireNonNull(solverConfig.getScoreDirectorFactoryConfig())
+                            .getConstraintStreamParallelInitializationEnabled())
+                            .isTrue();
+                    var solverFactory = context.getBean(SolverFactory.class);
+                    var problem = new TestdataSpringSolution();
+                    problem.setValueList(IntStream.range(1, 3)
+                            .mapToObj(i -> "v" + i)
+                            .toList());
+                    problem.setEntityList(IntStream.range(1, 3)
+                            .mapToObj(i -> new TestdataSpringEntity())
+                            .toList());
+                    var solution = (TestdataSpringSolution) solverFactory.buildSolver().solve(problem);
+                    assertThat(solution).isNotNull();
+                    assertThat(solution.getScore().score()).isNotNegative();
+                });
+    }
+
     @Test
     void solveWithParallelSolverCount() {
         contextRunner
@@ -142,6 +167,19 @@ class TimefoldSolverSingleSolverAutoConfigurationTest {
                 });
     }
 
+    @Test
+    void solveWithVirtualConsumerThreads() {
+        contextRunner
+                .withClassLoader(allDefaultsFilteredClassLoader)
+                .withPropertyValues("timefold.solver-manager.virtual-consumer-threads=true")
+                .run(context -> {
+                    var solverManager = context.getBean(SolverManager.class);
+                    assertThat(solverManager).isNotNull();
+                    var timefoldProperties = context.getBean(TimefoldProperties.class);
+                    assertThat(timefoldProperties.getSolverManager().getVirtualConsumerThreads()).isTrue();
+                });
+    }
+
     @Test
     void solveWithTimeOverride() {
         contextRunner
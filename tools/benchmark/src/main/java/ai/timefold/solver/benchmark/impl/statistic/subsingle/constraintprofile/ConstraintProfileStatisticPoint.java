@@ -0,0 +1,43 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintprofile;
+
+import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
+import ai.timefold.solver.core.api.score.stream.ConstraintRef;
+
+public class ConstraintProfileStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    private final ConstraintRef constraintRef;
+    private final double calculationTimeMillis;
+    private final long tupleCount;
+
+    public ConstraintProfileStatisticPoint(long timeMillisSpent, ConstraintRef constraintRef, double calculationTimeMillis,
+            long tupleCount) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.constraintRef = constraintRef;
+        this.calculationTimeMillis = calculationTimeMillis;
+        this.tupleCount = tupleCount;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public ConstraintRef getConstraintRef() {
+        return constraintRef;
+    }
+
+    public double getCalculationTimeMillis() {
+        return calculationTimeMillis;
+    }
+
+    public long getTupleCount() {
+        return tupleCount;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithStrings(timeMillisSpent, constraintRef.id(), Double.toString(calculationTimeMillis),
+                Long.toString(tupleCount));
+    }
+
+}
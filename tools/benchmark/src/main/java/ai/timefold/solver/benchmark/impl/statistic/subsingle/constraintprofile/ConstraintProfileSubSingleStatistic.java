@@ -0,0 +1,99 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintprofile;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.benchmark.config.statistic.SingleStatisticType;
+import ai.timefold.solver.benchmark.impl.report.BenchmarkReport;
+import ai.timefold.solver.benchmark.impl.report.LineChart;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.PureSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
+import ai.timefold.solver.core.api.score.stream.ConstraintRef;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+import ai.timefold.solver.core.impl.solver.monitoring.statistic.ConstraintProfileStatistic;
+
+import io.micrometer.core.instrument.Tags;
+
+public class ConstraintProfileSubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, ConstraintProfileStatisticPoint, LineChart<Long, Double>> {
+
+    private ConstraintProfileSubSingleStatistic() {
+        // For JAXB.
+    }
+
+    public ConstraintProfileSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.CONSTRAINT_PROFILE);
+    }
+
+    @Override
+    public void open(StatisticRegistry<Solution_> registry, Tags runTag) {
+        var timeGaugeName = SolverMetric.CONSTRAINT_PROFILE.getMeterId() + "." + ConstraintProfileStatistic.TIME_SUFFIX;
+        var tupleCountGaugeName =
+                SolverMetric.CONSTRAINT_PROFILE.getMeterId() + "." + ConstraintProfileStatistic.TUPLE_COUNT_SUFFIX;
+        registry.addListener(SolverMetric.CONSTRAINT_PROFILE,
+                timeMillisSpent -> registry.getMeterIds(SolverMetric.CONSTRAINT_PROFILE, runTag)
+                        .stream()
+                        // Node meters are tagged differently; only constraint meters are of interest here.
+                        .map(meterId -> meterId.getTag(ConstraintProfileStatistic.CONSTRAINT_ID_TAG))
+                        .filter(constraintId -> constraintId != null)
+                        .distinct()
+                        .forEach(constraintId -> {
+                            var constraintRunTag = runTag.and(ConstraintProfileStatistic.CONSTRAINT_ID_TAG, constraintId);
+                            var timeGauge = registry.find(timeGaugeName).tags(constraintRunTag).timeGauge();
+                            var tupleCountGauge = registry.find(tupleCountGaugeName).tags(constraintRunTag).gauge();
+                            if (timeGauge == null || tupleCountGauge == null) {
+                                return;
+                            }
+                            var calculationTimeMillis = timeGauge.value(TimeUnit.MILLISECONDS);
+                            var tupleCount = tupleCountGauge.value();
+                            if (Double.isFinite(calculationTimeMillis) && Double.isFinite(tupleCount)) {
+                                pointList.add(new ConstraintProfileStatisticPoint(timeMillisSpent,
+                                        ConstraintRef.of(constraintId), calculationTimeMillis, (long) tupleCount));
+                            }
+                        }));
+    }
+
+    @Override
+    protected String getCsvHeader() {
+        return ConstraintProfileStatisticPoint.buildCsvLine("timeMillisSpent", "constraintId", "calculationTimeMillis",
+                "tupleCount");
+    }
+
+    @Override
+    protected ConstraintProfileStatisticPoint createPointFromCsvLine(ScoreDefinition<?> scoreDefinition,
+            List<String> csvLine) {
+        return new ConstraintProfileStatisticPoint(Long.parseLong(csvLine.get(0)), ConstraintRef.of(csvLine.get(1)),
+                Double.parseDouble(csvLine.get(2)), Long.parseLong(csvLine.get(3)));
+    }
+
+    @Override
+    protected List<LineChart<Long, Double>> generateCharts(BenchmarkReport benchmarkReport) {
+        var calculationTimeBuilder = new LineChart.Builder<Long, Double>();
+        var tupleCountBuilder = new LineChart.Builder<Long, Double>();
+        for (var point : getPointList()) {
+            var timeMillisSpent = point.getTimeMillisSpent();
+            var seriesLabel = point.getConstraintRef().id();
+            calculationTimeBuilder.add(seriesLabel, timeMillisSpent, point.getCalculationTimeMillis());
+            // Only add changes
+            double tupleCount = point.getTupleCount();
+            if (tupleCountBuilder.count(seriesLabel) == 0 || tupleCountBuilder.getLastValue(seriesLabel) != tupleCount) {
+                tupleCountBuilder.add(seriesLabel, timeMillisSpent, tupleCount);
+            }
+        }
+        var timeMillisSpent = subSingleBenchmarkResult.getTimeMillisSpent();
+        for (var key : tupleCountBuilder.keys()) {
+            // Draw a horizontal line from the last change to how long the solver actually ran
+            tupleCountBuilder.add(key, timeMillisSpent, tupleCountBuilder.getLastValue(key));
+        }
+        return List.of(
+                calculationTimeBuilder.build("constraintProfileSubSingleStatisticChart0",
+                        subSingleBenchmarkResult.getName() + " constraint calculation time statistic",
+                        "Time spent", "Constraint calculation time", false, true, true),
+                tupleCountBuilder.build("constraintProfileSubSingleStatisticChart1",
+                        subSingleBenchmarkResult.getName() + " constraint tuple count statistic",
+                        "Time spent", "Tuple count", true, true, false));
+    }
+
+}
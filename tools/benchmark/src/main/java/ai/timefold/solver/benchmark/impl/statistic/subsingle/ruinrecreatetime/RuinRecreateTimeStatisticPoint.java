@@ -0,0 +1,41 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.ruinrecreatetime;
+
+import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
+
+public class RuinRecreateTimeStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    private final long recreateCount;
+    private final double averageRecreateTimeMillis;
+
+    public RuinRecreateTimeStatisticPoint(long timeMillisSpent, long recreateCount, double averageRecreateTimeMillis) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.recreateCount = recreateCount;
+        this.averageRecreateTimeMillis = averageRecreateTimeMillis;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    /**
+     * @return the number of recreates since the previous point
+     */
+    public long getRecreateCount() {
+        return recreateCount;
+    }
+
+    /**
+     * @return the average time of the recreates since the previous point
+     */
+    public double getAverageRecreateTimeMillis() {
+        return averageRecreateTimeMillis;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithStrings(timeMillisSpent, Long.toString(recreateCount),
+                Double.toString(averageRecreateTimeMillis));
+    }
+
+}
@@ -0,0 +1,93 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.ruinrecreatetime;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import ai.timefold.solver.benchmark.config.statistic.SingleStatisticType;
+import ai.timefold.solver.benchmark.impl.report.BenchmarkReport;
+import ai.timefold.solver.benchmark.impl.report.LineChart;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.PureSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Samples the recreate time of ruin and recreate moves once per second,
+ * so that each point holds the average over the recreates since the previous point.
+ */
+public class RuinRecreateTimeSubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, RuinRecreateTimeStatisticPoint, LineChart<Long, Double>> {
+
+    static final long TIME_MILLIS_THRESHOLD_INTERVAL = 1000L;
+
+    private RuinRecreateTimeSubSingleStatistic() {
+        // For JAXB.
+    }
+
+    public RuinRecreateTimeSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.RUIN_RECREATE_TIME);
+    }
+
+    @Override
+    public void open(StatisticRegistry<Solution_> registry, Tags runTag) {
+        registry.addListener(SolverMetric.RUIN_RECREATE_TIME, new Consumer<Long>() {
+            long nextTimeMillisThreshold = TIME_MILLIS_THRESHOLD_INTERVAL;
+            double lastRecreateCount = 0.0;
+            double lastRecreateTimeMillis = 0.0;
+
+            @Override
+            public void accept(Long timeMillisSpent) {
+                if (timeMillisSpent < nextTimeMillisThreshold) {
+                    return;
+                }
+                var functionTimer = registry.find(SolverMetric.RUIN_RECREATE_TIME.getMeterId())
+                        .tags(runTag)
+                        .functionTimer();
+                if (functionTimer != null) {
+                    var recreateCount = functionTimer.count();
+                    var recreateTimeMillis = functionTimer.totalTime(TimeUnit.MILLISECONDS);
+                    var recreateCountInterval = recreateCount - lastRecreateCount;
+                    // Intervals without any ruin and recreate move have no average to report.
+                    if (recreateCountInterval > 0.0) {
+                        pointList.add(new RuinRecreateTimeStatisticPoint(timeMillisSpent, (long) recreateCountInterval,
+                                (recreateTimeMillis - lastRecreateTimeMillis) / recreateCountInterval));
+                    }
+                    lastRecreateCount = recreateCount;
+                    lastRecreateTimeMillis = recreateTimeMillis;
+                }
+                nextTimeMillisThreshold += TIME_MILLIS_THRESHOLD_INTERVAL;
+                if (nextTimeMillisThreshold < timeMillisSpent) {
+                    nextTimeMillisThreshold = timeMillisSpent;
+                }
+            }
+        });
+    }
+
+    @Override
+    protected String getCsvHeader() {
+        return RuinRecreateTimeStatisticPoint.buildCsvLine("timeMillisSpent", "recreateCount", "averageRecreateTimeMillis");
+    }
+
+    @Override
+    protected RuinRecreateTimeStatisticPoint createPointFromCsvLine(ScoreDefinition<?> scoreDefinition,
+            List<String> csvLine) {
+        return new RuinRecreateTimeStatisticPoint(Long.parseLong(csvLine.get(0)), Long.parseLong(csvLine.get(1)),
+                Double.parseDouble(csvLine.get(2)));
+    }
+
+    @Override
+    protected List<LineChart<Long, Double>> generateCharts(BenchmarkReport benchmarkReport) {
+        var builder = new LineChart.Builder<Long, Double>();
+        for (var point : getPointList()) {
+            builder.add("Average recreate time", point.getTimeMillisSpent(), point.getAverageRecreateTimeMillis());
+        }
+        return List.of(builder.build("ruinRecreateTimeSubSingleStatisticChart",
+                subSingleBenchmarkResult.getName() + " ruin and recreate time statistic",
+                "Time spent", "Recreate time per move (ms)", false, true, true));
+    }
+
+}
@@ -0,0 +1,43 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintprofile;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.AbstractSubSingleStatisticTest;
+import ai.timefold.solver.core.api.score.stream.ConstraintRef;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+
+import org.assertj.core.api.SoftAssertions;
+
+public final class ConstraintProfileSubSingleStatisticTest
+        extends
+        AbstractSubSingleStatisticTest<ConstraintProfileStatisticPoint, ConstraintProfileSubSingleStatistic<TestdataSolution>> {
+
+    @Override
+    protected Function<SubSingleBenchmarkResult, ConstraintProfileSubSingleStatistic<TestdataSolution>>
+            getSubSingleStatisticConstructor() {
+        return ConstraintProfileSubSingleStatistic::new;
+    }
+
+    @Override
+    protected List<ConstraintProfileStatisticPoint> getInputPoints() {
+        return Collections
+                .singletonList(new ConstraintProfileStatisticPoint(Long.MAX_VALUE, ConstraintRef.of("CP"), 12.5,
+                        Long.MAX_VALUE));
+    }
+
+    @Override
+    protected void runTest(SoftAssertions assertions, List<ConstraintProfileStatisticPoint> outputPoints) {
+        assertions.assertThat(outputPoints)
+                .hasSize(1)
+                .first()
+                .matches(s -> Objects.equals(s.getConstraintRef().id(), "CP"), "Constraint IDs do not match.")
+                .matches(s -> s.getCalculationTimeMillis() == 12.5, "Calculation times do not match.")
+                .matches(s -> s.getTupleCount() == Long.MAX_VALUE, "Tuple counts do not match.")
+                .matches(s -> s.getTimeMillisSpent() == Long.MAX_VALUE, "Millis do not match.");
+    }
+
+}
@@ -0,0 +1,38 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.ruinrecreatetime;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.AbstractSubSingleStatisticTest;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+
+import org.assertj.core.api.SoftAssertions;
+
+public final class RuinRecreateTimeSubSingleStatisticTest
+        extends
+        AbstractSubSingleStatisticTest<RuinRecreateTimeStatisticPoint, RuinRecreateTimeSubSingleStatistic<TestdataSolution>> {
+
+    @Override
+    protected Function<SubSingleBenchmarkResult, RuinRecreateTimeSubSingleStatistic<TestdataSolution>>
+            getSubSingleStatisticConstructor() {
+        return RuinRecreateTimeSubSingleStatistic::new;
+    }
+
+    @Override
+    protected List<RuinRecreateTimeStatisticPoint> getInputPoints() {
+        return Collections.singletonList(new RuinRecreateTimeStatisticPoint(Long.MAX_VALUE, Long.MAX_VALUE, 0.25));
+    }
+
+    @Override
+    protected void runTest(SoftAssertions assertions, List<RuinRecreateTimeStatisticPoint> outputPoints) {
+        assertions.assertThat(outputPoints)
+                .hasSize(1)
+                .first()
+                .matches(s -> s.getRecreateCount() == Long.MAX_VALUE, "Recreate counts do not match.")
+                .matches(s -> s.getAverageRecreateTimeMillis() == 0.25, "Recreate times do not match.")
+                .matches(s -> s.getTimeMillisSpent() == Long.MAX_VALUE, "Millis do not match.");
+    }
+
+}
@@ -0,0 +1,97 @@
+package ai.timefold.solver.jmh.bavet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.common.tuple.gizmo.AbstractGizmoConditionalTupleLifecycle;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.declarative.ConsistencyTracker;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSession;
+
+/**
+ * Creates {@link BavetConstraintSession}s for a given solution,
+ * bypassing the score director so that the benchmarks only measure the node network.
+ * Constraint matching is disabled, as it is during solving.
+ *
+ * @param <Solution_> the solution type, the class with the {@code @PlanningSolution} annotation
+ * @param <Score_> the score type
+ */
+public final class BavetSessionFixture<Solution_, Score_ extends Score<Score_>> {
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final BavetConstraintStreamScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory;
+    private final Solution_ solution;
+    private final Object[] factArray;
+
+    public BavetSessionFixture(SolutionDescriptor<Solution_> solutionDescriptor, ConstraintProvider constraintProvider,
+            Solution_ solution) {
+        this(solutionDescriptor, constraintProvider, solution, List.of());
+    }
+
+    /**
+     * @param conditionalTupleLifecyclePrototypeList never null, the filters use generated classes as long as these last,
+     *        as they do in the Quarkus extension
+     */
+    public BavetSessionFixture(SolutionDescriptor<Solution_> solutionDescriptor, ConstraintProvider constraintProvider,
+            Solution_ solution, List<AbstractGizmoConditionalTupleLifecycle<?>> conditionalTupleLifecyclePrototypeList) {
+        this.solutionDescriptor = Objects.requireNonNull(solutionDescriptor);
+        this.scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
+                constraintProvider, EnvironmentMode.NO_ASSERT, false, conditionalTupleLifecyclePrototypeList);
+        this.solution = Objects.requireNonNull(solution);
+        var factList = new ArrayList<>();
+        solutionDescriptor.visitAll(solution, factList::add);
+        this.factArray = factList.toArray();
+    }
+
+    /**
+     * @return never null, a session without any facts inserted
+     */
+    public BavetConstraintSession<Score_> newEmptySession() {
+        return newEmptySession(false);
+    }
+
+    /**
+     * @param samplingProfilingEnabled true to profile the session, as the {@code CONSTRAINT_PROFILE} solver metric does
+     * @return never null, a session without any facts inserted
+     */
+    public BavetConstraintSession<Score_> newEmptySession(boolean samplingProfilingEnabled) {
+        var consistencyTracker = ConsistencyTracker.frozen(solutionDescriptor, factArray);
+        return scoreDirectorFactory.newSession(solution, consistencyTracker, ConstraintMatchPolicy.DISABLED, true,
+                samplingProfilingEnabled);
+    }
+
+    /**
+     * @return never null, a session with all facts inserted and the score calculated
+     */
+    public BavetConstraintSession<Score_> newSettledSession() {
+        return newSettledSession(false);
+    }
+
+    /**
+     * @param samplingProfilingEnabled true to profile the session, as the {@code CONSTRAINT_PROFILE} solver metric does
+     * @return never null, a session with all facts inserted and the score calculated
+     */
+    public BavetConstraintSession<Score_> newSettledSession(boolean samplingProfilingEnabled) {
+        var session = newEmptySession(samplingProfilingEnabled);
+        insertAll(session);
+        session.calculateScore();
+        return session;
+    }
+
+    public void insertAll(BavetConstraintSession<Score_> session) {
+        for (var fact : factArray) {
+            session.insert(fact);
+        }
+    }
+
+    public Solution_ getSolution() {
+        return solution;
+    }
+
+}
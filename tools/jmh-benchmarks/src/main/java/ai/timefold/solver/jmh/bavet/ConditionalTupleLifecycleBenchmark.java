@@ -0,0 +1,148 @@
+package ai.timefold.solver.jmh.bavet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.HardSoftScore;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.common.tuple.gizmo.AbstractGizmoConditionalTupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.gizmo.GizmoConditionalTupleLifecycleImplementor;
+import ai.timefold.solver.core.impl.domain.common.accessor.gizmo.GizmoClassLoader;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSession;
+import ai.timefold.solver.jmh.bavet.parallel.TimetableAndRoutePlan;
+import ai.timefold.solver.jmh.bavet.parallel.TimetableAndRoutePlanConstraintProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares filtering with the shared {@code ConditionalTupleLifecycle}
+ * with filtering with a generated class per filter stream, as the Quarkus extension does,
+ * on the constraints of both the timetabling and the vehicle routing model,
+ * so that the shared call sites see the predicates of several constraints.
+ * The classes are generated the same way as the Quarkus extension generates them, but at runtime.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConditionalTupleLifecycleBenchmark {
+
+    @State(Scope.Thread)
+    public static class SessionState {
+
+        @Param({ "10000", "100000" })
+        public int entityCount;
+        @Param({ "false", "true" })
+        public boolean generatedLifecycles;
+
+        private Random random;
+        private TimetableAndRoutePlan solution;
+        private BavetSessionFixture<TimetableAndRoutePlan, HardSoftScore> fixture;
+        private BavetConstraintSession<HardSoftScore> session;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            random = new Random(37);
+            solution = TimetableAndRoutePlan.generate(entityCount, random);
+            fixture = new BavetSessionFixture<>(TimetableAndRoutePlan.buildSolutionDescriptor(),
+                    new TimetableAndRoutePlanConstraintProvider(), solution,
+                    generatedLifecycles ? generatePrototypes() : List.of());
+            session = fixture.newSettledSession();
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class EmptySessionState {
+
+        @Param({ "10000", "100000" })
+        public int entityCount;
+        @Param({ "false", "true" })
+        public boolean generatedLifecycles;
+
+        private BavetSessionFixture<TimetableAndRoutePlan, HardSoftScore> fixture;
+        private BavetConstraintSession<HardSoftScore> session;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            fixture = new BavetSessionFixture<>(TimetableAndRoutePlan.buildSolutionDescriptor(),
+                    new TimetableAndRoutePlanConstraintProvider(),
+                    TimetableAndRoutePlan.generate(entityCount, new Random(37)),
+                    generatedLifecycles ? generatePrototypes() : List.of());
+        }
+
+        @Setup(Level.Invocation)
+        public void setupInvocation() {
+            session = fixture.newEmptySession();
+        }
+
+    }
+
+    /**
+     * Generates one class per filter stream, as {@code GizmoMemberAccessorEntityEnhancer} does at build time.
+     */
+    private static List<AbstractGizmoConditionalTupleLifecycle<?>> generatePrototypes() {
+        var filterStreamCounts = new BavetConstraintStreamScoreDirectorFactory<>(
+                TimetableAndRoutePlan.buildSolutionDescriptor(), new TimetableAndRoutePlanConstraintProvider(),
+                EnvironmentMode.NO_ASSERT).countFilterStreamsByArity();
+        var gizmoClassLoader = new GizmoClassLoader();
+        var prototypeList = new ArrayList<AbstractGizmoConditionalTupleLifecycle<?>>();
+        for (var arity = 1; arity <= filterStreamCounts.length; arity++) {
+            for (var index = 0; index < filterStreamCounts[arity - 1]; index++) {
+                var className = GizmoConditionalTupleLifecycleImplementor
+                        .getGeneratedClassName(TimetableAndRoutePlanConstraintProvider.class.getName(), arity, index);
+                prototypeList.add(GizmoConditionalTupleLifecycleImplementor.createPrototype(className, arity,
+                        gizmoClassLoader));
+            }
+        }
+        return prototypeList;
+    }
+
+    /**
+     * Every filter sees every tuple of its parent.
+     */
+    @Benchmark
+    public HardSoftScore insertAll(EmptySessionState state) {
+        state.fixture.insertAll(state.session);
+        return state.session.calculateScore();
+    }
+
+    /**
+     * Equivalent to evaluating a change move, alternately on either model.
+     */
+    @Benchmark
+    public HardSoftScore update(SessionState state) {
+        var solution = state.solution;
+        var random = state.random;
+        if (random.nextBoolean()) {
+            var lessonList = solution.getLessonList();
+            var lesson = lessonList.get(random.nextInt(lessonList.size()));
+            var timeslotList = solution.getTimeslotList();
+            lesson.setTimeslot(timeslotList.get(random.nextInt(timeslotList.size())));
+            state.session.update(lesson);
+        } else {
+            var visitList = solution.getVisitList();
+            var visit = visitList.get(random.nextInt(visitList.size()));
+            var vehicleList = solution.getVehicleList();
+            visit.setVehicle(vehicleList.get(random.nextInt(vehicleList.size())));
+            state.session.update(visit);
+        }
+        return state.session.calculateScore();
+    }
+
+}
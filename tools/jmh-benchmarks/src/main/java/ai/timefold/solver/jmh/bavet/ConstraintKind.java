@@ -0,0 +1,34 @@
+package ai.timefold.solver.jmh.bavet;
+
+/**
+ * Selects which constraints of a synthetic model are enabled,
+ * so that the cost of a particular kind of Bavet node can be measured in isolation.
+ */
+public enum ConstraintKind {
+
+    /**
+     * Joins on equal keys only, exercising {@code EqualIndexer}.
+     */
+    EQUAL_JOIN,
+    /**
+     * Joins that combine equal and comparison joiners, exercising {@code ComparisonIndexer}.
+     */
+    COMPARISON_JOIN,
+    /**
+     * {@code ifExists}/{@code ifNotExists} nodes.
+     */
+    IF_EXISTS,
+    /**
+     * {@code groupBy} nodes with one or two keys.
+     */
+    GROUP_BY,
+    /**
+     * All of the above, approximating a realistic constraint set.
+     */
+    ALL;
+
+    public boolean includes(ConstraintKind constraintKind) {
+        return this == ALL || this == constraintKind;
+    }
+
+}
@@ -0,0 +1,67 @@
+package ai.timefold.solver.jmh.bavet;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.HardSoftScore;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSession;
+import ai.timefold.solver.jmh.bavet.timetabling.Timetable;
+import ai.timefold.solver.jmh.bavet.timetabling.TimetablingConstraintProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of the sampling constraint profiler,
+ * which the {@code CONSTRAINT_PROFILE} solver metric enables,
+ * by evaluating change moves on the timetabling model with all constraints enabled,
+ * with and without profiling.
+ * Run with {@code -prof gc} to also see whether profiling allocates per tuple.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConstraintProfilerBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    public int lessonCount;
+    @Param({ "false", "true" })
+    public boolean profilingEnabled;
+
+    private Random random;
+    private Timetable timetable;
+    private BavetConstraintSession<HardSoftScore> session;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        random = new Random(37);
+        timetable = Timetable.generate(lessonCount, random);
+        BavetSessionFixture<Timetable, HardSoftScore> fixture = new BavetSessionFixture<>(Timetable.buildSolutionDescriptor(),
+                new TimetablingConstraintProvider(ConstraintKind.ALL), timetable);
+        session = fixture.newSettledSession(profilingEnabled);
+    }
+
+    @Benchmark
+    public HardSoftScore update() {
+        var lessonList = timetable.getLessonList();
+        var lesson = lessonList.get(random.nextInt(lessonList.size()));
+        var timeslotList = timetable.getTimeslotList();
+        lesson.setTimeslot(timeslotList.get(random.nextInt(timeslotList.size())));
+        session.update(lesson);
+        return session.calculateScore();
+    }
+
+}
@@ -0,0 +1,70 @@
+package ai.timefold.solver.jmh.bavet.parallel;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.HardSoftScore;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSession;
+import ai.timefold.solver.jmh.bavet.BavetSessionFixture;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares settling a freshly filled node network on the calling thread
+ * with settling its independent branches in parallel,
+ * as the score director does when {@code constraintStreamParallelInitializationEnabled} is set.
+ * The network of {@link TimetableAndRoutePlanConstraintProvider} splits into two branches of comparable size,
+ * so the parallel settle can be at most about twice as fast.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParallelSettleBenchmark {
+
+    @Param({ "10000", "100000" })
+    public int entityCount;
+
+    private BavetSessionFixture<TimetableAndRoutePlan, HardSoftScore> fixture;
+    private BavetConstraintSession<HardSoftScore> session;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        var solution = TimetableAndRoutePlan.generate(entityCount, new Random(37));
+        fixture = new BavetSessionFixture<>(TimetableAndRoutePlan.buildSolutionDescriptor(),
+                new TimetableAndRoutePlanConstraintProvider(), solution);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        session = fixture.newEmptySession();
+        fixture.insertAll(session);
+    }
+
+    @Benchmark
+    public HardSoftScore settle() {
+        session.settle();
+        return session.calculateScore();
+    }
+
+    @Benchmark
+    public HardSoftScore settleInParallel() {
+        session.settleInParallel(ForkJoinPool.commonPool());
+        return session.calculateScore();
+    }
+
+}
@@ -0,0 +1,101 @@
+package ai.timefold.solver.jmh.bavet.parallel;
+
+import java.util.List;
+import java.util.Random;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
+import ai.timefold.solver.core.api.domain.solution.PlanningScore;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty;
+import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
+import ai.timefold.solver.core.api.score.HardSoftScore;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.jmh.bavet.timetabling.Lesson;
+import ai.timefold.solver.jmh.bavet.timetabling.Room;
+import ai.timefold.solver.jmh.bavet.timetabling.Timeslot;
+import ai.timefold.solver.jmh.bavet.timetabling.Timetable;
+import ai.timefold.solver.jmh.bavet.vehiclerouting.Vehicle;
+import ai.timefold.solver.jmh.bavet.vehiclerouting.VehicleRoutePlan;
+import ai.timefold.solver.jmh.bavet.vehiclerouting.Visit;
+
+/**
+ * A school timetable and a vehicle route plan in a single solution.
+ * The two models share no classes, so their constraints form separate branches of the node network.
+ */
+@PlanningSolution
+public class TimetableAndRoutePlan {
+
+    public static SolutionDescriptor<TimetableAndRoutePlan> buildSolutionDescriptor() {
+        return SolutionDescriptor.buildSolutionDescriptor(TimetableAndRoutePlan.class, Lesson.class, Visit.class);
+    }
+
+    /**
+     * @param entityCount the number of lessons, and also the number of visits
+     * @param random never null
+     * @return never null
+     */
+    public static TimetableAndRoutePlan generate(int entityCount, Random random) {
+        var timetable = Timetable.generate(entityCount, random);
+        var routePlan = VehicleRoutePlan.generate(entityCount, random);
+        return new TimetableAndRoutePlan(timetable.getTimeslotList(), timetable.getRoomList(), timetable.getLessonList(),
+                routePlan.getVehicleList(), routePlan.getVisitList());
+    }
+
+    private List<Timeslot> timeslotList;
+    private List<Room> roomList;
+    private List<Lesson> lessonList;
+    private List<Vehicle> vehicleList;
+    private List<Visit> visitList;
+
+    private HardSoftScore score;
+
+    public TimetableAndRoutePlan() {
+    }
+
+    public TimetableAndRoutePlan(List<Timeslot> timeslotList, List<Room> roomList, List<Lesson> lessonList,
+            List<Vehicle> vehicleList, List<Visit> visitList) {
+        this.timeslotList = timeslotList;
+        this.roomList = roomList;
+        this.lessonList = lessonList;
+        this.vehicleList = vehicleList;
+        this.visitList = visitList;
+    }
+
+    @ValueRangeProvider
+    @ProblemFactCollectionProperty
+    public List<Timeslot> getTimeslotList() {
+        return timeslotList;
+    }
+
+    @ValueRangeProvider
+    @ProblemFactCollectionProperty
+    public List<Room> getRoomList() {
+        return roomList;
+    }
+
+    @PlanningEntityCollectionProperty
+    public List<Lesson> getLessonList() {
+        return lessonList;
+    }
+
+    @ValueRangeProvider
+    @ProblemFactCollectionProperty
+    public List<Vehicle> getVehicleList() {
+        return vehicleList;
+    }
+
+    @PlanningEntityCollectionProperty
+    public List<Visit> getVisitList() {
+        return visitList;
+    }
+
+    @PlanningScore
+    public HardSoftScore getScore() {
+        return score;
+    }
+
+    public void setScore(HardSoftScore score) {
+        this.score = score;
+    }
+
+}
@@ -0,0 +1,29 @@
+package ai.timefold.solver.jmh.bavet.parallel;
+
+import java.util.stream.Stream;
+
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.jmh.bavet.ConstraintKind;
+import ai.timefold.solver.jmh.bavet.timetabling.TimetablingConstraintProvider;
+import ai.timefold.solver.jmh.bavet.vehiclerouting.VehicleRoutingConstraintProvider;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * All constraints of the timetabling model, followed by all constraints of the vehicle routing model.
+ * Every timetabling constraint starts from {@code forEach(Lesson.class)}, so they all end up in the same branch;
+ * the vehicle routing constraints join visits with vehicles, and end up in a second branch.
+ */
+public final class TimetableAndRoutePlanConstraintProvider implements ConstraintProvider {
+
+    @Override
+    public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory constraintFactory) {
+        return Stream.of(new TimetablingConstraintProvider(ConstraintKind.ALL).defineConstraints(constraintFactory),
+                new VehicleRoutingConstraintProvider(ConstraintKind.ALL).defineConstraints(constraintFactory))
+                .flatMap(Stream::of)
+                .toArray(Constraint[]::new);
+    }
+
+}
@@ -0,0 +1,70 @@
+package ai.timefold.solver.jmh.bavet.timetabling;
+
+import ai.timefold.solver.core.api.domain.common.PlanningId;
+import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
+import ai.timefold.solver.core.api.domain.variable.PlanningVariable;
+
+@PlanningEntity
+public class Lesson {
+
+    private int id;
+    private int teacher;
+    private int studentGroup;
+
+    private Timeslot timeslot;
+    private Room room;
+
+    @SuppressWarnings("unused")
+    private Lesson() {
+        // Required by the solution cloner.
+    }
+
+    public Lesson(int id, int teacher, int studentGroup, Timeslot timeslot, Room room) {
+        this.id = id;
+        this.teacher = teacher;
+        this.studentGroup = studentGroup;
+        this.timeslot = timeslot;
+        this.room = room;
+    }
+
+    @PlanningId
+    public int getId() {
+        return id;
+    }
+
+    public int getTeacher() {
+        return teacher;
+    }
+
+    public int getStudentGroup() {
+        return studentGroup;
+    }
+
+    @PlanningVariable
+    public Timeslot getTimeslot() {
+        return timeslot;
+    }
+
+    public void setTimeslot(Timeslot timeslot) {
+        this.timeslot = timeslot;
+    }
+
+    @PlanningVariable
+    public Room getRoom() {
+        return room;
+    }
+
+    public void setRoom(Room room) {
+        this.room = room;
+    }
+
+    public int getDayOfWeek() {
+        return timeslot.dayOfWeek();
+    }
+
+    @Override
+    public String toString() {
+        return "Lesson-" + id;
+    }
+
+}
@@ -0,0 +1,4 @@
+package ai.timefold.solver.jmh.bavet.timetabling;
+
+public record Room(int id) {
+}
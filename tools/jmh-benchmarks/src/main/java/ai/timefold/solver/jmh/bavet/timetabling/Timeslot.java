@@ -0,0 +1,4 @@
+package ai.timefold.solver.jmh.bavet.timetabling;
+
+public record Timeslot(int id, int dayOfWeek, int startMinute, int endMinute) {
+}
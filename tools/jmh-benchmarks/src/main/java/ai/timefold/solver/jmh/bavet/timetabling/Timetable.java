@@ -0,0 +1,97 @@
+package ai.timefold.solver.jmh.bavet.timetabling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
+import ai.timefold.solver.core.api.domain.solution.PlanningScore;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty;
+import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
+import ai.timefold.solver.core.api.score.HardSoftScore;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+@PlanningSolution
+public class Timetable {
+
+    private static final int DAY_COUNT = 5;
+    private static final int TIMESLOTS_PER_DAY = 10;
+
+    public static SolutionDescriptor<Timetable> buildSolutionDescriptor() {
+        return SolutionDescriptor.buildSolutionDescriptor(Timetable.class, Lesson.class);
+    }
+
+    /**
+     * Generates a randomly initialized timetable,
+     * with the number of rooms, teachers and student groups proportional to the number of lessons.
+     *
+     * @param lessonCount the number of planning entities
+     * @param random never null
+     * @return never null
+     */
+    public static Timetable generate(int lessonCount, Random random) {
+        var timeslotList = new ArrayList<Timeslot>(DAY_COUNT * TIMESLOTS_PER_DAY);
+        for (var day = 0; day < DAY_COUNT; day++) {
+            for (var i = 0; i < TIMESLOTS_PER_DAY; i++) {
+                var startMinute = 8 * 60 + i * 60;
+                timeslotList.add(new Timeslot(timeslotList.size(), day, startMinute, startMinute + 50));
+            }
+        }
+        var roomCount = Math.max(1, lessonCount / 40);
+        var roomList = new ArrayList<Room>(roomCount);
+        for (var i = 0; i < roomCount; i++) {
+            roomList.add(new Room(i));
+        }
+        var teacherCount = Math.max(1, lessonCount / 25);
+        var studentGroupCount = Math.max(1, lessonCount / 20);
+        var lessonList = new ArrayList<Lesson>(lessonCount);
+        for (var i = 0; i < lessonCount; i++) {
+            lessonList.add(new Lesson(i, random.nextInt(teacherCount), random.nextInt(studentGroupCount),
+                    timeslotList.get(random.nextInt(timeslotList.size())), roomList.get(random.nextInt(roomCount))));
+        }
+        return new Timetable(timeslotList, roomList, lessonList);
+    }
+
+    private List<Timeslot> timeslotList;
+    private List<Room> roomList;
+    private List<Lesson> lessonList;
+
+    private HardSoftScore score;
+
+    public Timetable() {
+    }
+
+    public Timetable(List<Timeslot> timeslotList, List<Room> roomList, List<Lesson> lessonList) {
+        this.timeslotList = timeslotList;
+        this.roomList = roomList;
+        this.lessonList = lessonList;
+    }
+
+    @ValueRangeProvider
+    @ProblemFactCollectionProperty
+    public List<Timeslot> getTimeslotList() {
+        return timeslotList;
+    }
+
+    @ValueRangeProvider
+    @ProblemFactCollectionProperty
+    public List<Room> getRoomList() {
+        return roomList;
+    }
+
+    @PlanningEntityCollectionProperty
+    public List<Lesson> getLessonList() {
+        return lessonList;
+    }
+
+    @PlanningScore
+    public HardSoftScore getScore() {
+        return score;
+    }
+
+    public void setScore(HardSoftScore score) {
+        this.score = score;
+    }
+
+}
@@ -0,0 +1,110 @@
+package ai.timefold.solver.jmh.bavet.timetabling;
+
+import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.count;
+import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.countDistinct;
+import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
+import static ai.timefold.solver.core.api.score.stream.Joiners.lessThanOrEqual;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+import ai.timefold.solver.core.api.score.HardSoftScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.jmh.bavet.ConstraintKind;
+
+import org.jspecify.annotations.NonNull;
+
+public final class TimetablingConstraintProvider implements ConstraintProvider {
+
+    private final ConstraintKind constraintKind;
+
+    public TimetablingConstraintProvider(ConstraintKind constraintKind) {
+        this.constraintKind = Objects.requireNonNull(constraintKind);
+    }
+
+    @Override
+    public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory constraintFactory) {
+        var constraintList = new ArrayList<Constraint>();
+        if (constraintKind.includes(ConstraintKind.EQUAL_JOIN)) {
+            constraintList.add(roomConflict(constraintFactory));
+            constraintList.add(teacherConflict(constraintFactory));
+            constraintList.add(studentGroupConflict(constraintFactory));
+        }
+        if (constraintKind.includes(ConstraintKind.COMPARISON_JOIN)) {
+            constraintList.add(teacherTimeEfficiency(constraintFactory));
+        }
+        if (constraintKind.includes(ConstraintKind.IF_EXISTS)) {
+            constraintList.add(studentGroupIsolatedLesson(constraintFactory));
+        }
+        if (constraintKind.includes(ConstraintKind.GROUP_BY)) {
+            constraintList.add(teacherRoomStability(constraintFactory));
+            constraintList.add(teacherDailyLoad(constraintFactory));
+        }
+        return constraintList.toArray(Constraint[]::new);
+    }
+
+    private Constraint roomConflict(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEachUniquePair(Lesson.class,
+                equal(Lesson::getTimeslot),
+                equal(Lesson::getRoom))
+                .penalize(HardSoftScore.ONE_HARD)
+                .asConstraint("Room conflict");
+    }
+
+    private Constraint teacherConflict(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEachUniquePair(Lesson.class,
+                equal(Lesson::getTimeslot),
+                equal(Lesson::getTeacher))
+                .penalize(HardSoftScore.ONE_HARD)
+                .asConstraint("Teacher conflict");
+    }
+
+    private Constraint studentGroupConflict(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEachUniquePair(Lesson.class,
+                equal(Lesson::getTimeslot),
+                equal(Lesson::getStudentGroup))
+                .penalize(HardSoftScore.ONE_HARD)
+                .asConstraint("Student group conflict");
+    }
+
+    private Constraint teacherTimeEfficiency(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Lesson.class)
+                .join(Lesson.class,
+                        equal(Lesson::getTeacher),
+                        equal(Lesson::getDayOfWeek),
+                        lessThanOrEqual(lesson -> lesson.getTimeslot().endMinute(),
+                                lesson -> lesson.getTimeslot().startMinute()))
+                .filter((lesson1, lesson2) -> lesson2.getTimeslot().startMinute()
+                        - lesson1.getTimeslot().endMinute() <= 30)
+                .reward(HardSoftScore.ONE_SOFT)
+                .asConstraint("Teacher time efficiency");
+    }
+
+    private Constraint studentGroupIsolatedLesson(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Lesson.class)
+                .ifNotExistsOther(Lesson.class,
+                        equal(Lesson::getStudentGroup),
+                        equal(Lesson::getDayOfWeek))
+                .penalize(HardSoftScore.ONE_SOFT)
+                .asConstraint("Student group isolated lesson");
+    }
+
+    private Constraint teacherRoomStability(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Lesson.class)
+                .groupBy(Lesson::getTeacher, countDistinct(Lesson::getRoom))
+                .filter((teacher, roomCount) -> roomCount > 1)
+                .penalize(HardSoftScore.ONE_SOFT, (teacher, roomCount) -> roomCount - 1)
+                .asConstraint("Teacher room stability");
+    }
+
+    private Constraint teacherDailyLoad(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Lesson.class)
+                .groupBy(Lesson::getTeacher, Lesson::getDayOfWeek, count())
+                .filter((teacher, dayOfWeek, lessonCount) -> lessonCount > 4)
+                .penalize(HardSoftScore.ONE_SOFT, (teacher, dayOfWeek, lessonCount) -> lessonCount - 4)
+                .asConstraint("Teacher daily load");
+    }
+
+}
@@ -0,0 +1,127 @@
+package ai.timefold.solver.jmh.bavet.timetabling;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.HardSoftScore;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSession;
+import ai.timefold.solver.jmh.bavet.BavetSessionFixture;
+import ai.timefold.solver.jmh.bavet.ConstraintKind;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the Bavet node network on a synthetic school timetabling model.
+ * Run with {@code -prof gc} to also get the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimetablingSessionBenchmark {
+
+    @State(Scope.Thread)
+    public static class SessionState {
+
+        @Param({ "1000", "10000", "100000" })
+        public int lessonCount;
+        @Param
+        public ConstraintKind constraintKind;
+
+        private Random random;
+        private Timetable timetable;
+        private BavetSessionFixture<Timetable, HardSoftScore> fixture;
+        private BavetConstraintSession<HardSoftScore> session;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            random = new Random(37);
+            timetable = Timetable.generate(lessonCount, random);
+            fixture = new BavetSessionFixture<>(Timetable.buildSolutionDescriptor(),
+                    new TimetablingConstraintProvider(constraintKind), timetable);
+            session = fixture.newSettledSession();
+        }
+
+        private Lesson pickLesson() {
+            var lessonList = timetable.getLessonList();
+            return lessonList.get(random.nextInt(lessonList.size()));
+        }
+
+        private Timeslot pickTimeslot() {
+            var timeslotList = timetable.getTimeslotList();
+            return timeslotList.get(random.nextInt(timeslotList.size()));
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class EmptySessionState {
+
+        @Param({ "1000", "10000", "100000" })
+        public int lessonCount;
+        @Param
+        public ConstraintKind constraintKind;
+
+        private BavetSessionFixture<Timetable, HardSoftScore> fixture;
+        private BavetConstraintSession<HardSoftScore> session;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            var timetable = Timetable.generate(lessonCount, new Random(37));
+            fixture = new BavetSessionFixture<>(Timetable.buildSolutionDescriptor(),
+                    new TimetablingConstraintProvider(constraintKind), timetable);
+        }
+
+        @Setup(Level.Invocation)
+        public void setupInvocation() {
+            session = fixture.newEmptySession();
+        }
+
+    }
+
+    /**
+     * Equivalent to the initial score calculation when the working solution is set.
+     */
+    @Benchmark
+    public HardSoftScore insertAll(EmptySessionState state) {
+        state.fixture.insertAll(state.session);
+        return state.session.calculateScore();
+    }
+
+    /**
+     * Equivalent to evaluating a change move.
+     */
+    @Benchmark
+    public HardSoftScore update(SessionState state) {
+        var lesson = state.pickLesson();
+        lesson.setTimeslot(state.pickTimeslot());
+        state.session.update(lesson);
+        return state.session.calculateScore();
+    }
+
+    /**
+     * Equivalent to removing and re-adding an entity, as a problem change would.
+     */
+    @Benchmark
+    public HardSoftScore retractAndInsert(SessionState state) {
+        var lesson = state.pickLesson();
+        state.session.retract(lesson);
+        state.session.calculateScore();
+        lesson.setTimeslot(state.pickTimeslot());
+        state.session.insert(lesson);
+        return state.session.calculateScore();
+    }
+
+}
@@ -0,0 +1,4 @@
+package ai.timefold.solver.jmh.bavet.vehiclerouting;
+
+public record Vehicle(int id, int capacity) {
+}
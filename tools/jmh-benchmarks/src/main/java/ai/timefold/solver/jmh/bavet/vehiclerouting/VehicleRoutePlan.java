@@ -0,0 +1,82 @@
+package ai.timefold.solver.jmh.bavet.vehiclerouting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
+import ai.timefold.solver.core.api.domain.solution.PlanningScore;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty;
+import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
+import ai.timefold.solver.core.api.score.HardSoftScore;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+@PlanningSolution
+public class VehicleRoutePlan {
+
+    private static final int VISITS_PER_VEHICLE = 20;
+    private static final int VISITS_PER_REGION = 100;
+
+    public static SolutionDescriptor<VehicleRoutePlan> buildSolutionDescriptor() {
+        return SolutionDescriptor.buildSolutionDescriptor(VehicleRoutePlan.class, Visit.class);
+    }
+
+    /**
+     * Generates a randomly initialized route plan,
+     * with the number of vehicles and regions proportional to the number of visits.
+     *
+     * @param visitCount the number of planning entities
+     * @param random never null
+     * @return never null
+     */
+    public static VehicleRoutePlan generate(int visitCount, Random random) {
+        var vehicleCount = Math.max(1, visitCount / VISITS_PER_VEHICLE);
+        var vehicleList = new ArrayList<Vehicle>(vehicleCount);
+        for (var i = 0; i < vehicleCount; i++) {
+            vehicleList.add(new Vehicle(i, VISITS_PER_VEHICLE * 10));
+        }
+        var regionCount = Math.max(1, visitCount / VISITS_PER_REGION);
+        var visitList = new ArrayList<Visit>(visitCount);
+        for (var i = 0; i < visitCount; i++) {
+            var readyMinute = 8 * 60 + random.nextInt(8 * 60);
+            visitList.add(new Visit(i, random.nextInt(regionCount), 1 + random.nextInt(20), readyMinute,
+                    readyMinute + 30 + random.nextInt(90), vehicleList.get(random.nextInt(vehicleCount))));
+        }
+        return new VehicleRoutePlan(vehicleList, visitList);
+    }
+
+    private List<Vehicle> vehicleList;
+    private List<Visit> visitList;
+
+    private HardSoftScore score;
+
+    public VehicleRoutePlan() {
+    }
+
+    public VehicleRoutePlan(List<Vehicle> vehicleList, List<Visit> visitList) {
+        this.vehicleList = vehicleList;
+        this.visitList = visitList;
+    }
+
+    @ValueRangeProvider
+    @ProblemFactCollectionProperty
+    public List<Vehicle> getVehicleList() {
+        return vehicleList;
+    }
+
+    @PlanningEntityCollectionProperty
+    public List<Visit> getVisitList() {
+        return visitList;
+    }
+
+    @PlanningScore
+    public HardSoftScore getScore() {
+        return score;
+    }
+
+    public void setScore(HardSoftScore score) {
+        this.score = score;
+    }
+
+}
@@ -0,0 +1,76 @@
+package ai.timefold.solver.jmh.bavet.vehiclerouting;
+
+import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.sum;
+import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
+import static ai.timefold.solver.core.api.score.stream.Joiners.overlapping;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.api.score.HardSoftScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.jmh.bavet.ConstraintKind;
+
+import org.jspecify.annotations.NonNull;
+
+public final class VehicleRoutingConstraintProvider implements ConstraintProvider {
+
+    private final ConstraintKind constraintKind;
+
+    public VehicleRoutingConstraintProvider(ConstraintKind constraintKind) {
+        this.constraintKind = Objects.requireNonNull(constraintKind);
+    }
+
+    @Override
+    public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory constraintFactory) {
+        var constraintList = new ArrayList<Constraint>();
+        if (constraintKind.includes(ConstraintKind.EQUAL_JOIN)) {
+            constraintList.add(regionCohesion(constraintFactory));
+        }
+        if (constraintKind.includes(ConstraintKind.COMPARISON_JOIN)) {
+            constraintList.add(timeWindowOverlap(constraintFactory));
+        }
+        if (constraintKind.includes(ConstraintKind.IF_EXISTS)) {
+            constraintList.add(unusedVehicle(constraintFactory));
+        }
+        if (constraintKind.includes(ConstraintKind.GROUP_BY)) {
+            constraintList.add(vehicleCapacity(constraintFactory));
+        }
+        return constraintList.toArray(Constraint[]::new);
+    }
+
+    private Constraint regionCohesion(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEachUniquePair(Visit.class,
+                equal(Visit::getVehicle),
+                equal(Visit::getRegion))
+                .reward(HardSoftScore.ONE_SOFT)
+                .asConstraint("Region cohesion");
+    }
+
+    private Constraint timeWindowOverlap(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEachUniquePair(Visit.class,
+                equal(Visit::getVehicle),
+                overlapping(Visit::getReadyMinute, Visit::getDueMinute))
+                .penalize(HardSoftScore.ONE_SOFT)
+                .asConstraint("Time window overlap");
+    }
+
+    private Constraint unusedVehicle(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Vehicle.class)
+                .ifNotExists(Visit.class, equal(Function.identity(), Visit::getVehicle))
+                .penalize(HardSoftScore.ONE_SOFT)
+                .asConstraint("Unused vehicle");
+    }
+
+    private Constraint vehicleCapacity(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Visit.class)
+                .groupBy(Visit::getVehicle, sum(Visit::getDemand))
+                .filter((vehicle, demand) -> demand > vehicle.capacity())
+                .penalize(HardSoftScore.ONE_HARD, (vehicle, demand) -> demand - vehicle.capacity())
+                .asConstraint("Vehicle capacity");
+    }
+
+}
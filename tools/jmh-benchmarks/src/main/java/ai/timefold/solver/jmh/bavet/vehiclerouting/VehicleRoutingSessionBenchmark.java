@@ -0,0 +1,127 @@
+package ai.timefold.solver.jmh.bavet.vehiclerouting;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.HardSoftScore;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSession;
+import ai.timefold.solver.jmh.bavet.BavetSessionFixture;
+import ai.timefold.solver.jmh.bavet.ConstraintKind;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the Bavet node network on a synthetic vehicle routing model.
+ * Run with {@code -prof gc} to also get the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VehicleRoutingSessionBenchmark {
+
+    @State(Scope.Thread)
+    public static class SessionState {
+
+        @Param({ "1000", "10000", "100000" })
+        public int visitCount;
+        @Param
+        public ConstraintKind constraintKind;
+
+        private Random random;
+        private VehicleRoutePlan routePlan;
+        private BavetSessionFixture<VehicleRoutePlan, HardSoftScore> fixture;
+        private BavetConstraintSession<HardSoftScore> session;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            random = new Random(37);
+            routePlan = VehicleRoutePlan.generate(visitCount, random);
+            fixture = new BavetSessionFixture<>(VehicleRoutePlan.buildSolutionDescriptor(),
+                    new VehicleRoutingConstraintProvider(constraintKind), routePlan);
+            session = fixture.newSettledSession();
+        }
+
+        private Visit pickVisit() {
+            var visitList = routePlan.getVisitList();
+            return visitList.get(random.nextInt(visitList.size()));
+        }
+
+        private Vehicle pickVehicle() {
+            var vehicleList = routePlan.getVehicleList();
+            return vehicleList.get(random.nextInt(vehicleList.size()));
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class EmptySessionState {
+
+        @Param({ "1000", "10000", "100000" })
+        public int visitCount;
+        @Param
+        public ConstraintKind constraintKind;
+
+        private BavetSessionFixture<VehicleRoutePlan, HardSoftScore> fixture;
+        private BavetConstraintSession<HardSoftScore> session;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            var routePlan = VehicleRoutePlan.generate(visitCount, new Random(37));
+            fixture = new BavetSessionFixture<>(VehicleRoutePlan.buildSolutionDescriptor(),
+                    new VehicleRoutingConstraintProvider(constraintKind), routePlan);
+        }
+
+        @Setup(Level.Invocation)
+        public void setupInvocation() {
+            session = fixture.newEmptySession();
+        }
+
+    }
+
+    /**
+     * Equivalent to the initial score calculation when the working solution is set.
+     */
+    @Benchmark
+    public HardSoftScore insertAll(EmptySessionState state) {
+        state.fixture.insertAll(state.session);
+        return state.session.calculateScore();
+    }
+
+    /**
+     * Equivalent to evaluating a change move.
+     */
+    @Benchmark
+    public HardSoftScore update(SessionState state) {
+        var visit = state.pickVisit();
+        visit.setVehicle(state.pickVehicle());
+        state.session.update(visit);
+        return state.session.calculateScore();
+    }
+
+    /**
+     * Equivalent to removing and re-adding an entity, as a problem change would.
+     */
+    @Benchmark
+    public HardSoftScore retractAndInsert(SessionState state) {
+        var visit = state.pickVisit();
+        state.session.retract(visit);
+        state.session.calculateScore();
+        visit.setVehicle(state.pickVehicle());
+        state.session.insert(visit);
+        return state.session.calculateScore();
+    }
+
+}
@@ -0,0 +1,66 @@
+package ai.timefold.solver.jmh.bavet.vehiclerouting;
+
+import ai.timefold.solver.core.api.domain.common.PlanningId;
+import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
+import ai.timefold.solver.core.api.domain.variable.PlanningVariable;
+
+/**
+ * A visit is assigned to a vehicle through a basic planning variable,
+ * so that only the constraint streams are measured and not the list variable machinery.
+ */
+@PlanningEntity
+public class Visit {
+
+    private final int id;
+    private final int region;
+    private final int demand;
+    private final int readyMinute;
+    private final int dueMinute;
+
+    private Vehicle vehicle;
+
+    public Visit(int id, int region, int demand, int readyMinute, int dueMinute, Vehicle vehicle) {
+        this.id = id;
+        this.region = region;
+        this.demand = demand;
+        this.readyMinute = readyMinute;
+        this.dueMinute = dueMinute;
+        this.vehicle = vehicle;
+    }
+
+    @PlanningId
+    public int getId() {
+        return id;
+    }
+
+    public int getRegion() {
+        return region;
+    }
+
+    public int getDemand() {
+        return demand;
+    }
+
+    public int getReadyMinute() {
+        return readyMinute;
+    }
+
+    public int getDueMinute() {
+        return dueMinute;
+    }
+
+    @PlanningVariable
+    public Vehicle getVehicle() {
+        return vehicle;
+    }
+
+    public void setVehicle(Vehicle vehicle) {
+        this.vehicle = vehicle;
+    }
+
+    @Override
+    public String toString() {
+        return "Visit-" + id;
+    }
+
+}
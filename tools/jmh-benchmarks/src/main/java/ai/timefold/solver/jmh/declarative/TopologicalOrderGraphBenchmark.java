@@ -0,0 +1,134 @@
+package ai.timefold.solver.jmh.declarative;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.impl.domain.variable.declarative.DefaultTopologicalOrderGraph;
+import ai.timefold.solver.core.impl.domain.variable.declarative.IntArrayTopologicalOrderGraph;
+import ai.timefold.solver.core.impl.domain.variable.declarative.TopologicalOrderGraph;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link TopologicalOrderGraph} implementations on the kind of graph
+ * that declarative shadow variables build for a list variable:
+ * chains of nodes, where every node depends on its previous node.
+ * Every operation moves a random node to a random position in another chain,
+ * which removes and adds a few edges, and then commits the changes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TopologicalOrderGraphBenchmark {
+
+    private static final int CHAIN_LENGTH = 50;
+
+    @Param({ "10000", "80000" })
+    public int nodeCount;
+
+    @Param({ "DEFAULT", "INT_ARRAY" })
+    public GraphKind graphKind;
+
+    private TopologicalOrderGraph graph;
+    private int[] previousNodes;
+    private int[] nextNodes;
+    private BitSet changed;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        graph = graphKind.create(nodeCount);
+        previousNodes = new int[nodeCount];
+        nextNodes = new int[nodeCount];
+        Arrays.fill(previousNodes, -1);
+        Arrays.fill(nextNodes, -1);
+        for (var node = 0; node < nodeCount - 1; node++) {
+            if (node % CHAIN_LENGTH != CHAIN_LENGTH - 1) {
+                link(node, node + 1);
+                graph.addEdge(node, node + 1);
+            }
+        }
+        changed = new BitSet(nodeCount);
+        graph.commitChanges(changed);
+        random = new Random(37);
+    }
+
+    @Benchmark
+    public TopologicalOrderGraph moveNode() {
+        var node = random.nextInt(nodeCount);
+        var target = random.nextInt(nodeCount);
+        if (node != target) {
+            detach(node);
+            insertAfter(node, target);
+        }
+        changed.clear();
+        graph.commitChanges(changed);
+        return graph;
+    }
+
+    private void detach(int node) {
+        var previous = previousNodes[node];
+        var next = nextNodes[node];
+        if (previous >= 0) {
+            graph.removeEdge(previous, node);
+            nextNodes[previous] = -1;
+        }
+        if (next >= 0) {
+            graph.removeEdge(node, next);
+            previousNodes[next] = -1;
+        }
+        if (previous >= 0 && next >= 0) {
+            graph.addEdge(previous, next);
+            link(previous, next);
+        }
+        previousNodes[node] = -1;
+        nextNodes[node] = -1;
+    }
+
+    private void insertAfter(int node, int target) {
+        var next = nextNodes[target];
+        if (next >= 0) {
+            graph.removeEdge(target, next);
+            graph.addEdge(node, next);
+            link(node, next);
+        }
+        graph.addEdge(target, node);
+        link(target, node);
+    }
+
+    private void link(int from, int to) {
+        nextNodes[from] = to;
+        previousNodes[to] = from;
+    }
+
+    public enum GraphKind {
+
+        DEFAULT,
+        INT_ARRAY;
+
+        TopologicalOrderGraph create(int size) {
+            return switch (this) {
+                case DEFAULT -> new DefaultTopologicalOrderGraph(size);
+                case INT_ARRAY -> new IntArrayTopologicalOrderGraph(size);
+            };
+        }
+
+    }
+
+}
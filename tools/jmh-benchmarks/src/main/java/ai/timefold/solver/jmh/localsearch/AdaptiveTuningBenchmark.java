@@ -0,0 +1,134 @@
+package ai.timefold.solver.jmh.localsearch;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.localsearch.decider.acceptor.AcceptorType;
+import ai.timefold.solver.core.config.localsearch.decider.acceptor.LocalSearchAcceptorConfig;
+import ai.timefold.solver.core.config.localsearch.decider.forager.LocalSearchForagerConfig;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.jmh.bavet.timetabling.Lesson;
+import ai.timefold.solver.jmh.bavet.timetabling.Timetable;
+import ai.timefold.solver.jmh.localsearch.LocalSearchMoveEvaluationBenchmark.AllConstraintProvider;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares late acceptance and simulated annealing, with and without adaptive tuning,
+ * on timetabling datasets of different sizes.
+ * The fixed late acceptance size and starting temperature suit some sizes better than others,
+ * which is what adaptive tuning is meant to compensate for.
+ * <p>
+ * Every invocation solves a fresh dataset with the same budget of moves per lesson,
+ * so that the time gradient, which drives the temperature, does not depend on the speed of the machine.
+ * The time is of little interest; compare the {@link BestScore best score} reached instead.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, batchSize = 1)
+@Measurement(iterations = 5, batchSize = 1)
+@Fork(1)
+public class AdaptiveTuningBenchmark {
+
+    private static final long MOVES_PER_LESSON = 200L;
+
+    @State(Scope.Thread)
+    public static class SolverState {
+
+        @Param({ "100", "1000", "10000" })
+        public int lessonCount;
+        @Param
+        public Acceptor acceptor;
+
+        private Solver<Timetable> solver;
+        private Timetable timetable;
+        private int datasetIndex = 0;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            var solverConfig = new SolverConfig()
+                    .withSolutionClass(Timetable.class)
+                    .withEntityClasses(Lesson.class)
+                    .withConstraintProviderClass(AllConstraintProvider.class)
+                    .withPhases(new LocalSearchPhaseConfig()
+                            .withAcceptorConfig(acceptor.buildAcceptorConfig())
+                            .withForagerConfig(new LocalSearchForagerConfig().withAcceptedCountLimit(1)))
+                    .withTerminationConfig(new TerminationConfig().withMoveCountLimit(MOVES_PER_LESSON * lessonCount));
+            solver = SolverFactory.<Timetable> create(solverConfig).buildSolver();
+        }
+
+        @Setup(Level.Invocation)
+        public void setupInvocation() {
+            // A different dataset every invocation, but the same sequence of datasets for every acceptor.
+            timetable = Timetable.generate(lessonCount, new Random(37 + datasetIndex++));
+        }
+
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class BestScore {
+
+        public long hardScore;
+        public long softScore;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            hardScore = 0L;
+            softScore = 0L;
+        }
+
+    }
+
+    @Benchmark
+    public Timetable solve(SolverState state, BestScore bestScore) {
+        var solution = state.solver.solve(state.timetable);
+        bestScore.hardScore += solution.getScore().hardScore();
+        bestScore.softScore += solution.getScore().softScore();
+        return solution;
+    }
+
+    public enum Acceptor {
+        LATE_ACCEPTANCE,
+        LATE_ACCEPTANCE_ADAPTIVE,
+        SIMULATED_ANNEALING,
+        SIMULATED_ANNEALING_ADAPTIVE;
+
+        LocalSearchAcceptorConfig buildAcceptorConfig() {
+            return switch (this) {
+                case LATE_ACCEPTANCE -> new LocalSearchAcceptorConfig()
+                        .withAcceptorTypeList(List.of(AcceptorType.LATE_ACCEPTANCE))
+                        .withLateAcceptanceSize(400);
+                case LATE_ACCEPTANCE_ADAPTIVE -> new LocalSearchAcceptorConfig()
+                        .withAcceptorTypeList(List.of(AcceptorType.LATE_ACCEPTANCE))
+                        .withLateAcceptanceSize(400)
+                        .withAdaptiveTuningEnabled(true);
+                case SIMULATED_ANNEALING -> new LocalSearchAcceptorConfig()
+                        .withAcceptorTypeList(List.of(AcceptorType.SIMULATED_ANNEALING))
+                        .withSimulatedAnnealingStartingTemperature("0hard/10soft");
+                case SIMULATED_ANNEALING_ADAPTIVE -> new LocalSearchAcceptorConfig()
+                        .withAcceptorTypeList(List.of(AcceptorType.SIMULATED_ANNEALING))
+                        .withAdaptiveTuningEnabled(true);
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,93 @@
+package ai.timefold.solver.jmh.localsearch;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.jmh.bavet.ConstraintKind;
+import ai.timefold.solver.jmh.bavet.timetabling.Lesson;
+import ai.timefold.solver.jmh.bavet.timetabling.Timetable;
+import ai.timefold.solver.jmh.bavet.timetabling.TimetablingConstraintProvider;
+
+import org.jspecify.annotations.NonNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the local search move evaluation loop of the solver,
+ * including move selection, acceptance and foraging, on the synthetic school timetabling model.
+ * Every operation is a single evaluated move,
+ * so run with {@code -prof gc} to get the allocation per evaluated move.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalSearchMoveEvaluationBenchmark {
+
+    private static final int MOVE_COUNT = 100_000;
+
+    @State(Scope.Thread)
+    public static class SolverState {
+
+        @Param({ "1000", "10000" })
+        public int lessonCount;
+
+        private Solver<Timetable> solver;
+        private Timetable timetable;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            var solverConfig = new SolverConfig()
+                    .withSolutionClass(Timetable.class)
+                    .withEntityClasses(Lesson.class)
+                    .withConstraintProviderClass(AllConstraintProvider.class)
+                    .withPhases(new LocalSearchPhaseConfig())
+                    .withTerminationConfig(new TerminationConfig().withMoveCountLimit((long) MOVE_COUNT));
+            solver = SolverFactory.<Timetable> create(solverConfig).buildSolver();
+        }
+
+        @Setup(Level.Invocation)
+        public void setupInvocation() {
+            timetable = Timetable.generate(lessonCount, new Random(37));
+        }
+
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVE_COUNT)
+    public Timetable solve(SolverState state) {
+        return state.solver.solve(state.timetable);
+    }
+
+    public static final class AllConstraintProvider implements ConstraintProvider {
+
+        private final ConstraintProvider delegate = new TimetablingConstraintProvider(ConstraintKind.ALL);
+
+        @Override
+        public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory constraintFactory) {
+            return delegate.defineConstraints(constraintFactory);
+        }
+
+    }
+
+}
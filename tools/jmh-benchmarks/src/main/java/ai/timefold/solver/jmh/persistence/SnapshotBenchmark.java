@@ -0,0 +1,87 @@
+package ai.timefold.solver.jmh.persistence;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.domain.solution.SolutionFileIO;
+import ai.timefold.solver.jackson.impl.domain.solution.JacksonSmileSolutionFileIO;
+import ai.timefold.solver.jackson.impl.domain.solution.JacksonSolutionFileIO;
+import ai.timefold.solver.jmh.persistence.SolutionFileIOBenchmark.RoutePlan;
+import ai.timefold.solver.jmh.persistence.SolutionFileIOBenchmark.Vehicle;
+import ai.timefold.solver.snapshot.api.SnapshotSolutionFileIO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compares restoring a solution from a {@link SnapshotSolutionFileIO snapshot} with reading it from JSON or Smile,
+ * as on a warm restart, on the synthetic vehicle routing dataset of {@link SolutionFileIOBenchmark}.
+ * Every format is read from a file, which stays in the page cache between reads,
+ * so that the snapshot is measured with its memory mapping.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int visitCount;
+
+    @Param({ "COMPACT_JSON", "SMILE", "SNAPSHOT" })
+    public Format format;
+
+    private SolutionFileIO<RoutePlan> solutionFileIO;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        solutionFileIO = format.create();
+        file = Files.createTempFile("routePlan", "." + solutionFileIO.getOutputFileExtension());
+        solutionFileIO.write(RoutePlan.generate(visitCount, new Random(37)), file.toFile());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public RoutePlan read() {
+        return solutionFileIO.read(file.toFile());
+    }
+
+    public enum Format {
+        COMPACT_JSON,
+        SMILE,
+        SNAPSHOT;
+
+        SolutionFileIO<RoutePlan> create() {
+            return switch (this) {
+                case COMPACT_JSON -> new JacksonSolutionFileIO<>(RoutePlan.class,
+                        JsonMapper.builder().findAndAddModules().build(), false);
+                case SMILE -> new JacksonSmileSolutionFileIO<>(RoutePlan.class);
+                case SNAPSHOT -> new SnapshotSolutionFileIO<>(RoutePlan.class, Vehicle.class);
+            };
+        }
+    }
+
+}
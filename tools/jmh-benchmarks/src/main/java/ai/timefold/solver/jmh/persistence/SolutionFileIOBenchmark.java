@@ -0,0 +1,258 @@
+package ai.timefold.solver.jmh.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
+import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
+import ai.timefold.solver.core.api.domain.solution.PlanningScore;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty;
+import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
+import ai.timefold.solver.core.api.domain.variable.PlanningListVariable;
+import ai.timefold.solver.core.api.score.HardSoftScore;
+import ai.timefold.solver.jackson.impl.domain.solution.JacksonSmileSolutionFileIO;
+import ai.timefold.solver.jackson.impl.domain.solution.JacksonSolutionFileIO;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIdentityReference;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compares the formats of {@link JacksonSolutionFileIO} on a synthetic vehicle routing dataset,
+ * in which every visit and vehicle refers to its location by id, and every vehicle to its visits.
+ * Reading therefore also resolves the object ids, as it does for a typical solution.
+ * The dataset is held in memory, so that disk I/O does not distort the comparison.
+ * {@link #readPeakHeap(PeakHeap)} reports how far the heap grows during a read, see {@link PeakHeap}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SolutionFileIOBenchmark {
+
+    private static final int VISITS_PER_VEHICLE = 20;
+
+    @Param({ "1000", "100000" })
+    public int visitCount;
+
+    @Param({ "PRETTY_JSON", "COMPACT_JSON", "SMILE" })
+    public Format format;
+
+    private JacksonSolutionFileIO<RoutePlan> solutionFileIO;
+    private RoutePlan solution;
+    private byte[] bytes;
+    private ByteArrayOutputStream outputStream;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        solutionFileIO = format.create();
+        solution = RoutePlan.generate(visitCount, new Random(37));
+        outputStream = new ByteArrayOutputStream();
+        solutionFileIO.write(solution, outputStream);
+        bytes = outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public RoutePlan read() {
+        return solutionFileIO.read(new ByteArrayInputStream(bytes));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3, batchSize = 1)
+    @Measurement(iterations = 10, batchSize = 1)
+    public RoutePlan readPeakHeap(PeakHeap peakHeap) {
+        return solutionFileIO.read(new ByteArrayInputStream(bytes));
+    }
+
+    @Benchmark
+    public int write() {
+        outputStream.reset();
+        solutionFileIO.write(solution, outputStream);
+        return outputStream.size();
+    }
+
+    /**
+     * Reports {@code peakHeapBytes}, how far the heap grew above what it held right before the read.
+     * The full GC before every read makes the time of {@link #readPeakHeap(PeakHeap)} meaningless;
+     * use {@link #read()} to compare the time.
+     * The peaks of the heap memory pools are summed, which slightly overestimates the true peak,
+     * because not every pool peaks at the same moment.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PeakHeap {
+
+        private static final List<MemoryPoolMXBean> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+
+        public long peakHeapBytes;
+        private long baselineBytes;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            peakHeapBytes = 0L;
+        }
+
+        @Setup(Level.Invocation)
+        public void resetPeak() {
+            System.gc();
+            baselineBytes = 0L;
+            for (var pool : HEAP_POOLS) {
+                pool.resetPeakUsage();
+                baselineBytes += pool.getUsage().getUsed();
+            }
+        }
+
+        @TearDown(Level.Invocation)
+        public void recordPeak() {
+            var peakBytes = 0L;
+            for (var pool : HEAP_POOLS) {
+                peakBytes += pool.getPeakUsage().getUsed();
+            }
+            peakHeapBytes += peakBytes - baselineBytes;
+        }
+
+    }
+
+    public enum Format {
+        PRETTY_JSON,
+        COMPACT_JSON,
+        SMILE;
+
+        JacksonSolutionFileIO<RoutePlan> create() {
+            return switch (this) {
+                case PRETTY_JSON -> new JacksonSolutionFileIO<>(RoutePlan.class);
+                case COMPACT_JSON -> new JacksonSolutionFileIO<>(RoutePlan.class,
+                        JsonMapper.builder().findAndAddModules().build(), false);
+                case SMILE -> new JacksonSmileSolutionFileIO<>(RoutePlan.class);
+            };
+        }
+    }
+
+    /**
+     * A planning solution, so that {@link SnapshotBenchmark} can store it in a snapshot too.
+     */
+    @PlanningSolution
+    public static class RoutePlan {
+
+        @ProblemFactCollectionProperty
+        public List<Location> locations;
+        @ValueRangeProvider
+        @ProblemFactCollectionProperty
+        public List<Visit> visits;
+        @PlanningEntityCollectionProperty
+        public List<Vehicle> vehicles;
+        @PlanningScore
+        public HardSoftScore score;
+
+        static RoutePlan generate(int visitCount, Random random) {
+            var routePlan = new RoutePlan();
+            var vehicleCount = Math.max(1, visitCount / VISITS_PER_VEHICLE);
+            routePlan.locations = new ArrayList<>(visitCount + vehicleCount);
+            for (var i = 0; i < visitCount + vehicleCount; i++) {
+                routePlan.locations.add(new Location(i, random.nextDouble(-90, 90), random.nextDouble(-180, 180)));
+            }
+            routePlan.vehicles = new ArrayList<>(vehicleCount);
+            for (var i = 0; i < vehicleCount; i++) {
+                routePlan.vehicles.add(new Vehicle("vehicle-" + i, routePlan.locations.get(visitCount + i)));
+            }
+            routePlan.visits = new ArrayList<>(visitCount);
+            for (var i = 0; i < visitCount; i++) {
+                var visit = new Visit("visit-" + i, routePlan.locations.get(i), random.nextInt(1, 10),
+                        random.nextInt(1, 3600));
+                routePlan.visits.add(visit);
+                routePlan.vehicles.get(random.nextInt(vehicleCount)).visits.add(visit);
+            }
+            return routePlan;
+        }
+
+    }
+
+    @JsonIdentityInfo(scope = Location.class, generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    public static class Location {
+
+        public long id;
+        public double latitude;
+        public double longitude;
+
+        public Location() {
+        }
+
+        Location(long id, double latitude, double longitude) {
+            this.id = id;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+
+    }
+
+    @PlanningEntity
+    public static class Vehicle {
+
+        public String id;
+        @JsonIdentityReference(alwaysAsId = true)
+        public Location homeLocation;
+        @PlanningListVariable
+        @JsonIdentityReference(alwaysAsId = true)
+        public List<Visit> visits = new ArrayList<>();
+
+        public Vehicle() {
+        }
+
+        Vehicle(String id, Location homeLocation) {
+            this.id = id;
+            this.homeLocation = homeLocation;
+        }
+
+    }
+
+    @JsonIdentityInfo(scope = Visit.class, generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    public static class Visit {
+
+        public String id;
+        @JsonIdentityReference(alwaysAsId = true)
+        public Location location;
+        public int demand;
+        public long serviceDuration;
+
+        public Visit() {
+        }
+
+        Visit(String id, Location location, int demand, long serviceDuration) {
+            this.id = id;
+            this.location = location;
+            this.demand = demand;
+            this.serviceDuration = serviceDuration;
+        }
+
+    }
+
+}
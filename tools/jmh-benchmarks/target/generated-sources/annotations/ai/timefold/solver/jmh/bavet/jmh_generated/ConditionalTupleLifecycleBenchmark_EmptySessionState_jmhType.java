@@ -0,0 +1,4 @@
+package ai.timefold.solver.jmh.bavet.jmh_generated;
+public class ConditionalTupleLifecycleBenchmark_EmptySessionState_jmhType extends ConditionalTupleLifecycleBenchmark_EmptySessionState_jmhType_B3 {
+}
+
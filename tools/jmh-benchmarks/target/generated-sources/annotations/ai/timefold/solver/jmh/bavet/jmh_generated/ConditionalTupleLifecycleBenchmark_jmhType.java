@@ -0,0 +1,4 @@
+package ai.timefold.solver.jmh.bavet.jmh_generated;
+public class ConditionalTupleLifecycleBenchmark_jmhType extends ConditionalTupleLifecycleBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package ai.timefold.solver.jmh.bavet.jmh_generated;
+public class ConstraintProfilerBenchmark_jmhType extends ConstraintProfilerBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package ai.timefold.solver.jmh.bavet.parallel.jmh_generated;
+public class ParallelSettleBenchmark_jmhType extends ParallelSettleBenchmark_jmhType_B3 {
+}
+
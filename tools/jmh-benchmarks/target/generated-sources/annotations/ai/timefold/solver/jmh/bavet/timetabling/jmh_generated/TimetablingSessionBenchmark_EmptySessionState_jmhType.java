@@ -0,0 +1,4 @@
+package ai.timefold.solver.jmh.bavet.timetabling.jmh_generated;
+public class TimetablingSessionBenchmark_EmptySessionState_jmhType extends TimetablingSessionBenchmark_EmptySessionState_jmhType_B3 {
+}
+
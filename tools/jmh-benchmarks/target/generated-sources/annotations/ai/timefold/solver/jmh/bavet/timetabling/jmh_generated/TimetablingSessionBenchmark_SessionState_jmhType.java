@@ -0,0 +1,4 @@
+package ai.timefold.solver.jmh.bavet.timetabling.jmh_generated;
+public class TimetablingSessionBenchmark_SessionState_jmhType extends TimetablingSessionBenchmark_SessionState_jmhType_B3 {
+}
+
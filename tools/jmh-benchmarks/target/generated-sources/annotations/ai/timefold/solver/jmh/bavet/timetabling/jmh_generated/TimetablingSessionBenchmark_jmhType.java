@@ -0,0 +1,4 @@
+package ai.timefold.solver.jmh.bavet.timetabling.jmh_generated;
+public class TimetablingSessionBenchmark_jmhType extends TimetablingSessionBenchmark_jmhType_B3 {
+}
+
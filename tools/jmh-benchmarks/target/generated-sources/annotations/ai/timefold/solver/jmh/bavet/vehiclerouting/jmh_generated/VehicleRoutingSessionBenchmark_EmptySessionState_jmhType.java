@@ -0,0 +1,4 @@
+package ai.timefold.solver.jmh.bavet.vehiclerouting.jmh_generated;
+public class VehicleRoutingSessionBenchmark_EmptySessionState_jmhType extends VehicleRoutingSessionBenchmark_EmptySessionState_jmhType_B3 {
+}
+
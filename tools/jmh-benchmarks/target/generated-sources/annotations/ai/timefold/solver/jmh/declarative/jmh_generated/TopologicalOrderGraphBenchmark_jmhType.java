@@ -0,0 +1,4 @@
+package ai.timefold.solver.jmh.declarative.jmh_generated;
+public class TopologicalOrderGraphBenchmark_jmhType extends TopologicalOrderGraphBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package ai.timefold.solver.jmh.localsearch.jmh_generated;
+public class AdaptiveTuningBenchmark_BestScore_jmhType extends AdaptiveTuningBenchmark_BestScore_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package ai.timefold.solver.jmh.localsearch.jmh_generated;
+public class AdaptiveTuningBenchmark_SolverState_jmhType extends AdaptiveTuningBenchmark_SolverState_jmhType_B3 {
+}
+
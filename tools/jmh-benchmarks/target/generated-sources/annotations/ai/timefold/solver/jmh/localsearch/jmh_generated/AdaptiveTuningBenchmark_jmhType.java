@@ -0,0 +1,4 @@
+package ai.timefold.solver.jmh.localsearch.jmh_generated;
+public class AdaptiveTuningBenchmark_jmhType extends AdaptiveTuningBenchmark_jmhType_B3 {
+}
+
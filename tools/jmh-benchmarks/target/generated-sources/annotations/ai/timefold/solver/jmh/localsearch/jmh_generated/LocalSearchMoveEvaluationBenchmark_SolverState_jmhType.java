@@ -0,0 +1,4 @@
+package ai.timefold.solver.jmh.localsearch.jmh_generated;
+public class LocalSearchMoveEvaluationBenchmark_SolverState_jmhType extends LocalSearchMoveEvaluationBenchmark_SolverState_jmhType_B3 {
+}
+
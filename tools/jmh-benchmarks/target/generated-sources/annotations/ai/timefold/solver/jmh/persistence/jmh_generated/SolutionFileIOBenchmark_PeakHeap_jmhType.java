@@ -0,0 +1,4 @@
+package ai.timefold.solver.jmh.persistence.jmh_generated;
+public class SolutionFileIOBenchmark_PeakHeap_jmhType extends SolutionFileIOBenchmark_PeakHeap_jmhType_B3 {
+}
+
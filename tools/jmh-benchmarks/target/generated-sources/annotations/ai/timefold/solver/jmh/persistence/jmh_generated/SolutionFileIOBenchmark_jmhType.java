@@ -0,0 +1,4 @@
+package ai.timefold.solver.jmh.persistence.jmh_generated;
+public class SolutionFileIOBenchmark_jmhType extends SolutionFileIOBenchmark_jmhType_B3 {
+}
+